@@ -17,6 +17,7 @@
 
 package org.gradoop.common.model.impl.id;
 
+import com.google.common.base.Charsets;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.MemorySegment;
@@ -24,6 +25,7 @@ import org.apache.flink.types.NormalizableKey;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.io.WritableComparable;
 import org.gradoop.common.model.api.entities.EPGMIdentifiable;
+import org.gradoop.common.util.ContentHash;
 
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -112,6 +114,76 @@ public class GradoopId
     return new GradoopId(UUID.fromString(string));
   }
 
+  /**
+   * Returns a name-based Gradoop ID derived from the given name. Equal names
+   * always result in equal ids, which allows to map external identifiers to
+   * Gradoop IDs without a global lookup.
+   *
+   * @param name name to derive the id from
+   * @return Gradoop ID
+   */
+  public static GradoopId fromName(String name) {
+    checkNotNull(name, "name was null");
+    return fromName(name.getBytes(Charsets.UTF_8));
+  }
+
+  /**
+   * Returns a name-based Gradoop ID derived from the given binary name. Equal
+   * names always result in equal ids.
+   *
+   * @param name binary name to derive the id from
+   * @return Gradoop ID
+   */
+  public static GradoopId fromName(byte[] name) {
+    checkNotNull(name, "name was null");
+    return new GradoopId(UUID.nameUUIDFromBytes(name));
+  }
+
+  /**
+   * Returns an id which is deterministically derived from the given id and
+   * key. For a fixed key, distinct ids always result in distinct derived ids,
+   * which allows to consistently replace ids without a global lookup.
+   *
+   * @param id  id to derive from
+   * @param key key, e.g. unique per derivation run
+   * @return derived Gradoop ID
+   */
+  public static GradoopId derive(GradoopId id, GradoopId key) {
+    checkNotNull(id, "id was null");
+    checkNotNull(key, "key was null");
+    // invertible rounds on both halves keep the mapping injective
+    long most = ContentHash.mix(id.getLong(0) ^ key.getLong(0));
+    long least = ContentHash.mix(id.getLong(8) ^ key.getLong(8) ^ most);
+    most ^= ContentHash.mix(least);
+    return new GradoopId(new UUID(most, least));
+  }
+
+  /**
+   * Returns a new id with the same value. Can be used to keep an id which is
+   * reused by Flink, e.g. across the iterations of a group.
+   *
+   * @return copy of this id
+   */
+  public GradoopId copy() {
+    GradoopId copy = new GradoopId();
+    System.arraycopy(rawBytes, 0, copy.rawBytes, 0, ID_SIZE);
+    return copy;
+  }
+
+  /**
+   * Returns eight bytes of the internal representation as long value.
+   *
+   * @param offset byte offset, either 0 or 8
+   * @return bytes at the given offset
+   */
+  long getLong(int offset) {
+    long value = 0L;
+    for (int i = offset; i < offset + 8; i++) {
+      value = (value << 8) | (rawBytes[i] & 0xFFL);
+    }
+    return value;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
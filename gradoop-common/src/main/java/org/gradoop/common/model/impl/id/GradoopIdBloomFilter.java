@@ -0,0 +1,157 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.id;
+
+import org.gradoop.common.util.ContentHash;
+
+import java.io.Serializable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Bloom filter over {@link GradoopId} instances. The filter answers
+ * membership queries without false negatives but with a configurable rate
+ * of false positives, using only a few bits per contained identifier.
+ *
+ * Filters of the same size and number of hash functions can be merged, which
+ * allows to build partial filters in parallel.
+ */
+public class GradoopIdBloomFilter implements Serializable {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Bit array
+   */
+  private final long[] bits;
+
+  /**
+   * Number of bits
+   */
+  private final long numBits;
+
+  /**
+   * Number of hash functions
+   */
+  private final int numHashFunctions;
+
+  /**
+   * Creates a new empty filter.
+   *
+   * @param numBits           number of bits (> 0)
+   * @param numHashFunctions  number of hash functions (> 0)
+   */
+  public GradoopIdBloomFilter(long numBits, int numHashFunctions) {
+    checkArgument(numBits > 0L, "number of bits must be positive");
+    checkArgument(numHashFunctions > 0,
+      "number of hash functions must be positive");
+    this.bits = new long[(int) ((numBits + 63L) / 64L)];
+    this.numBits = bits.length * 64L;
+    this.numHashFunctions = numHashFunctions;
+  }
+
+  /**
+   * Creates a new empty filter which is sized for the given number of
+   * identifiers and false positive rate.
+   *
+   * @param expectedIds       expected number of identifiers (>= 0)
+   * @param falsePositiveRate false positive rate (0.0 to 1.0)
+   * @return empty filter
+   */
+  public static GradoopIdBloomFilter create(long expectedIds,
+    double falsePositiveRate) {
+    checkArgument(expectedIds >= 0L, "expected ids must not be negative");
+    checkArgument(falsePositiveRate > 0.0 && falsePositiveRate < 1.0,
+      "false positive rate must be in (0.0, 1.0)");
+    long n = Math.max(expectedIds, 1L);
+    long numBits = (long) Math.ceil(
+      -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int numHashFunctions = Math.max(1,
+      (int) Math.round((double) numBits / n * Math.log(2)));
+    return new GradoopIdBloomFilter(numBits, numHashFunctions);
+  }
+
+  /**
+   * Adds the given identifier to the filter.
+   *
+   * @param id identifier
+   */
+  public void add(GradoopId id) {
+    long hash1 = ContentHash.mix(id.getLong(0));
+    long hash2 = ContentHash.mix(id.getLong(8)) | 1L;
+    for (int i = 0; i < numHashFunctions; i++) {
+      long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % numBits;
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+  }
+
+  /**
+   * Returns true, if the given identifier might have been added to the filter
+   * and false, if it definitely has not been added.
+   *
+   * @param id identifier
+   * @return false, iff the identifier is not contained
+   */
+  public boolean mightContain(GradoopId id) {
+    long hash1 = ContentHash.mix(id.getLong(0));
+    long hash2 = ContentHash.mix(id.getLong(8)) | 1L;
+    for (int i = 0; i < numHashFunctions; i++) {
+      long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % numBits;
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds all identifiers of the given filter to this filter. Both filters
+   * need to have the same number of bits and hash functions.
+   *
+   * @param other filter
+   */
+  public void addAll(GradoopIdBloomFilter other) {
+    checkArgument(numBits == other.numBits &&
+      numHashFunctions == other.numHashFunctions,
+      "filters have different sizes");
+    for (int i = 0; i < bits.length; i++) {
+      bits[i] |= other.bits[i];
+    }
+  }
+
+  /**
+   * Returns the number of bits.
+   *
+   * @return number of bits
+   */
+  public long getNumBits() {
+    return numBits;
+  }
+
+  /**
+   * Returns the number of hash functions.
+   *
+   * @return number of hash functions
+   */
+  public int getNumHashFunctions() {
+    return numHashFunctions;
+  }
+}
@@ -135,14 +135,8 @@ public class GradoopIdSet implements Iterable<GradoopId>,
    * @return true, if any id is contained
    */
   public boolean containsAny(GradoopIdSet others) {
-    boolean result = false;
-    for (GradoopId id : others) {
-      if (this.identifiers.contains(id)) {
-        result = true;
-        break;
-      }
-    }
-    return result;
+    return others.size() <= size() ?
+      containsAny(others.identifiers) : others.containsAny(identifiers);
   }
 
   /**
@@ -151,9 +145,14 @@ public class GradoopIdSet implements Iterable<GradoopId>,
    * @return true, if any id is contained
    */
   public boolean containsAny(Collection<GradoopId> identifiers) {
-    GradoopIdSet ids = new GradoopIdSet();
-    ids.addAll(identifiers);
-    return containsAny(ids);
+    boolean result = false;
+    for (GradoopId id : identifiers) {
+      if (this.identifiers.contains(id)) {
+        result = true;
+        break;
+      }
+    }
+    return result;
   }
 
 
@@ -0,0 +1,812 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.model.impl.id;
+
+import org.apache.hadoop.io.Writable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Compressed bitmap of non-negative int values, e.g. dense numbers of the
+ * graphs an element is contained in.
+ *
+ * Values are partitioned by their upper 16 bits. Each partition is stored in a
+ * container, which is either a sorted array of the lower 16 bits (for at most
+ * {@link #ARRAY_CONTAINER_MAX_SIZE} values) or a fixed size bitmap. Set
+ * operations are computed container-wise, i.e. by merging sorted arrays or by
+ * bitwise AND / OR on the bitmap words.
+ */
+public class GraphBitmap implements Iterable<Integer>, Writable, Serializable {
+
+  /**
+   * Maximum number of values in an array container.
+   */
+  static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+  /**
+   * Number of long words in a bitmap container.
+   */
+  private static final int BITMAP_CONTAINER_WORDS = 1024;
+
+  /**
+   * Sorted upper 16 bits of the contained values, one per container.
+   */
+  private char[] keys;
+
+  /**
+   * Containers storing the lower 16 bits.
+   */
+  private Container[] containers;
+
+  /**
+   * Number of containers.
+   */
+  private int size;
+
+  /**
+   * Creates an empty bitmap.
+   */
+  public GraphBitmap() {
+    this.keys = new char[4];
+    this.containers = new Container[4];
+    this.size = 0;
+  }
+
+  /**
+   * Creates a bitmap containing the given values.
+   *
+   * @param values non-negative values
+   * @return bitmap
+   */
+  public static GraphBitmap of(int... values) {
+    GraphBitmap bitmap = new GraphBitmap();
+    for (int value : values) {
+      bitmap.add(value);
+    }
+    return bitmap;
+  }
+
+  /**
+   * Adds a value to the bitmap.
+   *
+   * @param value non-negative value
+   */
+  public void add(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value must not be negative");
+    }
+    char key = high(value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      containers[index] = containers[index].add(low(value));
+    } else {
+      insert(-index - 1, key, new ArrayContainer().add(low(value)));
+    }
+  }
+
+  /**
+   * Checks if the bitmap contains the given value.
+   *
+   * @param value value
+   * @return true, if the value is contained
+   */
+  public boolean contains(int value) {
+    if (value < 0) {
+      return false;
+    }
+    int index = indexOf(high(value));
+    return index >= 0 && containers[index].contains(low(value));
+  }
+
+  /**
+   * Returns the number of contained values.
+   *
+   * @return cardinality
+   */
+  public int getCardinality() {
+    int cardinality = 0;
+    for (int i = 0; i < size; i++) {
+      cardinality += containers[i].getCardinality();
+    }
+    return cardinality;
+  }
+
+  /**
+   * Checks if the bitmap contains no value.
+   *
+   * @return true, if empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns a new bitmap containing the values contained in this and the
+   * other bitmap (bitwise AND).
+   *
+   * @param other other bitmap
+   * @return intersection
+   */
+  public GraphBitmap and(GraphBitmap other) {
+    GraphBitmap result = new GraphBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        result.append(keys[i], containers[i].and(other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a new bitmap containing the values contained in this or the
+   * other bitmap (bitwise OR).
+   *
+   * @param other other bitmap
+   * @return union
+   */
+  public GraphBitmap or(GraphBitmap other) {
+    GraphBitmap result = new GraphBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < size || j < other.size) {
+      if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+        result.append(keys[i], containers[i].copy());
+        i++;
+      } else if (i == size || keys[i] > other.keys[j]) {
+        result.append(other.keys[j], other.containers[j].copy());
+        j++;
+      } else {
+        result.append(keys[i], containers[i].or(other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a new bitmap containing the values contained in this but not in
+   * the other bitmap (bitwise AND NOT).
+   *
+   * @param other other bitmap
+   * @return difference
+   */
+  public GraphBitmap andNot(GraphBitmap other) {
+    GraphBitmap result = new GraphBitmap();
+    int j = 0;
+    for (int i = 0; i < size; i++) {
+      while (j < other.size && other.keys[j] < keys[i]) {
+        j++;
+      }
+      if (j < other.size && other.keys[j] == keys[i]) {
+        result.append(keys[i], containers[i].andNot(other.containers[j]));
+      } else {
+        result.append(keys[i], containers[i].copy());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks if this and the other bitmap contain at least one common value
+   * without materializing the intersection.
+   *
+   * @param other other bitmap
+   * @return true, if both bitmaps intersect
+   */
+  public boolean intersects(GraphBitmap other) {
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        if (containers[i].intersects(other.containers[j])) {
+          return true;
+        }
+        i++;
+        j++;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the contained values in ascending order.
+   *
+   * @return sorted values
+   */
+  public int[] toArray() {
+    int[] values = new int[getCardinality()];
+    int offset = 0;
+    for (int i = 0; i < size; i++) {
+      offset = containers[i].fill(values, offset, keys[i] << 16);
+    }
+    return values;
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    final int[] values = toArray();
+    return new Iterator<Integer>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < values.length;
+      }
+
+      @Override
+      public Integer next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return values[next++];
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  @Override
+  public void write(DataOutput dataOutput) throws IOException {
+    dataOutput.writeInt(size);
+    for (int i = 0; i < size; i++) {
+      dataOutput.writeChar(keys[i]);
+      containers[i].write(dataOutput);
+    }
+  }
+
+  @Override
+  public void readFields(DataInput dataInput) throws IOException {
+    size = 0;
+    int newSize = dataInput.readInt();
+    keys = new char[Math.max(4, newSize)];
+    containers = new Container[keys.length];
+    for (int i = 0; i < newSize; i++) {
+      char key = dataInput.readChar();
+      Container container = dataInput.readBoolean() ?
+        new BitmapContainer() : new ArrayContainer();
+      container.read(dataInput);
+      append(key, container);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(toArray(), ((GraphBitmap) o).toArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toArray());
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+
+  /**
+   * Returns the index of the container for the given key or
+   * (-(insertion point) - 1) if there is none.
+   *
+   * @param key upper 16 bits
+   * @return container index
+   */
+  private int indexOf(char key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  /**
+   * Inserts a container at the given index.
+   *
+   * @param index     container index
+   * @param key       upper 16 bits
+   * @param container container
+   */
+  private void insert(int index, char key, Container container) {
+    ensureCapacity();
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = key;
+    containers[index] = container;
+    size++;
+  }
+
+  /**
+   * Appends a container with a key larger than all existing keys. Empty
+   * containers are skipped.
+   *
+   * @param key       upper 16 bits
+   * @param container container
+   */
+  private void append(char key, Container container) {
+    if (container.getCardinality() > 0) {
+      insert(size, key, container);
+    }
+  }
+
+  /**
+   * Grows the internal arrays if they are full.
+   */
+  private void ensureCapacity() {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      containers = Arrays.copyOf(containers, size * 2);
+    }
+  }
+
+  /**
+   * Returns the upper 16 bits of a value.
+   *
+   * @param value value
+   * @return upper 16 bits
+   */
+  private static char high(int value) {
+    return (char) (value >>> 16);
+  }
+
+  /**
+   * Returns the lower 16 bits of a value.
+   *
+   * @param value value
+   * @return lower 16 bits
+   */
+  private static char low(int value) {
+    return (char) value;
+  }
+
+  /**
+   * Stores the lower 16 bits of the values sharing the same upper 16 bits.
+   * Operations return new containers and never modify their arguments, except
+   * {@link #add(char)}, which modifies and returns this container or a
+   * converted one.
+   */
+  private abstract static class Container implements Serializable {
+
+    /**
+     * Returns the number of contained values.
+     *
+     * @return cardinality
+     */
+    abstract int getCardinality();
+
+    /**
+     * Checks if the container contains the given value.
+     *
+     * @param value lower 16 bits
+     * @return true, if contained
+     */
+    abstract boolean contains(char value);
+
+    /**
+     * Adds a value.
+     *
+     * @param value lower 16 bits
+     * @return container containing the value
+     */
+    abstract Container add(char value);
+
+    /**
+     * Returns a copy of the container.
+     *
+     * @return copy
+     */
+    abstract Container copy();
+
+    /**
+     * Writes the values in ascending order to the given array.
+     *
+     * @param values  output array
+     * @param offset  first index to write to
+     * @param high    upper bits to combine the values with
+     * @return next index to write to
+     */
+    abstract int fill(int[] values, int offset, int high);
+
+    /**
+     * Writes the container including its type.
+     *
+     * @param dataOutput output
+     * @throws IOException on failure
+     */
+    abstract void write(DataOutput dataOutput) throws IOException;
+
+    /**
+     * Reads the container content.
+     *
+     * @param dataInput input
+     * @throws IOException on failure
+     */
+    abstract void read(DataInput dataInput) throws IOException;
+
+    /**
+     * Returns the intersection of this and another container.
+     *
+     * @param other other container
+     * @return intersection
+     */
+    Container and(Container other) {
+      if (this instanceof ArrayContainer) {
+        return ((ArrayContainer) this).filter(other, true);
+      }
+      if (other instanceof ArrayContainer) {
+        return ((ArrayContainer) other).filter(this, true);
+      }
+      BitmapContainer result = (BitmapContainer) copy();
+      long[] otherWords = ((BitmapContainer) other).words;
+      for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+        result.words[i] &= otherWords[i];
+      }
+      return result.normalize();
+    }
+
+    /**
+     * Returns the union of this and another container.
+     *
+     * @param other other container
+     * @return union
+     */
+    Container or(Container other) {
+      if (this instanceof ArrayContainer && other instanceof ArrayContainer &&
+        getCardinality() + other.getCardinality() <= ARRAY_CONTAINER_MAX_SIZE) {
+        return ((ArrayContainer) this).merge((ArrayContainer) other);
+      }
+      BitmapContainer result = toBitmapContainer(this);
+      long[] otherWords = toBitmapContainer(other).words;
+      for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+        result.words[i] |= otherWords[i];
+      }
+      return result.normalize();
+    }
+
+    /**
+     * Returns the values of this container which are not contained in the
+     * other container.
+     *
+     * @param other other container
+     * @return difference
+     */
+    Container andNot(Container other) {
+      if (this instanceof ArrayContainer) {
+        return ((ArrayContainer) this).filter(other, false);
+      }
+      BitmapContainer result = (BitmapContainer) copy();
+      long[] otherWords = toBitmapContainer(other).words;
+      for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+        result.words[i] &= ~otherWords[i];
+      }
+      return result.normalize();
+    }
+
+    /**
+     * Checks if this and another container share a value.
+     *
+     * @param other other container
+     * @return true, if both containers intersect
+     */
+    boolean intersects(Container other) {
+      if (this instanceof ArrayContainer) {
+        return ((ArrayContainer) this).containsAny(other);
+      }
+      if (other instanceof ArrayContainer) {
+        return ((ArrayContainer) other).containsAny(this);
+      }
+      long[] words = ((BitmapContainer) this).words;
+      long[] otherWords = ((BitmapContainer) other).words;
+      for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+        if ((words[i] & otherWords[i]) != 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Returns the given container as (possibly new) bitmap container.
+     *
+     * @param container container
+     * @return bitmap container with the same values
+     */
+    private static BitmapContainer toBitmapContainer(Container container) {
+      if (container instanceof BitmapContainer) {
+        return (BitmapContainer) container.copy();
+      }
+      BitmapContainer result = new BitmapContainer();
+      ArrayContainer array = (ArrayContainer) container;
+      for (int i = 0; i < array.cardinality; i++) {
+        result.set(array.values[i]);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Container storing a sorted array of values.
+   */
+  private static class ArrayContainer extends Container {
+
+    /**
+     * Sorted values, valid up to cardinality.
+     */
+    private char[] values = new char[4];
+
+    /**
+     * Number of values.
+     */
+    private int cardinality;
+
+    @Override
+    int getCardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    Container add(char value) {
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        return this;
+      }
+      if (cardinality == ARRAY_CONTAINER_MAX_SIZE) {
+        BitmapContainer bitmap = Container.toBitmapContainer(this);
+        bitmap.set(value);
+        return bitmap;
+      }
+      index = -index - 1;
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values,
+          Math.min(values.length * 2, ARRAY_CONTAINER_MAX_SIZE));
+      }
+      System.arraycopy(values, index, values, index + 1, cardinality - index);
+      values[index] = value;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    Container copy() {
+      ArrayContainer copy = new ArrayContainer();
+      copy.values = Arrays.copyOf(values, Math.max(4, cardinality));
+      copy.cardinality = cardinality;
+      return copy;
+    }
+
+    @Override
+    int fill(int[] output, int offset, int high) {
+      for (int i = 0; i < cardinality; i++) {
+        output[offset++] = high | values[i];
+      }
+      return offset;
+    }
+
+    @Override
+    void write(DataOutput dataOutput) throws IOException {
+      dataOutput.writeBoolean(false);
+      dataOutput.writeShort(cardinality);
+      for (int i = 0; i < cardinality; i++) {
+        dataOutput.writeChar(values[i]);
+      }
+    }
+
+    @Override
+    void read(DataInput dataInput) throws IOException {
+      cardinality = dataInput.readUnsignedShort();
+      values = new char[Math.max(4, cardinality)];
+      for (int i = 0; i < cardinality; i++) {
+        values[i] = dataInput.readChar();
+      }
+    }
+
+    /**
+     * Returns the values which are (not) contained in the other container.
+     *
+     * @param other     other container
+     * @param contained keep contained (true) or not contained values (false)
+     * @return filtered container
+     */
+    ArrayContainer filter(Container other, boolean contained) {
+      ArrayContainer result = new ArrayContainer();
+      result.values = new char[Math.max(4, cardinality)];
+      for (int i = 0; i < cardinality; i++) {
+        if (other.contains(values[i]) == contained) {
+          result.values[result.cardinality++] = values[i];
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Merges the sorted values of this and the other container.
+     *
+     * @param other other container
+     * @return union
+     */
+    ArrayContainer merge(ArrayContainer other) {
+      ArrayContainer result = new ArrayContainer();
+      result.values = new char[Math.max(4, cardinality + other.cardinality)];
+      int i = 0;
+      int j = 0;
+      while (i < cardinality || j < other.cardinality) {
+        char value;
+        if (j == other.cardinality ||
+          (i < cardinality && values[i] < other.values[j])) {
+          value = values[i++];
+        } else if (i == cardinality || values[i] > other.values[j]) {
+          value = other.values[j++];
+        } else {
+          value = values[i++];
+          j++;
+        }
+        result.values[result.cardinality++] = value;
+      }
+      return result;
+    }
+
+    /**
+     * Checks if any value is contained in the other container.
+     *
+     * @param other other container
+     * @return true, if a value is contained
+     */
+    boolean containsAny(Container other) {
+      for (int i = 0; i < cardinality; i++) {
+        if (other.contains(values[i])) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Container storing one bit per possible value.
+   */
+  private static class BitmapContainer extends Container {
+
+    /**
+     * Bitmap words.
+     */
+    private long[] words = new long[BITMAP_CONTAINER_WORDS];
+
+    /**
+     * Number of set bits.
+     */
+    private int cardinality;
+
+    @Override
+    int getCardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    Container add(char value) {
+      set(value);
+      return this;
+    }
+
+    @Override
+    Container copy() {
+      BitmapContainer copy = new BitmapContainer();
+      copy.words = Arrays.copyOf(words, BITMAP_CONTAINER_WORDS);
+      copy.cardinality = cardinality;
+      return copy;
+    }
+
+    @Override
+    int fill(int[] output, int offset, int high) {
+      for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          output[offset++] =
+            high | ((i << 6) + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      return offset;
+    }
+
+    @Override
+    void write(DataOutput dataOutput) throws IOException {
+      dataOutput.writeBoolean(true);
+      for (long word : words) {
+        dataOutput.writeLong(word);
+      }
+    }
+
+    @Override
+    void read(DataInput dataInput) throws IOException {
+      cardinality = 0;
+      for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+        words[i] = dataInput.readLong();
+        cardinality += Long.bitCount(words[i]);
+      }
+    }
+
+    /**
+     * Sets the bit of the given value.
+     *
+     * @param value lower 16 bits
+     */
+    void set(char value) {
+      if (!contains(value)) {
+        words[value >>> 6] |= 1L << value;
+        cardinality++;
+      }
+    }
+
+    /**
+     * Recomputes the cardinality and converts the container to an array
+     * container if it is sparse.
+     *
+     * @return normalized container
+     */
+    Container normalize() {
+      cardinality = 0;
+      for (long word : words) {
+        cardinality += Long.bitCount(word);
+      }
+      if (cardinality > ARRAY_CONTAINER_MAX_SIZE) {
+        return this;
+      }
+      ArrayContainer array = new ArrayContainer();
+      array.values = new char[Math.max(4, cardinality)];
+      int[] values = new int[cardinality];
+      fill(values, 0, 0);
+      for (int value : values) {
+        array.values[array.cardinality++] = (char) value;
+      }
+      return array;
+    }
+  }
+}
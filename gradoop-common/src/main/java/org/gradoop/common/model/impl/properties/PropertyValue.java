@@ -79,6 +79,10 @@ public class PropertyValue
    * {@code <property-type>} for {@link java.lang.String}
    */
   private static final transient byte TYPE_BIG_DECIMAL  = 0x07;
+  /**
+   * {@code <property-type>} for {@code byte[]}
+   */
+  private static final transient byte TYPE_BYTES        = 0x08;
   /**
    * Value offset in byte
    */
@@ -189,6 +193,14 @@ public class PropertyValue
   public boolean isBigDecimal() {
     return rawBytes[0] == TYPE_BIG_DECIMAL;
   }
+  /**
+   * True, if the wrapped value is of type {@code byte[]}.
+   *
+   * @return true, if {@code byte[]} value
+   */
+  public boolean isBytes() {
+    return rawBytes[0] == TYPE_BYTES;
+  }
 
   //----------------------------------------------------------------------------
   // Getter
@@ -207,7 +219,8 @@ public class PropertyValue
             isDouble() ? getDouble() :
               isString() ? getString() :
                 isBigDecimal() ? getBigDecimal() :
-                  null;
+                  isBytes() ? getBytes() :
+                    null;
   }
   /**
    * Returns the wrapped value as {@code boolean}.
@@ -266,6 +279,14 @@ public class PropertyValue
   public BigDecimal getBigDecimal() {
     return Bytes.toBigDecimal(rawBytes, OFFSET, rawBytes.length - OFFSET);
   }
+  /**
+   * Returns a copy of the wrapped value as {@code byte[]}.
+   *
+   * @return {@code byte[]} value
+   */
+  public byte[] getBytes() {
+    return Arrays.copyOfRange(rawBytes, OFFSET, rawBytes.length);
+  }
 
   //----------------------------------------------------------------------------
   // Setter
@@ -294,6 +315,8 @@ public class PropertyValue
       setString((String) value);
     } else if (value instanceof BigDecimal) {
       setBigDecimal((BigDecimal) value);
+    } else if (value instanceof byte[]) {
+      setBytes((byte[]) value);
     } else {
       throw new UnsupportedTypeException(value.getClass());
     }
@@ -370,6 +393,16 @@ public class PropertyValue
     rawBytes[0] = TYPE_BIG_DECIMAL;
     Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
   }
+  /**
+   * Sets the wrapped value as {@code byte[]} value. The given array is copied.
+   *
+   * @param bytesValue value
+   */
+  public void setBytes(byte[] bytesValue) {
+    rawBytes = new byte[OFFSET + bytesValue.length];
+    rawBytes[0] = TYPE_BYTES;
+    Bytes.putBytes(rawBytes, OFFSET, bytesValue, 0, bytesValue.length);
+  }
 
   //----------------------------------------------------------------------------
   // Util
@@ -383,7 +416,8 @@ public class PropertyValue
       Float.class       : rawBytes[0] == TYPE_DOUBLE      ?
       Double.class      : rawBytes[0] == TYPE_STRING      ?
       String.class      : rawBytes[0] == TYPE_BIG_DECIMAL ?
-      BigDecimal.class  : null;
+      BigDecimal.class  : rawBytes[0] == TYPE_BYTES       ?
+      byte[].class      : null;
   }
 
   @Override
@@ -423,6 +457,10 @@ public class PropertyValue
       result = this.getString().compareTo(o.getString());
     } else if (this.isBigDecimal() && o.isBigDecimal()) {
       result = this.getBigDecimal().compareTo(o.getBigDecimal());
+    } else if (this.isBytes() && o.isBytes()) {
+      result = Bytes.compareTo(
+        this.rawBytes, OFFSET, this.rawBytes.length - OFFSET,
+        o.rawBytes, OFFSET, o.rawBytes.length - OFFSET);
     } else {
       throw new IllegalArgumentException(String.format(
         "Incompatible types: %s, %s", this.getClass(), o.getClass()));
@@ -441,6 +479,10 @@ public class PropertyValue
    * byte 3       : length (short)
    * byte 4 - end : value bytes
    *
+   * for byte arrays
+   * byte 2 - 5   : length (int)
+   * byte 6 - end : value bytes
+   *
    * for fixed length types (e.g. int, long, float, ...)
    * byte 2 - end : value bytes
    *
@@ -456,6 +498,9 @@ public class PropertyValue
     if (rawBytes[0] == TYPE_STRING || rawBytes[0] == TYPE_BIG_DECIMAL) {
       // write length
       dataOutput.writeShort(rawBytes.length - OFFSET);
+    } else if (rawBytes[0] == TYPE_BYTES) {
+      // write length
+      dataOutput.writeInt(rawBytes.length - OFFSET);
     }
     // write data
     dataOutput.write(rawBytes, OFFSET, rawBytes.length - OFFSET);
@@ -463,13 +508,16 @@ public class PropertyValue
 
   @Override
   public void readFields(DataInput dataInput) throws IOException {
-    short length = 0;
+    int length = 0;
     // type
     byte type = dataInput.readByte();
     // dynamic type?
     if (type == TYPE_STRING || type == TYPE_BIG_DECIMAL) {
       // read length
       length = dataInput.readShort();
+    } else if (type == TYPE_BYTES) {
+      // read length
+      length = dataInput.readInt();
     } else if (type == TYPE_NULL) {
       length = 0;
     } else if (type == TYPE_BOOLEAN) {
@@ -495,8 +543,10 @@ public class PropertyValue
 
   @Override
   public String toString() {
-    return getObject() != null ?
-      getObject().toString() :
-      GConstants.NULL_STRING;
+    return isBytes() ?
+      Bytes.toStringBinary(rawBytes, OFFSET, rawBytes.length - OFFSET) :
+      getObject() != null ?
+        getObject().toString() :
+        GConstants.NULL_STRING;
   }
 }
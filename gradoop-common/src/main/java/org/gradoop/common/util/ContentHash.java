@@ -0,0 +1,80 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.common.util;
+
+/**
+ * 64 bit hash functions shared by identifiers and operators, e.g. to
+ * fingerprint graph content or to derive pseudo random values.
+ */
+public final class ContentHash {
+
+  /**
+   * FNV-1a 64 bit offset basis
+   */
+  private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+
+  /**
+   * FNV-1a 64 bit prime
+   */
+  private static final long FNV_PRIME = 0x100000001B3L;
+
+  /**
+   * No instances.
+   */
+  private ContentHash() {
+  }
+
+  /**
+   * Hashes a string.
+   *
+   * @param string string
+   * @return 64 bit hash
+   */
+  public static long hash(String string) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < string.length(); i++) {
+      hash ^= string.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  /**
+   * Hashes an ordered pair of hashes.
+   *
+   * @param first   first hash
+   * @param second  second hash
+   * @return 64 bit hash
+   */
+  public static long combine(long first, long second) {
+    return mix(first * FNV_PRIME + mix(second));
+  }
+
+  /**
+   * MurmurHash3 64 bit finalizer. The function is a bijection on long values.
+   *
+   * @param value input
+   * @return mixed value
+   */
+  public static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+    z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return z ^ (z >>> 33);
+  }
+}
@@ -0,0 +1,57 @@
+package org.gradoop.common.model.impl.id;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GradoopIdBloomFilterTest {
+
+  @Test
+  public void testMightContain() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdBloomFilter filter = GradoopIdBloomFilter.create(10L, 0.001);
+    assertFalse(filter.mightContain(id1));
+
+    filter.add(id1);
+    assertTrue(filter.mightContain(id1));
+    assertFalse(filter.mightContain(id2));
+  }
+
+  @Test
+  public void testNoFalseNegatives() throws Exception {
+    GradoopIdBloomFilter filter = GradoopIdBloomFilter.create(1000L, 0.01);
+    GradoopIdSet ids = new GradoopIdSet();
+    for (int i = 0; i < 1000; i++) {
+      GradoopId id = GradoopId.get();
+      ids.add(id);
+      filter.add(id);
+    }
+    for (GradoopId id : ids) {
+      assertTrue(filter.mightContain(id));
+    }
+  }
+
+  @Test
+  public void testAddAll() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdBloomFilter filter1 = GradoopIdBloomFilter.create(10L, 0.001);
+    GradoopIdBloomFilter filter2 = GradoopIdBloomFilter.create(10L, 0.001);
+    filter1.add(id1);
+    filter2.add(id2);
+
+    filter1.addAll(filter2);
+    assertTrue(filter1.mightContain(id1));
+    assertTrue(filter1.mightContain(id2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddAllWithDifferentSizes() throws Exception {
+    GradoopIdBloomFilter.create(10L, 0.01)
+      .addAll(GradoopIdBloomFilter.create(1000L, 0.01));
+  }
+}
@@ -151,6 +151,11 @@ public class GradoopIdSetTest {
     assertTrue(ids.containsAny(GradoopIdSet.fromExisting(id1, id2)));
     assertFalse(ids.containsAny(GradoopIdSet.fromExisting(id3)));
     assertTrue(ids.containsAny(GradoopIdSet.fromExisting(id1, id3)));
+    // larger argument
+    GradoopId id4 = GradoopId.get();
+    assertTrue(ids.containsAny(GradoopIdSet.fromExisting(id2, id3, id4)));
+    assertFalse(ids.containsAny(
+      GradoopIdSet.fromExisting(id3, id4, GradoopId.get())));
   }
 
   @Test
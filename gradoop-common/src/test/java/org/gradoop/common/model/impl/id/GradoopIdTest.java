@@ -62,6 +62,23 @@ public class GradoopIdTest {
     assertEquals(id1, id2);
   }
 
+  @Test
+  public void testCopy() throws Exception {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = id1.copy();
+
+    assertEquals(id1, id2);
+    assertNotSame(id1, id2);
+
+    // reading into the original id must not change the copy
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GradoopId.get().write(new DataOutputStream(out));
+    id1.readFields(
+      new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+    assertNotEquals(id1, id2);
+  }
+
   @Test
   public void testToFromString() {
     GradoopId originalId = GradoopId.get();
@@ -71,4 +88,29 @@ public class GradoopIdTest {
       originalId.equals(toFromStringId)
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testFromName() {
+    GradoopId id1 = GradoopId.fromName("foo");
+    GradoopId id2 = GradoopId.fromName("foo");
+    GradoopId id3 = GradoopId.fromName("bar");
+
+    assertEquals(id1, id2);
+    assertFalse(id1.equals(id3));
+  }
+
+  @Test
+  public void testDerive() {
+    GradoopId key1 = GradoopId.get();
+    GradoopId key2 = GradoopId.get();
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    assertEquals(GradoopId.derive(id1, key1), GradoopId.derive(id1, key1));
+    assertFalse(id1.equals(GradoopId.derive(id1, key1)));
+    assertFalse(
+      GradoopId.derive(id1, key1).equals(GradoopId.derive(id2, key1)));
+    assertFalse(
+      GradoopId.derive(id1, key1).equals(GradoopId.derive(id1, key2)));
+  }
+}
@@ -0,0 +1,107 @@
+package org.gradoop.common.model.impl.id;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.junit.Assert.*;
+
+public class GraphBitmapTest {
+
+  @Test
+  public void testAddAndContains() throws Exception {
+    GraphBitmap bitmap = GraphBitmap.of(3, 1, 70000, 3);
+
+    assertEquals(3, bitmap.getCardinality());
+    assertTrue(bitmap.contains(1));
+    assertTrue(bitmap.contains(3));
+    assertTrue(bitmap.contains(70000));
+    assertFalse(bitmap.contains(2));
+    assertFalse(bitmap.contains(-1));
+    assertArrayEquals(new int[] {1, 3, 70000}, bitmap.toArray());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddNegative() throws Exception {
+    new GraphBitmap().add(-1);
+  }
+
+  @Test
+  public void testIsEmpty() throws Exception {
+    assertTrue(new GraphBitmap().isEmpty());
+    assertFalse(GraphBitmap.of(0).isEmpty());
+    assertTrue(GraphBitmap.of(1, 2).andNot(GraphBitmap.of(1, 2)).isEmpty());
+  }
+
+  @Test
+  public void testAnd() throws Exception {
+    GraphBitmap first = GraphBitmap.of(1, 2, 3, 70000);
+    GraphBitmap second = GraphBitmap.of(2, 3, 4, 70001);
+
+    assertEquals(GraphBitmap.of(2, 3), first.and(second));
+    assertTrue(first.intersects(second));
+    assertFalse(first.intersects(GraphBitmap.of(5, 70001)));
+  }
+
+  @Test
+  public void testOr() throws Exception {
+    GraphBitmap first = GraphBitmap.of(1, 2, 70000);
+    GraphBitmap second = GraphBitmap.of(2, 3, 140000);
+
+    assertEquals(GraphBitmap.of(1, 2, 3, 70000, 140000), first.or(second));
+  }
+
+  @Test
+  public void testAndNot() throws Exception {
+    GraphBitmap first = GraphBitmap.of(1, 2, 3, 70000);
+    GraphBitmap second = GraphBitmap.of(2, 70000);
+
+    assertEquals(GraphBitmap.of(1, 3), first.andNot(second));
+  }
+
+  @Test
+  public void testDenseContainers() throws Exception {
+    GraphBitmap even = new GraphBitmap();
+    GraphBitmap odd = new GraphBitmap();
+    for (int i = 0; i < 20000; i++) {
+      if (i % 2 == 0) {
+        even.add(i);
+      } else {
+        odd.add(i);
+      }
+    }
+
+    assertEquals(10000, even.getCardinality());
+    assertTrue(even.contains(19998));
+    assertFalse(even.contains(19999));
+    assertFalse(even.intersects(odd));
+    assertTrue(even.and(odd).isEmpty());
+    assertEquals(20000, even.or(odd).getCardinality());
+    assertEquals(even, even.or(odd).andNot(odd));
+
+    // sparse result of a dense intersection
+    GraphBitmap sparse = GraphBitmap.of(2, 4, 5);
+    assertEquals(GraphBitmap.of(2, 4), even.and(sparse));
+  }
+
+  @Test
+  public void testWriteAndReadFields() throws Exception {
+    GraphBitmap bitmap = GraphBitmap.of(1, 70000);
+    for (int i = 100000; i < 110000; i++) {
+      bitmap.add(i);
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    bitmap.write(new DataOutputStream(out));
+
+    GraphBitmap read = new GraphBitmap();
+    read.readFields(new DataInputStream(
+      new ByteArrayInputStream(out.toByteArray())));
+
+    assertEquals(bitmap, read);
+    assertEquals(bitmap.hashCode(), read.hashCode());
+  }
+}
@@ -289,6 +289,38 @@ public class PropertyValueTest {
     assertEquals(BIG_DECIMAL_VAL_7, p.getBigDecimal());
   }
 
+  @Test
+  public void testIsBytes() throws Exception {
+    PropertyValue p = PropertyValue.create(new byte[] {1, 2});
+    assertFalse(p.isNull());
+    assertFalse(p.isBoolean());
+    assertFalse(p.isInt());
+    assertFalse(p.isLong());
+    assertFalse(p.isFloat());
+    assertFalse(p.isDouble());
+    assertFalse(p.isString());
+    assertFalse(p.isBigDecimal());
+    assertTrue(p.isBytes());
+  }
+
+  @Test
+  public void testGetBytes() throws Exception {
+    byte[] bytes = {1, 2, 3};
+    PropertyValue p = PropertyValue.create(bytes);
+    assertArrayEquals(bytes, p.getBytes());
+    assertArrayEquals(bytes, (byte[]) p.getObject());
+    assertEquals(byte[].class, p.getType());
+  }
+
+  @Test
+  public void testSetBytes() throws Exception {
+    byte[] bytes = {1, 2, 3};
+    PropertyValue p = new PropertyValue();
+    p.setBytes(bytes);
+    bytes[0] = 0;
+    assertArrayEquals(new byte[] {1, 2, 3}, p.getBytes());
+  }
+
   @Test
   public void testEqualsAndHashCode() throws Exception {
     validateEqualsAndHashCode(create(null), create(null), create(false));
@@ -308,6 +340,10 @@ public class PropertyValueTest {
     validateEqualsAndHashCode(create(new BigDecimal(10)),
       create(new BigDecimal(10)),
       create(new BigDecimal(11)));
+
+    validateEqualsAndHashCode(create(new byte[] {10}),
+      create(new byte[] {10}),
+      create(new byte[] {11}));
   }
 
   /**
@@ -350,6 +386,10 @@ public class PropertyValueTest {
     validateCompareTo(create(new BigDecimal(10)),
       create(new BigDecimal(10)),
       create(new BigDecimal(11)));
+
+    validateCompareTo(create(new byte[] {10}),
+      create(new byte[] {10}),
+      create(new byte[] {10, 0}));
   }
 
   @Test(expected = IllegalArgumentException.class)
@@ -382,6 +422,13 @@ public class PropertyValueTest {
 
     p = create(BIG_DECIMAL_VAL_7);
     assertEquals(p, writeAndReadFields(PropertyValue.class, p));
+
+    p = create(new byte[] {1, 2, 3});
+    assertEquals(p, writeAndReadFields(PropertyValue.class, p));
+
+    // exceeds the maximum length of strings
+    p = create(new byte[Short.MAX_VALUE + 1]);
+    assertEquals(p, writeAndReadFields(PropertyValue.class, p));
   }
   /**
    * Assumes that p1 == p2 < p3
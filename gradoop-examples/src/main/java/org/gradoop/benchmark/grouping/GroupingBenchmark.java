@@ -25,10 +25,13 @@ import org.gradoop.examples.AbstractRunner;
 import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.AverageAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.DistinctCountAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MaxAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MinAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.QuantileAggregator;
 
 import java.io.File;
 import java.io.IOException;
@@ -168,7 +171,7 @@ public class GroupingBenchmark extends AbstractRunner implements
     OPTIONS.addOption(OPTION_OUTPUT_PATH, "output-path", true,
       "Path to write output files to");
     OPTIONS.addOption(OPTION_GROUPING_STRATEGY, "strategy", true,
-      "Grouping strategy (GR, GC)");
+      "Grouping strategy (GR, GC, AUTO)");
     OPTIONS.addOption(OPTION_USE_VERTEX_LABELS, "use-vertex-labels", false,
       "Group on vertex labels");
     OPTIONS.addOption(OPTION_USE_EDGE_LABELS, "use-edge-labels", false,
@@ -275,11 +278,11 @@ public class GroupingBenchmark extends AbstractRunner implements
     }
     if (!cmd.hasOption(OPTION_VERTEX_AGGREGATION_FUNCS)) {
       throw new IllegalArgumentException("Vertex aggregator need to be set! " +
-        "(max, min, count, none (or list of these)");
+        "(max, min, count, avg, distinct, median, none (or list of these)");
     }
     if (!cmd.hasOption(OPTION_EDGE_AGGREGATION_FUNCS)) {
       throw new IllegalArgumentException("Edge aggregator need to be set! " +
-        "(max, min, count, none (or list of these)");
+        "(max, min, count, avg, distinct, median, none (or list of these)");
     }
 
   }
@@ -300,6 +303,8 @@ public class GroupingBenchmark extends AbstractRunner implements
       String value = cmd.getOptionValue(OPTION_GROUPING_STRATEGY);
       if (value.toUpperCase().equals("GC")) {
         STRATEGY = GroupingStrategy.GROUP_COMBINE;
+      } else if (value.toUpperCase().equals("AUTO")) {
+        STRATEGY = GroupingStrategy.AUTO;
       }
     }
 
@@ -381,6 +386,18 @@ public class GroupingBenchmark extends AbstractRunner implements
           aggregatorList.add(new MinAggregator(keyList.get(i),
             resultKeyList.get(i)));
           break;
+        case "avg" :
+          aggregatorList.add(new AverageAggregator(keyList.get(i),
+            resultKeyList.get(i)));
+          break;
+        case "distinct" :
+          aggregatorList.add(new DistinctCountAggregator(keyList.get(i),
+            resultKeyList.get(i)));
+          break;
+        case "median" :
+          aggregatorList.add(new QuantileAggregator(keyList.get(i),
+            resultKeyList.get(i), 0.5));
+          break;
         default:
           aggregatorList.add(null);
           break;
@@ -25,6 +25,7 @@ import org.apache.commons.cli.ParseException;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.gradoop.flink.io.impl.json.JSONDataSink;
 import org.gradoop.flink.io.impl.json.JSONDataSource;
+import org.gradoop.flink.io.impl.session.OutputSession;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
@@ -111,14 +112,22 @@ public abstract class AbstractRunner {
    */
   protected static void writeLogicalGraph(LogicalGraph graph, String directory)
       throws Exception {
-    directory = appendSeparator(directory);
-    graph.writeTo(new JSONDataSink(
-      directory + GRAPHS_JSON,
-      directory + VERTICES_JSON,
-      directory + EDGES_JSON,
-      graph.getConfig()));
+    OutputSession session = new OutputSession(graph.getConfig());
+    writeLogicalGraph(graph, directory, session);
+    session.execute();
+  }
 
-    getExecutionEnvironment().execute();
+  /**
+   * Adds a logical graph to the given session. The graph is written into the
+   * given directory when the session is executed.
+   *
+   * @param graph     logical graph
+   * @param directory output path
+   * @param session   output session
+   */
+  protected static void writeLogicalGraph(LogicalGraph graph, String directory,
+    OutputSession session) {
+    session.add(graph, getJSONDataSink(directory, graph.getConfig()));
   }
 
   /**
@@ -130,14 +139,39 @@ public abstract class AbstractRunner {
    */
   protected static void writeGraphCollection(GraphCollection collection,
     String directory) throws Exception {
+    OutputSession session = new OutputSession(collection.getConfig());
+    writeGraphCollection(collection, directory, session);
+    session.execute();
+  }
+
+  /**
+   * Adds a graph collection to the given session. The collection is written
+   * into the given directory when the session is executed.
+   *
+   * @param collection  graph collection
+   * @param directory   output path
+   * @param session     output session
+   */
+  protected static void writeGraphCollection(GraphCollection collection,
+    String directory, OutputSession session) {
+    session.add(collection, getJSONDataSink(directory, collection.getConfig()));
+  }
+
+  /**
+   * Creates a JSON data sink writing into the given directory.
+   *
+   * @param directory output path
+   * @param config    Gradoop Flink configuration
+   * @return JSON data sink
+   */
+  private static JSONDataSink getJSONDataSink(String directory,
+    GradoopFlinkConfig config) {
     directory = appendSeparator(directory);
-    collection.writeTo(new JSONDataSink(
+    return new JSONDataSink(
       directory + GRAPHS_JSON,
       directory + VERTICES_JSON,
       directory + EDGES_JSON,
-      collection.getConfig()));
-
-    getExecutionEnvironment().execute();
+      config);
   }
 
   /**
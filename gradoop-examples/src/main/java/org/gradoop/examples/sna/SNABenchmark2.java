@@ -124,8 +124,6 @@ public class SNABenchmark2 extends AbstractRunner implements
     LogicalGraph epgmDatabase = readLogicalGraph(inputDir);
 
     writeLogicalGraph(execute(epgmDatabase, threshold), outputDir);
-
-    getExecutionEnvironment().execute();
   }
 
   /**
@@ -26,7 +26,6 @@ import org.gradoop.flink.io.impl.edgelist.functions.CreateImportVertex;
 import org.gradoop.flink.io.impl.graph.GraphDataSource;
 import org.gradoop.flink.model.impl.GraphTransactions;
 import org.gradoop.flink.model.impl.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
@@ -77,6 +76,11 @@ public class EdgeListDataSource implements DataSource {
    */
   private String propertyKey;
 
+  /**
+   * True, if EPGM vertex ids shall be derived from the edge list vertex ids
+   */
+  private boolean deriveVertexIds;
+
   /**
    * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
    *
@@ -88,20 +92,40 @@ public class EdgeListDataSource implements DataSource {
   public EdgeListDataSource(String edgeListPath, String tokenSeparator,
     String propertyKey,
     GradoopFlinkConfig config) {
+    this(edgeListPath, tokenSeparator, propertyKey, false, config);
+  }
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * If {@code deriveVertexIds} is set, EPGM vertex ids are derived from the
+   * vertex ids in the edge list, which avoids joining the edges with the
+   * vertices (see {@link GraphDataSource}).
+   *
+   * @param edgeListPath    Path to TSV-File
+   * @param tokenSeparator  separator token
+   * @param propertyKey     property key for property value
+   * @param deriveVertexIds true, if vertex ids shall be derived
+   * @param config          Gradoop Flink configuration
+   */
+  public EdgeListDataSource(String edgeListPath, String tokenSeparator,
+    String propertyKey, boolean deriveVertexIds, GradoopFlinkConfig config) {
     this.config = config;
     this.edgeListPath = edgeListPath;
     this.tokenSeparator = tokenSeparator;
     this.propertyKey = propertyKey;
+    this.deriveVertexIds = deriveVertexIds;
   }
 
 
+  /**
+   * {@inheritDoc}
+   *
+   * The edge list describes a single graph, thus the graph created by
+   * {@link GraphDataSource} is returned without combining a collection.
+   */
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination());
-  }
-
-  @Override
-  public GraphCollection getGraphCollection() throws IOException {
 
     ExecutionEnvironment env = config.getExecutionEnvironment();
 
@@ -136,8 +160,14 @@ public class EdgeListDataSource implements DataSource {
     // create graph data source
     //--------------------------------------------------------------------------
 
-    return new GraphDataSource<>(importVertices, importEdges, config)
-      .getGraphCollection();
+    return new GraphDataSource<>(
+      importVertices, importEdges, null, deriveVertexIds, config)
+      .getLogicalGraph();
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    return GraphCollection.fromGraph(getLogicalGraph());
   }
 
   @Override
@@ -24,6 +24,9 @@ import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.api.java.typeutils.TupleTypeInfo;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.graph.functions.CheckDerivedIdCollision;
+import org.gradoop.flink.io.impl.graph.functions.InitEdgeWithDerivedIds;
+import org.gradoop.flink.io.impl.graph.functions.InitVertexWithDerivedId;
 import org.gradoop.flink.io.impl.graph.functions.UpdateEdge;
 import org.gradoop.flink.model.impl.GraphTransactions;
 import org.gradoop.flink.model.impl.LogicalGraph;
@@ -48,6 +51,15 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * {@link ImportEdge}. This class transforms the external graph into an EPGM
  * {@link LogicalGraph}.
  *
+ * By default, EPGM vertex identifiers are generated randomly and the import
+ * edges are joined twice with the import vertices to translate their source
+ * and target identifiers. If {@code deriveVertexIds} is set, the EPGM vertex
+ * identifiers are derived from the import identifiers instead, which allows to
+ * convert the import edges without any join. In that case, the import
+ * identifier type needs to have a unique {@link Object#toString()}
+ * representation and edges pointing to unknown import vertices are not
+ * removed.
+ *
  * @param <K> External vertex/edge identifier type
  */
 public class GraphDataSource<K extends Comparable<K>> implements DataSource {
@@ -67,6 +79,11 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
    */
   private final String lineagePropertyKey;
 
+  /**
+   * True, if EPGM vertex ids shall be derived from the import vertex ids.
+   */
+  private final boolean deriveVertexIds;
+
   /**
    * Gradoop config
    */
@@ -101,9 +118,30 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
   public GraphDataSource(DataSet<ImportVertex<K>> importVertices,
     DataSet<ImportEdge<K>> importEdges, String lineagePropertyKey,
     GradoopFlinkConfig config) {
+    this(importVertices, importEdges, lineagePropertyKey, false, config);
+  }
+
+  /**
+   * Creates a new graph reader.
+   *
+   * If the given {@code lineagePropertyKey} is {@code null}, no lineage info
+   * is stored.
+   *
+   * @param importVertices      vertices to import
+   * @param importEdges         edges to import
+   * @param lineagePropertyKey  property key to store import identifiers
+   *                            (can be {@code null})
+   * @param deriveVertexIds     true, if EPGM vertex ids shall be derived from
+   *                            the import vertex ids
+   * @param config              gradoop config
+   */
+  public GraphDataSource(DataSet<ImportVertex<K>> importVertices,
+    DataSet<ImportEdge<K>> importEdges, String lineagePropertyKey,
+    boolean deriveVertexIds, GradoopFlinkConfig config) {
     this.importVertices     = checkNotNull(importVertices);
     this.importEdges        = checkNotNull(importEdges);
     this.lineagePropertyKey = lineagePropertyKey;
+    this.deriveVertexIds    = deriveVertexIds;
     this.config             = checkNotNull(config);
   }
 
@@ -118,6 +156,10 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
     TypeInformation<K> externalIdType = ((TupleTypeInfo<?>) importVertices
       .getType()).getTypeAt(0);
 
+    if (deriveVertexIds) {
+      return getLogicalGraphWithDerivedIds(externalIdType);
+    }
+
     DataSet<Tuple3<K, GradoopId, Vertex>> vertexTriples = importVertices
       .map(new InitVertex<>(
         config.getVertexFactory(), lineagePropertyKey, externalIdType));
@@ -140,6 +182,30 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
     return LogicalGraph.fromDataSets(epgmVertices, epgmEdges, config);
   }
 
+  /**
+   * Transforms the import graph into a logical graph by deriving the EPGM
+   * vertex ids from the import vertex ids. Edges are converted by a single
+   * map, only the vertices are grouped to detect id collisions.
+   *
+   * @param externalIdType type info for the import identifier
+   * @return logical graph
+   */
+  private LogicalGraph getLogicalGraphWithDerivedIds(
+    TypeInformation<K> externalIdType) {
+
+    DataSet<Vertex> epgmVertices = importVertices
+      .map(new InitVertexWithDerivedId<>(
+        config.getVertexFactory(), lineagePropertyKey, externalIdType))
+      .groupBy(1)
+      .reduceGroup(new CheckDerivedIdCollision<K>());
+
+    DataSet<Edge> epgmEdges = importEdges
+      .map(new InitEdgeWithDerivedIds<>(
+        config.getEdgeFactory(), lineagePropertyKey, externalIdType));
+
+    return LogicalGraph.fromDataSets(epgmVertices, epgmEdges, config);
+  }
+
   @Override
   public GraphCollection getGraphCollection() throws IOException {
     return GraphCollection.fromGraph(getLogicalGraph());
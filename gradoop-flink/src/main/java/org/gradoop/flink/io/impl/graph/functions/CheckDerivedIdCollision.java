@@ -0,0 +1,65 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Checks that all import vertices which were mapped to the same derived EPGM
+ * vertex identifier share the same import identifier. If two different import
+ * identifiers were mapped to the same EPGM identifier, an exception is thrown.
+ *
+ * Import vertices with the same import identifier are merged into a single
+ * EPGM vertex.
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+public class CheckDerivedIdCollision<K extends Comparable<K>>
+  implements GroupReduceFunction<Tuple3<K, GradoopId, Vertex>, Vertex> {
+
+  /**
+   * Outputs one EPGM vertex per derived identifier.
+   *
+   * @param vertexTriples import id, derived EPGM id and EPGM vertex
+   * @param collector     output collector
+   * @throws Exception
+   */
+  @Override
+  public void reduce(Iterable<Tuple3<K, GradoopId, Vertex>> vertexTriples,
+    Collector<Vertex> collector) throws Exception {
+
+    K importId = null;
+    Vertex vertex = null;
+
+    for (Tuple3<K, GradoopId, Vertex> vertexTriple : vertexTriples) {
+      if (vertex == null) {
+        importId = vertexTriple.f0;
+        vertex = vertexTriple.f2;
+      } else if (importId.compareTo(vertexTriple.f0) != 0) {
+        throw new IllegalStateException(String.format(
+          "Import ids %s and %s were both mapped to vertex id %s",
+          importId, vertexTriple.f0, vertexTriple.f1));
+      }
+    }
+    collector.collect(vertex);
+  }
+}
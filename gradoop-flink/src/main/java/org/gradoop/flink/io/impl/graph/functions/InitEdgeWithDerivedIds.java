@@ -0,0 +1,87 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
+
+/**
+ * Initializes an EPGM edge from the given {@link ImportEdge}. Source and target
+ * vertex identifiers are derived from the import vertex identifiers in the same
+ * way as in {@link InitVertexWithDerivedId}, which makes joining the edges with
+ * the vertices unnecessary.
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+@FunctionAnnotation.ForwardedFields(
+  "f3->label;" +     // edge label
+  "f4->properties")  // edge properties
+public class InitEdgeWithDerivedIds<K extends Comparable<K>>
+  extends InitElement<Edge, K>
+  implements MapFunction<ImportEdge<K>, Edge>, ResultTypeQueryable<Edge> {
+
+  /**
+   * Used to create new EPGM edge.
+   */
+  private final EdgeFactory edgeFactory;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param edgeFactory         edge factory
+   * @param lineagePropertyKey  property key to store import identifier
+   *                            (can be {@code null})
+   * @param keyTypeInfo         type info for the import edge identifier
+   */
+  public InitEdgeWithDerivedIds(EdgeFactory edgeFactory,
+    String lineagePropertyKey, TypeInformation<K> keyTypeInfo) {
+    super(lineagePropertyKey, keyTypeInfo);
+    this.edgeFactory = edgeFactory;
+  }
+
+  /**
+   * Creates an EPGM edge with derived source and target vertex identifiers.
+   *
+   * @param importEdge import edge
+   * @return EPGM edge
+   * @throws Exception
+   */
+  @Override
+  public Edge map(ImportEdge<K> importEdge) throws Exception {
+    Edge edge = edgeFactory.initEdge(GradoopId.get(), importEdge.getLabel(),
+      deriveId(importEdge.getSourceId()), deriveId(importEdge.getTargetId()),
+      importEdge.getProperties());
+
+    return updateLineage(edge, importEdge.getId());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public TypeInformation<Edge> getProducedType() {
+    return TypeExtractor.createTypeInfo(edgeFactory.getType());
+  }
+}
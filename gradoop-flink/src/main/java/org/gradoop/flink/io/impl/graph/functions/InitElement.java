@@ -18,6 +18,7 @@
 package org.gradoop.flink.io.impl.graph.functions;
 
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Element;
 
 import java.io.Serializable;
@@ -78,6 +79,17 @@ public abstract class InitElement
     return element;
   }
 
+  /**
+   * Derives a Gradoop identifier from the given import element identifier.
+   * Equal import identifiers always result in equal Gradoop identifiers.
+   *
+   * @param importKey import element identifier
+   * @return Gradoop identifier
+   */
+  protected GradoopId deriveId(K importKey) {
+    return GradoopId.fromName(importKey.toString());
+  }
+
   /**
    * Returns type information for the import element identifier.
    *
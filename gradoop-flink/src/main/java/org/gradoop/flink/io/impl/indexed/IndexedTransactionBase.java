@@ -0,0 +1,92 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Base class for indexed graph transaction data sources and sinks.
+ */
+abstract class IndexedTransactionBase {
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+  /**
+   * Directory containing the indexed transaction files
+   */
+  private final String path;
+
+  /**
+   * Creates a new data source/sink. Paths can be local (file://) or HDFS
+   * (hdfs://).
+   *
+   * @param path    directory of indexed transaction files
+   * @param config  Gradoop Flink configuration
+   */
+  IndexedTransactionBase(String path, GradoopFlinkConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("config must not be null");
+    }
+    if (path == null) {
+      throw new IllegalArgumentException("path must not be null");
+    }
+    this.path = path;
+    this.config = config;
+  }
+
+  public GradoopFlinkConfig getConfig() {
+    return config;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Lists all files of the given indexed transaction directory. If the path
+   * points to a single file, only that file is returned.
+   *
+   * @param path directory or file
+   * @return paths of all indexed transaction files
+   * @throws IOException
+   */
+  static List<String> listFiles(String path) throws IOException {
+    Path directory = new Path(path);
+    FileSystem fs = directory.getFileSystem();
+
+    List<String> files = Lists.newArrayList();
+    if (fs.getFileStatus(directory).isDir()) {
+      for (FileStatus fileStatus : fs.listStatus(directory)) {
+        if (!fileStatus.isDir() && fileStatus.getLen() > 0) {
+          files.add(fileStatus.getPath().toString());
+        }
+      }
+    } else {
+      files.add(directory.toString());
+    }
+    return files;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.indexed.outputformats.IndexedTransactionOutputFormat;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Writes an EPGM representation into a directory of indexed graph
+ * transaction files (see {@link IndexedTransactionFile}). Single graphs can
+ * be read from that directory using {@link IndexedTransactionDataSource} or
+ * {@link IndexedTransactionReader} without scanning the whole collection.
+ */
+public class IndexedTransactionDataSink extends IndexedTransactionBase
+  implements DataSink {
+
+  /**
+   * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path    output directory
+   * @param config  Gradoop Flink configuration
+   */
+  public IndexedTransactionDataSink(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) {
+    write(GraphCollection.fromGraph(logicalGraph));
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) {
+    write(graphCollection.toTransactions());
+  }
+
+  @Override
+  public void write(GraphTransactions graphTransactions) {
+    graphTransactions.getTransactions()
+      .output(new IndexedTransactionOutputFormat(new Path(getPath())));
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.indexed.functions.ReadIndexedTransactions;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.model.impl.tuples.GraphTransaction;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Creates an EPGM instance from a directory written by
+ * {@link IndexedTransactionDataSink}.
+ *
+ * {@link #getGraphTransactions(GradoopIdSet)} only scans the index of each
+ * file and reads the requested transactions by seeking to their offset.
+ */
+public class IndexedTransactionDataSource extends IndexedTransactionBase
+  implements DataSource {
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS
+   * (hdfs://).
+   *
+   * @param path    input directory
+   * @param config  Gradoop Flink configuration
+   */
+  public IndexedTransactionDataSource(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    return GraphCollection.fromTransactions(getGraphTransactions());
+  }
+
+  /**
+   * Reads the given graphs as graph collection. Graphs which do not exist
+   * are ignored.
+   *
+   * @param graphIds graphs to read
+   * @return graph collection
+   * @throws IOException
+   */
+  public GraphCollection getGraphCollection(GradoopIdSet graphIds)
+    throws IOException {
+    return GraphCollection.fromTransactions(getGraphTransactions(graphIds));
+  }
+
+  @Override
+  public GraphTransactions getGraphTransactions() throws IOException {
+    return readGraphTransactions(null);
+  }
+
+  /**
+   * Reads the given graphs by seeking to their offsets. Graphs which do not
+   * exist are ignored.
+   *
+   * @param graphIds graphs to read
+   * @return graph transactions
+   * @throws IOException
+   */
+  public GraphTransactions getGraphTransactions(GradoopIdSet graphIds)
+    throws IOException {
+    if (graphIds == null) {
+      throw new IllegalArgumentException("Graph ids must not be null");
+    }
+    return readGraphTransactions(graphIds);
+  }
+
+  /**
+   * Reads the given graphs or all graphs.
+   *
+   * @param graphIds graphs to read ({@code null} to read all graphs)
+   * @return graph transactions
+   * @throws IOException
+   */
+  private GraphTransactions readGraphTransactions(GradoopIdSet graphIds)
+    throws IOException {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    List<String> files = listFiles(getPath());
+
+    DataSet<GraphTransaction> transactions = env.fromCollection(files)
+      .rebalance()
+      .flatMap(new ReadIndexedTransactions(graphIds,
+        getConfig().getGraphHeadFactory(),
+        getConfig().getVertexFactory(),
+        getConfig().getEdgeFactory()))
+      .returns(GraphTransaction.getTypeInformation(getConfig()));
+
+    return new GraphTransactions(transactions, getConfig());
+  }
+}
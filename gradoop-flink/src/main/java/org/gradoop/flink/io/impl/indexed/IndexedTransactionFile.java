@@ -0,0 +1,376 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.PropertyList;
+import org.gradoop.flink.model.impl.tuples.GraphTransaction;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A single file of an indexed graph transaction directory. Each file has the
+ * following layout:
+ *
+ * <pre>
+ * [length][transaction]*       serialized graph transactions
+ * [graph id][offset]*          index sorted by graph id
+ * [index offset][count][magic] trailer
+ * </pre>
+ *
+ * The index is loaded when the file is opened, single transactions are read
+ * by seeking to their offset.
+ */
+public class IndexedTransactionFile implements Closeable {
+
+  /**
+   * Marks the end of an indexed transaction file.
+   */
+  public static final int MAGIC = 0x47545846;
+
+  /**
+   * Number of bytes of the trailer (index offset, entry count, magic).
+   */
+  public static final int TRAILER_SIZE = 16;
+
+  /**
+   * Open input stream of the file.
+   */
+  private final FSDataInputStream in;
+
+  /**
+   * Graph ids in ascending order.
+   */
+  private final GradoopId[] graphIds;
+
+  /**
+   * Offset of the transaction with the graph id at the same position.
+   */
+  private final long[] offsets;
+
+  /**
+   * Offset of the index, i.e. end of the transaction data.
+   */
+  private final long indexOffset;
+
+  /**
+   * Used to create graph heads.
+   */
+  private final GraphHeadFactory graphHeadFactory;
+
+  /**
+   * Used to create vertices.
+   */
+  private final VertexFactory vertexFactory;
+
+  /**
+   * Used to create edges.
+   */
+  private final EdgeFactory edgeFactory;
+
+  /**
+   * Opens the given file and reads its index.
+   *
+   * @param path              file path
+   * @param graphHeadFactory  graph head factory
+   * @param vertexFactory     vertex factory
+   * @param edgeFactory       edge factory
+   * @throws IOException
+   */
+  public IndexedTransactionFile(Path path, GraphHeadFactory graphHeadFactory,
+    VertexFactory vertexFactory, EdgeFactory edgeFactory) throws IOException {
+    this.graphHeadFactory = graphHeadFactory;
+    this.vertexFactory = vertexFactory;
+    this.edgeFactory = edgeFactory;
+
+    FileSystem fs = path.getFileSystem();
+    long length = fs.getFileStatus(path).getLen();
+
+    if (length < TRAILER_SIZE) {
+      throw new IOException("Not an indexed transaction file: " + path);
+    }
+
+    this.in = fs.open(path);
+
+    in.seek(length - TRAILER_SIZE);
+    DataInputStream trailer = new DataInputStream(in);
+    this.indexOffset = trailer.readLong();
+    int count = trailer.readInt();
+
+    if (trailer.readInt() != MAGIC) {
+      in.close();
+      throw new IOException("Not an indexed transaction file: " + path);
+    }
+
+    this.graphIds = new GradoopId[count];
+    this.offsets = new long[count];
+
+    in.seek(indexOffset);
+    DataInputStream index =
+      new DataInputStream(new BufferedInputStream(in));
+    for (int i = 0; i < count; i++) {
+      graphIds[i] = new GradoopId();
+      graphIds[i].readFields(index);
+      offsets[i] = index.readLong();
+    }
+  }
+
+  /**
+   * Returns the number of transactions in that file.
+   *
+   * @return number of transactions
+   */
+  public int size() {
+    return graphIds.length;
+  }
+
+  /**
+   * Checks if the file contains a transaction with the given graph id.
+   *
+   * @param graphId graph id
+   * @return true, if the file contains the graph
+   */
+  public boolean contains(GradoopId graphId) {
+    return Arrays.binarySearch(graphIds, graphId) >= 0;
+  }
+
+  /**
+   * Reads the transaction with the given graph id.
+   *
+   * @param graphId graph id
+   * @return graph transaction or {@code null} if not contained in that file
+   * @throws IOException
+   */
+  public GraphTransaction read(GradoopId graphId) throws IOException {
+    int position = Arrays.binarySearch(graphIds, graphId);
+    if (position < 0) {
+      return null;
+    }
+    in.seek(offsets[position]);
+    DataInputStream record = new DataInputStream(in);
+    byte[] bytes = new byte[record.readInt()];
+    record.readFully(bytes);
+
+    return readTransaction(
+      new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+
+  /**
+   * Reads all transactions of that file in storage order. Each transaction is
+   * handed to the collector as soon as it is read, so at most one transaction
+   * is held in memory.
+   *
+   * @param out collector for the transactions
+   * @throws IOException
+   */
+  public void readAll(Collector<GraphTransaction> out) throws IOException {
+    in.seek(0L);
+    DataInputStream records = new DataInputStream(new BufferedInputStream(in));
+    long position = 0L;
+    while (position < indexOffset) {
+      int length = records.readInt();
+      out.collect(readTransaction(records));
+      position += length + 4;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  //----------------------------------------------------------------------------
+  // Serialization
+  //----------------------------------------------------------------------------
+
+  /**
+   * Writes the given graph transaction (without length prefix).
+   *
+   * @param transaction graph transaction
+   * @param out         output
+   * @throws IOException
+   */
+  public static void writeTransaction(GraphTransaction transaction,
+    DataOutput out) throws IOException {
+    GraphHead graphHead = transaction.getGraphHead();
+    graphHead.getId().write(out);
+    out.writeUTF(graphHead.getLabel());
+    writeProperties(graphHead.getProperties(), out);
+
+    out.writeInt(transaction.getVertices().size());
+    for (Vertex vertex : transaction.getVertices()) {
+      vertex.getId().write(out);
+      out.writeUTF(vertex.getLabel());
+      writeProperties(vertex.getProperties(), out);
+      writeGraphIds(vertex, out);
+    }
+
+    out.writeInt(transaction.getEdges().size());
+    for (Edge edge : transaction.getEdges()) {
+      edge.getId().write(out);
+      out.writeUTF(edge.getLabel());
+      edge.getSourceId().write(out);
+      edge.getTargetId().write(out);
+      writeProperties(edge.getProperties(), out);
+      writeGraphIds(edge, out);
+    }
+  }
+
+  /**
+   * Writes the index and the trailer.
+   *
+   * @param index       offset by graph id in ascending graph id order
+   * @param indexOffset number of bytes written before the index
+   * @param out         output
+   * @throws IOException
+   */
+  public static void writeIndex(Map<GradoopId, Long> index, long indexOffset,
+    DataOutput out) throws IOException {
+    for (Map.Entry<GradoopId, Long> entry : index.entrySet()) {
+      entry.getKey().write(out);
+      out.writeLong(entry.getValue());
+    }
+    out.writeLong(indexOffset);
+    out.writeInt(index.size());
+    out.writeInt(MAGIC);
+  }
+
+  /**
+   * Reads a single graph transaction written by
+   * {@link #writeTransaction(GraphTransaction, DataOutput)}.
+   *
+   * @param input input
+   * @return graph transaction
+   * @throws IOException
+   */
+  private GraphTransaction readTransaction(DataInput input)
+    throws IOException {
+    GraphHead graphHead = graphHeadFactory.initGraphHead(
+      readId(input), input.readUTF(), readProperties(input));
+
+    int vertexCount = input.readInt();
+    Set<Vertex> vertices = Sets.newHashSetWithExpectedSize(vertexCount);
+    for (int i = 0; i < vertexCount; i++) {
+      vertices.add(vertexFactory.initVertex(readId(input), input.readUTF(),
+        readProperties(input), readGraphIds(input)));
+    }
+
+    int edgeCount = input.readInt();
+    Set<Edge> edges = Sets.newHashSetWithExpectedSize(edgeCount);
+    for (int i = 0; i < edgeCount; i++) {
+      edges.add(edgeFactory.initEdge(readId(input), input.readUTF(),
+        readId(input), readId(input), readProperties(input),
+        readGraphIds(input)));
+    }
+
+    return new GraphTransaction(graphHead, vertices, edges);
+  }
+
+  /**
+   * Writes element properties.
+   *
+   * @param properties properties (can be {@code null})
+   * @param out        output
+   * @throws IOException
+   */
+  private static void writeProperties(PropertyList properties, DataOutput out)
+    throws IOException {
+    if (properties == null) {
+      out.writeInt(0);
+    } else {
+      properties.write(out);
+    }
+  }
+
+  /**
+   * Writes the graph ids of a vertex or edge.
+   *
+   * @param element vertex or edge
+   * @param out     output
+   * @throws IOException
+   */
+  private static void writeGraphIds(GraphElement element, DataOutput out)
+    throws IOException {
+    if (element.getGraphIds() == null) {
+      out.writeInt(0);
+    } else {
+      element.getGraphIds().write(out);
+    }
+  }
+
+  /**
+   * Reads a Gradoop id.
+   *
+   * @param in input
+   * @return Gradoop id
+   * @throws IOException
+   */
+  private static GradoopId readId(DataInput in) throws IOException {
+    GradoopId id = new GradoopId();
+    id.readFields(in);
+    return id;
+  }
+
+  /**
+   * Reads element properties.
+   *
+   * @param in input
+   * @return properties
+   * @throws IOException
+   */
+  private static PropertyList readProperties(DataInput in) throws IOException {
+    PropertyList properties = PropertyList.create();
+    properties.readFields(in);
+    return properties;
+  }
+
+  /**
+   * Reads the graph ids of a vertex or edge.
+   *
+   * @param in input
+   * @return graph ids
+   * @throws IOException
+   */
+  private static GradoopIdSet readGraphIds(DataInput in) throws IOException {
+    GradoopIdSet graphIds = new GradoopIdSet();
+    graphIds.readFields(in);
+    return graphIds;
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.flink.model.impl.tuples.GraphTransaction;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads single graph transactions from a directory written by
+ * {@link IndexedTransactionDataSink} without running a Flink job. The indexes
+ * of all files are loaded when the reader is created.
+ */
+public class IndexedTransactionReader extends IndexedTransactionBase
+  implements Closeable {
+
+  /**
+   * Opened files of the directory
+   */
+  private final List<IndexedTransactionFile> files;
+
+  /**
+   * Opens all indexed transaction files of the given directory. Paths can be
+   * local (file://) or HDFS (hdfs://).
+   *
+   * @param path    input directory
+   * @param config  Gradoop Flink configuration
+   * @throws IOException
+   */
+  public IndexedTransactionReader(String path, GradoopFlinkConfig config)
+    throws IOException {
+    super(path, config);
+    this.files = Lists.newArrayList();
+
+    try {
+      for (String file : listFiles(path)) {
+        files.add(new IndexedTransactionFile(new Path(file),
+          config.getGraphHeadFactory(),
+          config.getVertexFactory(),
+          config.getEdgeFactory()));
+      }
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the number of graphs stored in the directory.
+   *
+   * @return number of graphs
+   */
+  public int size() {
+    int size = 0;
+    for (IndexedTransactionFile file : files) {
+      size += file.size();
+    }
+    return size;
+  }
+
+  /**
+   * Reads the transaction of the given graph.
+   *
+   * @param graphId graph id
+   * @return graph transaction or {@code null} if the graph does not exist
+   * @throws IOException
+   */
+  public GraphTransaction getGraphTransaction(GradoopId graphId)
+    throws IOException {
+    for (IndexedTransactionFile file : files) {
+      if (file.contains(graphId)) {
+        return file.read(graphId);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Reads the transactions of the given graphs. Graphs which do not exist
+   * are ignored.
+   *
+   * @param graphIds graph ids
+   * @return graph transactions
+   * @throws IOException
+   */
+  public List<GraphTransaction> getGraphTransactions(GradoopIdSet graphIds)
+    throws IOException {
+    List<GraphTransaction> transactions = Lists.newArrayList();
+    for (IndexedTransactionFile file : files) {
+      for (GradoopId graphId : graphIds) {
+        if (file.contains(graphId)) {
+          transactions.add(file.read(graphId));
+        }
+      }
+    }
+    return transactions;
+  }
+
+  @Override
+  public void close() throws IOException {
+    IOException exception = null;
+    for (IndexedTransactionFile file : files) {
+      try {
+        file.close();
+      } catch (IOException e) {
+        exception = e;
+      }
+    }
+    files.clear();
+    if (exception != null) {
+      throw exception;
+    }
+  }
+}
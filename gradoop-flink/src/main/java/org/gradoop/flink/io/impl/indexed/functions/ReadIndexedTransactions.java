@@ -0,0 +1,95 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.flink.io.impl.indexed.IndexedTransactionFile;
+import org.gradoop.flink.model.impl.tuples.GraphTransaction;
+
+/**
+ * file path => graph transactions
+ *
+ * Opens an indexed transaction file and emits either all contained
+ * transactions or only those of the given graphs.
+ */
+public class ReadIndexedTransactions
+  implements FlatMapFunction<String, GraphTransaction> {
+
+  /**
+   * Graphs to read (null, if all graphs shall be read)
+   */
+  private final GradoopIdSet graphIds;
+
+  /**
+   * Graph head factory
+   */
+  private final GraphHeadFactory graphHeadFactory;
+
+  /**
+   * Vertex factory
+   */
+  private final VertexFactory vertexFactory;
+
+  /**
+   * Edge factory
+   */
+  private final EdgeFactory edgeFactory;
+
+  /**
+   * Constructor
+   *
+   * @param graphIds          graphs to read (can be {@code null})
+   * @param graphHeadFactory  graph head factory
+   * @param vertexFactory     vertex factory
+   * @param edgeFactory       edge factory
+   */
+  public ReadIndexedTransactions(GradoopIdSet graphIds,
+    GraphHeadFactory graphHeadFactory, VertexFactory vertexFactory,
+    EdgeFactory edgeFactory) {
+    this.graphIds = graphIds;
+    this.graphHeadFactory = graphHeadFactory;
+    this.vertexFactory = vertexFactory;
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  public void flatMap(String path, Collector<GraphTransaction> out) throws
+    Exception {
+    try (IndexedTransactionFile file = new IndexedTransactionFile(
+      new Path(path), graphHeadFactory, vertexFactory, edgeFactory)) {
+
+      if (graphIds == null) {
+        file.readAll(out);
+      } else {
+        for (GradoopId graphId : graphIds) {
+          GraphTransaction transaction = file.read(graphId);
+          if (transaction != null) {
+            out.collect(transaction);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed.outputformats;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.impl.indexed.IndexedTransactionFile;
+import org.gradoop.flink.model.impl.tuples.GraphTransaction;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.TreeMap;
+
+/**
+ * Writes graph transactions into indexed transaction files. Each task writes
+ * one file containing its transactions followed by an index of graph id to
+ * file offset. The format is documented at {@link IndexedTransactionFile}.
+ */
+public class IndexedTransactionOutputFormat
+  extends FileOutputFormat<GraphTransaction> {
+
+  /**
+   * Offset by graph id, sorted by graph id.
+   */
+  private transient TreeMap<GradoopId, Long> index;
+
+  /**
+   * Used to serialize a single transaction.
+   */
+  private transient ByteArrayOutputStream recordBuffer;
+
+  /**
+   * Output for a single transaction.
+   */
+  private transient DataOutputStream recordOut;
+
+  /**
+   * Output for the file.
+   */
+  private transient DataOutputStream fileOut;
+
+  /**
+   * Number of bytes written to the file.
+   */
+  private transient long offset;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param outputPath output directory
+   */
+  public IndexedTransactionOutputFormat(Path outputPath) {
+    super(outputPath);
+    setOutputDirectoryMode(OutputDirectoryMode.ALWAYS);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    index = Maps.newTreeMap();
+    recordBuffer = new ByteArrayOutputStream();
+    recordOut = new DataOutputStream(recordBuffer);
+    fileOut = new DataOutputStream(new BufferedOutputStream(stream));
+    offset = 0L;
+  }
+
+  @Override
+  public void writeRecord(GraphTransaction transaction) throws IOException {
+    recordBuffer.reset();
+    IndexedTransactionFile.writeTransaction(transaction, recordOut);
+    recordOut.flush();
+
+    index.put(transaction.getGraphHead().getId(), offset);
+
+    fileOut.writeInt(recordBuffer.size());
+    recordBuffer.writeTo(fileOut);
+    offset += recordBuffer.size() + 4;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (fileOut != null) {
+      IndexedTransactionFile.writeIndex(index, offset, fileOut);
+      fileOut.flush();
+      fileOut = null;
+    }
+    super.close();
+  }
+}
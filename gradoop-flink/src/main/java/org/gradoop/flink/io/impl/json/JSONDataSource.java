@@ -28,7 +28,6 @@ import org.gradoop.flink.io.impl.json.functions.JSONToEdge;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.GraphTransactions;
 import org.gradoop.flink.model.impl.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.flink.io.impl.json.functions.JSONToGraphHead;
 import org.gradoop.flink.io.impl.json.functions.JSONToVertex;
@@ -53,32 +52,29 @@ public class JSONDataSource extends JSONBase implements DataSource {
     super(graphHeadPath, vertexPath, edgePath, config);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The graph heads file is not read. Vertices and edges are directly added
+   * to a new graph head, which is equivalent to combining all graphs of the
+   * input but does not require building the graph collection first.
+   */
   @Override
   public LogicalGraph getLogicalGraph() {
-    return getGraphCollection().reduce(new ReduceCombination());
+    return LogicalGraph.fromDataSets(readVertices(), readEdges(), getConfig());
   }
 
   @Override
   public GraphCollection getGraphCollection() {
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
-    // used for type hinting when loading vertex data
-    TypeInformation vertexTypeInfo = TypeExtractor
-      .createTypeInfo(getConfig().getVertexFactory().getType());
-    // used for type hinting when loading edge data
-    TypeInformation edgeTypeInfo = TypeExtractor
-      .createTypeInfo(getConfig().getEdgeFactory().getType());
     // used for type hinting when loading graph data
     TypeInformation graphTypeInfo = TypeExtractor
       .createTypeInfo(getConfig().getGraphHeadFactory().getType());
 
     // read vertex, edge and graph data
-    DataSet<Vertex> vertices = env.readTextFile(getVertexPath())
-      .map(new JSONToVertex(getConfig().getVertexFactory()))
-      .returns(vertexTypeInfo);
-    DataSet<Edge> edges = env.readTextFile(getEdgePath())
-      .map(new JSONToEdge(getConfig().getEdgeFactory()))
-      .returns(edgeTypeInfo);
+    DataSet<Vertex> vertices = readVertices();
+    DataSet<Edge> edges = readEdges();
     DataSet<GraphHead> graphHeads;
     if (getGraphHeadPath() != null) {
       graphHeads = env.readTextFile(getGraphHeadPath())
@@ -97,4 +93,36 @@ public class JSONDataSource extends JSONBase implements DataSource {
   public GraphTransactions getGraphTransactions() {
     return getGraphCollection().toTransactions();
   }
+
+  /**
+   * Reads the vertex data file.
+   *
+   * @return vertices
+   */
+  private DataSet<Vertex> readVertices() {
+    // used for type hinting when loading vertex data
+    TypeInformation vertexTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getVertexFactory().getType());
+
+    return getConfig().getExecutionEnvironment()
+      .readTextFile(getVertexPath())
+      .map(new JSONToVertex(getConfig().getVertexFactory()))
+      .returns(vertexTypeInfo);
+  }
+
+  /**
+   * Reads the edge data file.
+   *
+   * @return edges
+   */
+  private DataSet<Edge> readEdges() {
+    // used for type hinting when loading edge data
+    TypeInformation edgeTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getEdgeFactory().getType());
+
+    return getConfig().getExecutionEnvironment()
+      .readTextFile(getEdgePath())
+      .map(new JSONToEdge(getConfig().getEdgeFactory()))
+      .returns(edgeTypeInfo);
+  }
 }
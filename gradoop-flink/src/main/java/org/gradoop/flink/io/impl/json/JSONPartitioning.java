@@ -0,0 +1,183 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.List;
+
+/**
+ * Defines how vertices and edges are distributed among the partitions written
+ * by {@link PartitionedJSONDataSink}.
+ *
+ * Each partition is a directory whose name encodes the partition key, e.g.
+ * {@code graph=<id>}, {@code label=<label>} or
+ * {@code graph=<id>/label=<label>}. Elements contained in multiple graphs are
+ * written to the partition of each of their graphs.
+ */
+public enum JSONPartitioning {
+  /**
+   * One partition per graph.
+   */
+  GRAPH,
+  /**
+   * One partition per element label.
+   */
+  LABEL,
+  /**
+   * One partition per combination of graph and element label.
+   */
+  GRAPH_AND_LABEL;
+
+  /**
+   * Prefix of a graph partition directory.
+   */
+  private static final String GRAPH_KEY = "graph=";
+  /**
+   * Prefix of a label partition directory.
+   */
+  private static final String LABEL_KEY = "label=";
+  /**
+   * Separates graph and label part of a partition.
+   */
+  private static final String SEPARATOR = "/";
+  /**
+   * Used to encode labels in partition names.
+   */
+  private static final String CHARSET = "UTF-8";
+
+  /**
+   * True, if elements are partitioned by graph.
+   *
+   * @return true, if partitioned by graph
+   */
+  public boolean isByGraph() {
+    return this != LABEL;
+  }
+
+  /**
+   * True, if elements are partitioned by label.
+   *
+   * @return true, if partitioned by label
+   */
+  public boolean isByLabel() {
+    return this != GRAPH;
+  }
+
+  /**
+   * Returns all partitions the given element is written to.
+   *
+   * @param element vertex or edge
+   * @return partition names
+   */
+  public List<String> getPartitions(GraphElement element) {
+    List<String> partitions = Lists.newArrayList();
+    if (isByGraph() && element.getGraphCount() > 0) {
+      for (GradoopId graphId : element.getGraphIds()) {
+        partitions.add(getPartition(graphId, element.getLabel()));
+      }
+    } else {
+      partitions.add(getPartition(GradoopId.NULL_VALUE, element.getLabel()));
+    }
+    return partitions;
+  }
+
+  /**
+   * Returns the partition name for the given graph id and label.
+   *
+   * @param graphId graph identifier
+   * @param label   element label
+   * @return partition name
+   */
+  public String getPartition(GradoopId graphId, String label) {
+    StringBuilder partition = new StringBuilder();
+    if (isByGraph()) {
+      partition.append(GRAPH_KEY).append(graphId);
+    }
+    if (isByLabel()) {
+      if (partition.length() > 0) {
+        partition.append(SEPARATOR);
+      }
+      partition.append(LABEL_KEY).append(encode(label));
+    }
+    return partition.toString();
+  }
+
+  /**
+   * Returns the graph identifier encoded in the given partition name.
+   *
+   * @param partition partition name
+   * @return graph identifier or {@code null} if not partitioned by graph
+   */
+  public static GradoopId getGraphId(String partition) {
+    for (String part : partition.split(SEPARATOR)) {
+      if (part.startsWith(GRAPH_KEY)) {
+        return GradoopId.fromString(part.substring(GRAPH_KEY.length()));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the label encoded in the given partition name.
+   *
+   * @param partition partition name
+   * @return label or {@code null} if not partitioned by label
+   */
+  public static String getLabel(String partition) {
+    for (String part : partition.split(SEPARATOR)) {
+      if (part.startsWith(LABEL_KEY)) {
+        return decode(part.substring(LABEL_KEY.length()));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Encodes a label to be usable as a directory name.
+   *
+   * @param label element label
+   * @return encoded label
+   */
+  private static String encode(String label) {
+    try {
+      return URLEncoder.encode(label, CHARSET);
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Decodes a label encoded by {@link #encode(String)}.
+   *
+   * @param encodedLabel encoded label
+   * @return element label
+   */
+  private static String decode(String encodedLabel) {
+    try {
+      return URLDecoder.decode(encodedLabel, CHARSET);
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
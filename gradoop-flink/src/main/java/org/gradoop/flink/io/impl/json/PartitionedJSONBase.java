@@ -0,0 +1,106 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json;
+
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Base class for partitioned JSON data sources and sinks. All data is stored
+ * below a single base directory:
+ *
+ * <pre>
+ * base/graphs                        graph heads
+ * base/vertices/[partition]/[files]  vertices
+ * base/edges/[partition]/[files]     edges
+ * base/manifest                      element count per partition
+ * </pre>
+ *
+ * @see JSONPartitioning
+ */
+abstract class PartitionedJSONBase {
+  /**
+   * Directory name of the graph heads
+   */
+  static final String GRAPH_HEADS = "graphs";
+  /**
+   * Directory name of the vertex partitions
+   */
+  static final String VERTICES = "vertices";
+  /**
+   * Directory name of the edge partitions
+   */
+  static final String EDGES = "edges";
+  /**
+   * File name of the manifest
+   */
+  static final String MANIFEST = "manifest";
+  /**
+   * Separates partition and element count in the manifest
+   */
+  static final String MANIFEST_DELIMITER = "\t";
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+  /**
+   * Base directory
+   */
+  private final String basePath;
+
+  /**
+   * Creates a new data source/sink. Paths can be local (file://) or HDFS
+   * (hdfs://).
+   *
+   * @param basePath  base directory
+   * @param config    Gradoop Flink configuration
+   */
+  PartitionedJSONBase(String basePath, GradoopFlinkConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("config must not be null");
+    }
+    if (basePath == null) {
+      throw new IllegalArgumentException("base path must not be null");
+    }
+    this.basePath = basePath;
+    this.config = config;
+  }
+
+  public GradoopFlinkConfig getConfig() {
+    return config;
+  }
+
+  public String getBasePath() {
+    return basePath;
+  }
+
+  public String getGraphHeadPath() {
+    return basePath + "/" + GRAPH_HEADS;
+  }
+
+  public String getVertexPath() {
+    return basePath + "/" + VERTICES;
+  }
+
+  public String getEdgePath() {
+    return basePath + "/" + EDGES;
+  }
+
+  public String getManifestPath() {
+    return basePath + "/" + MANIFEST;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.json.functions.EdgeToJSON;
+import org.gradoop.flink.io.impl.json.functions.ElementToPartitionedJSON;
+import org.gradoop.flink.io.impl.json.functions.GraphHeadToJSON;
+import org.gradoop.flink.io.impl.json.functions.PartitionToManifestEntry;
+import org.gradoop.flink.io.impl.json.functions.VertexToJSON;
+import org.gradoop.flink.io.impl.json.outputformats.PartitionedTextOutputFormat;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Writes an EPGM representation into a partitioned directory layout (see
+ * {@link PartitionedJSONBase}). Vertices and edges are partitioned by graph
+ * and/or label according to the given {@link JSONPartitioning}, which allows
+ * {@link PartitionedJSONDataSource} to read only the partitions relevant for
+ * a set of graphs or labels.
+ *
+ * The element format is the same as in {@link JSONDataSink}.
+ */
+public class PartitionedJSONDataSink extends PartitionedJSONBase
+  implements DataSink {
+
+  /**
+   * Partitioning of vertices and edges
+   */
+  private final JSONPartitioning partitioning;
+
+  /**
+   * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param basePath      base directory
+   * @param partitioning  partitioning of vertices and edges
+   * @param config        Gradoop Flink configuration
+   */
+  public PartitionedJSONDataSink(String basePath,
+    JSONPartitioning partitioning, GradoopFlinkConfig config) {
+    super(basePath, config);
+    if (partitioning == null) {
+      throw new IllegalArgumentException("partitioning must not be null");
+    }
+    this.partitioning = partitioning;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) {
+    write(GraphCollection.fromGraph(logicalGraph));
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) {
+    graphCollection.getGraphHeads().writeAsFormattedText(getGraphHeadPath(),
+      new GraphHeadToJSON<>());
+
+    DataSet<Tuple2<String, String>> vertexLines = graphCollection
+      .getVertices()
+      .flatMap(new ElementToPartitionedJSON<>(
+        partitioning, new VertexToJSON<Vertex>()));
+
+    DataSet<Tuple2<String, String>> edgeLines = graphCollection
+      .getEdges()
+      .flatMap(new ElementToPartitionedJSON<>(
+        partitioning, new EdgeToJSON<Edge>()));
+
+    vertexLines.output(new PartitionedTextOutputFormat(getVertexPath()));
+    edgeLines.output(new PartitionedTextOutputFormat(getEdgePath()));
+
+    vertexLines
+      .map(new PartitionToManifestEntry(VERTICES))
+      .union(edgeLines.map(new PartitionToManifestEntry(EDGES)))
+      .groupBy(0)
+      .sum(1)
+      .writeAsCsv(getManifestPath(), "\n", MANIFEST_DELIMITER)
+      .setParallelism(1);
+  }
+
+  @Override
+  public void write(GraphTransactions graphTransactions) {
+    write(GraphCollection.fromTransactions(graphTransactions));
+  }
+}
@@ -0,0 +1,364 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.json.functions.JSONToEdge;
+import org.gradoop.flink.io.impl.json.functions.JSONToGraphHead;
+import org.gradoop.flink.io.impl.json.functions.JSONToVertex;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.bool.False;
+import org.gradoop.flink.model.impl.functions.epgm.ByIdInSet;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabelInSet;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.graphcontainment.InAnyGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates an EPGM instance from a directory written by
+ * {@link PartitionedJSONDataSink}.
+ *
+ * If graph identifiers and/or labels are given, the manifest is used to open
+ * only those partitions which may contain matching elements. Remaining
+ * elements which do not match (e.g. if the data is partitioned by label but
+ * graph identifiers are given) are filtered after reading.
+ */
+public class PartitionedJSONDataSource extends PartitionedJSONBase
+  implements DataSource {
+
+  /**
+   * Graphs to read (null, if all graphs shall be read)
+   */
+  private final GradoopIdSet graphIds;
+
+  /**
+   * Vertex labels to read (null, if all vertices shall be read)
+   */
+  private final Set<String> vertexLabels;
+
+  /**
+   * Edge labels to read (null, if all edges shall be read)
+   */
+  private final Set<String> edgeLabels;
+
+  /**
+   * Creates a new data source reading all partitions. Paths can be local
+   * (file://) or HDFS (hdfs://).
+   *
+   * @param basePath  base directory
+   * @param config    Gradoop Flink configuration
+   */
+  public PartitionedJSONDataSource(String basePath,
+    GradoopFlinkConfig config) {
+    this(basePath, null, null, null, config);
+  }
+
+  /**
+   * Creates a new data source reading only the given graphs. Paths can be
+   * local (file://) or HDFS (hdfs://).
+   *
+   * @param basePath  base directory
+   * @param graphIds  graphs to read
+   * @param config    Gradoop Flink configuration
+   */
+  public PartitionedJSONDataSource(String basePath, GradoopIdSet graphIds,
+    GradoopFlinkConfig config) {
+    this(basePath, graphIds, null, null, config);
+  }
+
+  /**
+   * Creates a new data source reading only vertices and edges with the given
+   * labels contained in the given graphs. Paths can be local (file://) or
+   * HDFS (hdfs://). Each argument can be {@code null} to read all graphs,
+   * vertices or edges respectively.
+   *
+   * Note that edges are not removed if their source or target vertex was not
+   * read.
+   *
+   * @param basePath      base directory
+   * @param graphIds      graphs to read (can be {@code null})
+   * @param vertexLabels  vertex labels to read (can be {@code null})
+   * @param edgeLabels    edge labels to read (can be {@code null})
+   * @param config        Gradoop Flink configuration
+   */
+  public PartitionedJSONDataSource(String basePath, GradoopIdSet graphIds,
+    Collection<String> vertexLabels, Collection<String> edgeLabels,
+    GradoopFlinkConfig config) {
+    super(basePath, config);
+    this.graphIds = graphIds;
+    this.vertexLabels =
+      vertexLabels != null ? Sets.newHashSet(vertexLabels) : null;
+    this.edgeLabels =
+      edgeLabels != null ? Sets.newHashSet(edgeLabels) : null;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    // used for type hinting when loading vertex data
+    TypeInformation vertexTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getVertexFactory().getType());
+    // used for type hinting when loading edge data
+    TypeInformation edgeTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getEdgeFactory().getType());
+    // used for type hinting when loading graph data
+    TypeInformation graphTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getGraphHeadFactory().getType());
+
+    Map<String, Long> manifest = readManifest();
+
+    // read graph heads
+    DataSet<GraphHead> graphHeads = env.readTextFile(getGraphHeadPath())
+      .map(new JSONToGraphHead(getConfig().getGraphHeadFactory()))
+      .returns(graphTypeInfo);
+
+    if (graphIds != null) {
+      graphHeads = graphHeads.filter(new ByIdInSet<GraphHead>(graphIds));
+    }
+
+    // read vertex partitions
+    List<String> vertexPartitions =
+      selectPartitions(manifest, VERTICES, vertexLabels);
+
+    DataSet<Vertex> vertices =
+      readPartitions(getVertexPath(), vertexPartitions)
+        .map(new JSONToVertex(getConfig().getVertexFactory()))
+        .returns(vertexTypeInfo);
+
+    if (needsGraphFilter(vertexPartitions)) {
+      vertices = vertices.filter(new InAnyGraph<Vertex>(graphIds));
+    }
+    if (needsLabelFilter(vertexPartitions, vertexLabels)) {
+      vertices = vertices.filter(new ByLabelInSet<Vertex>(vertexLabels));
+    }
+    if (needsDistinct(vertexPartitions)) {
+      vertices = vertices.distinct(new Id<Vertex>());
+    }
+
+    // read edge partitions
+    List<String> edgePartitions =
+      selectPartitions(manifest, EDGES, edgeLabels);
+
+    DataSet<Edge> edges = readPartitions(getEdgePath(), edgePartitions)
+      .map(new JSONToEdge(getConfig().getEdgeFactory()))
+      .returns(edgeTypeInfo);
+
+    if (needsGraphFilter(edgePartitions)) {
+      edges = edges.filter(new InAnyGraph<Edge>(graphIds));
+    }
+    if (needsLabelFilter(edgePartitions, edgeLabels)) {
+      edges = edges.filter(new ByLabelInSet<Edge>(edgeLabels));
+    }
+    if (needsDistinct(edgePartitions)) {
+      edges = edges.distinct(new Id<Edge>());
+    }
+
+    return GraphCollection.fromDataSets(
+      graphHeads, vertices, edges, getConfig());
+  }
+
+  @Override
+  public GraphTransactions getGraphTransactions() throws IOException {
+    return getGraphCollection().toTransactions();
+  }
+
+  /**
+   * Reads the manifest written by {@link PartitionedJSONDataSink}.
+   *
+   * @return element count by partition path (e.g. vertices/label=Person)
+   * @throws IOException
+   */
+  private Map<String, Long> readManifest() throws IOException {
+    Map<String, Long> manifest = Maps.newHashMap();
+
+    Path path = new Path(getManifestPath());
+    FileSystem fs = path.getFileSystem();
+
+    List<Path> files = Lists.newArrayList();
+    if (fs.getFileStatus(path).isDir()) {
+      for (FileStatus fileStatus : fs.listStatus(path)) {
+        files.add(fileStatus.getPath());
+      }
+    } else {
+      files.add(path);
+    }
+
+    for (Path file : files) {
+      try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(fs.open(file), Charsets.UTF_8))) {
+        String line = reader.readLine();
+        while (line != null) {
+          if (!line.isEmpty()) {
+            String[] entry = line.split(MANIFEST_DELIMITER);
+            manifest.put(entry[0], Long.parseLong(entry[1]));
+          }
+          line = reader.readLine();
+        }
+      }
+    }
+    return manifest;
+  }
+
+  /**
+   * Selects all partitions of the given directory which may contain elements
+   * with the given labels that are contained in the graphs to read.
+   *
+   * @param manifest  element count by partition path
+   * @param directory vertex or edge directory
+   * @param labels    labels to read (null, if all labels shall be read)
+   * @return partitions to read
+   */
+  private List<String> selectPartitions(Map<String, Long> manifest,
+    String directory, Set<String> labels) {
+    String prefix = directory + "/";
+    List<String> partitions = Lists.newArrayList();
+
+    for (Map.Entry<String, Long> entry : manifest.entrySet()) {
+      if (!entry.getKey().startsWith(prefix) || entry.getValue() == 0L) {
+        continue;
+      }
+      String partition = entry.getKey().substring(prefix.length());
+
+      GradoopId graphId = JSONPartitioning.getGraphId(partition);
+      if (graphIds != null && graphId != null && !graphIds.contains(graphId)) {
+        continue;
+      }
+      String label = JSONPartitioning.getLabel(partition);
+      if (labels != null && label != null && !labels.contains(label)) {
+        continue;
+      }
+      partitions.add(partition);
+    }
+    return partitions;
+  }
+
+  /**
+   * Reads the lines of all given partitions.
+   *
+   * @param directory   vertex or edge directory
+   * @param partitions  partitions to read
+   * @return lines of all partitions
+   */
+  private DataSet<String> readPartitions(String directory,
+    List<String> partitions) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSet<String> lines = null;
+    for (String partition : partitions) {
+      DataSet<String> partitionLines =
+        env.readTextFile(directory + "/" + partition);
+      lines = lines == null ? partitionLines : lines.union(partitionLines);
+    }
+
+    if (lines == null) {
+      lines = env.fromElements("").filter(new False<String>());
+    }
+    return lines;
+  }
+
+  /**
+   * True, if the partitions do not guarantee that all elements are contained
+   * in the graphs to read.
+   *
+   * @param partitions selected partitions
+   * @return true, if elements need to be filtered by graph
+   */
+  private boolean needsGraphFilter(List<String> partitions) {
+    if (graphIds == null) {
+      return false;
+    }
+    for (String partition : partitions) {
+      if (JSONPartitioning.getGraphId(partition) == null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * True, if the partitions do not guarantee that all elements have one of
+   * the labels to read.
+   *
+   * @param partitions  selected partitions
+   * @param labels      labels to read (null, if all labels shall be read)
+   * @return true, if elements need to be filtered by label
+   */
+  private boolean needsLabelFilter(List<String> partitions,
+    Set<String> labels) {
+    if (labels == null) {
+      return false;
+    }
+    for (String partition : partitions) {
+      if (JSONPartitioning.getLabel(partition) == null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * True, if an element may be contained in more than one of the partitions,
+   * which is the case if partitions of more than one graph are read.
+   *
+   * @param partitions selected partitions
+   * @return true, if elements need to be deduplicated
+   */
+  private boolean needsDistinct(List<String> partitions) {
+    Set<GradoopId> partitionGraphIds = Sets.newHashSet();
+    for (String partition : partitions) {
+      GradoopId graphId = JSONPartitioning.getGraphId(partition);
+      if (graphId != null) {
+        partitionGraphIds.add(graphId);
+      }
+    }
+    return partitionGraphIds.size() > 1;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.io.impl.json.JSONPartitioning;
+
+/**
+ * Converts a vertex or an edge into its JSON representation and pairs it with
+ * each partition it needs to be written to.
+ *
+ * element => (partition, json)+
+ *
+ * @param <GE> EPGM graph element type
+ */
+public class ElementToPartitionedJSON<GE extends GraphElement>
+  implements FlatMapFunction<GE, Tuple2<String, String>> {
+
+  /**
+   * Partitioning used to determine the partitions of an element
+   */
+  private final JSONPartitioning partitioning;
+
+  /**
+   * Creates the JSON representation of an element
+   */
+  private final TextOutputFormat.TextFormatter<GE> formatter;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<String, String> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param partitioning  partitioning of the output
+   * @param formatter     JSON formatter (e.g. {@link VertexToJSON})
+   */
+  public ElementToPartitionedJSON(JSONPartitioning partitioning,
+    TextOutputFormat.TextFormatter<GE> formatter) {
+    this.partitioning = partitioning;
+    this.formatter = formatter;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void flatMap(GE element, Collector<Tuple2<String, String>> out) throws
+    Exception {
+    reuseTuple.f1 = formatter.format(element);
+    for (String partition : partitioning.getPartitions(element)) {
+      reuseTuple.f0 = partition;
+      out.collect(reuseTuple);
+    }
+  }
+}
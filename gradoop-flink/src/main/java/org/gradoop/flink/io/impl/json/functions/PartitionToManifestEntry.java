@@ -0,0 +1,61 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+
+/**
+ * Creates a manifest entry for a partitioned JSON line which can be summed up
+ * to the number of elements per partition.
+ *
+ * (partition, json) => (directory/partition, 1)
+ */
+@FunctionAnnotation.ReadFields("f0")
+public class PartitionToManifestEntry
+  implements MapFunction<Tuple2<String, String>, Tuple2<String, Long>> {
+
+  /**
+   * Directory containing the partitions (e.g. vertices or edges)
+   */
+  private final String directory;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<String, Long> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param directory directory containing the partitions
+   */
+  public PartitionToManifestEntry(String directory) {
+    this.directory = directory;
+    this.reuseTuple = new Tuple2<>();
+    this.reuseTuple.f1 = 1L;
+  }
+
+  @Override
+  public Tuple2<String, Long> map(Tuple2<String, String> partitionedLine) throws
+    Exception {
+    reuseTuple.f0 = directory + "/" + partitionedLine.f0;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import com.google.common.base.Charsets;
+import org.apache.flink.api.common.io.InitializeOnMaster;
+import org.apache.flink.api.common.io.RichOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes text lines into partition directories below a base path. Each input
+ * tuple contains the partition name and the line to write:
+ *
+ * (partition, line)
+ *
+ * Every task writes its own files into each partition directory, i.e.
+ * {@code <basePath>/<partition>/<task>-<sequence>}. The number of files being
+ * open at the same time is bounded; if the bound is exceeded, the least
+ * recently used file is closed and a new file is opened for that partition
+ * on demand.
+ */
+public class PartitionedTextOutputFormat
+  extends RichOutputFormat<Tuple2<String, String>>
+  implements InitializeOnMaster {
+
+  /**
+   * Default number of files a single task keeps open at the same time.
+   */
+  public static final int DEFAULT_MAX_OPEN_FILES = 64;
+
+  /**
+   * Line delimiter.
+   */
+  private static final byte NEWLINE = '\n';
+
+  /**
+   * Size of the write buffer per open file.
+   */
+  private static final int BUFFER_SIZE = 4096;
+
+  /**
+   * Directory containing the partitions.
+   */
+  private final String basePath;
+
+  /**
+   * Maximum number of open files per task.
+   */
+  private final int maxOpenFiles;
+
+  /**
+   * Open files by partition in access order.
+   */
+  private transient LinkedHashMap<String, OutputStream> openFiles;
+
+  /**
+   * Number of the current task (starting at 1).
+   */
+  private transient int taskNumber;
+
+  /**
+   * Number of files created by the current task.
+   */
+  private transient int fileCount;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param basePath directory containing the partitions
+   */
+  public PartitionedTextOutputFormat(String basePath) {
+    this(basePath, DEFAULT_MAX_OPEN_FILES);
+  }
+
+  /**
+   * Creates a new output format.
+   *
+   * @param basePath      directory containing the partitions
+   * @param maxOpenFiles  maximum number of open files per task
+   */
+  public PartitionedTextOutputFormat(String basePath, int maxOpenFiles) {
+    if (basePath == null) {
+      throw new IllegalArgumentException("base path must not be null");
+    }
+    if (maxOpenFiles < 1) {
+      throw new IllegalArgumentException("max open files must be positive");
+    }
+    this.basePath = basePath;
+    this.maxOpenFiles = maxOpenFiles;
+  }
+
+  /**
+   * Fails if the base path already exists.
+   *
+   * @param parallelism sink parallelism
+   * @throws IOException
+   */
+  @Override
+  public void initializeGlobal(int parallelism) throws IOException {
+    Path path = new Path(basePath);
+    if (path.getFileSystem().exists(path)) {
+      throw new IOException("Output path already exists: " + basePath);
+    }
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    this.taskNumber = taskNumber + 1;
+    this.fileCount = 0;
+    this.openFiles = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  @Override
+  public void writeRecord(Tuple2<String, String> partitionedLine) throws
+    IOException {
+    OutputStream stream = openFiles.get(partitionedLine.f0);
+
+    if (stream == null) {
+      if (openFiles.size() >= maxOpenFiles) {
+        closeLeastRecentlyUsed();
+      }
+      stream = createFile(partitionedLine.f0);
+      openFiles.put(partitionedLine.f0, stream);
+    }
+
+    stream.write(partitionedLine.f1.getBytes(Charsets.UTF_8));
+    stream.write(NEWLINE);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (openFiles != null) {
+      for (OutputStream stream : openFiles.values()) {
+        stream.close();
+      }
+      openFiles.clear();
+    }
+  }
+
+  /**
+   * Creates a new file for the current task in the given partition.
+   *
+   * @param partition partition name
+   * @return buffered output stream
+   * @throws IOException
+   */
+  private OutputStream createFile(String partition) throws IOException {
+    Path file = new Path(new Path(basePath, partition),
+      taskNumber + "-" + fileCount++);
+    FileSystem fs = file.getFileSystem();
+    return new BufferedOutputStream(fs.create(file, false), BUFFER_SIZE);
+  }
+
+  /**
+   * Closes the file which has not been written to for the longest time.
+   *
+   * @throws IOException
+   */
+  private void closeLeastRecentlyUsed() throws IOException {
+    Iterator<Map.Entry<String, OutputStream>> iterator =
+      openFiles.entrySet().iterator();
+    iterator.next().getValue().close();
+    iterator.remove();
+  }
+}
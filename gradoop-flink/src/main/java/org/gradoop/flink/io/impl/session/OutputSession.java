@@ -0,0 +1,213 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.session;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Collects writes of logical graphs, graph collections and graph transactions
+ * to arbitrary data sinks and executes all of them in a single Flink job.
+ *
+ * Calling {@link ExecutionEnvironment#execute()} after each
+ * {@link DataSink#write} computes the whole program once per output. Within
+ * one job, intermediate results which are shared by multiple outputs (e.g.
+ * an input graph and a graph derived from it) are computed only once.
+ *
+ * Writes are declared at the data sinks when {@link #execute()} is called.
+ *
+ * <pre>
+ * OutputSession session = new OutputSession(config);
+ * session
+ *   .add(graph, new JSONDataSink(...))
+ *   .add(graph.callForGraph(grouping), new DOTDataSink(...))
+ *   .execute();
+ * </pre>
+ */
+public class OutputSession {
+
+  /**
+   * Environment all outputs are executed in.
+   */
+  private final ExecutionEnvironment env;
+
+  /**
+   * Writes to declare when the session is executed.
+   */
+  private final List<PendingWrite> pendingWrites;
+
+  /**
+   * Creates a new session.
+   *
+   * @param config Gradoop Flink configuration
+   */
+  public OutputSession(GradoopFlinkConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("config must not be null");
+    }
+    this.env = config.getExecutionEnvironment();
+    this.pendingWrites = Lists.newArrayList();
+  }
+
+  /**
+   * Adds a logical graph to be written to the given data sink.
+   *
+   * @param logicalGraph  logical graph
+   * @param dataSink      data sink
+   * @return this session
+   */
+  public OutputSession add(final LogicalGraph logicalGraph,
+    final DataSink dataSink) {
+    checkArguments(logicalGraph, dataSink);
+    checkEnvironment(logicalGraph.getConfig());
+    pendingWrites.add(new PendingWrite() {
+      @Override
+      public void write() throws IOException {
+        dataSink.write(logicalGraph);
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Adds a graph collection to be written to the given data sink.
+   *
+   * @param graphCollection graph collection
+   * @param dataSink        data sink
+   * @return this session
+   */
+  public OutputSession add(final GraphCollection graphCollection,
+    final DataSink dataSink) {
+    checkArguments(graphCollection, dataSink);
+    checkEnvironment(graphCollection.getConfig());
+    pendingWrites.add(new PendingWrite() {
+      @Override
+      public void write() throws IOException {
+        dataSink.write(graphCollection);
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Adds graph transactions to be written to the given data sink.
+   *
+   * @param graphTransactions graph transactions
+   * @param dataSink          data sink
+   * @return this session
+   */
+  public OutputSession add(final GraphTransactions graphTransactions,
+    final DataSink dataSink) {
+    checkArguments(graphTransactions, dataSink);
+    checkEnvironment(graphTransactions.getConfig());
+    pendingWrites.add(new PendingWrite() {
+      @Override
+      public void write() throws IOException {
+        dataSink.write(graphTransactions);
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Returns the number of writes which have not been executed yet.
+   *
+   * @return number of pending writes
+   */
+  public int size() {
+    return pendingWrites.size();
+  }
+
+  /**
+   * Declares all pending writes and executes them in a single Flink job.
+   *
+   * @return result of the Flink job
+   * @throws Exception
+   */
+  public JobExecutionResult execute() throws Exception {
+    return execute(null);
+  }
+
+  /**
+   * Declares all pending writes and executes them in a single Flink job.
+   *
+   * @param jobName name of the Flink job (default name, if {@code null})
+   * @return result of the Flink job
+   * @throws Exception
+   */
+  public JobExecutionResult execute(String jobName) throws Exception {
+    if (pendingWrites.isEmpty()) {
+      throw new IllegalStateException("no outputs have been added");
+    }
+    for (PendingWrite pendingWrite : pendingWrites) {
+      pendingWrite.write();
+    }
+    pendingWrites.clear();
+
+    return jobName == null ? env.execute() : env.execute(jobName);
+  }
+
+  /**
+   * Checks if the given arguments are not null.
+   *
+   * @param element element to write
+   * @param sink    data sink
+   */
+  private void checkArguments(Object element, DataSink sink) {
+    if (element == null) {
+      throw new IllegalArgumentException("element must not be null");
+    }
+    if (sink == null) {
+      throw new IllegalArgumentException("data sink must not be null");
+    }
+  }
+
+  /**
+   * Checks if an element with the given configuration can be written within
+   * this session.
+   *
+   * @param config configuration of the element
+   */
+  private void checkEnvironment(GradoopFlinkConfig config) {
+    if (config.getExecutionEnvironment() != env) {
+      throw new IllegalArgumentException(
+        "element belongs to a different execution environment");
+    }
+  }
+
+  /**
+   * A write which is declared when the session is executed.
+   */
+  private interface PendingWrite {
+    /**
+     * Declares the write at the data sink.
+     *
+     * @throws IOException
+     */
+    void write() throws IOException;
+  }
+}
@@ -19,13 +19,19 @@ package org.gradoop.flink.io.impl.tlf;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapred.TextInputFormat;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.impl.tlf.functions.GraphTransactionFromTLFGraph;
 import org.gradoop.flink.model.impl.GraphTransactions;
 import org.gradoop.flink.model.impl.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.model.impl.functions.epgm.GraphTransactionTriple;
+import org.gradoop.flink.model.impl.functions.epgm.TransactionEdges;
+import org.gradoop.flink.model.impl.functions.epgm.TransactionVertices;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.io.impl.tlf.functions.Dictionary;
@@ -40,6 +46,7 @@ import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.tuples.GraphTransaction;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Creates an EPGM instance from one TLF file. The exact format is
@@ -86,9 +93,27 @@ public class TLFDataSource extends TLFBase implements DataSource {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * Vertex and edge ids are created per transaction, i.e., graphs of a TLF
+   * file do not share elements. Therefore, vertices and edges are taken from
+   * the transactions and added to a new graph head without merging them by
+   * id.
+   */
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination());
+    DataSet<Tuple3<GraphHead, Set<Vertex>, Set<Edge>>> triples =
+      getGraphTransactions().getTransactions()
+        .map(new GraphTransactionTriple());
+
+    DataSet<Vertex> vertices = triples
+      .flatMap(new TransactionVertices());
+
+    DataSet<Edge> edges = triples
+      .flatMap(new TransactionEdges());
+
+    return LogicalGraph.fromDataSets(vertices, edges, getConfig());
   }
 
   @Override
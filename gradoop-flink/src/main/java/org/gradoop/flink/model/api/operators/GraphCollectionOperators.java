@@ -92,6 +92,16 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
    */
   GraphCollection distinct();
 
+  /**
+   * Returns a collection of logical graphs with distinct content. Graph
+   * equality is based on the labels and properties of vertices and edges as
+   * well as on the graph structure. Of each set of equal graphs, the graph
+   * with the smallest identifier is kept.
+   *
+   * @return graph collection with distinct content
+   */
+  GraphCollection distinctByContent();
+
   /**
    * Returns a graph collection that is sorted by a given graph property key.
    *
@@ -101,6 +111,17 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
    */
   GraphCollection sortBy(String propertyKey, Order order);
 
+  /**
+   * Returns the first {@code n} logical graphs contained in that collection
+   * according to a given graph property and sort order.
+   *
+   * @param n           number of graphs to return from collection
+   * @param propertyKey property which is used for comparison
+   * @param order       ascending, descending
+   * @return subset of the graph collection
+   */
+  GraphCollection top(int n, String propertyKey, Order order);
+
   /**
    * Returns the first {@code n} arbitrary logical graphs contained in that
    * collection.
@@ -145,6 +166,20 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
   GraphCollection intersectWithSmallResult(
     GraphCollection otherCollection);
 
+  /**
+   * Returns a collection with all logical graphs that exist in both input
+   * collections. Graph equality is based on their identifiers.
+   * <p>
+   * Counts the graphs in {@code otherCollection} and uses the implementation
+   * of {@link #intersectWithSmallResult(GraphCollection)} if their identifiers
+   * fit into the workers main memory, otherwise the one of
+   * {@link #intersect(GraphCollection)}.
+   *
+   * @param otherCollection collection to build intersect with
+   * @return intersection of both collections
+   */
+  GraphCollection intersectAuto(GraphCollection otherCollection);
+
   /**
    * Returns a collection with all logical graphs that are contained in that
    * collection but not in the other. Graph equality is based on their
@@ -169,6 +204,21 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
   GraphCollection differenceWithSmallResult(
     GraphCollection otherCollection);
 
+  /**
+   * Returns a collection with all logical graphs that are contained in that
+   * collection but not in the other. Graph equality is based on their
+   * identifiers.
+   * <p>
+   * Counts the graphs in that collection and uses the implementation of
+   * {@link #differenceWithSmallResult(GraphCollection)} if their identifiers
+   * fit into the workers main memory, otherwise the one of
+   * {@link #difference(GraphCollection)}.
+   *
+   * @param otherCollection collection to subtract from that collection
+   * @return difference between that and the other collection
+   */
+  GraphCollection differenceAuto(GraphCollection otherCollection);
+
   /**
    * Checks, if another collection contains the same graphs as this graph
    * (by id).
@@ -200,6 +250,20 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
    */
   DataSet<Boolean> equalsByGraphElementData(GraphCollection other);
 
+  /**
+   * Returns a 1-element dataset containing a {@code boolean} value which
+   * indicates if the graph collection is equal to the given graph collection.
+   *
+   * Equality is defined on the element data contained inside the collection,
+   * i.e. vertices and edges. Collection fingerprints are compared first.
+   * Canonical adjacency matrices are only built if the fingerprints are equal.
+   *
+   * @param other graph collection to compare with
+   * @return  1-element dataset containing {@code true} if the two collections
+   *          are equal or {@code false} if not
+   */
+  DataSet<Boolean> equalsByGraphElementDataByHash(GraphCollection other);
+
   /**
    * Returns a 1-element dataset containing a {@code boolean} value which
    * indicates if the graph collection is equal to the given graph collection.
@@ -213,6 +277,21 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
    */
   DataSet<Boolean> equalsByGraphData(GraphCollection other);
 
+  /**
+   * Returns a 1-element dataset containing a {@code boolean} value which
+   * indicates if the graph collection is equal to the given graph collection.
+   *
+   * Equality is defined on the data contained inside the collection, i.e.
+   * graph heads, vertices and edges. Collection fingerprints are compared
+   * first. Canonical adjacency matrices are only built if the fingerprints are
+   * equal.
+   *
+   * @param other graph collection to compare with
+   * @return  1-element dataset containing {@code true} if the two collections
+   *          are equal or {@code false} if not
+   */
+  DataSet<Boolean> equalsByGraphDataByHash(GraphCollection other);
+
   //----------------------------------------------------------------------------
   // Auxiliary operators
   //----------------------------------------------------------------------------
@@ -19,6 +19,7 @@ package org.gradoop.flink.model.api.operators;
 
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -27,8 +28,10 @@ import org.gradoop.flink.model.api.functions.TransformationFunction;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Describes all operators that can be applied on a single logical graph in the
@@ -81,6 +84,19 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
    */
   LogicalGraph copy();
 
+  /**
+   * Creates a copy of the logical graph whose vertex and edge ids are derived
+   * from the original ids and the given clone epoch.
+   *
+   * Note that this method creates new graph head, vertex and edge instances
+   * without joining edges and vertices. Each epoch should be used only once
+   * per graph.
+   *
+   * @param epoch key to derive new vertex and edge ids
+   * @return copy of the logical graph
+   */
+  LogicalGraph copy(GradoopId epoch);
+
   /**
    * Transforms the elements of the logical graph using the given transformation
    * functions. The identity of the elements is preserved.
@@ -173,6 +189,18 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
   LogicalGraph aggregate(String propertyKey,
     AggregateFunction aggregateFunc);
 
+  /**
+   * Applies the given aggregators to the vertices and edges of the logical
+   * graph in a single pass each and stores the results at the resulting graph
+   * using the aggregate property key of each aggregator.
+   *
+   * @param vertexAggregators aggregate functions applied on vertices
+   * @param edgeAggregators   aggregate functions applied on edges
+   * @return logical graph with additional properties storing the aggregates
+   */
+  LogicalGraph aggregate(List<PropertyValueAggregator> vertexAggregators,
+    List<PropertyValueAggregator> edgeAggregators);
+
   /**
    * Creates a new graph from a randomly chosen subset of nodes and their
    * associated edges.
@@ -182,6 +210,41 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
    */
   LogicalGraph sampleRandomNodes(Float sampleSize);
 
+  /**
+   * Creates a new graph from a randomly chosen subset of edges and their
+   * source and target vertices.
+   *
+   * @param sampleSize relative amount of edges in the result graph
+   * @param randomSeed seed for the random decisions
+   * @return logical graph with random edges and their end points
+   */
+  LogicalGraph sampleRandomEdges(float sampleSize, long randomSeed);
+
+  /**
+   * Creates a new graph from the vertices visited by random walkers and the
+   * edges between them. In each step, a walker jumps to a random start vertex
+   * with the given probability.
+   *
+   * @param numberOfWalkers number of parallel walkers
+   * @param numberOfSteps   number of steps per walker
+   * @param jumpProbability probability to jump to a random start vertex
+   * @param randomSeed      seed for the random decisions
+   * @return logical graph with visited vertices and the edges between them
+   */
+  LogicalGraph sampleRandomWalk(int numberOfWalkers, int numberOfSteps,
+    float jumpProbability, long randomSeed);
+
+  /**
+   * Creates a new graph from a random sample containing the given number of
+   * vertices per label and the edges between them.
+   *
+   * @param labelQuotas number of vertices to select per label
+   * @param randomSeed  seed for the random decisions
+   * @return logical graph with sampled vertices and the edges between them
+   */
+  LogicalGraph sampleStratified(Map<String, Long> labelQuotas,
+    long randomSeed);
+
   /**
    * Creates a condensed version of the logical graph by grouping vertices
    * and edges.
@@ -345,6 +408,18 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
    */
   DataSet<Boolean> equalsByElementData(LogicalGraph other);
 
+  /**
+   * Checks, if another logical graph contains vertices and edges with the same
+   * attached data (i.e. label and properties) as this graph.
+   *
+   * Graph fingerprints are compared first. Canonical adjacency matrices are
+   * only built if the fingerprints are equal.
+   *
+   * @param other other graph
+   * @return 1-element dataset containing true, iff equal by element data
+   */
+  DataSet<Boolean> equalsByElementDataByHash(LogicalGraph other);
+
   /**
    * Checks, if another logical graph has the same attached data and contains
    * vertices and edges with the same attached data as this graph.
@@ -354,6 +429,18 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
    */
   DataSet<Boolean> equalsByData(LogicalGraph other);
 
+  /**
+   * Checks, if another logical graph has the same attached data and contains
+   * vertices and edges with the same attached data as this graph.
+   *
+   * Graph fingerprints are compared first. Canonical adjacency matrices are
+   * only built if the fingerprints are equal.
+   *
+   * @param other other graph
+   * @return 1-element dataset containing true, iff equal by element data
+   */
+  DataSet<Boolean> equalsByDataByHash(LogicalGraph other);
+
   //----------------------------------------------------------------------------
   // Binary Operators
   //----------------------------------------------------------------------------
@@ -17,7 +17,6 @@
 
 package org.gradoop.flink.model.impl;
 
-import org.apache.commons.lang.NotImplementedException;
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.DataSet;
@@ -52,14 +51,20 @@ import org.gradoop.flink.model.impl.functions.graphcontainment.InAnyGraph;
 import org.gradoop.flink.model.impl.functions.graphcontainment.InGraph;
 import org.gradoop.flink.model.impl.functions.utils.First;
 import org.gradoop.flink.model.impl.operators.difference.Difference;
+import org.gradoop.flink.model.impl.operators.difference.DifferenceAuto;
 import org.gradoop.flink.model.impl.operators.difference.DifferenceBroadcast;
 import org.gradoop.flink.model.impl.operators.distinct.Distinct;
+import org.gradoop.flink.model.impl.operators.distinct.DistinctByContent;
 import org.gradoop.flink.model.impl.operators.equality.CollectionEquality;
 import org.gradoop.flink.model.impl.operators.equality.CollectionEqualityByGraphIds;
+import org.gradoop.flink.model.impl.operators.equality.CollectionEqualityByHash;
 import org.gradoop.flink.model.impl.operators.intersection.Intersection;
+import org.gradoop.flink.model.impl.operators.intersection.IntersectionAuto;
 import org.gradoop.flink.model.impl.operators.intersection.IntersectionBroadcast;
 import org.gradoop.flink.model.impl.operators.limit.Limit;
 import org.gradoop.flink.model.impl.operators.selection.Selection;
+import org.gradoop.flink.model.impl.operators.sorting.SortBy;
+import org.gradoop.flink.model.impl.operators.sorting.Top;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToIdString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToDataString;
@@ -287,12 +292,28 @@ public class GraphCollection extends GraphBase implements
     return callForCollection(new Distinct());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection distinctByContent() {
+    return callForCollection(new DistinctByContent());
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public GraphCollection sortBy(String propertyKey, Order order) {
-    throw new NotImplementedException();
+    return callForCollection(new SortBy(propertyKey, order));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection top(int n, String propertyKey, Order order) {
+    return callForCollection(new Top(n, propertyKey, order));
   }
 
   /**
@@ -333,6 +354,14 @@ public class GraphCollection extends GraphBase implements
       otherCollection);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection intersectAuto(GraphCollection otherCollection) {
+    return callForCollection(new IntersectionAuto(), otherCollection);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -351,6 +380,14 @@ public class GraphCollection extends GraphBase implements
       otherCollection);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection differenceAuto(GraphCollection otherCollection) {
+    return callForCollection(new DifferenceAuto(), otherCollection);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -381,6 +418,18 @@ public class GraphCollection extends GraphBase implements
       new EdgeToDataString(), true).execute(this, other);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Boolean> equalsByGraphElementDataByHash(
+    GraphCollection other) {
+    return new CollectionEqualityByHash(
+      new GraphHeadToEmptyString(),
+      new VertexToDataString(),
+      new EdgeToDataString(), true, true).execute(this, other);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -392,6 +441,17 @@ public class GraphCollection extends GraphBase implements
       new EdgeToDataString(), true).execute(this, other);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Boolean> equalsByGraphDataByHash(GraphCollection other) {
+    return new CollectionEqualityByHash(
+      new GraphHeadToDataString(),
+      new VertexToDataString(),
+      new EdgeToDataString(), true, true).execute(this, other);
+  }
+
   //----------------------------------------------------------------------------
   // Auxiliary Operators
   //----------------------------------------------------------------------------
@@ -20,6 +20,7 @@ package org.gradoop.flink.model.impl;
 import com.google.common.collect.Lists;
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -36,17 +37,23 @@ import org.gradoop.flink.model.impl.functions.bool.True;
 import org.gradoop.flink.model.impl.functions.epgm.PropertyGetter;
 import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
 import org.gradoop.flink.model.impl.operators.aggregation.Aggregation;
+import org.gradoop.flink.model.impl.operators.aggregation.MultiAggregation;
 import org.gradoop.flink.model.impl.operators.cloning.Cloning;
 import org.gradoop.flink.model.impl.operators.combination.Combination;
 import org.gradoop.flink.model.impl.operators.equality.GraphEquality;
+import org.gradoop.flink.model.impl.operators.equality.GraphEqualityByHash;
 import org.gradoop.flink.model.impl.operators.exclusion.Exclusion;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
 import org.gradoop.flink.model.impl.operators.matching.common.query.DFSTraverser;
 import org.gradoop.flink.model.impl.operators.matching.isomorphism.explorative.ExplorativeSubgraphIsomorphism;
 import org.gradoop.flink.model.impl.operators.overlap.Overlap;
+import org.gradoop.flink.model.impl.operators.sampling.RandomEdgeSampling;
 import org.gradoop.flink.model.impl.operators.sampling.RandomNodeSampling;
+import org.gradoop.flink.model.impl.operators.sampling.RandomWalkSampling;
+import org.gradoop.flink.model.impl.operators.sampling.StratifiedSampling;
 import org.gradoop.flink.model.impl.operators.split.Split;
 import org.gradoop.flink.model.impl.operators.subgraph.Subgraph;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
@@ -62,6 +69,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -270,6 +278,14 @@ public class LogicalGraph extends GraphBase implements LogicalGraphOperators {
       new Cloning());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph copy(GradoopId epoch) {
+    return callForGraph(new Cloning(epoch));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -343,6 +359,17 @@ public class LogicalGraph extends GraphBase implements LogicalGraphOperators {
     return callForGraph(new Aggregation(propertyKey, aggregateFunc));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph aggregate(
+    List<PropertyValueAggregator> vertexAggregators,
+    List<PropertyValueAggregator> edgeAggregators) {
+    return callForGraph(
+      new MultiAggregation(vertexAggregators, edgeAggregators));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -351,6 +378,33 @@ public class LogicalGraph extends GraphBase implements LogicalGraphOperators {
     return callForGraph(new RandomNodeSampling(sampleSize));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph sampleRandomEdges(float sampleSize, long randomSeed) {
+    return callForGraph(new RandomEdgeSampling(sampleSize, randomSeed));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph sampleRandomWalk(int numberOfWalkers, int numberOfSteps,
+    float jumpProbability, long randomSeed) {
+    return callForGraph(new RandomWalkSampling(
+      numberOfWalkers, numberOfSteps, jumpProbability, randomSeed));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph sampleStratified(Map<String, Long> labelQuotas,
+    long randomSeed) {
+    return callForGraph(new StratifiedSampling(labelQuotas, randomSeed));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -531,6 +585,17 @@ public class LogicalGraph extends GraphBase implements LogicalGraphOperators {
       new EdgeToDataString(), true).execute(this, other);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Boolean> equalsByElementDataByHash(LogicalGraph other) {
+    return new GraphEqualityByHash(
+      new GraphHeadToEmptyString(),
+      new VertexToDataString(),
+      new EdgeToDataString(), true, true).execute(this, other);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -542,6 +607,17 @@ public class LogicalGraph extends GraphBase implements LogicalGraphOperators {
       new EdgeToDataString(), true).execute(this, other);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Boolean> equalsByDataByHash(LogicalGraph other) {
+    return new GraphEqualityByHash(
+      new GraphHeadToDataString(),
+      new VertexToDataString(),
+      new EdgeToDataString(), true, true).execute(this, other);
+  }
+
   //----------------------------------------------------------------------------
   // Auxiliary Operators
   //----------------------------------------------------------------------------
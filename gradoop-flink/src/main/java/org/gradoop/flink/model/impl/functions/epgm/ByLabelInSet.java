@@ -0,0 +1,54 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.epgm;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Filters elements if their label is contained in the given set of labels.
+ *
+ * @param <EL> EPGM element type
+ */
+@FunctionAnnotation.ReadFields("label")
+public class ByLabelInSet<EL extends Element> implements FilterFunction<EL> {
+
+  /**
+   * labels
+   */
+  private final HashSet<String> labels;
+
+  /**
+   * Creates a new filter instance
+   *
+   * @param labels labels
+   */
+  public ByLabelInSet(Collection<String> labels) {
+    this.labels = Sets.newHashSet(labels);
+  }
+
+  @Override
+  public boolean filter(EL element) throws Exception {
+    return labels.contains(element.getLabel());
+  }
+}
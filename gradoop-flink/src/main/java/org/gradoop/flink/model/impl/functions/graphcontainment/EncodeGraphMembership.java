@@ -0,0 +1,79 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.graphcontainment;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GraphBitmap;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+
+import java.util.Map;
+
+/**
+ * Encodes the graphs an element is contained in as bitmap over a broadcasted
+ * graph numbering. Graphs which are not numbered are ignored.
+ *
+ * element -> (element, bitmap of graph numbers)
+ *
+ * @param <GE> element type
+ */
+@FunctionAnnotation.ForwardedFields("*->f0")
+@FunctionAnnotation.ReadFields("graphIds")
+public class EncodeGraphMembership<GE extends GraphElement>
+  extends RichMapFunction<GE, Tuple2<GE, GraphBitmap>> {
+
+  /**
+   * constant string for "graph numbering"
+   */
+  public static final String GRAPH_NUMBERING = "graphNumbering";
+
+  /**
+   * graph numbers (shared by all instances of a task manager, must not be
+   * modified)
+   */
+  private Map<GradoopId, Integer> graphNumbers;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GE, GraphBitmap> reuseTuple = new Tuple2<>();
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    graphNumbers = getRuntimeContext().getBroadcastVariableWithInitializer(
+      GRAPH_NUMBERING, new GraphNumberingInitializer());
+  }
+
+  @Override
+  public Tuple2<GE, GraphBitmap> map(GE element) throws Exception {
+    GraphBitmap membership = new GraphBitmap();
+    for (GradoopId graphId : element.getGraphIds()) {
+      Integer graphNumber = graphNumbers.get(graphId);
+      if (graphNumber != null) {
+        membership.add(graphNumber);
+      }
+    }
+    reuseTuple.f0 = element;
+    reuseTuple.f1 = membership;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.graphcontainment;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.BroadcastVariableInitializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Builds an immutable hash set from a broadcasted set of graph ids. The set is
+ * initialized once per task manager and shared by all parallel instances of
+ * a function.
+ */
+public class GraphIdSetInitializer
+  implements BroadcastVariableInitializer<GradoopId, Set<GradoopId>> {
+
+  @Override
+  public Set<GradoopId> initializeBroadcastVariable(Iterable<GradoopId> ids) {
+    return Collections.unmodifiableSet(Sets.newHashSet(ids));
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.graphcontainment;
+
+import com.google.common.primitives.Ints;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GraphBitmap;
+
+/**
+ * (graphNumber, graphId) -> bitmap containing the graph number
+ */
+@FunctionAnnotation.ReadFields("f0")
+public class GraphNumberAsBitmap
+  implements MapFunction<Tuple2<Long, GradoopId>, GraphBitmap> {
+
+  @Override
+  public GraphBitmap map(Tuple2<Long, GradoopId> graphNumber) throws
+    Exception {
+    return GraphBitmap.of(Ints.checkedCast(graphNumber.f0));
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.graphcontainment;
+
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Ints;
+import org.apache.flink.api.common.functions.BroadcastVariableInitializer;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Builds an immutable hash map from a broadcasted graph numbering, i.e. from
+ * (graphNumber, graphId) pairs. The map is initialized once per task manager
+ * and shared by all parallel instances of a function.
+ */
+public class GraphNumberingInitializer implements BroadcastVariableInitializer
+  <Tuple2<Long, GradoopId>, Map<GradoopId, Integer>> {
+
+  @Override
+  public Map<GradoopId, Integer> initializeBroadcastVariable(
+    Iterable<Tuple2<Long, GradoopId>> numbering) {
+    Map<GradoopId, Integer> numbers = Maps.newHashMap();
+    for (Tuple2<Long, GradoopId> graphNumber : numbering) {
+      numbers.put(graphNumber.f1, Ints.checkedCast(graphNumber.f0));
+    }
+    return Collections.unmodifiableMap(numbers);
+  }
+}
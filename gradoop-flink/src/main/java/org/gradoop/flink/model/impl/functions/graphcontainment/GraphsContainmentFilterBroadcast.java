@@ -19,10 +19,11 @@ package org.gradoop.flink.model.impl.functions.graphcontainment;
 
 import org.apache.flink.api.common.functions.RichFilterFunction;
 import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.id.GradoopId;
 
-import java.util.Collection;
+import java.util.Set;
 
 /**
  * Superclass of multi graph containment filters using broadcast variables.
@@ -38,13 +39,57 @@ public abstract class GraphsContainmentFilterBroadcast
   public static final String GRAPH_IDS = "graphIds";
 
   /**
-   * graph ids
+   * graph ids (shared by all instances of a task manager, must not be
+   * modified)
    */
-  protected Collection<GradoopId> graphIds;
+  protected Set<GradoopId> graphIds;
 
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
-    graphIds = getRuntimeContext().getBroadcastVariable(GRAPH_IDS);
+    graphIds = getRuntimeContext().getBroadcastVariableWithInitializer(
+      GRAPH_IDS, new GraphIdSetInitializer());
+  }
+
+  /**
+   * Checks if any of the broadcasted graph ids is contained in the given
+   * set. Iterates the smaller side and probes the larger one.
+   *
+   * @param elementGraphIds graph ids of an element
+   * @return true, if any broadcasted id is contained
+   */
+  protected boolean containsAny(GradoopIdSet elementGraphIds) {
+    if (elementGraphIds.size() <= graphIds.size()) {
+      for (GradoopId graphId : elementGraphIds) {
+        if (graphIds.contains(graphId)) {
+          return true;
+        }
+      }
+    } else {
+      for (GradoopId graphId : graphIds) {
+        if (elementGraphIds.contains(graphId)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if all broadcasted graph ids are contained in the given set.
+   *
+   * @param elementGraphIds graph ids of an element
+   * @return true, if all broadcasted ids are contained
+   */
+  protected boolean containsAll(GradoopIdSet elementGraphIds) {
+    if (elementGraphIds.size() < graphIds.size()) {
+      return false;
+    }
+    for (GradoopId graphId : graphIds) {
+      if (!elementGraphIds.contains(graphId)) {
+        return false;
+      }
+    }
+    return true;
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.graphcontainment;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GraphBitmap;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+
+import java.util.List;
+
+/**
+ * True, if the membership bitmap of an element contains all graphs of a
+ * broadcasted bitmap.
+ *
+ * @param <GE> element type
+ */
+@FunctionAnnotation.ReadFields("f1")
+public class InAllGraphsBitmap<GE extends GraphElement>
+  extends RichFilterFunction<Tuple2<GE, GraphBitmap>> {
+
+  /**
+   * constant string for "graphs"
+   */
+  public static final String GRAPHS = "graphs";
+
+  /**
+   * bitmap of all graphs
+   */
+  private GraphBitmap graphs;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<GraphBitmap> bitmaps =
+      getRuntimeContext().getBroadcastVariable(GRAPHS);
+    graphs = bitmaps.isEmpty() ? new GraphBitmap() : bitmaps.get(0);
+  }
+
+  @Override
+  public boolean filter(Tuple2<GE, GraphBitmap> elementWithMembership) throws
+    Exception {
+    return graphs.andNot(elementWithMembership.f1).isEmpty();
+  }
+}
@@ -32,6 +32,6 @@ public class InAllGraphsBroadcast
 
   @Override
   public boolean filter(GE element) throws Exception {
-    return element.getGraphIds().containsAll(this.graphIds);
+    return containsAll(element.getGraphIds());
   }
 }
@@ -31,6 +31,6 @@ public class InAnyGraphBroadcast<GE extends GraphElement>
 
   @Override
   public boolean filter(GE element) throws Exception {
-    return element.getGraphIds().containsAny(this.graphIds);
+    return containsAny(element.getGraphIds());
   }
 }
@@ -0,0 +1,33 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.functions.graphcontainment;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.gradoop.common.model.impl.id.GraphBitmap;
+
+/**
+ * (bitmap, bitmap) -> bitmap containing the values of both (bitwise OR)
+ */
+public class OrGraphBitmaps implements ReduceFunction<GraphBitmap> {
+
+  @Override
+  public GraphBitmap reduce(GraphBitmap first, GraphBitmap second) throws
+    Exception {
+    return first.or(second);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.api.operators.ApplicableUnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.GraphIdsWithAggregateValues;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.MergeGraphAggregates;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.SetGraphAggregateProperties;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Takes a collection of logical graphs and lists of aggregate functions for
+ * vertices and edges as input. The aggregate functions are applied on each
+ * logical graph contained in the collection and the aggregates are stored as
+ * additional properties at the graphs, using the aggregate property key of
+ * each aggregator.
+ *
+ * In contrast to {@link ApplyAggregation}, the graph membership of each
+ * element is expanded only once, all aggregates of vertices and edges are
+ * computed in a single combinable group reduce on the graph id and the
+ * results are joined with the graph heads in a single coGroup.
+ */
+public class ApplyMultiAggregation
+  implements ApplicableUnaryGraphToGraphOperator {
+
+  /**
+   * Aggregate functions which are applied on vertices.
+   */
+  private final List<PropertyValueAggregator> vertexAggregators;
+
+  /**
+   * Aggregate functions which are applied on edges.
+   */
+  private final List<PropertyValueAggregator> edgeAggregators;
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param vertexAggregators aggregate functions applied on vertices
+   * @param edgeAggregators   aggregate functions applied on edges
+   */
+  public ApplyMultiAggregation(List<PropertyValueAggregator> vertexAggregators,
+    List<PropertyValueAggregator> edgeAggregators) {
+    this.vertexAggregators = checkNotNull(vertexAggregators);
+    this.edgeAggregators = checkNotNull(edgeAggregators);
+  }
+
+  @Override
+  public GraphCollection execute(GraphCollection collection) {
+    List<PropertyValueAggregator> aggregators = Lists.newArrayList();
+    aggregators.addAll(vertexAggregators);
+    aggregators.addAll(edgeAggregators);
+
+    if (aggregators.isEmpty()) {
+      return collection;
+    }
+
+    int size = aggregators.size();
+    DataSet<Tuple2<GradoopId, PropertyValueList>> aggregateValues = null;
+
+    if (!vertexAggregators.isEmpty()) {
+      aggregateValues = collection.getVertices()
+        .flatMap(new GraphIdsWithAggregateValues<Vertex>(
+          vertexAggregators, 0, size));
+    }
+    if (!edgeAggregators.isEmpty()) {
+      DataSet<Tuple2<GradoopId, PropertyValueList>> edgeValues =
+        collection.getEdges()
+          .flatMap(new GraphIdsWithAggregateValues<Edge>(
+            edgeAggregators, vertexAggregators.size(), size));
+      aggregateValues = aggregateValues == null ?
+        edgeValues : aggregateValues.union(edgeValues);
+    }
+
+    DataSet<Tuple2<GradoopId, PropertyValueList>> aggregates = aggregateValues
+      .groupBy(0)
+      .reduceGroup(new MergeGraphAggregates(aggregators));
+
+    DataSet<GraphHead> graphHeads = collection.getGraphHeads()
+      .coGroup(aggregates)
+      .where(new Id<GraphHead>()).equalTo(0)
+      .with(new SetGraphAggregateProperties(aggregators));
+
+    return GraphCollection.fromDataSets(graphHeads,
+      collection.getVertices(),
+      collection.getEdges(),
+      collection.getConfig());
+  }
+
+  @Override
+  public String getName() {
+    return ApplyMultiAggregation.class.getName();
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.MapOperator;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregatePartition;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.MergePartitionAggregates;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.SetAggregateProperties;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Takes a logical graph and a list of aggregate functions for vertices and
+ * edges as input. All vertex aggregates are computed in a single pass over
+ * the vertices and all edge aggregates in a single pass over the edges. The
+ * resulting aggregates are stored as additional properties at the result
+ * graph, using the aggregate property key of each aggregator.
+ *
+ * Each partition is aggregated into a single tuple of partial aggregates, so
+ * only one tuple per partition is shipped to compute the final aggregates.
+ * In contrast, each call of {@link Aggregation} scans the graph once.
+ */
+public class MultiAggregation implements UnaryGraphToGraphOperator {
+
+  /**
+   * Aggregate functions which are applied on vertices.
+   */
+  private final List<PropertyValueAggregator> vertexAggregators;
+
+  /**
+   * Aggregate functions which are applied on edges.
+   */
+  private final List<PropertyValueAggregator> edgeAggregators;
+
+  /**
+   * Creates new aggregation.
+   *
+   * @param vertexAggregators aggregate functions applied on vertices
+   * @param edgeAggregators   aggregate functions applied on edges
+   */
+  public MultiAggregation(List<PropertyValueAggregator> vertexAggregators,
+    List<PropertyValueAggregator> edgeAggregators) {
+    this.vertexAggregators = checkNotNull(vertexAggregators);
+    this.edgeAggregators = checkNotNull(edgeAggregators);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+    MapOperator<GraphHead, GraphHead> graphHead = graph.getGraphHead()
+      .map(new SetAggregateProperties(vertexAggregators, edgeAggregators));
+
+    if (!vertexAggregators.isEmpty()) {
+      graphHead = graphHead.withBroadcastSet(
+        aggregate(graph.getVertices(), vertexAggregators),
+        SetAggregateProperties.VERTEX_AGGREGATES);
+    }
+    if (!edgeAggregators.isEmpty()) {
+      graphHead = graphHead.withBroadcastSet(
+        aggregate(graph.getEdges(), edgeAggregators),
+        SetAggregateProperties.EDGE_AGGREGATES);
+    }
+
+    return LogicalGraph.fromDataSets(
+      graphHead, graph.getVertices(), graph.getEdges(), graph.getConfig());
+  }
+
+  /**
+   * Applies the aggregators on the given elements.
+   *
+   * @param elements    elements
+   * @param aggregators aggregate functions
+   * @param <EL>        element type
+   * @return 1-element dataset containing the aggregates
+   */
+  private <EL extends Element> DataSet<Tuple1<PropertyValueList>> aggregate(
+    DataSet<EL> elements, List<PropertyValueAggregator> aggregators) {
+    return elements
+      .mapPartition(new AggregatePartition<EL>(aggregators))
+      .reduceGroup(new MergePartitionAggregates(aggregators));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return MultiAggregation.class.getName();
+  }
+}
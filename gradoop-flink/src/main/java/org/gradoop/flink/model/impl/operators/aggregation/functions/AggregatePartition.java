@@ -0,0 +1,74 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Applies a list of aggregators on all elements of a partition and emits a
+ * single tuple containing the partial aggregate of each aggregator.
+ *
+ * @param <EL> EPGM element
+ */
+public class AggregatePartition<EL extends Element>
+  implements MapPartitionFunction<EL, Tuple1<PropertyValueList>> {
+
+  /**
+   * Aggregate functions which are applied on the elements.
+   */
+  private final List<PropertyValueAggregator> aggregators;
+
+  /**
+   * Constructor
+   *
+   * @param aggregators aggregate functions which are applied on the elements
+   */
+  public AggregatePartition(List<PropertyValueAggregator> aggregators) {
+    this.aggregators = checkNotNull(aggregators);
+  }
+
+  @Override
+  public void mapPartition(Iterable<EL> elements,
+    Collector<Tuple1<PropertyValueList>> out) throws Exception {
+    for (EL element : elements) {
+      for (PropertyValueAggregator aggregator : aggregators) {
+        aggregator.aggregate(aggregator.getInputValue(element));
+      }
+    }
+
+    List<PropertyValue> partialAggregates =
+      Lists.newArrayListWithCapacity(aggregators.size());
+    for (PropertyValueAggregator aggregator : aggregators) {
+      partialAggregates.add(aggregator.getAggregate());
+      aggregator.resetAggregate();
+    }
+    out.collect(new Tuple1<>(
+      PropertyValueList.fromPropertyValues(partialAggregates)));
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Takes a graph element and a list of aggregators as input and builds one
+ * tuple of graph id and aggregate input values per graph the element is
+ * contained in.
+ *
+ * The values are extracted once per element and written to the positions
+ * starting at the given offset of a list with the given size. All other
+ * positions are set to {@link PropertyValue#NULL_VALUE} which is ignored
+ * by the aggregators. This way, the values of vertices and edges can be
+ * aggregated in the same group reduce.
+ *
+ * @param <GE> epgm graph element
+ */
+public class GraphIdsWithAggregateValues<GE extends GraphElement>
+  implements FlatMapFunction<GE, Tuple2<GradoopId, PropertyValueList>> {
+
+  /**
+   * Aggregate functions which are applied on the elements.
+   */
+  private final List<PropertyValueAggregator> aggregators;
+
+  /**
+   * Position of the first value in the output list.
+   */
+  private final int offset;
+
+  /**
+   * Size of the output list.
+   */
+  private final int size;
+
+  /**
+   * Constructor
+   *
+   * @param aggregators aggregate functions which are applied on the elements
+   * @param offset      position of the first value in the output list
+   * @param size        size of the output list
+   */
+  public GraphIdsWithAggregateValues(
+    List<PropertyValueAggregator> aggregators, int offset, int size) {
+    this.aggregators = checkNotNull(aggregators);
+    checkArgument(offset >= 0 && offset + aggregators.size() <= size,
+      "aggregators do not fit into a list of size %s at offset %s",
+      size, offset);
+    this.offset = offset;
+    this.size = size;
+  }
+
+  @Override
+  public void flatMap(GE ge,
+    Collector<Tuple2<GradoopId, PropertyValueList>> collector)
+    throws Exception {
+    List<PropertyValue> values = Lists.newArrayListWithCapacity(size);
+    for (int i = 0; i < offset; i++) {
+      values.add(PropertyValue.NULL_VALUE);
+    }
+    for (PropertyValueAggregator aggregator : aggregators) {
+      values.add(aggregator.getInputValue(ge));
+    }
+    while (values.size() < size) {
+      values.add(PropertyValue.NULL_VALUE);
+    }
+
+    PropertyValueList valueList = PropertyValueList.fromPropertyValues(values);
+    for (GradoopId graphId : ge.getGraphIds()) {
+      collector.collect(new Tuple2<>(graphId, valueList));
+    }
+  }
+}
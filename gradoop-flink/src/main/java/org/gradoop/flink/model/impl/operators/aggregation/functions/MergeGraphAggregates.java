@@ -0,0 +1,98 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Merges the aggregate values of a single graph (see
+ * {@link GraphIdsWithAggregateValues}) into a tuple containing the partial
+ * aggregate of each aggregator. The function is used in both the combine and
+ * the reduce phase.
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class MergeGraphAggregates implements
+  GroupCombineFunction<Tuple2<GradoopId, PropertyValueList>,
+    Tuple2<GradoopId, PropertyValueList>>,
+  GroupReduceFunction<Tuple2<GradoopId, PropertyValueList>,
+    Tuple2<GradoopId, PropertyValueList>> {
+
+  /**
+   * Aggregate functions which are used to merge the values.
+   */
+  private final List<PropertyValueAggregator> aggregators;
+
+  /**
+   * Reduce object instantiation.
+   */
+  private final Tuple2<GradoopId, PropertyValueList> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param aggregators aggregate functions which are used to merge the values
+   */
+  public MergeGraphAggregates(List<PropertyValueAggregator> aggregators) {
+    this.aggregators = checkNotNull(aggregators);
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void combine(Iterable<Tuple2<GradoopId, PropertyValueList>> values,
+    Collector<Tuple2<GradoopId, PropertyValueList>> out) throws Exception {
+    reduce(values, out);
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple2<GradoopId, PropertyValueList>> values,
+    Collector<Tuple2<GradoopId, PropertyValueList>> out) throws Exception {
+    GradoopId graphId = null;
+    for (Tuple2<GradoopId, PropertyValueList> value : values) {
+      graphId = value.f0;
+      Iterator<PropertyValueAggregator> aggIt = aggregators.iterator();
+      Iterator<PropertyValue> valueIt = value.f1.iterator();
+      while (aggIt.hasNext() && valueIt.hasNext()) {
+        aggIt.next().aggregate(valueIt.next());
+      }
+    }
+
+    List<PropertyValue> aggregates =
+      Lists.newArrayListWithCapacity(aggregators.size());
+    for (PropertyValueAggregator aggregator : aggregators) {
+      aggregates.add(aggregator.getAggregate());
+      aggregator.resetAggregate();
+    }
+    reuseTuple.f0 = graphId;
+    reuseTuple.f1 = PropertyValueList.fromPropertyValues(aggregates);
+    out.collect(reuseTuple);
+  }
+}
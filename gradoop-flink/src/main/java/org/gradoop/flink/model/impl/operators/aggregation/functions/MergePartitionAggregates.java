@@ -0,0 +1,75 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Merges the partial aggregates of all partitions (see
+ * {@link AggregatePartition}) into a single tuple containing the aggregate of
+ * each aggregator.
+ */
+public class MergePartitionAggregates implements
+  GroupReduceFunction<Tuple1<PropertyValueList>, Tuple1<PropertyValueList>> {
+
+  /**
+   * Aggregate functions which are used to merge the partial aggregates.
+   */
+  private final List<PropertyValueAggregator> aggregators;
+
+  /**
+   * Constructor
+   *
+   * @param aggregators aggregate functions which are used to merge the
+   *                    partial aggregates
+   */
+  public MergePartitionAggregates(List<PropertyValueAggregator> aggregators) {
+    this.aggregators = checkNotNull(aggregators);
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple1<PropertyValueList>> partialAggregates,
+    Collector<Tuple1<PropertyValueList>> out) throws Exception {
+    for (Tuple1<PropertyValueList> partialAggregate : partialAggregates) {
+      Iterator<PropertyValueAggregator> aggIt = aggregators.iterator();
+      Iterator<PropertyValue> valueIt = partialAggregate.f0.iterator();
+      while (aggIt.hasNext() && valueIt.hasNext()) {
+        aggIt.next().aggregate(valueIt.next());
+      }
+    }
+
+    List<PropertyValue> aggregates =
+      Lists.newArrayListWithCapacity(aggregators.size());
+    for (PropertyValueAggregator aggregator : aggregators) {
+      aggregates.add(aggregator.getAggregate());
+      aggregator.resetAggregate();
+    }
+    out.collect(new Tuple1<>(PropertyValueList.fromPropertyValues(aggregates)));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Stores the aggregates of vertices and edges at the graph head. Each
+ * aggregate is stored using the aggregate property key of its aggregator.
+ */
+@FunctionAnnotation.ForwardedFields("id;label")
+public class SetAggregateProperties
+  extends RichMapFunction<GraphHead, GraphHead> {
+
+  /**
+   * Broadcast set containing the vertex aggregates.
+   */
+  public static final String VERTEX_AGGREGATES = "vertexAggregates";
+
+  /**
+   * Broadcast set containing the edge aggregates.
+   */
+  public static final String EDGE_AGGREGATES = "edgeAggregates";
+
+  /**
+   * Aggregate functions which have been applied on vertices.
+   */
+  private final List<PropertyValueAggregator> vertexAggregators;
+
+  /**
+   * Aggregate functions which have been applied on edges.
+   */
+  private final List<PropertyValueAggregator> edgeAggregators;
+
+  /**
+   * Vertex aggregates.
+   */
+  private PropertyValueList vertexAggregates;
+
+  /**
+   * Edge aggregates.
+   */
+  private PropertyValueList edgeAggregates;
+
+  /**
+   * Constructor
+   *
+   * @param vertexAggregators aggregate functions applied on vertices
+   * @param edgeAggregators   aggregate functions applied on edges
+   */
+  public SetAggregateProperties(
+    List<PropertyValueAggregator> vertexAggregators,
+    List<PropertyValueAggregator> edgeAggregators) {
+    this.vertexAggregators = checkNotNull(vertexAggregators);
+    this.edgeAggregators = checkNotNull(edgeAggregators);
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    if (!vertexAggregators.isEmpty()) {
+      vertexAggregates = getRuntimeContext()
+        .<Tuple1<PropertyValueList>>getBroadcastVariable(VERTEX_AGGREGATES)
+        .get(0).f0;
+    }
+    if (!edgeAggregators.isEmpty()) {
+      edgeAggregates = getRuntimeContext()
+        .<Tuple1<PropertyValueList>>getBroadcastVariable(EDGE_AGGREGATES)
+        .get(0).f0;
+    }
+  }
+
+  @Override
+  public GraphHead map(GraphHead graphHead) throws Exception {
+    if (!vertexAggregators.isEmpty()) {
+      setProperties(graphHead, vertexAggregators, vertexAggregates);
+    }
+    if (!edgeAggregators.isEmpty()) {
+      setProperties(graphHead, edgeAggregators, edgeAggregates);
+    }
+    return graphHead;
+  }
+
+  /**
+   * Sets the final aggregate of each aggregator as graph head property.
+   *
+   * @param graphHead   graph head
+   * @param aggregators aggregate functions
+   * @param aggregates  aggregates computed by the aggregate functions
+   */
+  private void setProperties(GraphHead graphHead,
+    List<PropertyValueAggregator> aggregators, PropertyValueList aggregates) {
+    Iterator<PropertyValueAggregator> aggIt = aggregators.iterator();
+    Iterator<PropertyValue> valueIt = aggregates.iterator();
+    while (aggIt.hasNext() && valueIt.hasNext()) {
+      PropertyValueAggregator aggregator = aggIt.next();
+      PropertyValue value = valueIt.next();
+      if (aggregator instanceof MergeableAggregator) {
+        value = ((MergeableAggregator) aggregator).finish(value);
+      }
+      graphHead.setProperty(aggregator.getAggregatePropertyKey(), value);
+    }
+  }
+}
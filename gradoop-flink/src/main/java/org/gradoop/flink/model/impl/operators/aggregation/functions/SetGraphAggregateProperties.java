@@ -0,0 +1,92 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Performs a left outer join between graph heads and their aggregates (see
+ * {@link MergeGraphAggregates}). Each aggregate is stored at the graph head
+ * using the aggregate property key of its aggregator. Graph heads without
+ * aggregates, i.e. graphs without elements, get the aggregate of an empty
+ * input, which is zero for a {@code CountAggregator} and
+ * {@link PropertyValue#NULL_VALUE} for all other aggregators.
+ */
+public class SetGraphAggregateProperties implements CoGroupFunction
+  <GraphHead, Tuple2<GradoopId, PropertyValueList>, GraphHead> {
+
+  /**
+   * Aggregate functions which have been applied on the graph elements.
+   */
+  private final List<PropertyValueAggregator> aggregators;
+
+  /**
+   * Constructor
+   *
+   * @param aggregators aggregate functions applied on the graph elements
+   */
+  public SetGraphAggregateProperties(
+    List<PropertyValueAggregator> aggregators) {
+    this.aggregators = checkNotNull(aggregators);
+  }
+
+  @Override
+  public void coGroup(Iterable<GraphHead> graphHeads,
+    Iterable<Tuple2<GradoopId, PropertyValueList>> aggregates,
+    Collector<GraphHead> out) throws Exception {
+    PropertyValueList aggregateValues = null;
+    for (Tuple2<GradoopId, PropertyValueList> aggregate : aggregates) {
+      aggregateValues = aggregate.f1;
+    }
+
+    for (GraphHead graphHead : graphHeads) {
+      if (aggregateValues != null) {
+        Iterator<PropertyValueAggregator> aggIt = aggregators.iterator();
+        Iterator<PropertyValue> valueIt = aggregateValues.iterator();
+        while (aggIt.hasNext() && valueIt.hasNext()) {
+          PropertyValueAggregator aggregator = aggIt.next();
+          PropertyValue value = valueIt.next();
+          if (aggregator instanceof MergeableAggregator) {
+            value = ((MergeableAggregator) aggregator).finish(value);
+          }
+          graphHead.setProperty(aggregator.getAggregatePropertyKey(), value);
+        }
+      } else {
+        for (PropertyValueAggregator aggregator : aggregators) {
+          aggregator.resetAggregate();
+          graphHead.setProperty(aggregator.getAggregatePropertyKey(),
+            aggregator.getAggregate());
+        }
+      }
+      out.collect(graphHead);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions.mergeable;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Base class for aggregate functions that apply a {@link MergeableAggregator}
+ * on a property of graph elements.
+ *
+ * The property values are merged into partial aggregates per partition before
+ * the partial aggregates are merged into the final aggregate. Thus, only one
+ * partial aggregate per partition is shipped.
+ */
+public abstract class AggregateProperty implements AggregateFunction {
+
+  /**
+   * Aggregator that is applied on the property values.
+   */
+  private final MergeableAggregator aggregator;
+
+  /**
+   * Constructor
+   *
+   * @param aggregator aggregator that is applied on the property values
+   */
+  protected AggregateProperty(MergeableAggregator aggregator) {
+    this.aggregator = checkNotNull(aggregator);
+  }
+
+  /**
+   * Applies the aggregator on the property values of the given elements and
+   * stores the result in a 1-element dataset. If none of the elements has the
+   * property, the result is {@code PropertyValue.NULL_VALUE}.
+   *
+   * @param dataSet input dataset
+   * @param <EL>    element type in input dataset
+   * @return 1-element dataset with the aggregate
+   */
+  protected <EL extends Element> DataSet<PropertyValue> aggregate(
+    DataSet<EL> dataSet) {
+    return dataSet
+      .map(new PreparePropertyValue<EL>(aggregator))
+      .combineGroup(new MergePartialAggregates(aggregator))
+      .union(dataSet.getExecutionEnvironment()
+        .fromElements(new Tuple1<>(PropertyValue.NULL_VALUE)))
+      .reduceGroup(new MergePartialAggregates(aggregator))
+      .map(new FinishAggregate(aggregator));
+  }
+}
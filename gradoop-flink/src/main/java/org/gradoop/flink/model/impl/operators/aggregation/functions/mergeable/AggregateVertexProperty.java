@@ -0,0 +1,51 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions.mergeable;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
+
+/**
+ * Aggregate function applying a {@link MergeableAggregator} (e.g. average,
+ * distinct count or quantile) on a property of all vertexs.
+ */
+public class AggregateVertexProperty extends AggregateProperty {
+
+  /**
+   * Constructor
+   *
+   * @param aggregator aggregator that is applied on the vertex property values
+   */
+  public AggregateVertexProperty(MergeableAggregator aggregator) {
+    super(aggregator);
+  }
+
+  /**
+   * Returns a 1-element dataset containing the aggregate of the property
+   * values over all vertexs.
+   *
+   * @param graph input graph
+   * @return 1-element dataset with vertex aggregate
+   */
+  @Override
+  public DataSet<PropertyValue> execute(LogicalGraph graph) {
+    return aggregate(graph.getVertexs());
+  }
+}
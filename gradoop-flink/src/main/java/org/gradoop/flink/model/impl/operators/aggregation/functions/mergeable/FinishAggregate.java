@@ -0,0 +1,52 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions.mergeable;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Computes the final aggregate from a partial aggregate.
+ */
+public class FinishAggregate
+  implements MapFunction<Tuple1<PropertyValue>, PropertyValue> {
+
+  /**
+   * Aggregator that is used to compute the final aggregate.
+   */
+  private final MergeableAggregator aggregator;
+
+  /**
+   * Constructor
+   *
+   * @param aggregator aggregator that is used to compute the final aggregate
+   */
+  public FinishAggregate(MergeableAggregator aggregator) {
+    this.aggregator = checkNotNull(aggregator);
+  }
+
+  @Override
+  public PropertyValue map(Tuple1<PropertyValue> partialAggregate) throws
+    Exception {
+    return aggregator.finish(partialAggregate.f0);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions.mergeable;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Merges prepared property values and partial aggregates into a single
+ * partial aggregate. The function is used in both the combine and the reduce
+ * phase.
+ */
+public class MergePartialAggregates implements
+  GroupCombineFunction<Tuple1<PropertyValue>, Tuple1<PropertyValue>>,
+  GroupReduceFunction<Tuple1<PropertyValue>, Tuple1<PropertyValue>> {
+
+  /**
+   * Aggregator that is used to merge the values.
+   */
+  private final MergeableAggregator aggregator;
+
+  /**
+   * Reduce object instantiation
+   */
+  private final Tuple1<PropertyValue> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param aggregator aggregator that is used to merge the values
+   */
+  public MergePartialAggregates(MergeableAggregator aggregator) {
+    this.aggregator = checkNotNull(aggregator);
+    this.reuseTuple = new Tuple1<>();
+  }
+
+  @Override
+  public void combine(Iterable<Tuple1<PropertyValue>> values,
+    Collector<Tuple1<PropertyValue>> out) throws Exception {
+    reduce(values, out);
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple1<PropertyValue>> values,
+    Collector<Tuple1<PropertyValue>> out) throws Exception {
+    for (Tuple1<PropertyValue> value : values) {
+      aggregator.aggregate(value.f0);
+    }
+    reuseTuple.f0 = aggregator.getAggregate();
+    aggregator.resetAggregate();
+    out.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.aggregation.functions.mergeable;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Extracts a {@link PropertyValue} from a given entity using a given property
+ * key and converts it into a value that can be aggregated by a
+ * {@link MergeableAggregator}. If the EPGM element does not have this
+ * property, the property value is {@code PropertyValue.NULL_VALUE}, which is
+ * ignored by the aggregator.
+ *
+ * @param <EL> EPGM element
+ */
+public class PreparePropertyValue<EL extends Element>
+  implements MapFunction<EL, Tuple1<PropertyValue>> {
+
+  /**
+   * Aggregator that is used to prepare the property values.
+   */
+  private final MergeableAggregator aggregator;
+
+  /**
+   * Reduce object instantiation
+   */
+  private final Tuple1<PropertyValue> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param aggregator aggregator that is used to prepare the property values
+   */
+  public PreparePropertyValue(MergeableAggregator aggregator) {
+    this.aggregator = checkNotNull(aggregator);
+    this.reuseTuple = new Tuple1<>();
+  }
+
+  @Override
+  public Tuple1<PropertyValue> map(EL entity) throws Exception {
+    reuseTuple.f0 = aggregator.getInputValue(entity);
+    return reuseTuple;
+  }
+}
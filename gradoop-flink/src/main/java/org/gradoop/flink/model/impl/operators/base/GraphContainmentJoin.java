@@ -0,0 +1,254 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.base;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.graphcontainment.PairGraphIdWithElementId;
+import org.gradoop.flink.model.impl.functions.tuple.Project2To1;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.functions.utils.LeftWhenRightIsNull;
+import org.gradoop.flink.model.impl.operators.base.functions.ByBroadcastSize;
+import org.gradoop.flink.model.impl.operators.base.functions.GroupCountEqualsBroadcast;
+
+/**
+ * Utility methods to filter graph elements by their containment in a set of
+ * graphs.
+ *
+ * The broadcast based graph containment filters replicate all graph ids to
+ * each worker, which does not scale to large collections. The join based
+ * methods in this class repartition (graphId, elementId) pairs instead and
+ * are used by operators when the number of graphs exceeds a given maximum
+ * broadcast size.
+ *
+ * The number of graphs is not known when the program is built. Operators
+ * therefore build both implementations and gate their inputs by a
+ * broadcasted graph count, such that only one of them receives any data.
+ */
+public class GraphContainmentJoin {
+
+  /**
+   * Default maximum number of graph ids to broadcast
+   */
+  public static final long DEFAULT_MAX_BROADCAST_SIZE = 100000L;
+
+  /**
+   * Returns all elements of the given dataset, if the given graph count does
+   * not exceed the maximum broadcast size, and no elements otherwise.
+   *
+   * @param dataSet           dataset
+   * @param graphCount        1-element dataset containing the graph count
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   * @param <T>               element type
+   * @return dataset to be used by the broadcast based implementation
+   */
+  public static <T> DataSet<T> ifBroadcast(DataSet<T> dataSet,
+    DataSet<Long> graphCount, long maxBroadcastSize) {
+    return gate(dataSet, graphCount, maxBroadcastSize, true);
+  }
+
+  /**
+   * Returns all elements of the given dataset, if the given graph count
+   * exceeds the maximum broadcast size, and no elements otherwise.
+   *
+   * @param dataSet           dataset
+   * @param graphCount        1-element dataset containing the graph count
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   * @param <T>               element type
+   * @return dataset to be used by the join based implementation
+   */
+  public static <T> DataSet<T> ifJoin(DataSet<T> dataSet,
+    DataSet<Long> graphCount, long maxBroadcastSize) {
+    return gate(dataSet, graphCount, maxBroadcastSize, false);
+  }
+
+  /**
+   * Returns the given collection, if the given graph count does not exceed
+   * the maximum broadcast size, and an empty collection otherwise.
+   *
+   * @param collection        graph collection
+   * @param graphCount        1-element dataset containing the graph count
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   * @return collection to be used by the broadcast based implementation
+   */
+  public static GraphCollection ifBroadcast(GraphCollection collection,
+    DataSet<Long> graphCount, long maxBroadcastSize) {
+    return gate(collection, graphCount, maxBroadcastSize, true);
+  }
+
+  /**
+   * Returns the given collection, if the given graph count exceeds the
+   * maximum broadcast size, and an empty collection otherwise.
+   *
+   * @param collection        graph collection
+   * @param graphCount        1-element dataset containing the graph count
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   * @return collection to be used by the join based implementation
+   */
+  public static GraphCollection ifJoin(GraphCollection collection,
+    DataSet<Long> graphCount, long maxBroadcastSize) {
+    return gate(collection, graphCount, maxBroadcastSize, false);
+  }
+
+  /**
+   * Returns the union of the results of the broadcast and the join based
+   * implementation, of which at most one is not empty.
+   *
+   * @param broadcastResult result of the broadcast based implementation
+   * @param joinResult      result of the join based implementation
+   * @return result of the selected implementation
+   */
+  public static GraphCollection union(GraphCollection broadcastResult,
+    GraphCollection joinResult) {
+    return GraphCollection.fromDataSets(
+      broadcastResult.getGraphHeads().union(joinResult.getGraphHeads()),
+      broadcastResult.getVertices().union(joinResult.getVertices()),
+      broadcastResult.getEdges().union(joinResult.getEdges()),
+      broadcastResult.getConfig());
+  }
+
+  /**
+   * Passes all or no elements of the given dataset.
+   *
+   * @param dataSet           dataset
+   * @param graphCount        1-element dataset containing the graph count
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   * @param fits              true, if elements pass when the graph count
+   *                          does not exceed the maximum broadcast size
+   * @param <T>               element type
+   * @return all or no elements
+   */
+  private static <T> DataSet<T> gate(DataSet<T> dataSet,
+    DataSet<Long> graphCount, long maxBroadcastSize, boolean fits) {
+    return dataSet
+      .filter(new ByBroadcastSize<T>(maxBroadcastSize, fits))
+      .withBroadcastSet(graphCount, ByBroadcastSize.GRAPH_COUNT);
+  }
+
+  /**
+   * Passes all or no elements of the given collection.
+   *
+   * @param collection        graph collection
+   * @param graphCount        1-element dataset containing the graph count
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   * @param fits              true, if elements pass when the graph count
+   *                          does not exceed the maximum broadcast size
+   * @return collection with all or no elements
+   */
+  private static GraphCollection gate(GraphCollection collection,
+    DataSet<Long> graphCount, long maxBroadcastSize, boolean fits) {
+    return GraphCollection.fromDataSets(
+      gate(collection.getGraphHeads(), graphCount, maxBroadcastSize, fits),
+      gate(collection.getVertices(), graphCount, maxBroadcastSize, fits),
+      gate(collection.getEdges(), graphCount, maxBroadcastSize, fits),
+      collection.getConfig());
+  }
+
+  /**
+   * Returns all elements which are contained in at least one of the given
+   * graphs.
+   *
+   * @param elements    graph elements
+   * @param graphHeads  graph heads
+   * @param <GE>        EPGM graph element type
+   * @return elements contained in any graph
+   */
+  public static <GE extends GraphElement> DataSet<GE> inAnyGraph(
+    DataSet<GE> elements, DataSet<GraphHead> graphHeads) {
+
+    DataSet<Tuple1<GradoopId>> elementIds = containedElementIds(
+      elements, graphHeads)
+      .distinct();
+
+    return elements
+      .join(elementIds)
+      .where(new Id<GE>()).equalTo(0)
+      .with(new LeftSide<GE, Tuple1<GradoopId>>());
+  }
+
+  /**
+   * Returns all elements which are contained in each of the given graphs.
+   *
+   * @param elements    graph elements
+   * @param graphHeads  graph heads
+   * @param graphCount  1-element dataset containing the number of graph heads
+   * @param <GE>        EPGM graph element type
+   * @return elements contained in all graphs
+   */
+  public static <GE extends GraphElement> DataSet<GE> inAllGraphs(
+    DataSet<GE> elements, DataSet<GraphHead> graphHeads,
+    DataSet<Long> graphCount) {
+
+    DataSet<Tuple1<GradoopId>> elementIds = containedElementIds(
+      elements, graphHeads)
+      .groupBy(0)
+      .reduceGroup(new GroupCountEqualsBroadcast<Tuple1<GradoopId>>())
+      .withBroadcastSet(graphCount,
+        GroupCountEqualsBroadcast.EXPECTED_GROUP_SIZE);
+
+    return elements
+      .join(elementIds)
+      .where(new Id<GE>()).equalTo(0)
+      .with(new LeftSide<GE, Tuple1<GradoopId>>());
+  }
+
+  /**
+   * Returns all elements which are not contained in any of the given graphs.
+   *
+   * @param elements    graph elements
+   * @param graphHeads  graph heads
+   * @param <GE>        EPGM graph element type
+   * @return elements not contained in any graph
+   */
+  public static <GE extends GraphElement> DataSet<GE> notInAnyGraph(
+    DataSet<GE> elements, DataSet<GraphHead> graphHeads) {
+
+    DataSet<Tuple1<GradoopId>> elementIds = containedElementIds(
+      elements, graphHeads)
+      .distinct();
+
+    return elements
+      .leftOuterJoin(elementIds)
+      .where(new Id<GE>()).equalTo(0)
+      .with(new LeftWhenRightIsNull<GE, Tuple1<GradoopId>>());
+  }
+
+  /**
+   * Returns the id of each element once per given graph it is contained in.
+   *
+   * @param elements    graph elements
+   * @param graphHeads  graph heads
+   * @param <GE>        EPGM graph element type
+   * @return (elementId) per containing graph
+   */
+  private static <GE extends GraphElement> DataSet<Tuple1<GradoopId>>
+  containedElementIds(DataSet<GE> elements, DataSet<GraphHead> graphHeads) {
+    return elements
+      .flatMap(new PairGraphIdWithElementId<GE>())
+      .join(graphHeads)
+      .where(0).equalTo(new Id<GraphHead>())
+      .with(new LeftSide<Tuple2<GradoopId, GradoopId>, GraphHead>())
+      .map(new Project2To1<GradoopId, GradoopId>());
+  }
+}
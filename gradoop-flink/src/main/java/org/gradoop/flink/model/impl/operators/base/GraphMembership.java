@@ -0,0 +1,129 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.base;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GraphBitmap;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.graphcontainment.ByGraphNumberId;
+import org.gradoop.flink.model.impl.functions.graphcontainment.EncodeGraphMembership;
+import org.gradoop.flink.model.impl.functions.graphcontainment.GraphNumberAsBitmap;
+import org.gradoop.flink.model.impl.functions.graphcontainment.InAllGraphsBitmap;
+import org.gradoop.flink.model.impl.functions.graphcontainment.InGraphExclusivelyBitmap;
+import org.gradoop.flink.model.impl.functions.graphcontainment.OrGraphBitmaps;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+
+/**
+ * Utility methods to filter graph elements by their containment in the
+ * graphs of a collection using bitmaps.
+ *
+ * The graphs of a collection are numbered densely, i.e. from 0 to n - 1.
+ * The numbering is broadcasted and the graphs each element is contained in
+ * are encoded once as {@link GraphBitmap} of their numbers. Containment
+ * predicates are then evaluated by bitwise operations between the element
+ * bitmaps and bitmaps of the queried graphs, which are built by OR-ing the
+ * numbers of those graphs.
+ */
+public class GraphMembership {
+
+  /**
+   * Numbers the given graphs densely from 0 to n - 1.
+   *
+   * @param graphHeads graph heads
+   * @return (graphNumber, graphId) pairs
+   */
+  public static DataSet<Tuple2<Long, GradoopId>> numbering(
+    DataSet<GraphHead> graphHeads) {
+    return DataSetUtils.zipWithIndex(graphHeads.map(new Id<GraphHead>()));
+  }
+
+  /**
+   * Returns all elements which are contained in each of the numbered graphs.
+   *
+   * @param elements  graph elements
+   * @param numbering (graphNumber, graphId) pairs
+   * @param <GE>      EPGM graph element type
+   * @return elements contained in all graphs
+   */
+  public static <GE extends GraphElement> DataSet<GE> inAllGraphs(
+    DataSet<GE> elements, DataSet<Tuple2<Long, GradoopId>> numbering) {
+    return encode(elements, numbering)
+      .filter(new InAllGraphsBitmap<GE>())
+      .withBroadcastSet(graphs(numbering), InAllGraphsBitmap.GRAPHS)
+      .map(new Value0Of2<GE, GraphBitmap>());
+  }
+
+  /**
+   * Returns all elements which are contained in the given graph but in none
+   * of the other numbered graphs.
+   *
+   * @param elements  graph elements
+   * @param numbering (graphNumber, graphId) pairs
+   * @param graphId   numbered graph id
+   * @param <GE>      EPGM graph element type
+   * @return elements exclusively contained in the given graph
+   */
+  public static <GE extends GraphElement> DataSet<GE> inGraphExclusively(
+    DataSet<GE> elements, DataSet<Tuple2<Long, GradoopId>> numbering,
+    GradoopId graphId) {
+    DataSet<GraphBitmap> graph = numbering
+      .filter(new ByGraphNumberId(graphId))
+      .map(new GraphNumberAsBitmap());
+
+    return encode(elements, numbering)
+      .filter(new InGraphExclusivelyBitmap<GE>())
+      .withBroadcastSet(graph, InGraphExclusivelyBitmap.GRAPH)
+      .withBroadcastSet(graphs(numbering), InGraphExclusivelyBitmap.GRAPHS)
+      .map(new Value0Of2<GE, GraphBitmap>());
+  }
+
+  /**
+   * Pairs each element with the bitmap of the numbered graphs it is
+   * contained in.
+   *
+   * @param elements  graph elements
+   * @param numbering (graphNumber, graphId) pairs
+   * @param <GE>      EPGM graph element type
+   * @return (element, membership bitmap)
+   */
+  private static <GE extends GraphElement> DataSet<Tuple2<GE, GraphBitmap>>
+  encode(DataSet<GE> elements, DataSet<Tuple2<Long, GradoopId>> numbering) {
+    return elements
+      .map(new EncodeGraphMembership<GE>())
+      .withBroadcastSet(numbering, EncodeGraphMembership.GRAPH_NUMBERING);
+  }
+
+  /**
+   * Returns a bitmap containing all graph numbers.
+   *
+   * @param numbering (graphNumber, graphId) pairs
+   * @return 1-element dataset containing the bitmap, empty if there are no
+   *         graphs
+   */
+  private static DataSet<GraphBitmap> graphs(
+    DataSet<Tuple2<Long, GradoopId>> numbering) {
+    return numbering
+      .map(new GraphNumberAsBitmap())
+      .reduce(new OrGraphBitmaps());
+  }
+}
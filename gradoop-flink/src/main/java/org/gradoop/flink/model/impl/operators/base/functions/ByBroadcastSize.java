@@ -0,0 +1,81 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.base.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+
+import java.util.List;
+
+/**
+ * Passes either all or no elements, depending on whether a broadcasted
+ * number of graph ids fits into a maximum broadcast size. This allows to
+ * select between a broadcast and a join based implementation inside the
+ * same job, without counting the graph ids beforehand.
+ *
+ * @param <T> element type
+ */
+public class ByBroadcastSize<T> extends RichFilterFunction<T> {
+
+  /**
+   * constant string for "graph count"
+   */
+  public static final String GRAPH_COUNT = "graphCount";
+
+  /**
+   * Maximum number of graph ids to broadcast
+   */
+  private final long maxBroadcastSize;
+
+  /**
+   * True, if elements pass when the graph ids fit into the broadcast size
+   */
+  private final boolean fits;
+
+  /**
+   * True, if all elements pass
+   */
+  private boolean pass;
+
+  /**
+   * Creates a new filter instance.
+   *
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   * @param fits              true, if elements pass when the graph ids fit
+   *                          into the broadcast size, false, if elements pass
+   *                          when they exceed it
+   */
+  public ByBroadcastSize(long maxBroadcastSize, boolean fits) {
+    this.maxBroadcastSize = maxBroadcastSize;
+    this.fits = fits;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Long> graphCount =
+      getRuntimeContext().getBroadcastVariable(GRAPH_COUNT);
+    long count = graphCount.isEmpty() ? 0L : graphCount.get(0);
+    pass = (count <= maxBroadcastSize) == fits;
+  }
+
+  @Override
+  public boolean filter(T element) throws Exception {
+    return pass;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.base.functions;
+
+import org.apache.flink.api.common.functions.RichGroupReduceFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+
+import java.util.Iterator;
+
+/**
+ * If the number of grouped elements equals a broadcasted expected size,
+ * return the last element.
+ *
+ * @param <O> any object type
+ */
+public class GroupCountEqualsBroadcast<O>
+  extends RichGroupReduceFunction<O, O> {
+
+  /**
+   * constant string for "expected group size"
+   */
+  public static final String EXPECTED_GROUP_SIZE = "expectedGroupSize";
+
+  /**
+   * Expected group size
+   */
+  private long expectedGroupSize;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    expectedGroupSize = getRuntimeContext()
+      .<Long>getBroadcastVariable(EXPECTED_GROUP_SIZE).get(0);
+  }
+
+  @Override
+  public void reduce(Iterable<O> iterable,
+    Collector<O> collector) throws Exception {
+    Iterator<O> iterator = iterable.iterator();
+    long count = 0L;
+    O object = null;
+    while (iterator.hasNext()) {
+      object = iterator.next();
+      count++;
+    }
+    if (count == expectedGroupSize) {
+      collector.collect(object);
+    }
+  }
+}
@@ -25,10 +25,13 @@ import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
 import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.ElementIdUpdater;
 import org.gradoop.flink.model.impl.functions.epgm.TargetId;
+import org.gradoop.flink.model.impl.operators.cloning.functions.DeriveEdgeIds;
+import org.gradoop.flink.model.impl.operators.cloning.functions.DeriveElementIds;
 import org.gradoop.flink.model.impl.operators.cloning.functions
   .EdgeSourceUpdateJoin;
 import org.gradoop.flink.model.impl.operators.cloning.functions.EdgeTargetUpdateJoin;
 import org.gradoop.flink.model.impl.operators.cloning.functions.ElementGraphUpdater;
+import org.gradoop.flink.model.impl.operators.cloning.functions.ElementIdSetter;
 import org.gradoop.flink.model.impl.operators.cloning.functions.Value0Of2ToId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.flink.model.impl.functions.epgm.Clone;
@@ -40,14 +43,49 @@ import org.gradoop.common.model.impl.id.GradoopId;
 /**
  * Creates a copy of the logical graph with new ids for the graph head,
  * vertices and edges.
+ *
+ * By default, vertices get random new ids and edges are joined with the
+ * resulting id mapping to update their source and target ids. If a clone
+ * epoch is given, new ids are derived from the old ids and the epoch, which
+ * allows to update vertices and edges independently without any join.
+ * Cloning the same graph with the same epoch results in equal vertex and edge
+ * ids, thus each epoch should be used only once per graph.
  */
 public class Cloning implements UnaryGraphToGraphOperator {
 
+  /**
+   * Key to derive new vertex and edge ids, null for random ids
+   */
+  private final GradoopId epoch;
+
+  /**
+   * Creates an operator instance which assigns random new ids.
+   */
+  public Cloning() {
+    this.epoch = null;
+  }
+
+  /**
+   * Creates an operator instance which derives new vertex and edge ids from
+   * the old ids and the given clone epoch.
+   *
+   * @param epoch key to derive new ids
+   */
+  public Cloning(GradoopId epoch) {
+    if (epoch == null) {
+      throw new IllegalArgumentException("Clone epoch must not be null");
+    }
+    this.epoch = epoch;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public LogicalGraph execute(LogicalGraph graph) {
+    if (epoch != null) {
+      return executeDeterministic(graph);
+    }
 
     //--------------------------------------------------------------------------
     // compute new graphs
@@ -96,6 +134,29 @@ public class Cloning implements UnaryGraphToGraphOperator {
       vertices, edges, graph.getConfig());
   }
 
+  /**
+   * Creates the copy by deriving new ids from the clone epoch. Vertices and
+   * edges are updated in independent map functions.
+   *
+   * @param graph input graph
+   * @return copy of the input graph
+   */
+  private LogicalGraph executeDeterministic(LogicalGraph graph) {
+    GradoopId graphId = GradoopId.get();
+
+    DataSet<GraphHead> graphHead = graph.getGraphHead()
+      .map(new ElementIdSetter<GraphHead>(graphId));
+
+    DataSet<Vertex> vertices = graph.getVertices()
+      .map(new DeriveElementIds<Vertex>(epoch, graphId));
+
+    DataSet<Edge> edges = graph.getEdges()
+      .map(new DeriveEdgeIds<Edge>(epoch, graphId));
+
+    return LogicalGraph.fromDataSets(graphHead,
+      vertices, edges, graph.getConfig());
+  }
+
   /**
    * {@inheritDoc}
    */
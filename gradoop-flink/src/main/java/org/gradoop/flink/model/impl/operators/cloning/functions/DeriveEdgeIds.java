@@ -0,0 +1,51 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.cloning.functions;
+
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Replaces the id, source id and target id of each edge by ids derived from
+ * the old ids and a clone epoch and replaces its graph set by a given graph
+ * id. Source and target ids are consistent with the vertices updated by
+ * {@link DeriveElementIds} using the same epoch.
+ *
+ * @param <E> EPGM edge type
+ */
+@FunctionAnnotation.ForwardedFields("label;properties")
+public class DeriveEdgeIds<E extends Edge> extends DeriveElementIds<E> {
+
+  /**
+   * Creates a new map function.
+   *
+   * @param epoch   key to derive new ids
+   * @param graphId id of the new graph
+   */
+  public DeriveEdgeIds(GradoopId epoch, GradoopId graphId) {
+    super(epoch, graphId);
+  }
+
+  @Override
+  public E map(E edge) throws Exception {
+    edge.setSourceId(derive(edge.getSourceId()));
+    edge.setTargetId(derive(edge.getTargetId()));
+    return super.map(edge);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.cloning.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+
+/**
+ * Replaces the id of each element by an id derived from the old id and a
+ * clone epoch and replaces its graph set by a given graph id.
+ *
+ * As equal ids are derived on every worker, no join with an id mapping is
+ * required.
+ *
+ * @param <EL> EPGM graph element type
+ * @see GradoopId#derive(GradoopId, GradoopId)
+ */
+@FunctionAnnotation.ForwardedFields("label;properties")
+public class DeriveElementIds<EL extends GraphElement>
+  implements MapFunction<EL, EL> {
+
+  /**
+   * Key to derive new ids
+   */
+  private final GradoopId epoch;
+
+  /**
+   * Id of the new graph
+   */
+  private final GradoopId graphId;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param epoch   key to derive new ids
+   * @param graphId id of the new graph
+   */
+  public DeriveElementIds(GradoopId epoch, GradoopId graphId) {
+    this.epoch = epoch;
+    this.graphId = graphId;
+  }
+
+  @Override
+  public EL map(EL element) throws Exception {
+    element.setId(derive(element.getId()));
+    element.setGraphIds(GradoopIdSet.fromExisting(graphId));
+    return element;
+  }
+
+  /**
+   * Derives the new id for the given old id.
+   *
+   * @param id old id
+   * @return new id
+   */
+  protected GradoopId derive(GradoopId id) {
+    return GradoopId.derive(id, epoch);
+  }
+}
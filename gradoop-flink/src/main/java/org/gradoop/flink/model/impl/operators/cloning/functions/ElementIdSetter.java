@@ -0,0 +1,53 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.cloning.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Replaces the id of each element by a given id.
+ *
+ * @param <EL> EPGM element type
+ */
+@FunctionAnnotation.ForwardedFields("label;properties")
+public class ElementIdSetter<EL extends Element>
+  implements MapFunction<EL, EL> {
+
+  /**
+   * New element id
+   */
+  private final GradoopId id;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param id new element id
+   */
+  public ElementIdSetter(GradoopId id) {
+    this.id = id;
+  }
+
+  @Override
+  public EL map(EL element) throws Exception {
+    element.setId(id);
+    return element;
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.IterativeDataSet;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.UnaryCollectionToCollectionOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.tuple.ObjectTo1;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of3;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.base.GraphContainmentJoin;
+import org.gradoop.flink.model.impl.operators.distinct.functions.AdjacentHash;
+import org.gradoop.flink.model.impl.operators.distinct.functions.ByCollision;
+import org.gradoop.flink.model.impl.operators.distinct.functions.EdgeStringHash;
+import org.gradoop.flink.model.impl.operators.distinct.functions.GraphFingerprint;
+import org.gradoop.flink.model.impl.operators.distinct.functions.GraphIdWithMixedHash;
+import org.gradoop.flink.model.impl.operators.distinct.functions.MarkCollisions;
+import org.gradoop.flink.model.impl.operators.distinct.functions.PairFingerprintWithString;
+import org.gradoop.flink.model.impl.operators.distinct.functions.RefineVertexHash;
+import org.gradoop.flink.model.impl.operators.distinct.functions.SmallestGraphId;
+import org.gradoop.flink.model.impl.operators.distinct.functions.SumHashes;
+import org.gradoop.flink.model.impl.operators.distinct.functions.VertexStringHash;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToEmptyString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+/**
+ * Returns a collection of logical graphs with distinct content, i.e., from
+ * each set of graphs with equal vertex and edge data and equal structure,
+ * only the graph with the smallest identifier is kept. Graph head data is not
+ * compared.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Hash vertices and edges by label and properties.
+ * 2) Refine vertex hashes in a number of Weisfeiler-Lehman iterations by
+ *    combining each vertex hash with the hashes of its adjacent edges and
+ *    vertices.
+ * 3) Sum up the refined vertex hashes per graph to a fingerprint.
+ * 4) Group graphs by fingerprint. Graphs with a unique fingerprint are kept.
+ * 5) Graphs sharing a fingerprint are compared exactly based on their
+ *    canonical adjacency matrix (see {@link CanonicalAdjacencyMatrixBuilder}).
+ *    Only one graph per equal string is kept.
+ */
+public class DistinctByContent implements UnaryCollectionToCollectionOperator {
+
+  /**
+   * Default number of Weisfeiler-Lehman iterations
+   */
+  public static final int DEFAULT_ITERATIONS = 3;
+
+  /**
+   * Number of Weisfeiler-Lehman iterations
+   */
+  private final int iterations;
+
+  /**
+   * Creates an operator instance using the default number of iterations.
+   */
+  public DistinctByContent() {
+    this(DEFAULT_ITERATIONS);
+  }
+
+  /**
+   * Creates an operator instance. More iterations reduce the number of
+   * fingerprint collisions among graphs with different content.
+   *
+   * @param iterations number of Weisfeiler-Lehman iterations
+   */
+  public DistinctByContent(int iterations) {
+    if (iterations < 1) {
+      throw new IllegalArgumentException(
+        "Number of iterations must be at least 1");
+    }
+    this.iterations = iterations;
+  }
+
+  @Override
+  public GraphCollection execute(GraphCollection collection) {
+    DataSet<GraphHead> graphHeads = collection.getGraphHeads()
+      .distinct(new Id<GraphHead>());
+
+    // (graphId, fingerprint, isCollision)
+    DataSet<Tuple3<GradoopId, Long, Boolean>> fingerprints =
+      computeFingerprints(collection, graphHeads)
+        .groupBy(1)
+        .reduceGroup(new MarkCollisions());
+
+    DataSet<Tuple3<GradoopId, Long, Boolean>> collisions = fingerprints
+      .filter(new ByCollision(true));
+
+    // exact comparison of colliding graphs only
+    DataSet<GraphHead> collidingGraphHeads = graphHeads
+      .join(collisions)
+      .where(new Id<GraphHead>()).equalTo(0)
+      .with(new LeftSide<GraphHead, Tuple3<GradoopId, Long, Boolean>>());
+
+    GraphCollection collidingGraphs = GraphCollection.fromDataSets(
+      collidingGraphHeads,
+      GraphContainmentJoin.inAnyGraph(
+        collection.getVertices(), collidingGraphHeads),
+      GraphContainmentJoin.inAnyGraph(
+        collection.getEdges(), collidingGraphHeads),
+      collection.getConfig());
+
+    DataSet<GraphHeadString> canonicalStrings =
+      new CanonicalAdjacencyMatrixBuilder(
+        new GraphHeadToEmptyString(),
+        new VertexToDataString(),
+        new EdgeToDataString(),
+        true).getGraphHeadStrings(collidingGraphs);
+
+    DataSet<GradoopId> representativeIds = canonicalStrings
+      .join(collisions)
+      .where(0).equalTo(0)
+      .with(new PairFingerprintWithString())
+      .groupBy(1, 2)
+      .reduce(new SmallestGraphId())
+      .map(new Value0Of3<GradoopId, Long, String>());
+
+    DataSet<Tuple1<GradoopId>> distinctGraphIds = fingerprints
+      .filter(new ByCollision(false))
+      .map(new Value0Of3<GradoopId, Long, Boolean>())
+      .union(representativeIds)
+      .map(new ObjectTo1<GradoopId>());
+
+    DataSet<GraphHead> distinctGraphHeads = graphHeads
+      .join(distinctGraphIds)
+      .where(new Id<GraphHead>()).equalTo(0)
+      .with(new LeftSide<GraphHead, Tuple1<GradoopId>>());
+
+    return GraphCollection.fromDataSets(
+      distinctGraphHeads,
+      GraphContainmentJoin.inAnyGraph(
+        collection.getVertices(), distinctGraphHeads),
+      GraphContainmentJoin.inAnyGraph(
+        collection.getEdges(), distinctGraphHeads),
+      collection.getConfig());
+  }
+
+  /**
+   * Computes a Weisfeiler-Lehman fingerprint for each graph.
+   *
+   * @param collection  input collection
+   * @param graphHeads  distinct graph heads
+   * @return (graphId, fingerprint)
+   */
+  private DataSet<Tuple2<GradoopId, Long>> computeFingerprints(
+    GraphCollection collection, DataSet<GraphHead> graphHeads) {
+
+    // (graphId, vertexId, hash)
+    DataSet<Tuple3<GradoopId, GradoopId, Long>> vertexHashes =
+      collection.getVertices()
+        .flatMap(new VertexToDataString())
+        .map(new VertexStringHash());
+
+    // (graphId, sourceId, targetId, hash)
+    DataSet<Tuple4<GradoopId, GradoopId, GradoopId, Long>> edgeHashes =
+      collection.getEdges()
+        .flatMap(new EdgeToDataString())
+        .map(new EdgeStringHash());
+
+    IterativeDataSet<Tuple3<GradoopId, GradoopId, Long>> iteration =
+      vertexHashes.iterate(iterations);
+
+    DataSet<Tuple3<GradoopId, GradoopId, Long>> adjacentHashes = edgeHashes
+      .join(iteration)
+      .where(0, 2).equalTo(0, 1)
+      .with(new AdjacentHash(true))
+      .union(edgeHashes
+        .join(iteration)
+        .where(0, 1).equalTo(0, 1)
+        .with(new AdjacentHash(false)));
+
+    vertexHashes = iteration.closeWith(iteration
+      .coGroup(adjacentHashes)
+      .where(0, 1).equalTo(0, 1)
+      .with(new RefineVertexHash()));
+
+    DataSet<Tuple2<GradoopId, Long>> graphHashes = vertexHashes
+      .map(new GraphIdWithMixedHash())
+      .groupBy(0)
+      .reduce(new SumHashes());
+
+    return graphHeads
+      .leftOuterJoin(graphHashes)
+      .where(new Id<GraphHead>()).equalTo(0)
+      .with(new GraphFingerprint());
+  }
+
+  @Override
+  public String getName() {
+    return DistinctByContent.class.getName();
+  }
+}
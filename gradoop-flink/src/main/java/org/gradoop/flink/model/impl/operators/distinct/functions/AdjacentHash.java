@@ -0,0 +1,83 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+
+/**
+ * Combines the hash of an edge with the hash of one of its end points and
+ * sends it to the other end point.
+ *
+ * outgoing:
+ * (graphId, sourceId, targetId, edgeHash) x (graphId, targetId, vertexHash)
+ * => (graphId, sourceId, adjacentHash)
+ *
+ * incoming:
+ * (graphId, sourceId, targetId, edgeHash) x (graphId, sourceId, vertexHash)
+ * => (graphId, targetId, adjacentHash)
+ */
+public class AdjacentHash implements JoinFunction
+  <Tuple4<GradoopId, GradoopId, GradoopId, Long>,
+    Tuple3<GradoopId, GradoopId, Long>, Tuple3<GradoopId, GradoopId, Long>> {
+
+  /**
+   * Salt distinguishing outgoing from incoming edges
+   */
+  private static final long OUTGOING = 0x5DEECE66DL;
+
+  /**
+   * Salt distinguishing incoming from outgoing edges
+   */
+  private static final long INCOMING = 0xB5297A4DL;
+
+  /**
+   * true, if the vertex hash belongs to the edge's target
+   */
+  private final boolean outgoing;
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple3<GradoopId, GradoopId, Long> reuseTuple =
+    new Tuple3<>();
+
+  /**
+   * Constructor
+   *
+   * @param outgoing true, if the vertex hash belongs to the edge's target and
+   *                 the result is sent to the source
+   */
+  public AdjacentHash(boolean outgoing) {
+    this.outgoing = outgoing;
+  }
+
+  @Override
+  public Tuple3<GradoopId, GradoopId, Long> join(
+    Tuple4<GradoopId, GradoopId, GradoopId, Long> edge,
+    Tuple3<GradoopId, GradoopId, Long> vertex) throws Exception {
+    reuseTuple.f0 = edge.f0;
+    reuseTuple.f1 = outgoing ? edge.f1 : edge.f2;
+    reuseTuple.f2 = ContentHash.combine(
+      ContentHash.combine(outgoing ? OUTGOING : INCOMING, edge.f3), vertex.f2);
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Filters (graphId, fingerprint, isCollision) by the collision flag.
+ */
+@FunctionAnnotation.ReadFields("f2")
+public class ByCollision
+  implements FilterFunction<Tuple3<GradoopId, Long, Boolean>> {
+
+  /**
+   * collision flag to keep
+   */
+  private final boolean collision;
+
+  /**
+   * Constructor
+   *
+   * @param collision true, to keep graphs with colliding fingerprints
+   */
+  public ByCollision(boolean collision) {
+    this.collision = collision;
+  }
+
+  @Override
+  public boolean filter(Tuple3<GradoopId, Long, Boolean> fingerprint) throws
+    Exception {
+    return fingerprint.f2 == collision;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeString;
+
+/**
+ * (graphId, sourceId, targetId, .., edgeLabel, ..) =>
+ * (graphId, sourceId, targetId, hash(edgeLabel))
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1;f2")
+public class EdgeStringHash implements MapFunction
+  <EdgeString, Tuple4<GradoopId, GradoopId, GradoopId, Long>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple4<GradoopId, GradoopId, GradoopId, Long> reuseTuple =
+    new Tuple4<>();
+
+  @Override
+  public Tuple4<GradoopId, GradoopId, GradoopId, Long> map(
+    EdgeString edgeString) throws Exception {
+    reuseTuple.f0 = edgeString.f0;
+    reuseTuple.f1 = edgeString.f1;
+    reuseTuple.f2 = edgeString.f2;
+    reuseTuple.f3 = ContentHash.hash(edgeString.getEdgeLabel());
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+
+/**
+ * graphHead x (graphId, fingerprint) => (graphId, fingerprint)
+ *
+ * Graphs without vertices get the fingerprint 0.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("id->f0")
+public class GraphFingerprint implements JoinFunction
+  <GraphHead, Tuple2<GradoopId, Long>, Tuple2<GradoopId, Long>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<GradoopId, Long> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<GradoopId, Long> join(GraphHead graphHead,
+    Tuple2<GradoopId, Long> fingerprint) throws Exception {
+    reuseTuple.f0 = graphHead.getId();
+    reuseTuple.f1 = fingerprint == null ? 0L : fingerprint.f1;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+
+/**
+ * (graphId, vertexId, vertexHash) => (graphId, mix(vertexHash))
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class GraphIdWithMixedHash implements
+  MapFunction<Tuple3<GradoopId, GradoopId, Long>, Tuple2<GradoopId, Long>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<GradoopId, Long> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<GradoopId, Long> map(
+    Tuple3<GradoopId, GradoopId, Long> vertex) throws Exception {
+    reuseTuple.f0 = vertex.f0;
+    reuseTuple.f1 = ContentHash.mix(vertex.f2);
+    return reuseTuple;
+  }
+}
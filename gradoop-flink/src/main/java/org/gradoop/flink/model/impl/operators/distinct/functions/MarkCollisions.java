@@ -0,0 +1,60 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Marks graphs sharing their fingerprint with other graphs.
+ *
+ * (graphId, fingerprint)* => (graphId, fingerprint, isCollision)*
+ */
+public class MarkCollisions implements GroupReduceFunction
+  <Tuple2<GradoopId, Long>, Tuple3<GradoopId, Long, Boolean>> {
+
+  @Override
+  public void reduce(Iterable<Tuple2<GradoopId, Long>> fingerprints,
+    Collector<Tuple3<GradoopId, Long, Boolean>> out) throws Exception {
+
+    // copy the first graph, as the input tuples may be reused
+    GradoopId firstGraphId = null;
+    Long firstFingerprint = null;
+    boolean collision = false;
+
+    for (Tuple2<GradoopId, Long> fingerprint : fingerprints) {
+      if (firstGraphId == null) {
+        firstGraphId = fingerprint.f0.copy();
+        firstFingerprint = fingerprint.f1;
+      } else {
+        if (!collision) {
+          collision = true;
+          out.collect(new Tuple3<>(firstGraphId, firstFingerprint, true));
+        }
+        out.collect(new Tuple3<>(fingerprint.f0, fingerprint.f1, true));
+      }
+    }
+
+    if (!collision && firstGraphId != null) {
+      out.collect(new Tuple3<>(firstGraphId, firstFingerprint, false));
+    }
+  }
+}
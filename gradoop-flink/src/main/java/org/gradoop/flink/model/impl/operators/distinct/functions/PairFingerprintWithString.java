@@ -0,0 +1,49 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+/**
+ * (graphId, string) x (graphId, fingerprint, isCollision)
+ * => (graphId, fingerprint, string)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1->f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f1")
+public class PairFingerprintWithString implements JoinFunction
+  <GraphHeadString, Tuple3<GradoopId, Long, Boolean>,
+    Tuple3<GradoopId, Long, String>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple3<GradoopId, Long, String> reuseTuple = new Tuple3<>();
+
+  @Override
+  public Tuple3<GradoopId, Long, String> join(GraphHeadString graphString,
+    Tuple3<GradoopId, Long, Boolean> fingerprint) throws Exception {
+    reuseTuple.f0 = graphString.f0;
+    reuseTuple.f1 = fingerprint.f1;
+    reuseTuple.f2 = graphString.f1;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+
+/**
+ * Weisfeiler-Lehman refinement step. The new hash of a vertex combines its
+ * current hash with the multiset of its adjacent hashes. The multiset is
+ * hashed by summing the mixed hashes, which is independent of their order.
+ *
+ * (graphId, vertexId, vertexHash) x (graphId, vertexId, adjacentHash)*
+ * => (graphId, vertexId, refinedHash)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1")
+public class RefineVertexHash implements CoGroupFunction
+  <Tuple3<GradoopId, GradoopId, Long>, Tuple3<GradoopId, GradoopId, Long>,
+    Tuple3<GradoopId, GradoopId, Long>> {
+
+  @Override
+  public void coGroup(Iterable<Tuple3<GradoopId, GradoopId, Long>> vertices,
+    Iterable<Tuple3<GradoopId, GradoopId, Long>> adjacentHashes,
+    Collector<Tuple3<GradoopId, GradoopId, Long>> out) throws Exception {
+
+    long adjacentSum = 0L;
+    for (Tuple3<GradoopId, GradoopId, Long> adjacentHash : adjacentHashes) {
+      adjacentSum += ContentHash.mix(adjacentHash.f2);
+    }
+
+    for (Tuple3<GradoopId, GradoopId, Long> vertex : vertices) {
+      vertex.f2 = ContentHash.combine(vertex.f2, adjacentSum);
+      out.collect(vertex);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Keeps the tuple with the smallest graph id, i.e. selects a deterministic
+ * representative for a group of equal graphs.
+ *
+ * (graphId, fingerprint, string)* => (minGraphId, fingerprint, string)
+ */
+public class SmallestGraphId
+  implements ReduceFunction<Tuple3<GradoopId, Long, String>> {
+
+  @Override
+  public Tuple3<GradoopId, Long, String> reduce(
+    Tuple3<GradoopId, Long, String> first,
+    Tuple3<GradoopId, Long, String> second) throws Exception {
+    return first.f0.compareTo(second.f0) <= 0 ? first : second;
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.distinct.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * (graphId, hash1), (graphId, hash2) => (graphId, hash1 + hash2)
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class SumHashes implements ReduceFunction<Tuple2<GradoopId, Long>> {
+
+  @Override
+  public Tuple2<GradoopId, Long> reduce(Tuple2<GradoopId, Long> first,
+    Tuple2<GradoopId, Long> second) throws Exception {
+    first.f1 += second.f1;
+    return first;
+  }
+}
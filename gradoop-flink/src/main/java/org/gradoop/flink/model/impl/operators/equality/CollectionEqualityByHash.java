@@ -0,0 +1,204 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.equality;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.BinaryCollectionToValueOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.functions.bool.And;
+import org.gradoop.flink.model.impl.functions.bool.Equals;
+import org.gradoop.flink.model.impl.operators.equality.functions.EdgeFingerprint;
+import org.gradoop.flink.model.impl.operators.equality.functions.GraphFingerprint;
+import org.gradoop.flink.model.impl.operators.equality.functions.IfFingerprintsEqual;
+import org.gradoop.flink.model.impl.operators.equality.functions.SumFingerprints;
+import org.gradoop.flink.model.impl.operators.equality.functions.SumGraphFingerprints;
+import org.gradoop.flink.model.impl.operators.equality.functions.VertexFingerprint;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.SourceStringUpdater;
+import org.gradoop.flink.model.impl.operators.tostring.functions.TargetStringUpdater;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexString;
+
+/**
+ * Operator to determine if two graph collections are equal according to given
+ * string representations of graph heads, vertices and edges.
+ *
+ * Instead of canonical adjacency matrices, each collection is represented by
+ * its graph count and an order-independent sum of graph fingerprints. A graph
+ * fingerprint combines the graph head string with the vertex count, the edge
+ * count and the sum of vertex and edge hashes, where an edge hash includes the
+ * strings of its end points. Different fingerprints imply inequality.
+ *
+ * In exact mode, the canonical adjacency matrices are compared in addition
+ * (see {@link CollectionEquality}). The comparison runs in the same job and
+ * only on collections with equal fingerprints; otherwise, it runs on empty
+ * collections and the result is {@code false}.
+ * In non-exact mode, equal fingerprints are considered sufficient, i.e., hash
+ * collisions may lead to false positives.
+ */
+public class CollectionEqualityByHash
+  implements BinaryCollectionToValueOperator<Boolean> {
+
+  /**
+   * string representation of graph heads
+   */
+  private final GraphHeadToString<GraphHead> graphHeadToString;
+  /**
+   * string representation of vertices
+   */
+  private final VertexToString<Vertex> vertexToString;
+  /**
+   * string representation of edges
+   */
+  private final EdgeToString<Edge> edgeToString;
+  /**
+   * sets mode for directed or undirected graphs
+   */
+  private final boolean directed;
+  /**
+   * compare canonical adjacency matrices if fingerprints are equal
+   */
+  private final boolean exact;
+
+  /**
+   * constructor to set string representations
+   * @param graphHeadToString string representation of graph heads
+   * @param vertexToString string representation of vertices
+   * @param edgeToString string representation of edges
+   * @param directed sets mode for directed or undirected graphs
+   * @param exact compare canonical adjacency matrices if fingerprints are
+   *              equal
+   */
+  public CollectionEqualityByHash(
+    GraphHeadToString<GraphHead> graphHeadToString,
+    VertexToString<Vertex> vertexToString, EdgeToString<Edge> edgeToString,
+    boolean directed, boolean exact) {
+    this.graphHeadToString = graphHeadToString;
+    this.vertexToString = vertexToString;
+    this.edgeToString = edgeToString;
+    this.directed = directed;
+    this.exact = exact;
+  }
+
+  @Override
+  public DataSet<Boolean> execute(GraphCollection firstCollection,
+    GraphCollection secondCollection) {
+
+    DataSet<Boolean> fingerprintsEqual = Equals.cross(
+      fingerprint(firstCollection), fingerprint(secondCollection));
+
+    if (!exact) {
+      return fingerprintsEqual;
+    }
+
+    // the exact comparison runs on empty collections if fingerprints differ
+    DataSet<Boolean> canonicalEqual = new CollectionEquality(
+      graphHeadToString, vertexToString, edgeToString, directed).execute(
+        ifEqual(firstCollection, fingerprintsEqual),
+        ifEqual(secondCollection, fingerprintsEqual));
+
+    return And.union(fingerprintsEqual, canonicalEqual);
+  }
+
+  /**
+   * Returns the given collection, if the fingerprints are equal, and an empty
+   * collection otherwise.
+   *
+   * @param collection        graph collection
+   * @param fingerprintsEqual 1-element dataset containing the fingerprint
+   *                          comparison
+   * @return collection to be compared exactly
+   */
+  private GraphCollection ifEqual(GraphCollection collection,
+    DataSet<Boolean> fingerprintsEqual) {
+    return GraphCollection.fromDataSets(
+      ifEqual(collection.getGraphHeads(), fingerprintsEqual),
+      ifEqual(collection.getVertices(), fingerprintsEqual),
+      ifEqual(collection.getEdges(), fingerprintsEqual),
+      collection.getConfig());
+  }
+
+  /**
+   * Returns all elements of the given dataset, if the fingerprints are equal,
+   * and no elements otherwise.
+   *
+   * @param dataSet           dataset
+   * @param fingerprintsEqual 1-element dataset containing the fingerprint
+   *                          comparison
+   * @param <T>               element type
+   * @return gated dataset
+   */
+  private <T> DataSet<T> ifEqual(DataSet<T> dataSet,
+    DataSet<Boolean> fingerprintsEqual) {
+    return dataSet
+      .filter(new IfFingerprintsEqual<T>())
+      .withBroadcastSet(fingerprintsEqual,
+        IfFingerprintsEqual.FINGERPRINTS_EQUAL);
+  }
+
+  /**
+   * Computes the fingerprint of a graph collection.
+   *
+   * @param collection graph collection
+   * @return 1-element dataset containing (graphCount, hashSum)
+   */
+  private DataSet<Tuple2<Long, Long>> fingerprint(GraphCollection collection) {
+
+    DataSet<VertexString> vertexStrings = collection.getVertices()
+      .flatMap(vertexToString);
+
+    // (graphId, vertexCount, edgeCount, hashSum)
+    DataSet<Tuple4<GradoopId, Long, Long, Long>> elementFingerprints =
+      collection.getEdges()
+        .flatMap(edgeToString)
+        .join(vertexStrings)
+        .where(0, 1).equalTo(0, 1) // graphId,sourceId = graphId,vertexId
+        .with(new SourceStringUpdater())
+        .join(vertexStrings)
+        .where(0, 2).equalTo(0, 1) // graphId,targetId = graphId,vertexId
+        .with(new TargetStringUpdater())
+        .map(new EdgeFingerprint(directed))
+        .union(vertexStrings.map(new VertexFingerprint()))
+        .groupBy(0)
+        .reduce(new SumFingerprints());
+
+    // add empty fingerprint to prevent empty result for empty collection
+    return collection.getGraphHeads()
+      .map(graphHeadToString)
+      .leftOuterJoin(elementFingerprints)
+      .where(0).equalTo(0)
+      .with(new GraphFingerprint())
+      .union(collection.getConfig().getExecutionEnvironment()
+        .fromElements(new Tuple2<>(0L, 0L)))
+      .reduce(new SumGraphFingerprints());
+  }
+
+  @Override
+  public String getName() {
+    return this.getClass().getSimpleName();
+  }
+}
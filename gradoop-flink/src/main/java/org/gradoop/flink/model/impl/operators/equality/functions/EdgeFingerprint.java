@@ -0,0 +1,75 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.equality.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeString;
+
+/**
+ * (graphId, sourceId, targetId, sourceLabel, edgeLabel, targetLabel)
+ * => (graphId, 0, 1, mix(hash(sourceLabel, edgeLabel, targetLabel)))
+ *
+ * Result tuples are (graphId, vertexCount, edgeCount, hashSum). In undirected
+ * mode, the end point labels are hashed independent of their order.
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class EdgeFingerprint implements
+  MapFunction<EdgeString, Tuple4<GradoopId, Long, Long, Long>> {
+
+  /**
+   * sets mode for directed or undirected graphs
+   */
+  private final boolean directed;
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple4<GradoopId, Long, Long, Long> reuseTuple =
+    new Tuple4<>(null, 0L, 1L, null);
+
+  /**
+   * Constructor
+   *
+   * @param directed sets mode for directed or undirected graphs
+   */
+  public EdgeFingerprint(boolean directed) {
+    this.directed = directed;
+  }
+
+  @Override
+  public Tuple4<GradoopId, Long, Long, Long> map(EdgeString edgeString)
+    throws Exception {
+    long sourceHash = ContentHash.hash(edgeString.getSourceLabel());
+    long targetHash = ContentHash.hash(edgeString.getTargetLabel());
+
+    if (!directed && sourceHash > targetHash) {
+      long swap = sourceHash;
+      sourceHash = targetHash;
+      targetHash = swap;
+    }
+
+    reuseTuple.f0 = edgeString.f0;
+    reuseTuple.f3 = ContentHash.mix(ContentHash.combine(ContentHash.combine(
+      sourceHash, ContentHash.hash(edgeString.getEdgeLabel())), targetHash));
+    return reuseTuple;
+  }
+}
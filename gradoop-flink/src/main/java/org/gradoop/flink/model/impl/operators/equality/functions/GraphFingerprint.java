@@ -0,0 +1,58 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.equality.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+/**
+ * Combines the graph head string with the element fingerprint of a graph.
+ *
+ * (graphId, label) x (graphId, vertexCount, edgeCount, hashSum)
+ * => (1, mix(graphFingerprint))
+ *
+ * Result tuples are (graphCount, hashSum).
+ */
+public class GraphFingerprint implements JoinFunction
+  <GraphHeadString, Tuple4<GradoopId, Long, Long, Long>, Tuple2<Long, Long>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<Long, Long> reuseTuple = new Tuple2<>(1L, null);
+
+  @Override
+  public Tuple2<Long, Long> join(GraphHeadString graphHeadString,
+    Tuple4<GradoopId, Long, Long, Long> elements) throws Exception {
+
+    long fingerprint = ContentHash.hash(graphHeadString.getLabel());
+
+    if (elements != null) {
+      fingerprint = ContentHash.combine(fingerprint, elements.f1);
+      fingerprint = ContentHash.combine(fingerprint, elements.f2);
+      fingerprint = ContentHash.combine(fingerprint, elements.f3);
+    }
+
+    reuseTuple.f1 = ContentHash.mix(fingerprint);
+    return reuseTuple;
+  }
+}
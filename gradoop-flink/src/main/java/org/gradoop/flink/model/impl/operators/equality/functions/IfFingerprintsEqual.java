@@ -0,0 +1,56 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.equality.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+
+import java.util.List;
+
+/**
+ * Passes all elements, if the broadcasted fingerprint comparison is
+ * {@code true}, and no elements otherwise. This allows to skip the exact
+ * comparison of collections with different fingerprints inside the same job.
+ *
+ * @param <T> element type
+ */
+public class IfFingerprintsEqual<T> extends RichFilterFunction<T> {
+
+  /**
+   * constant string for "fingerprints equal"
+   */
+  public static final String FINGERPRINTS_EQUAL = "fingerprintsEqual";
+
+  /**
+   * True, if all elements pass
+   */
+  private boolean pass;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Boolean> fingerprintsEqual =
+      getRuntimeContext().getBroadcastVariable(FINGERPRINTS_EQUAL);
+    pass = !fingerprintsEqual.isEmpty() && fingerprintsEqual.get(0);
+  }
+
+  @Override
+  public boolean filter(T element) throws Exception {
+    return pass;
+  }
+}
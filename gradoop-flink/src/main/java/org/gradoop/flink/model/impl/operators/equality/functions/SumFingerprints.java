@@ -0,0 +1,45 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.equality.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Sums up vertex counts, edge counts and hashes of a graph. As sums are
+ * independent of the element order, no sorting is required.
+ *
+ * (graphId, vertexCount, edgeCount, hashSum)* =>
+ * (graphId, sum(vertexCount), sum(edgeCount), sum(hashSum))
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class SumFingerprints
+  implements ReduceFunction<Tuple4<GradoopId, Long, Long, Long>> {
+
+  @Override
+  public Tuple4<GradoopId, Long, Long, Long> reduce(
+    Tuple4<GradoopId, Long, Long, Long> first,
+    Tuple4<GradoopId, Long, Long, Long> second) throws Exception {
+    first.f1 += second.f1;
+    first.f2 += second.f2;
+    first.f3 += second.f3;
+    return first;
+  }
+}
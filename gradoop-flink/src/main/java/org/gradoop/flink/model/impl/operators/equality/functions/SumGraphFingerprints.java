@@ -0,0 +1,36 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.equality.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+
+/**
+ * (graphCount, hashSum)* => (sum(graphCount), sum(hashSum))
+ */
+public class SumGraphFingerprints
+  implements ReduceFunction<Tuple2<Long, Long>> {
+
+  @Override
+  public Tuple2<Long, Long> reduce(Tuple2<Long, Long> first,
+    Tuple2<Long, Long> second) throws Exception {
+    first.f0 += second.f0;
+    first.f1 += second.f1;
+    return first;
+  }
+}
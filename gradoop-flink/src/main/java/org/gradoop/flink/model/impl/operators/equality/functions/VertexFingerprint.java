@@ -0,0 +1,49 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.equality.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexString;
+
+/**
+ * (graphId, vertexId, label) => (graphId, 1, 0, mix(hash(label)))
+ *
+ * Result tuples are (graphId, vertexCount, edgeCount, hashSum).
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class VertexFingerprint implements
+  MapFunction<VertexString, Tuple4<GradoopId, Long, Long, Long>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple4<GradoopId, Long, Long, Long> reuseTuple =
+    new Tuple4<>(null, 1L, 0L, null);
+
+  @Override
+  public Tuple4<GradoopId, Long, Long, Long> map(VertexString vertexString)
+    throws Exception {
+    reuseTuple.f0 = vertexString.f0;
+    reuseTuple.f3 = ContentHash.mix(ContentHash.hash(vertexString.getLabel()));
+    return reuseTuple;
+  }
+}
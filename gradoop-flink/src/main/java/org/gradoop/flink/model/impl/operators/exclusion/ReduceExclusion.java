@@ -18,12 +18,14 @@
 package org.gradoop.flink.model.impl.operators.exclusion;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.ByDifferentId;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.graphcontainment.InGraph;
-import org.gradoop.flink.model.impl.functions.graphcontainment.NotInGraphsBroadcast;
+import org.gradoop.flink.model.impl.operators.base.GraphContainmentJoin;
+import org.gradoop.flink.model.impl.operators.base.GraphMembership;
+import org.gradoop.flink.model.impl.operators.count.Count;
 
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -33,6 +35,13 @@ import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * Computes the exclusion graph from a collection of logical graphs.
+ *
+ * By default, the graphs of the collection are numbered and the numbering is
+ * broadcasted. Each element keeps its graph memberships as bitmap, which
+ * needs to intersect the bitmap of the start graph but none of the bitmap of
+ * the excluded graphs (see {@link GraphMembership}). If a maximum broadcast
+ * size is given, the excluded graph heads are counted within the same job and
+ * a join based implementation is used if their number exceeds that size.
  */
 public class ReduceExclusion implements ReducibleBinaryGraphToGraphOperator {
 
@@ -41,6 +50,11 @@ public class ReduceExclusion implements ReducibleBinaryGraphToGraphOperator {
    */
   private final GradoopId startId;
 
+  /**
+   * Maximum number of graph ids to broadcast
+   */
+  private final long maxBroadcastSize;
+
   /**
    * Creates an operator instance which can be applied on a graph collection. As
    * exclusion is not a commutative operation, a start graph needs to be set
@@ -49,7 +63,20 @@ public class ReduceExclusion implements ReducibleBinaryGraphToGraphOperator {
    * @param startId graph id from which other graphs will be exluded from
    */
   public ReduceExclusion(GradoopId startId) {
+    this(startId, Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates an operator instance which can be applied on a graph collection
+   * and broadcasts the ids of the excluded graphs only if their number does
+   * not exceed the given size.
+   *
+   * @param startId           graph id from which other graphs will be excluded
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   */
+  public ReduceExclusion(GradoopId startId, long maxBroadcastSize) {
     this.startId = startId;
+    this.maxBroadcastSize = maxBroadcastSize;
   }
 
   /**
@@ -62,19 +89,43 @@ public class ReduceExclusion implements ReducibleBinaryGraphToGraphOperator {
    */
   @Override
   public LogicalGraph execute(GraphCollection collection) {
-    DataSet<GradoopId> excludedGraphIds = collection.getGraphHeads()
-      .filter(new ByDifferentId<GraphHead>(startId))
-      .map(new Id<GraphHead>());
-
-    DataSet<Vertex> vertices = collection.getVertices()
-      .filter(new InGraph<Vertex>(startId))
-      .filter(new NotInGraphsBroadcast<Vertex>())
-      .withBroadcastSet(excludedGraphIds, NotInGraphsBroadcast.GRAPH_IDS);
-
-    DataSet<Edge> edges = collection.getEdges()
-      .filter(new InGraph<Edge>(startId))
-      .filter(new NotInGraphsBroadcast<Edge>())
-      .withBroadcastSet(excludedGraphIds, NotInGraphsBroadcast.GRAPH_IDS);
+    DataSet<GraphHead> excludedGraphHeads = collection.getGraphHeads()
+      .filter(new ByDifferentId<GraphHead>(startId));
+
+    DataSet<Vertex> vertices = collection.getVertices();
+    DataSet<Edge> edges = collection.getEdges();
+
+    if (maxBroadcastSize == Long.MAX_VALUE) {
+      DataSet<Tuple2<Long, GradoopId>> numbering =
+        GraphMembership.numbering(collection.getGraphHeads());
+
+      return LogicalGraph.fromDataSets(
+        GraphMembership.inGraphExclusively(vertices, numbering, startId),
+        GraphMembership.inGraphExclusively(edges, numbering, startId),
+        collection.getConfig()
+      );
+    }
+
+    DataSet<Long> graphCount = Count.count(excludedGraphHeads);
+
+    DataSet<Tuple2<Long, GradoopId>> numbering = GraphMembership.numbering(
+      GraphContainmentJoin.ifBroadcast(
+        collection.getGraphHeads(), graphCount, maxBroadcastSize));
+
+    DataSet<GraphHead> joinGraphHeads = GraphContainmentJoin
+      .ifJoin(excludedGraphHeads, graphCount, maxBroadcastSize);
+
+    vertices = GraphMembership.inGraphExclusively(GraphContainmentJoin
+      .ifBroadcast(vertices, graphCount, maxBroadcastSize), numbering, startId)
+      .union(GraphContainmentJoin.notInAnyGraph(GraphContainmentJoin
+        .ifJoin(vertices, graphCount, maxBroadcastSize)
+        .filter(new InGraph<Vertex>(startId)), joinGraphHeads));
+
+    edges = GraphMembership.inGraphExclusively(GraphContainmentJoin
+      .ifBroadcast(edges, graphCount, maxBroadcastSize), numbering, startId)
+      .union(GraphContainmentJoin.notInAnyGraph(GraphContainmentJoin
+        .ifJoin(edges, graphCount, maxBroadcastSize)
+        .filter(new InGraph<Edge>(startId)), joinGraphHeads));
 
     return LogicalGraph.fromDataSets(
       vertices,
@@ -20,14 +20,30 @@ package org.gradoop.flink.model.impl.operators.grouping;
 import com.google.common.collect.Lists;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.operators.UnsortedGrouping;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.ApplicableUnaryGraphToGraphOperator;
 import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.operators.grouping.functions
   .BuildEdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.functions
   .CombineEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildGraphSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildGraphVertexWithSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.CombineGraphEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ExpandGraphEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ExpandGraphGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ExpandGraphVertexGroupItems;
 import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceGraphEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceGraphVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.UpdateGraphEdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.functions.UpdateEdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
@@ -77,8 +93,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * <p>
  * In addition to vertex properties, grouping is also possible on edge
  * properties, vertex- and edge labels as well as combinations of those.
+ * <p>
+ * Grouping can also be applied on each graph of a graph collection. In that
+ * case, the graph id is part of the vertex and edge grouping keys and all
+ * graphs are grouped using a single group reduce for vertices and edges,
+ * respectively, regardless of the grouping strategy. The resulting collection
+ * contains the input graph heads and the super vertices and super edges of
+ * each graph.
  */
-public abstract class Grouping implements UnaryGraphToGraphOperator {
+public abstract class Grouping
+  implements UnaryGraphToGraphOperator, ApplicableUnaryGraphToGraphOperator {
 
   /**
    * Gradoop Flink configuration.
@@ -108,6 +132,11 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
    * Aggregate functions which are applied on super edges.
    */
   private final List<PropertyValueAggregator> edgeAggregators;
+  /**
+   * True if vertices and edges shall be grouped on a fingerprint of their
+   * group label and group property values.
+   */
+  private final boolean useGroupHash;
 
   /**
    * Creates grouping operator instance.
@@ -118,6 +147,7 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
    * @param edgeGroupingKeys    property keys to group edges
    * @param useEdgeLabels       group on edge label true/false
    * @param edgeAggregators     aggregate functions for grouped edges
+   * @param useGroupHash        group on group key fingerprints true/false
    */
   Grouping(
     List<String> vertexGroupingKeys,
@@ -125,13 +155,15 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     List<PropertyValueAggregator> vertexAggregators,
     List<String> edgeGroupingKeys,
     boolean useEdgeLabels,
-    List<PropertyValueAggregator> edgeAggregators) {
+    List<PropertyValueAggregator> edgeAggregators,
+    boolean useGroupHash) {
     this.vertexGroupingKeys = checkNotNull(vertexGroupingKeys);
     this.useVertexLabels    = useVertexLabels;
     this.vertexAggregators  = vertexAggregators;
     this.edgeGroupingKeys   = checkNotNull(edgeGroupingKeys);
     this.useEdgeLabels      = useEdgeLabels;
     this.edgeAggregators    = edgeAggregators;
+    this.useGroupHash       = useGroupHash;
   }
 
   /**
@@ -154,6 +186,29 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     return result;
   }
 
+  /**
+   * Groups each graph of the given collection.
+   *
+   * @param collection input collection
+   * @return collection of grouped graphs
+   */
+  @Override
+  public GraphCollection execute(GraphCollection collection) {
+    GraphCollection result;
+
+    config = collection.getConfig();
+
+    if (!useVertexProperties() &&
+      !useEdgeProperties() &&
+      !useVertexLabels() &&
+      !useEdgeLabels()) {
+      result = collection;
+    } else {
+      result = groupGraphs(collection);
+    }
+    return result;
+  }
+
   /**
    * Returns true if vertex properties shall be used for grouping.
    *
@@ -227,7 +282,19 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
   }
 
   /**
-   * Group vertices by either vertex label, vertex property or both.
+   * True, iff vertices and edges are grouped on a fingerprint of their group
+   * label and group property values instead of the values themselves.
+   *
+   * @return true, iff group key fingerprints shall be used for grouping
+   */
+  protected boolean useGroupHash() {
+    return useGroupHash;
+  }
+
+  /**
+   * Group vertices by either vertex label, vertex property or both. If
+   * {@link #useGroupHash()} is true, vertices are grouped on the fingerprint
+   * of label and property values.
    *
    * @param groupVertices dataset containing vertex representation for grouping
    * @return unsorted vertex grouping
@@ -235,7 +302,9 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
   protected UnsortedGrouping<VertexGroupItem> groupVertices(
     DataSet<VertexGroupItem> groupVertices) {
     UnsortedGrouping<VertexGroupItem> vertexGrouping;
-    if (useVertexLabels() && useVertexProperties()) {
+    if (useGroupHash()) {
+      vertexGrouping = groupVertices.groupBy(6);
+    } else if (useVertexLabels() && useVertexProperties()) {
       vertexGrouping = groupVertices.groupBy(2, 3);
     } else if (useVertexLabels()) {
       vertexGrouping = groupVertices.groupBy(2);
@@ -254,7 +323,9 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
   protected UnsortedGrouping<EdgeGroupItem> groupEdges(
     DataSet<EdgeGroupItem> edges) {
     UnsortedGrouping<EdgeGroupItem> groupedEdges;
-    if (useEdgeProperties() && useEdgeLabels()) {
+    if (useGroupHash() && (useEdgeProperties() || useEdgeLabels())) {
+      groupedEdges = edges.groupBy(0, 1, 5);
+    } else if (useEdgeProperties() && useEdgeLabels()) {
       groupedEdges = edges.groupBy(0, 1, 2, 3);
     } else if (useEdgeLabels()) {
       groupedEdges = edges.groupBy(0, 1, 2);
@@ -280,25 +351,23 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
 
     DataSet<EdgeGroupItem> edges = graph.getEdges()
       // build edge group items
-      .map(new BuildEdgeGroupItem(
-        getEdgeGroupingKeys(), useEdgeLabels(), getEdgeAggregators()))
+      .map(new BuildEdgeGroupItem(getEdgeGroupingKeys(), useEdgeLabels(),
+        getEdgeAggregators(), useGroupHash()))
       // join edges with vertex-group-map on source-id == vertex-id
       .join(vertexToRepresentativeMap)
       .where(0).equalTo(0)
       .with(new UpdateEdgeGroupItem(0))
-      .withForwardedFieldsFirst("f1;f2;f3;f4")
+      .withForwardedFieldsFirst("f1;f2;f3;f4;f5")
       .withForwardedFieldsSecond("f1->f0")
       // join result with vertex-group-map on target-id == vertex-id
       .join(vertexToRepresentativeMap)
       .where(1).equalTo(0)
       .with(new UpdateEdgeGroupItem(1))
-      .withForwardedFieldsFirst("f0;f2;f3;f4")
+      .withForwardedFieldsFirst("f0;f2;f3;f4;f5")
       .withForwardedFieldsSecond("f1->f1");
 
     // group + combine
-    DataSet<EdgeGroupItem> combinedEdges = groupEdges(edges)
-      .combineGroup(new CombineEdgeGroupItems(
-        getEdgeGroupingKeys(), useEdgeLabels(), getEdgeAggregators()));
+    DataSet<EdgeGroupItem> combinedEdges = combineEdgeGroupItems(edges);
 
     // group + reduce + build final edges
     return groupEdges(combinedEdges)
@@ -308,6 +377,131 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
         config.getEdgeFactory()));
   }
 
+  /**
+   * Computes partial aggregates of edge groups before edges are shuffled for
+   * the final reduce. By default, edges are combined using a sort-based
+   * group combine.
+   *
+   * @param edges edge group items with updated source and target ids
+   * @return partially aggregated edge group items
+   */
+  protected DataSet<EdgeGroupItem> combineEdgeGroupItems(
+    DataSet<EdgeGroupItem> edges) {
+    return groupEdges(edges)
+      .combineGroup(new CombineEdgeGroupItems(
+        getEdgeGroupingKeys(), useEdgeLabels(), getEdgeAggregators()));
+  }
+
+  /**
+   * Groups each graph of the given collection. Vertices and edges are paired
+   * with each graph they are contained in and the graph id is added to the
+   * grouping keys.
+   *
+   * @param collection input collection
+   * @return collection of grouped graphs
+   */
+  private GraphCollection groupGraphs(GraphCollection collection) {
+    DataSet<GradoopId> graphIds = collection.getGraphHeads()
+      .map(new Id<GraphHead>());
+
+    DataSet<Tuple2<GradoopId, VertexGroupItem>> verticesForGrouping =
+      collection.getVertices()
+        // map vertex to (graph id, vertex group item) for each graph
+        .flatMap(new ExpandGraphVertexGroupItems(getVertexGroupingKeys(),
+          useVertexLabels(), getVertexAggregators(), useGroupHash()))
+        .withBroadcastSet(graphIds, ExpandGraphGroupItems.GRAPH_IDS);
+
+    DataSet<Tuple2<GradoopId, VertexGroupItem>> vertexGroupItems =
+      // group vertices by graph id and label / properties / both
+      groupGraphVertices(verticesForGrouping)
+        // apply aggregate function
+        .reduceGroup(new ReduceGraphVertexGroupItems(
+          useVertexLabels(), getVertexAggregators()));
+
+    DataSet<Vertex> superVertices = vertexGroupItems
+      .flatMap(new BuildGraphSuperVertices(getVertexGroupingKeys(),
+        useVertexLabels(), getVertexAggregators(), config.getVertexFactory()));
+
+    DataSet<Tuple2<GradoopId, VertexWithSuperVertex>>
+      vertexToRepresentativeMap = vertexGroupItems
+        .flatMap(new BuildGraphVertexWithSuperVertex());
+
+    DataSet<Tuple2<GradoopId, EdgeGroupItem>> edges = collection.getEdges()
+      // map edge to (graph id, edge group item) for each graph
+      .flatMap(new ExpandGraphEdgeGroupItems(getEdgeGroupingKeys(),
+        useEdgeLabels(), getEdgeAggregators(), useGroupHash()))
+      .withBroadcastSet(graphIds, ExpandGraphGroupItems.GRAPH_IDS)
+      // join edges with vertex-group-map on graph-id and source-id
+      .join(vertexToRepresentativeMap)
+      .where("f0", "f1.f0").equalTo("f0", "f1.f0")
+      .with(new UpdateGraphEdgeGroupItem(0))
+      // join result with vertex-group-map on graph-id and target-id
+      .join(vertexToRepresentativeMap)
+      .where("f0", "f1.f1").equalTo("f0", "f1.f0")
+      .with(new UpdateGraphEdgeGroupItem(1));
+
+    // group + combine
+    DataSet<Tuple2<GradoopId, EdgeGroupItem>> combinedEdges =
+      groupGraphEdges(edges)
+        .combineGroup(new CombineGraphEdgeGroupItems(
+          getEdgeGroupingKeys(), useEdgeLabels(), getEdgeAggregators()));
+
+    // group + reduce + build final edges
+    DataSet<Edge> superEdges = groupGraphEdges(combinedEdges)
+      .reduceGroup(new ReduceGraphEdgeGroupItems(getEdgeGroupingKeys(),
+        useEdgeLabels(), getEdgeAggregators(), config.getEdgeFactory()));
+
+    return GraphCollection.fromDataSets(collection.getGraphHeads(),
+      superVertices, superEdges, config);
+  }
+
+  /**
+   * Groups (graph id, vertex group item) tuples by graph id and either vertex
+   * label, vertex property or both.
+   *
+   * @param groupVertices dataset containing vertex representations of graphs
+   * @return unsorted vertex grouping
+   */
+  private UnsortedGrouping<Tuple2<GradoopId, VertexGroupItem>>
+  groupGraphVertices(
+    DataSet<Tuple2<GradoopId, VertexGroupItem>> groupVertices) {
+    List<String> fields = Lists.newArrayList("f0");
+    if (useGroupHash()) {
+      fields.add("f1.f6");
+    } else {
+      if (useVertexLabels()) {
+        fields.add("f1.f2");
+      }
+      if (useVertexProperties() || !useVertexLabels()) {
+        fields.add("f1.f3");
+      }
+    }
+    return groupVertices.groupBy(fields.toArray(new String[fields.size()]));
+  }
+
+  /**
+   * Groups (graph id, edge group item) tuples by graph id, source and target
+   * id and optionally by label and/or edge property.
+   *
+   * @param edges edge representations of graphs
+   * @return grouped edges
+   */
+  private UnsortedGrouping<Tuple2<GradoopId, EdgeGroupItem>> groupGraphEdges(
+    DataSet<Tuple2<GradoopId, EdgeGroupItem>> edges) {
+    List<String> fields = Lists.newArrayList("f0", "f1.f0", "f1.f1");
+    if (useGroupHash() && (useEdgeProperties() || useEdgeLabels())) {
+      fields.add("f1.f5");
+    } else {
+      if (useEdgeLabels()) {
+        fields.add("f1.f2");
+      }
+      if (useEdgeProperties()) {
+        fields.add("f1.f3");
+      }
+    }
+    return edges.groupBy(fields.toArray(new String[fields.size()]));
+  }
+
   /**
    * Overridden by concrete implementations.
    *
@@ -357,6 +551,38 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
      */
     private List<PropertyValueAggregator> edgeValueAggregators;
 
+    /**
+     * Maximum number of groups per hash table used by
+     * {@link GroupingStrategy#HASH_COMBINE} and {@link GroupingStrategy#AUTO}.
+     */
+    private int hashCombineMaxGroups;
+
+    /**
+     * Relative sample size used by {@link GroupingStrategy#SALTED}.
+     */
+    private float skewSampleFraction;
+
+    /**
+     * Skew threshold used by {@link GroupingStrategy#SALTED}.
+     */
+    private double skewThreshold;
+
+    /**
+     * Number of sub groups used by {@link GroupingStrategy#SALTED}.
+     */
+    private int saltCount;
+
+    /**
+     * Seed of the sample drawn by {@link GroupingStrategy#SALTED} and
+     * {@link GroupingStrategy#AUTO}.
+     */
+    private long sampleSeed;
+
+    /**
+     * True, iff vertices and edges shall be grouped on group key fingerprints.
+     */
+    private boolean useGroupHash;
+
     /**
      * Creates a new grouping builder
      */
@@ -367,6 +593,13 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       this.useEdgeLabel           = false;
       this.vertexValueAggregators = Lists.newArrayList();
       this.edgeValueAggregators   = Lists.newArrayList();
+      this.hashCombineMaxGroups   =
+        GroupingHashCombine.DEFAULT_HASH_COMBINE_MAX_GROUPS;
+      this.skewSampleFraction     = GroupingSalted.DEFAULT_SAMPLE_FRACTION;
+      this.skewThreshold          = GroupingSalted.DEFAULT_SKEW_THRESHOLD;
+      this.saltCount              = GroupingSalted.DEFAULT_SALT_COUNT;
+      this.sampleSeed             = GroupingSalted.DEFAULT_SAMPLE_SEED;
+      this.useGroupHash           = false;
     }
 
     /**
@@ -381,6 +614,83 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       return this;
     }
 
+    /**
+     * Set the maximum number of groups which are held in a hash table before
+     * partial aggregates are emitted. The limit counts groups, not bytes, so
+     * the memory used by a table also depends on the size of the group keys
+     * and aggregates. Only used by {@link GroupingStrategy#HASH_COMBINE} and
+     * {@link GroupingStrategy#AUTO}.
+     *
+     * @param maxGroups maximum number of groups per hash table
+     * @return this builder
+     */
+    public GroupingBuilder setHashCombineMaxGroups(int maxGroups) {
+      if (maxGroups < 1) {
+        throw new IllegalArgumentException("maxGroups must be positive");
+      }
+      this.hashCombineMaxGroups = maxGroups;
+      return this;
+    }
+
+    /**
+     * Configures the detection and splitting of skewed vertex groups. Only
+     * used by {@link GroupingStrategy#SALTED} and {@link GroupingStrategy#AUTO}
+     * which uses the sample to select a strategy.
+     *
+     * @param sampleFraction  relative sample size (0.0 to 1.0] used to
+     *                        detect skewed groups
+     * @param skewThreshold   share of the sample [0.0 to 1.0) above which a
+     *                        group is considered as skewed
+     * @param saltCount       number of sub groups for each skewed group
+     * @return this builder
+     */
+    public GroupingBuilder setSkewHandling(float sampleFraction,
+      double skewThreshold, int saltCount) {
+      if (sampleFraction <= 0F || sampleFraction > 1F) {
+        throw new IllegalArgumentException(
+          "sample fraction must be in (0.0, 1.0]");
+      }
+      if (skewThreshold < 0.0 || skewThreshold >= 1.0) {
+        throw new IllegalArgumentException(
+          "skew threshold must be in [0.0, 1.0)");
+      }
+      if (saltCount < 1) {
+        throw new IllegalArgumentException("salt count must be positive");
+      }
+      this.skewSampleFraction = sampleFraction;
+      this.skewThreshold      = skewThreshold;
+      this.saltCount          = saltCount;
+      return this;
+    }
+
+    /**
+     * Set the seed of the sample drawn by {@link GroupingStrategy#SALTED} and
+     * {@link GroupingStrategy#AUTO}. For a fixed seed and parallelism, the
+     * sample is reproducible.
+     *
+     * @param seed sample seed
+     * @return this builder
+     */
+    public GroupingBuilder setSampleSeed(long seed) {
+      this.sampleSeed = seed;
+      return this;
+    }
+
+    /**
+     * Define, if vertices and edges shall be grouped on a 64-bit fingerprint
+     * of their group label and group property values. The fingerprint is
+     * computed once per element and replaces the variable-length group key
+     * in sort-based grouping steps. Reducers compare the full group keys and
+     * split groups of items whose keys share the same fingerprint.
+     *
+     * @param useGroupHash true, iff group key fingerprints shall be used
+     * @return this builder
+     */
+    public GroupingBuilder useGroupHash(boolean useGroupHash) {
+      this.useGroupHash = useGroupHash;
+      return this;
+    }
+
     /**
      * Adds a property key to the vertex grouping keys.
      *
@@ -502,13 +812,33 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
         groupingOperator =
           new GroupingGroupReduce(vertexGroupingKeys, useVertexLabel,
             vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
-            edgeValueAggregators);
+            edgeValueAggregators, useGroupHash);
         break;
       case GROUP_COMBINE:
         groupingOperator =
           new GroupingGroupCombine(vertexGroupingKeys, useVertexLabel,
             vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
-            edgeValueAggregators);
+            edgeValueAggregators, useGroupHash);
+        break;
+      case HASH_COMBINE:
+        groupingOperator =
+          new GroupingHashCombine(vertexGroupingKeys, useVertexLabel,
+            vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
+            edgeValueAggregators, useGroupHash, hashCombineMaxGroups);
+        break;
+      case SALTED:
+        groupingOperator =
+          new GroupingSalted(vertexGroupingKeys, useVertexLabel,
+            vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
+            edgeValueAggregators, useGroupHash, skewSampleFraction,
+            skewThreshold, saltCount, sampleSeed);
+        break;
+      case AUTO:
+        groupingOperator =
+          new GroupingAuto(vertexGroupingKeys, useVertexLabel,
+            vertexValueAggregators, edgeGroupingKeys, useEdgeLabel,
+            edgeValueAggregators, useGroupHash, hashCombineMaxGroups,
+            skewSampleFraction, skewThreshold, saltCount, sampleSeed);
         break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
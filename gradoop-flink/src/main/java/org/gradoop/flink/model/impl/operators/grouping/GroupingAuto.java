@@ -0,0 +1,172 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SampleVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SelectGroupingStrategy;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+/**
+ * Grouping implementation that selects the grouping strategy based on
+ * statistics of a vertex sample.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Draw a Bernoulli sample of the vertices and map the sampled vertices to
+ *    a minimal representation without aggregate values.
+ * 2) Estimate the number of vertex groups and the share of the largest group
+ *    and select a strategy (see {@link SelectGroupingStrategy}).
+ * 3) Collect the selected strategy and run the corresponding grouping
+ *    implementation.
+ *
+ * Note that steps 1 and 2 are executed in a separate job when the operator
+ * is applied. The estimates and the selected strategy are stored in the
+ * accumulators of that job. If the sample is empty,
+ * {@link GroupingStrategy#GROUP_COMBINE} is used.
+ */
+public class GroupingAuto extends Grouping {
+
+  /**
+   * Maximum number of groups per hash table.
+   */
+  private final int hashCombineMaxGroups;
+
+  /**
+   * Relative sample size used to compute statistics.
+   */
+  private final float sampleFraction;
+
+  /**
+   * Share of the sample above which a group is considered as skewed.
+   */
+  private final double skewThreshold;
+
+  /**
+   * Number of sub groups for each skewed group.
+   */
+  private final int saltCount;
+
+  /**
+   * Seed used to draw the sample.
+   */
+  private final long sampleSeed;
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param vertexGroupingKeys   property keys to group vertices
+   * @param useVertexLabels      group on vertex label true/false
+   * @param vertexAggregators    aggregate functions for grouped vertices
+   * @param edgeGroupingKeys     property keys to group edges
+   * @param useEdgeLabels        group on edge label true/false
+   * @param edgeAggregators      aggregate functions for grouped edges
+   * @param useGroupHash         group on group key fingerprints true/false
+   * @param hashCombineMaxGroups maximum number of groups per hash table
+   * @param sampleFraction       relative sample size to compute statistics
+   * @param skewThreshold        share of the sample to consider a group skewed
+   * @param saltCount            number of sub groups for each skewed group
+   * @param sampleSeed           seed used to draw the sample
+   */
+  GroupingAuto(List<String> vertexGroupingKeys, boolean useVertexLabels,
+    List<PropertyValueAggregator> vertexAggregators,
+    List<String> edgeGroupingKeys, boolean useEdgeLabels,
+    List<PropertyValueAggregator> edgeAggregators, boolean useGroupHash,
+    int hashCombineMaxGroups, float sampleFraction, double skewThreshold,
+    int saltCount, long sampleSeed) {
+    super(vertexGroupingKeys, useVertexLabels, vertexAggregators,
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators, useGroupHash);
+    this.hashCombineMaxGroups = hashCombineMaxGroups;
+    this.sampleFraction = sampleFraction;
+    this.skewThreshold = skewThreshold;
+    this.saltCount = saltCount;
+    this.sampleSeed = sampleSeed;
+  }
+
+  @Override
+  protected LogicalGraph groupInternal(LogicalGraph graph) {
+    return createGrouping(selectStrategy(graph)).execute(graph);
+  }
+
+  /**
+   * Computes statistics on a vertex sample and selects the grouping strategy.
+   *
+   * @param graph  input graph
+   * @return selected grouping strategy
+   */
+  private GroupingStrategy selectStrategy(LogicalGraph graph) {
+    List<Tuple1<GroupingStrategy>> strategies;
+    try {
+      strategies = graph.getVertices()
+        .filter(new SampleVertices(sampleFraction, sampleSeed))
+        .map(new BuildVertexGroupItem(getVertexGroupingKeys(),
+          useVertexLabels(), Lists.<PropertyValueAggregator>newArrayList()))
+        .reduceGroup(new SelectGroupingStrategy(
+          sampleFraction, skewThreshold, hashCombineMaxGroups))
+        .collect();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    return strategies.isEmpty() ?
+      GroupingStrategy.GROUP_COMBINE : strategies.get(0).f0;
+  }
+
+  /**
+   * Creates the grouping implementation for the given strategy.
+   *
+   * @param strategy  grouping strategy
+   * @return grouping operator instance
+   */
+  private Grouping createGrouping(GroupingStrategy strategy) {
+    Grouping grouping;
+    switch (strategy) {
+    case GROUP_REDUCE:
+      grouping = new GroupingGroupReduce(getVertexGroupingKeys(),
+        useVertexLabels(), getVertexAggregators(), getEdgeGroupingKeys(),
+        useEdgeLabels(), getEdgeAggregators(), useGroupHash());
+      break;
+    case HASH_COMBINE:
+      grouping = new GroupingHashCombine(getVertexGroupingKeys(),
+        useVertexLabels(), getVertexAggregators(), getEdgeGroupingKeys(),
+        useEdgeLabels(), getEdgeAggregators(), useGroupHash(),
+        hashCombineMaxGroups);
+      break;
+    case SALTED:
+      grouping = new GroupingSalted(getVertexGroupingKeys(),
+        useVertexLabels(), getVertexAggregators(), getEdgeGroupingKeys(),
+        useEdgeLabels(), getEdgeAggregators(), useGroupHash(),
+        sampleFraction, skewThreshold, saltCount, sampleSeed);
+      break;
+    default:
+      grouping = new GroupingGroupCombine(getVertexGroupingKeys(),
+        useVertexLabels(), getVertexAggregators(), getEdgeGroupingKeys(),
+        useEdgeLabels(), getEdgeAggregators(), useGroupHash());
+    }
+    return grouping;
+  }
+
+  @Override
+  public String getName() {
+    return GroupingAuto.class.getName();
+  }
+}
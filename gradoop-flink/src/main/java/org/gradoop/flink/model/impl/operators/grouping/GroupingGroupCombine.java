@@ -79,13 +79,14 @@ public class GroupingGroupCombine extends Grouping {
    * @param edgeGroupingKeys   property keys to group edges
    * @param useEdgeLabels      group on edge label true/false
    * @param edgeAggregators    aggregate functions for grouped edges
+   * @param useGroupHash       group on group key fingerprints true/false
    */
   GroupingGroupCombine(List<String> vertexGroupingKeys, boolean useVertexLabels,
     List<PropertyValueAggregator> vertexAggregators,
     List<String> edgeGroupingKeys, boolean useEdgeLabels,
-    List<PropertyValueAggregator> edgeAggregators) {
+    List<PropertyValueAggregator> edgeAggregators, boolean useGroupHash) {
     super(vertexGroupingKeys, useVertexLabels, vertexAggregators,
-      edgeGroupingKeys, useEdgeLabels, edgeAggregators);
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators, useGroupHash);
   }
 
   @Override
@@ -93,14 +94,10 @@ public class GroupingGroupCombine extends Grouping {
     // map vertex to vertex group item
     DataSet<VertexGroupItem> verticesForGrouping = graph.getVertices()
       .map(new BuildVertexGroupItem(getVertexGroupingKeys(),
-        useVertexLabels(), getVertexAggregators()));
+        useVertexLabels(), getVertexAggregators(), useGroupHash()));
 
     DataSet<VertexGroupItem> combinedVertexGroupItems =
-      // group vertices by label / properties / both
-      groupVertices(verticesForGrouping)
-        // apply aggregate function per combined partition
-        .combineGroup(new CombineVertexGroupItems(
-          useVertexLabels(), getVertexAggregators()));
+      combineVertexGroupItems(verticesForGrouping);
 
     // filter super vertex tuples (1..n per partition/group)
     // group  super vertex tuples
@@ -137,6 +134,22 @@ public class GroupingGroupCombine extends Grouping {
       superVertices, superEdges, graph.getConfig());
   }
 
+  /**
+   * Creates partition local super vertex tuples including the local aggregates
+   * and updates each vertex tuple with its local super vertex id.
+   *
+   * @param vertices vertex group items
+   * @return updated vertex group items and local super vertex tuples
+   */
+  protected DataSet<VertexGroupItem> combineVertexGroupItems(
+    DataSet<VertexGroupItem> vertices) {
+    // group vertices by label / properties / both
+    return groupVertices(vertices)
+      // apply aggregate function per combined partition
+      .combineGroup(new CombineVertexGroupItems(
+        useVertexLabels(), getVertexAggregators()));
+  }
+
   @Override
   public String getName() {
     return GroupingGroupCombine.class.getName();
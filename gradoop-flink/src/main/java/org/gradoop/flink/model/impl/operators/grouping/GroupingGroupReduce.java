@@ -70,6 +70,7 @@ public class GroupingGroupReduce extends Grouping {
    * @param edgeGroupingKeys    property key to group edges
    * @param useEdgeLabels       group on edge label true/false
    * @param edgeAggregators     aggregate functions for grouped edges
+   * @param useGroupHash        group on group key fingerprints true/false
    */
   GroupingGroupReduce(
     List<String> vertexGroupingKeys,
@@ -77,10 +78,11 @@ public class GroupingGroupReduce extends Grouping {
     List<PropertyValueAggregator> vertexAggregators,
     List<String> edgeGroupingKeys,
     boolean useEdgeLabels,
-    List<PropertyValueAggregator> edgeAggregators) {
+    List<PropertyValueAggregator> edgeAggregators,
+    boolean useGroupHash) {
     super(
       vertexGroupingKeys, useVertexLabels, vertexAggregators,
-      edgeGroupingKeys, useEdgeLabels, edgeAggregators);
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators, useGroupHash);
   }
 
   /**
@@ -92,7 +94,7 @@ public class GroupingGroupReduce extends Grouping {
     DataSet<VertexGroupItem> verticesForGrouping = graph.getVertices()
       // map vertex to vertex group item
       .map(new BuildVertexGroupItem(getVertexGroupingKeys(), useVertexLabels(),
-        getVertexAggregators()));
+        getVertexAggregators(), useGroupHash()));
 
     DataSet<VertexGroupItem> vertexGroupItems =
       // group vertices by label / properties / both
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.grouping.functions.HashCombineEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.HashCombineVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.List;
+
+/**
+ * Grouping implementation that pre-aggregates vertices and edges in bounded
+ * hash tables instead of sorting them.
+ *
+ * The algorithm is the same as in {@link GroupingGroupCombine}, but steps 2/3
+ * (vertices) and 7/8 (edges) are replaced by a single pass over each
+ * partition (mapPartition), which keeps one partial aggregate per group in a
+ * hash table. If a new group arrives while the table holds the maximum number
+ * of groups, the partial aggregates are emitted and the table is cleared.
+ * Only partial aggregates are shuffled and sorted for the final group reduce,
+ * which makes that strategy suitable for a small to medium number of groups.
+ */
+public class GroupingHashCombine extends GroupingGroupCombine {
+
+  /**
+   * Default maximum number of groups per hash table.
+   */
+  public static final int DEFAULT_HASH_COMBINE_MAX_GROUPS = 100000;
+
+  /**
+   * Maximum number of groups per hash table.
+   */
+  private final int maxGroups;
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param vertexGroupingKeys property keys to group vertices
+   * @param useVertexLabels    group on vertex label true/false
+   * @param vertexAggregators  aggregate functions for grouped vertices
+   * @param edgeGroupingKeys   property keys to group edges
+   * @param useEdgeLabels      group on edge label true/false
+   * @param edgeAggregators    aggregate functions for grouped edges
+   * @param useGroupHash       group on group key fingerprints true/false
+   * @param maxGroups          maximum number of groups per hash table
+   */
+  GroupingHashCombine(List<String> vertexGroupingKeys, boolean useVertexLabels,
+    List<PropertyValueAggregator> vertexAggregators,
+    List<String> edgeGroupingKeys, boolean useEdgeLabels,
+    List<PropertyValueAggregator> edgeAggregators, boolean useGroupHash,
+    int maxGroups) {
+    super(vertexGroupingKeys, useVertexLabels, vertexAggregators,
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators, useGroupHash);
+    this.maxGroups = maxGroups;
+  }
+
+  @Override
+  protected DataSet<VertexGroupItem> combineVertexGroupItems(
+    DataSet<VertexGroupItem> vertices) {
+    return vertices
+      .mapPartition(new HashCombineVertexGroupItems(
+        useVertexLabels(), getVertexAggregators(), maxGroups));
+  }
+
+  @Override
+  protected DataSet<EdgeGroupItem> combineEdgeGroupItems(
+    DataSet<EdgeGroupItem> edges) {
+    return edges
+      .mapPartition(new HashCombineEdgeGroupItems(getEdgeGroupingKeys(),
+        useEdgeLabels(), getEdgeAggregators(), maxGroups));
+  }
+
+  @Override
+  public String getName() {
+    return GroupingHashCombine.class.getName();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.UnsortedGrouping;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceSaltedVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SaltVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SampleVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SelectSkewedGroups;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.List;
+
+/**
+ * Grouping implementation that splits skewed vertex groups into multiple sub
+ * groups before computing super vertices.
+ *
+ * The algorithm is the same as in {@link GroupingGroupCombine}, but steps 2/3
+ * are replaced by:
+ *
+ * 1) Sample {@link VertexGroupItem}s and select all groups whose share of the
+ *    sample exceeds a given threshold (skewed groups).
+ * 2) Assign a salt value to each vertex group item. Items of skewed groups are
+ *    distributed over a fixed number of salt values by their vertex id, all
+ *    other items get the same salt value.
+ * 3) Group vertices on label and/or property and the salt value and create a
+ *    super vertex tuple for each sub group, including the partial aggregates.
+ *    Update each vertex tuple with the super vertex id of its sub group.
+ *
+ * Sub groups are merged as in {@link GroupingGroupCombine}. Thus, a skewed
+ * group is processed by multiple workers while groups of regular size are
+ * still reduced in a single step. Super edges are computed as in
+ * {@link GroupingGroupCombine}, where the combiner already limits the number
+ * of items per edge group to the number of partitions.
+ */
+public class GroupingSalted extends GroupingGroupCombine {
+
+  /**
+   * Default relative sample size used to detect skewed groups.
+   */
+  public static final float DEFAULT_SAMPLE_FRACTION = 0.01F;
+
+  /**
+   * Default share of the sample above which a group is considered as skewed.
+   */
+  public static final double DEFAULT_SKEW_THRESHOLD = 0.1;
+
+  /**
+   * Default number of sub groups for each skewed group.
+   */
+  public static final int DEFAULT_SALT_COUNT = 16;
+
+  /**
+   * Default seed used to draw the sample.
+   */
+  public static final long DEFAULT_SAMPLE_SEED = 42L;
+
+  /**
+   * Relative sample size used to detect skewed groups.
+   */
+  private final float sampleFraction;
+
+  /**
+   * Share of the sample above which a group is considered as skewed.
+   */
+  private final double skewThreshold;
+
+  /**
+   * Number of sub groups for each skewed group.
+   */
+  private final int saltCount;
+
+  /**
+   * Seed used to draw the sample.
+   */
+  private final long sampleSeed;
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param vertexGroupingKeys property keys to group vertices
+   * @param useVertexLabels    group on vertex label true/false
+   * @param vertexAggregators  aggregate functions for grouped vertices
+   * @param edgeGroupingKeys   property keys to group edges
+   * @param useEdgeLabels      group on edge label true/false
+   * @param edgeAggregators    aggregate functions for grouped edges
+   * @param useGroupHash       group on group key fingerprints true/false
+   * @param sampleFraction     relative sample size to detect skewed groups
+   * @param skewThreshold      share of the sample to consider a group skewed
+   * @param saltCount          number of sub groups for each skewed group
+   * @param sampleSeed         seed used to draw the sample
+   */
+  GroupingSalted(List<String> vertexGroupingKeys, boolean useVertexLabels,
+    List<PropertyValueAggregator> vertexAggregators,
+    List<String> edgeGroupingKeys, boolean useEdgeLabels,
+    List<PropertyValueAggregator> edgeAggregators, boolean useGroupHash,
+    float sampleFraction, double skewThreshold, int saltCount,
+    long sampleSeed) {
+    super(vertexGroupingKeys, useVertexLabels, vertexAggregators,
+      edgeGroupingKeys, useEdgeLabels, edgeAggregators, useGroupHash);
+    this.sampleFraction = sampleFraction;
+    this.skewThreshold = skewThreshold;
+    this.saltCount = saltCount;
+    this.sampleSeed = sampleSeed;
+  }
+
+  @Override
+  protected DataSet<VertexGroupItem> combineVertexGroupItems(
+    DataSet<VertexGroupItem> vertices) {
+
+    // detect skewed groups on a sample
+    DataSet<Tuple2<String, PropertyValueList>> skewedGroups = vertices
+      .filter(new SampleVertexGroupItems(sampleFraction, sampleSeed))
+      .reduceGroup(new SelectSkewedGroups(skewThreshold));
+
+    // split skewed groups into sub groups
+    DataSet<Tuple2<VertexGroupItem, Integer>> saltedVertices = vertices
+      .map(new SaltVertexGroupItem(saltCount))
+      .withBroadcastSet(skewedGroups, SaltVertexGroupItem.BC_SKEWED_GROUPS);
+
+    // create super vertex tuple per sub group
+    return groupSaltedVertices(saltedVertices)
+      .reduceGroup(new ReduceSaltedVertexGroupItems(
+        useVertexLabels(), getVertexAggregators()));
+  }
+
+  /**
+   * Group salted vertices by either vertex label, vertex property or both and
+   * the salt value.
+   *
+   * @param saltedVertices vertex group items with salt value
+   * @return unsorted vertex grouping
+   */
+  private UnsortedGrouping<Tuple2<VertexGroupItem, Integer>>
+  groupSaltedVertices(
+    DataSet<Tuple2<VertexGroupItem, Integer>> saltedVertices) {
+    UnsortedGrouping<Tuple2<VertexGroupItem, Integer>> vertexGrouping;
+    if (useGroupHash()) {
+      vertexGrouping = saltedVertices.groupBy("f0.f6", "f1");
+    } else if (useVertexLabels() && useVertexProperties()) {
+      vertexGrouping = saltedVertices.groupBy("f0.f2", "f0.f3", "f1");
+    } else if (useVertexLabels()) {
+      vertexGrouping = saltedVertices.groupBy("f0.f2", "f1");
+    } else {
+      vertexGrouping = saltedVertices.groupBy("f0.f3", "f1");
+    }
+    return vertexGrouping;
+  }
+
+  @Override
+  public String getName() {
+    return GroupingSalted.class.getName();
+  }
+}
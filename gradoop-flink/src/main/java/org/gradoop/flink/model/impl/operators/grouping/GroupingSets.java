@@ -0,0 +1,481 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.UnsortedGrouping;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildEdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertexBC;
+import org.gradoop.flink.model.impl.operators.grouping.functions.CombineEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.CombineVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ProjectVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.TransposeVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.UpdateEdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Computes several groupings of the same graph, e.g. grouped by label, by
+ * label and country and by label, country and city (grouping sets / roll-up).
+ * The result is a graph collection containing one summary graph per grouping
+ * set. Each graph head stores the position of its grouping set in the
+ * property {@link #LEVEL_PROPERTY_KEY}.
+ * <p>
+ * Instead of grouping the input graph once per grouping set, the input graph
+ * is grouped only once on the finest granularity, i.e. the union of all
+ * vertex grouping keys. The resulting vertex groups and their partial
+ * aggregates are much smaller than the input graph. Each grouping set is
+ * derived from these partial aggregates by projecting the grouping values on
+ * the keys of the grouping set and merging the partial aggregates.
+ * <p>
+ * Algorithmic idea:
+ * <p>
+ * 1) Group vertices on the finest granularity using groupCombine and
+ *    groupReduce (see {@link GroupingGroupCombine}). Keep the partial
+ *    aggregates of the resulting vertex groups.
+ * 2) Replace source and target ids of edges by their vertex group and combine
+ *    the edges per partition.
+ * 3) For each grouping set:
+ *    a) project the vertex groups of 1) on the grouping keys, merge them into
+ *       super vertices and create a mapping from fine to coarse groups.
+ *    b) replace source and target ids of the combined edges from 2) using the
+ *       mapping of 3a), group and merge them into super edges.
+ * 4) Add the super vertices and edges of each grouping set to a new graph.
+ * <p>
+ * Edges are grouped with the same keys in all grouping sets.
+ */
+public class GroupingSets implements UnaryGraphToCollectionOperator {
+
+  /**
+   * Property key of the graph heads which stores the position of the
+   * grouping set.
+   */
+  public static final String LEVEL_PROPERTY_KEY = "level";
+
+  /**
+   * Vertex grouping sets.
+   */
+  private final List<GroupingSet> groupingSets;
+
+  /**
+   * Aggregate functions which are applied on super vertices.
+   */
+  private final List<PropertyValueAggregator> vertexAggregators;
+
+  /**
+   * Used to group edges.
+   */
+  private final List<String> edgeGroupingKeys;
+
+  /**
+   * True if edges shall be grouped using their label.
+   */
+  private final boolean useEdgeLabels;
+
+  /**
+   * Aggregate functions which are applied on super edges.
+   */
+  private final List<PropertyValueAggregator> edgeAggregators;
+
+  /**
+   * Creates grouping sets operator instance.
+   *
+   * @param groupingSets      vertex grouping sets
+   * @param vertexAggregators aggregate functions for grouped vertices
+   * @param edgeGroupingKeys  property keys to group edges
+   * @param useEdgeLabels     group on edge label true/false
+   * @param edgeAggregators   aggregate functions for grouped edges
+   */
+  GroupingSets(List<GroupingSet> groupingSets,
+    List<PropertyValueAggregator> vertexAggregators,
+    List<String> edgeGroupingKeys, boolean useEdgeLabels,
+    List<PropertyValueAggregator> edgeAggregators) {
+    this.groupingSets       = groupingSets;
+    this.vertexAggregators  = vertexAggregators;
+    this.edgeGroupingKeys   = edgeGroupingKeys;
+    this.useEdgeLabels      = useEdgeLabels;
+    this.edgeAggregators    = edgeAggregators;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection execute(LogicalGraph graph) {
+    GradoopFlinkConfig config = graph.getConfig();
+
+    // finest granularity: union of all grouping sets
+    List<String> finestKeys = Lists.newArrayList();
+    boolean finestUseLabel = false;
+    for (GroupingSet groupingSet : groupingSets) {
+      finestUseLabel |= groupingSet.useLabel;
+      for (String key : groupingSet.keys) {
+        if (!finestKeys.contains(key)) {
+          finestKeys.add(key);
+        }
+      }
+    }
+
+    // group vertices on the finest granularity
+    DataSet<VertexGroupItem> combinedVertexGroupItems = groupVertices(
+      graph.getVertices().map(new BuildVertexGroupItem(
+        finestKeys, finestUseLabel, vertexAggregators)), finestUseLabel)
+      .combineGroup(
+        new CombineVertexGroupItems(finestUseLabel, vertexAggregators));
+
+    DataSet<Tuple2<VertexGroupItem, IdWithIdSet>> finestGroupTuples =
+      groupVertices(combinedVertexGroupItems
+        .filter(new FilterSuperVertices()), finestUseLabel)
+        .reduceGroup(
+          new TransposeVertexGroupItems(finestUseLabel, vertexAggregators));
+
+    DataSet<VertexGroupItem> finestGroups = finestGroupTuples
+      .map(new Value0Of2<VertexGroupItem, IdWithIdSet>());
+
+    DataSet<VertexWithSuperVertex> vertexToFinestGroup =
+      combinedVertexGroupItems
+        .filter(new FilterRegularVertices())
+        .map(new BuildVertexWithSuperVertexBC())
+        .withBroadcastSet(finestGroupTuples
+          .map(new Value1Of2<VertexGroupItem, IdWithIdSet>()),
+          BuildVertexWithSuperVertexBC.BC_MAPPING);
+
+    // replace source and target by their finest group and combine
+    DataSet<EdgeGroupItem> finestEdges = groupEdges(
+      updateEdgeGroupItems(graph.getEdges()
+        .map(new BuildEdgeGroupItem(
+          edgeGroupingKeys, useEdgeLabels, edgeAggregators)),
+        vertexToFinestGroup))
+      .combineGroup(new CombineEdgeGroupItems(
+        edgeGroupingKeys, useEdgeLabels, edgeAggregators));
+
+    // derive each grouping set from the finest groups
+    DataSet<GraphHead> graphHeads = null;
+    DataSet<Vertex> vertices = null;
+    DataSet<Edge> edges = null;
+
+    for (int level = 0; level < groupingSets.size(); level++) {
+      GroupingSet groupingSet = groupingSets.get(level);
+
+      int[] positions = new int[groupingSet.keys.size()];
+      for (int i = 0; i < positions.length; i++) {
+        positions[i] = finestKeys.indexOf(groupingSet.keys.get(i));
+      }
+
+      DataSet<VertexGroupItem> levelGroupItems = groupVertices(finestGroups
+        .map(new ProjectVertexGroupItem(positions, groupingSet.useLabel)),
+        groupingSet.useLabel)
+        .reduceGroup(new ReduceVertexGroupItems(
+          groupingSet.useLabel, vertexAggregators));
+
+      DataSet<Vertex> levelVertices = levelGroupItems
+        .filter(new FilterSuperVertices())
+        .map(new BuildSuperVertex(groupingSet.keys, groupingSet.useLabel,
+          vertexAggregators, config.getVertexFactory()));
+
+      DataSet<VertexWithSuperVertex> finestToLevelGroup = levelGroupItems
+        .filter(new FilterRegularVertices())
+        .map(new BuildVertexWithSuperVertex());
+
+      DataSet<Edge> levelEdges = groupEdges(groupEdges(
+        updateEdgeGroupItems(finestEdges, finestToLevelGroup))
+        .combineGroup(new CombineEdgeGroupItems(
+          edgeGroupingKeys, useEdgeLabels, edgeAggregators)))
+        .reduceGroup(new ReduceEdgeGroupItems(edgeGroupingKeys,
+          useEdgeLabels, edgeAggregators, config.getEdgeFactory()));
+
+      GraphHead graphHead = config.getGraphHeadFactory().createGraphHead();
+      graphHead.setProperty(LEVEL_PROPERTY_KEY, level);
+
+      DataSet<GraphHead> levelGraphHead =
+        config.getExecutionEnvironment().fromElements(graphHead);
+      levelVertices = levelVertices.map(new AddToGraph<Vertex>(graphHead));
+      levelEdges = levelEdges.map(new AddToGraph<Edge>(graphHead));
+
+      graphHeads = graphHeads == null ?
+        levelGraphHead : graphHeads.union(levelGraphHead);
+      vertices = vertices == null ?
+        levelVertices : vertices.union(levelVertices);
+      edges = edges == null ? levelEdges : edges.union(levelEdges);
+    }
+
+    return GraphCollection.fromDataSets(graphHeads, vertices, edges, config);
+  }
+
+  /**
+   * Groups vertex group items by their grouping values and optionally by
+   * their label.
+   *
+   * @param vertexGroupItems vertex group items
+   * @param useLabel         true, iff the label shall be used for grouping
+   * @return grouped vertex group items
+   */
+  private UnsortedGrouping<VertexGroupItem> groupVertices(
+    DataSet<VertexGroupItem> vertexGroupItems, boolean useLabel) {
+    return useLabel ?
+      vertexGroupItems.groupBy(2, 3) : vertexGroupItems.groupBy(3);
+  }
+
+  /**
+   * Groups edges by source, target and the configured edge grouping keys.
+   *
+   * @param edges edge group items
+   * @return grouped edge group items
+   */
+  private UnsortedGrouping<EdgeGroupItem> groupEdges(
+    DataSet<EdgeGroupItem> edges) {
+    UnsortedGrouping<EdgeGroupItem> groupedEdges;
+    if (!edgeGroupingKeys.isEmpty() && useEdgeLabels) {
+      groupedEdges = edges.groupBy(0, 1, 2, 3);
+    } else if (useEdgeLabels) {
+      groupedEdges = edges.groupBy(0, 1, 2);
+    } else if (!edgeGroupingKeys.isEmpty()) {
+      groupedEdges = edges.groupBy(0, 1, 3);
+    } else {
+      groupedEdges = edges.groupBy(0, 1);
+    }
+    return groupedEdges;
+  }
+
+  /**
+   * Replaces source and target id of the given edges by the id of the
+   * corresponding group.
+   *
+   * @param edges         edge group items
+   * @param vertexToGroup mapping from vertex id to group id
+   * @return updated edge group items
+   */
+  private DataSet<EdgeGroupItem> updateEdgeGroupItems(
+    DataSet<EdgeGroupItem> edges,
+    DataSet<VertexWithSuperVertex> vertexToGroup) {
+    return edges
+      .join(vertexToGroup)
+      .where(0).equalTo(0)
+      .with(new UpdateEdgeGroupItem(0))
+      .withForwardedFieldsFirst("f1;f2;f3;f4")
+      .withForwardedFieldsSecond("f1->f0")
+      .join(vertexToGroup)
+      .where(1).equalTo(0)
+      .with(new UpdateEdgeGroupItem(1))
+      .withForwardedFieldsFirst("f0;f2;f3;f4")
+      .withForwardedFieldsSecond("f1->f1");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return GroupingSets.class.getName();
+  }
+
+  /**
+   * A set of vertex grouping keys, optionally including the vertex label.
+   */
+  private static final class GroupingSet {
+    /**
+     * True, iff the vertex label is part of the grouping set.
+     */
+    private final boolean useLabel;
+    /**
+     * Vertex property keys of the grouping set.
+     */
+    private final List<String> keys;
+
+    /**
+     * Creates a new grouping set.
+     *
+     * @param useLabel true, iff the vertex label is part of the grouping set
+     * @param keys     vertex property keys
+     */
+    private GroupingSet(boolean useLabel, List<String> keys) {
+      this.useLabel = useLabel;
+      this.keys = keys;
+    }
+  }
+
+  /**
+   * Used for building a grouping sets operator instance.
+   */
+  public static final class GroupingSetsBuilder {
+
+    /**
+     * Vertex grouping sets.
+     */
+    private final List<GroupingSet> groupingSets;
+
+    /**
+     * Property keys to group edges.
+     */
+    private final List<String> edgeGroupingKeys;
+
+    /**
+     * True, iff edge labels shall be considered.
+     */
+    private boolean useEdgeLabel;
+
+    /**
+     * Aggregate functions which will be applied on vertex properties.
+     */
+    private final List<PropertyValueAggregator> vertexValueAggregators;
+
+    /**
+     * Aggregate functions which will be applied on edge properties.
+     */
+    private final List<PropertyValueAggregator> edgeValueAggregators;
+
+    /**
+     * Creates a new grouping sets builder
+     */
+    public GroupingSetsBuilder() {
+      this.groupingSets           = Lists.newArrayList();
+      this.edgeGroupingKeys       = Lists.newArrayList();
+      this.useEdgeLabel           = false;
+      this.vertexValueAggregators = Lists.newArrayList();
+      this.edgeValueAggregators   = Lists.newArrayList();
+    }
+
+    /**
+     * Adds a vertex grouping set. Each grouping set results in a graph of the
+     * output collection.
+     *
+     * @param useLabel  true, iff vertices shall be grouped by their label
+     * @param keys      vertex property keys
+     * @return this builder
+     */
+    public GroupingSetsBuilder addVertexGroupingSet(boolean useLabel,
+      List<String> keys) {
+      checkNotNull(keys);
+      this.groupingSets.add(
+        new GroupingSet(useLabel, Lists.newArrayList(keys)));
+      return this;
+    }
+
+    /**
+     * Adds a grouping set for each level of the given hierarchy of vertex
+     * property keys, starting with the coarsest level. E.g. the hierarchy
+     * (country, city) adds the grouping sets (), (country) and
+     * (country, city).
+     *
+     * @param useLabel  true, iff vertices shall be grouped by their label on
+     *                  each level
+     * @param hierarchy vertex property keys from coarse to fine
+     * @return this builder
+     */
+    public GroupingSetsBuilder addVertexRollUp(boolean useLabel,
+      List<String> hierarchy) {
+      checkNotNull(hierarchy);
+      for (int i = 0; i <= hierarchy.size(); i++) {
+        addVertexGroupingSet(useLabel, hierarchy.subList(0, i));
+      }
+      return this;
+    }
+
+    /**
+     * Adds a property key to the edge grouping keys.
+     *
+     * @param key property key
+     * @return this builder
+     */
+    public GroupingSetsBuilder addEdgeGroupingKey(String key) {
+      checkNotNull(key);
+      this.edgeGroupingKeys.add(key);
+      return this;
+    }
+
+    /**
+     * Define, if the edge label shall be used for grouping edges.
+     *
+     * @param useEdgeLabel true, iff edge label shall be used for grouping
+     * @return this builder
+     */
+    public GroupingSetsBuilder useEdgeLabel(boolean useEdgeLabel) {
+      this.useEdgeLabel = useEdgeLabel;
+      return this;
+    }
+
+    /**
+     * Add an aggregate function which is applied on a group of vertices
+     * represented by a single super vertex.
+     *
+     * @param aggregator vertex aggregator
+     * @return this builder
+     */
+    public GroupingSetsBuilder addVertexAggregator(
+      PropertyValueAggregator aggregator) {
+      checkNotNull(aggregator, "Aggregator must not be null");
+      this.vertexValueAggregators.add(aggregator);
+      return this;
+    }
+
+    /**
+     * Add an aggregate function which is applied on a group of edges
+     * represented by a single super edge.
+     *
+     * @param aggregator edge aggregator
+     * @return this builder
+     */
+    public GroupingSetsBuilder addEdgeAggregator(
+      PropertyValueAggregator aggregator) {
+      checkNotNull(aggregator, "Aggregator must not be null");
+      this.edgeValueAggregators.add(aggregator);
+      return this;
+    }
+
+    /**
+     * Creates a new grouping sets operator instance based on the configured
+     * parameters.
+     *
+     * @return grouping sets operator instance
+     */
+    public GroupingSets build() {
+      if (groupingSets.isEmpty()) {
+        throw new IllegalArgumentException(
+          "Provide at least one vertex grouping set.");
+      }
+      return new GroupingSets(groupingSets, vertexValueAggregators,
+        edgeGroupingKeys, useEdgeLabel, edgeValueAggregators);
+    }
+  }
+}
@@ -29,5 +29,21 @@ public enum GroupingStrategy {
   /**
    * {@see GroupingGroupCombine}
    */
-  GROUP_COMBINE
+  GROUP_COMBINE,
+  /**
+   * {@see GroupingHashCombine}
+   */
+  HASH_COMBINE,
+  /**
+   * {@see GroupingSalted}
+   */
+  SALTED,
+  /**
+   * {@see GroupingAuto}
+   *
+   * Note that this strategy runs a separate job on a vertex sample when the
+   * operator is applied, i.e. while the program is built, to select one of
+   * the other strategies. That job reads the input graph once more.
+   */
+  AUTO
 }
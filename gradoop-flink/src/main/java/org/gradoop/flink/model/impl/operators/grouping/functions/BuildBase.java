@@ -18,10 +18,10 @@
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
 import com.google.common.collect.Lists;
-import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation
-  .CountAggregator;
+import org.apache.flink.util.InstantiationUtil;
 import org.gradoop.common.model.api.entities.EPGMAttributed;
 import org.gradoop.common.model.api.entities.EPGMLabeled;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MergeableAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Encapsulates logic that is used for building summarized vertices and edges.
@@ -42,9 +43,9 @@ abstract class BuildBase implements Serializable {
   private static final long serialVersionUID = 1L;
 
   /**
-   * Used for count aggregation.
+   * Group hash of items which are grouped on their full group key.
    */
-  private static final PropertyValue ONE = PropertyValue.create(1L);
+  protected static final long NO_GROUP_HASH = 0L;
 
   /**
    * Property keys that are used for grouping.
@@ -61,6 +62,16 @@ abstract class BuildBase implements Serializable {
    */
   private final List<PropertyValueAggregator> valueAggregators;
 
+  /**
+   * Computes group key fingerprints, created on first use.
+   */
+  private transient GroupKeyHasher groupKeyHasher;
+
+  /**
+   * Serialized aggregate functions, created on first copy.
+   */
+  private transient byte[] serializedAggregators;
+
   /**
    * Creates build base.
    *
@@ -167,6 +178,51 @@ abstract class BuildBase implements Serializable {
     }
   }
 
+  //----------------------------------------------------------------------------
+  // Group key fingerprint
+  //----------------------------------------------------------------------------
+
+  /**
+   * Returns a 64-bit fingerprint of the given group label and group property
+   * values. Items with the same fingerprint are grouped together, hence,
+   * reducers need to split such a group by the full group key (see
+   * {@link #isGroupMember(long, String, PropertyValueList, String,
+   * PropertyValueList)}).
+   *
+   * @param label           group label
+   * @param groupingValues  group property values
+   * @return non-zero group key fingerprint
+   */
+  protected long getGroupHash(String label, PropertyValueList groupingValues)
+      throws IOException {
+    if (groupKeyHasher == null) {
+      groupKeyHasher = new GroupKeyHasher();
+    }
+    return groupKeyHasher.hash(label, groupingValues);
+  }
+
+  /**
+   * Checks if an item belongs to the group represented by the given label and
+   * property values. If items are grouped on their full group key, this is
+   * always the case. If items are grouped on their group key fingerprint,
+   * items of different groups may share the same fingerprint. Reducers
+   * process those items as separate groups.
+   *
+   * @param groupHash           group key fingerprint
+   * @param groupLabel          label of the group
+   * @param groupPropertyValues property values of the group
+   * @param label               label of the item
+   * @param propertyValues      property values of the item
+   * @return true, iff the item belongs to the group
+   */
+  protected boolean isGroupMember(long groupHash, String groupLabel,
+    PropertyValueList groupPropertyValues, String label,
+    PropertyValueList propertyValues) {
+    return groupHash == NO_GROUP_HASH ||
+      (Objects.equals(groupLabel, label) &&
+        groupPropertyValues.equals(propertyValues));
+  }
+
   //----------------------------------------------------------------------------
   // Aggregation
   //----------------------------------------------------------------------------
@@ -182,8 +238,8 @@ abstract class BuildBase implements Serializable {
 
   /**
    * Returns the property values of the given element which are used for
-   * aggregation. If the EPGM element does not have a property, it uses
-   * {@code PropertyValue.NULL_VALUE} instead.
+   * aggregation (see
+   * {@link PropertyValueAggregator#getInputValue(EPGMAttributed)}).
    *
    * @param   attributed attributed EPGM element
    * @return  property values for aggregation
@@ -194,14 +250,7 @@ abstract class BuildBase implements Serializable {
       Lists.newArrayListWithCapacity(valueAggregators.size());
 
     for (PropertyValueAggregator valueAggregator : valueAggregators) {
-      String propertyKey = valueAggregator.getPropertyKey();
-      if (valueAggregator instanceof CountAggregator) {
-        propertyValues.add(ONE);
-      } else if (attributed.hasProperty(propertyKey)) {
-        propertyValues.add(attributed.getPropertyValue(propertyKey));
-      } else {
-        propertyValues.add(PropertyValue.NULL_VALUE);
-      }
+      propertyValues.add(valueAggregator.getInputValue(attributed));
     }
     return PropertyValueList.fromPropertyValues(propertyValues);
   }
@@ -212,7 +261,19 @@ abstract class BuildBase implements Serializable {
    * @param values property values
    */
   protected void aggregate(PropertyValueList values) {
-    Iterator<PropertyValueAggregator> aggIt = valueAggregators.iterator();
+    aggregate(valueAggregators, values);
+  }
+
+  /**
+   * Add the given values to the corresponding aggregate of the given
+   * aggregators.
+   *
+   * @param aggregators aggregate functions
+   * @param values      property values
+   */
+  protected static void aggregate(List<PropertyValueAggregator> aggregators,
+    PropertyValueList values) {
+    Iterator<PropertyValueAggregator> aggIt = aggregators.iterator();
     Iterator<PropertyValue> valueIt = values.iterator();
 
     while (aggIt.hasNext() && valueIt.hasNext()) {
@@ -229,20 +290,54 @@ abstract class BuildBase implements Serializable {
    * @return aggregate values
    */
   protected PropertyValueList getAggregateValues() throws IOException {
+    return getAggregateValues(valueAggregators);
+  }
+
+  /**
+   * Returns the current aggregate values from the given aggregators.
+   *
+   * @param aggregators aggregate functions
+   * @return aggregate values
+   */
+  protected static PropertyValueList getAggregateValues(
+    List<PropertyValueAggregator> aggregators) throws IOException {
     PropertyValueList result;
-    if (!doAggregate()) {
+    if (aggregators.isEmpty()) {
       result = PropertyValueList.createEmptyList();
     } else {
       List<PropertyValue> propertyValues =
-        Lists.newArrayListWithCapacity(valueAggregators.size());
-      for (PropertyValueAggregator valueAggregator : valueAggregators) {
-        propertyValues.add(valueAggregator.getAggregate());
+        Lists.newArrayListWithCapacity(aggregators.size());
+      for (PropertyValueAggregator aggregator : aggregators) {
+        propertyValues.add(aggregator.getAggregate());
       }
       result = PropertyValueList.fromPropertyValues(propertyValues);
     }
     return result;
   }
 
+  /**
+   * Returns new instances of the aggregate functions with an empty aggregate.
+   * Used to keep the aggregates of several groups at the same time.
+   *
+   * @return copy of the aggregate functions
+   * @throws IOException if the aggregate functions cannot be copied
+   */
+  @SuppressWarnings("unchecked")
+  protected List<PropertyValueAggregator> copyAggregators()
+      throws IOException {
+    if (serializedAggregators == null) {
+      resetAggregators();
+      serializedAggregators = InstantiationUtil.serializeObject(
+        Lists.newArrayList(valueAggregators));
+    }
+    try {
+      return (List<PropertyValueAggregator>) InstantiationUtil
+        .deserializeObject(serializedAggregators, getClass().getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Sets the final aggregate value as a new property at the given element. The
    * values are fetched from the internal aggregators.
@@ -254,7 +349,7 @@ abstract class BuildBase implements Serializable {
       for (PropertyValueAggregator valueAggregator : valueAggregators) {
         element.setProperty(
           valueAggregator.getAggregatePropertyKey(),
-          valueAggregator.getAggregate());
+          finish(valueAggregator, valueAggregator.getAggregate()));
       }
     }
   }
@@ -275,8 +370,24 @@ abstract class BuildBase implements Serializable {
         PropertyValueAggregator aggregator = aggIt.next();
         PropertyValue value = valueIt.next();
 
-        element.setProperty(aggregator.getAggregatePropertyKey(), value);
+        element.setProperty(
+          aggregator.getAggregatePropertyKey(), finish(aggregator, value));
       }
     }
   }
+
+  /**
+   * Converts the aggregate value of a whole group into the final aggregate of
+   * the given aggregator.
+   *
+   * @param aggregator  aggregate function
+   * @param value       aggregate of a group
+   * @return final aggregate
+   * @see MergeableAggregator#finish(PropertyValue)
+   */
+  private PropertyValue finish(PropertyValueAggregator aggregator,
+    PropertyValue value) {
+    return aggregator instanceof MergeableAggregator ?
+      ((MergeableAggregator) aggregator).finish(value) : value;
+  }
 }
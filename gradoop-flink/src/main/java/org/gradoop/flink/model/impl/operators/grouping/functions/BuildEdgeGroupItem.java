@@ -41,6 +41,11 @@ public class BuildEdgeGroupItem extends BuildBase implements
    */
   private final EdgeGroupItem reuseEdgeGroupItem;
 
+  /**
+   * True, if a fingerprint of the group key shall be computed.
+   */
+  private final boolean useGroupHash;
+
   /**
    * Creates map function.
    *
@@ -50,7 +55,23 @@ public class BuildEdgeGroupItem extends BuildBase implements
    */
   public BuildEdgeGroupItem(List<String> groupPropertyKeys,
     boolean useLabel, List<PropertyValueAggregator> edgeAggregators) {
+    this(groupPropertyKeys, useLabel, edgeAggregators, false);
+  }
+
+  /**
+   * Creates map function.
+   *
+   * @param groupPropertyKeys vertex property key for grouping
+   * @param useLabel          true, if vertex label shall be used
+   * @param edgeAggregators   aggregate functions for super edges
+   * @param useGroupHash      true, if a fingerprint of label and grouping
+   *                          values shall be computed
+   */
+  public BuildEdgeGroupItem(List<String> groupPropertyKeys,
+    boolean useLabel, List<PropertyValueAggregator> edgeAggregators,
+    boolean useGroupHash) {
     super(groupPropertyKeys, useLabel, edgeAggregators);
+    this.useGroupHash = useGroupHash;
     this.reuseEdgeGroupItem = new EdgeGroupItem();
     if (!doAggregate()) {
       this.reuseEdgeGroupItem.setAggregateValues(
@@ -67,6 +88,11 @@ public class BuildEdgeGroupItem extends BuildBase implements
     reuseEdgeGroupItem.setTargetId(edge.getTargetId());
     reuseEdgeGroupItem.setGroupLabel(getLabel(edge));
     reuseEdgeGroupItem.setGroupingValues(getGroupProperties(edge));
+    if (useGroupHash) {
+      reuseEdgeGroupItem.setGroupHash(getGroupHash(
+        reuseEdgeGroupItem.getGroupLabel(),
+        reuseEdgeGroupItem.getGroupingValues()));
+    }
     if (doAggregate()) {
       reuseEdgeGroupItem.setAggregateValues(getAggregateValues(edge));
     }
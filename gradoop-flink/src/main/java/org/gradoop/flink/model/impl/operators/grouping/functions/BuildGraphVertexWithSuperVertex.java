@@ -0,0 +1,60 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+
+/**
+ * Maps each regular vertex tuple of a graph to a (graph id,
+ * {@link VertexWithSuperVertex}) tuple. Super vertex tuples are skipped.
+ */
+public class BuildGraphVertexWithSuperVertex implements
+  FlatMapFunction<Tuple2<GradoopId, VertexGroupItem>,
+    Tuple2<GradoopId, VertexWithSuperVertex>> {
+
+  /**
+   * Avoid object instantiations.
+   */
+  private final Tuple2<GradoopId, VertexWithSuperVertex> reuseTuple;
+
+  /**
+   * Creates flat map function.
+   */
+  public BuildGraphVertexWithSuperVertex() {
+    this.reuseTuple = new Tuple2<>();
+    this.reuseTuple.f1 = new VertexWithSuperVertex();
+  }
+
+  @Override
+  public void flatMap(Tuple2<GradoopId, VertexGroupItem> graphGroupItem,
+    Collector<Tuple2<GradoopId, VertexWithSuperVertex>> out) throws Exception {
+    VertexGroupItem groupItem = graphGroupItem.f1;
+    if (groupItem.isSuperVertex()) {
+      return;
+    }
+    reuseTuple.f0 = graphGroupItem.f0;
+    reuseTuple.f1.setVertexId(groupItem.getVertexId());
+    reuseTuple.f1.setSuperVertexId(groupItem.getSuperVertexId());
+    out.collect(reuseTuple);
+  }
+}
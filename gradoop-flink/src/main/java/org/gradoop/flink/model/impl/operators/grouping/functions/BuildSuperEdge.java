@@ -17,6 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
+import com.google.common.collect.Lists;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
 
@@ -26,7 +27,8 @@ import java.io.IOException;
 import java.util.List;
 
 /**
- * Creates a single {@link EdgeGroupItem} from a set of group items.
+ * Creates a single {@link EdgeGroupItem} for each group key from a set of
+ * group items.
  *
  * @see ReduceEdgeGroupItems
  * @see CombineEdgeGroupItems
@@ -47,15 +49,43 @@ abstract class BuildSuperEdge extends BuildBase {
   }
 
   /**
-   * Iterators the given edge group items and build a group representative item.
+   * Iterators the given edge group items and builds a group representative
+   * item for each group key. There is more than one group key, iff items of
+   * different groups share the same group key fingerprint.
    *
    * @param edgeGroupItems edge group items
-   * @return group representative item
+   * @return group representative items including their aggregate values
    */
-  protected EdgeGroupItem reduceInternal(
+  protected List<EdgeGroupItem> reduceInternal(
     Iterable<EdgeGroupItem> edgeGroupItems) throws IOException {
 
+    List<EdgeGroupItem> collisions = Lists.newArrayList();
+    List<EdgeGroupItem> groupItems =
+      Lists.newArrayList(reduceGroup(edgeGroupItems, collisions));
+
+    // items of other groups with the same group key fingerprint
+    while (!collisions.isEmpty()) {
+      List<EdgeGroupItem> remaining = collisions;
+      collisions = Lists.newArrayList();
+      groupItems.add(reduceGroup(remaining, collisions));
+    }
+
+    return groupItems;
+  }
+
+  /**
+   * Builds a group representative item from all items which have the same
+   * group key as the first item.
+   *
+   * @param edgeGroupItems edge group items
+   * @param collisions     stores copies of the items of other groups
+   * @return group representative item
+   */
+  private EdgeGroupItem reduceGroup(Iterable<EdgeGroupItem> edgeGroupItems,
+    List<EdgeGroupItem> collisions) throws IOException {
+
     EdgeGroupItem edgeGroupItem = new EdgeGroupItem();
+    String groupLabel = null;
 
     boolean firstElement = true;
 
@@ -63,24 +93,32 @@ abstract class BuildSuperEdge extends BuildBase {
       if (firstElement) {
         edgeGroupItem.setSourceId(edge.getSourceId());
         edgeGroupItem.setTargetId(edge.getTargetId());
+        groupLabel = edge.getGroupLabel();
         if (useLabel()) {
-          edgeGroupItem.setGroupLabel(edge.getGroupLabel());
+          edgeGroupItem.setGroupLabel(groupLabel);
         } else {
           edgeGroupItem.setGroupLabel(GConstants.DEFAULT_EDGE_LABEL);
         }
         edgeGroupItem.setGroupingValues(edge.getGroupingValues());
+        edgeGroupItem.setGroupHash(edge.getGroupHash());
         firstElement = false;
+      } else if (!isGroupMember(edgeGroupItem.getGroupHash(), groupLabel,
+        edgeGroupItem.getGroupingValues(), edge.getGroupLabel(),
+        edge.getGroupingValues())) {
+        collisions.add(edge.copy());
+        continue;
       }
 
       if (doAggregate()) {
         aggregate(edge.getAggregateValues());
-      } else {
+      } else if (edgeGroupItem.getGroupHash() == NO_GROUP_HASH) {
         // no need to iterate further
         break;
       }
     }
 
     edgeGroupItem.setAggregateValues(getAggregateValues());
+    resetAggregators();
 
     return edgeGroupItem;
   }
@@ -44,6 +44,11 @@ public class BuildVertexGroupItem extends BuildBase implements
    */
   private final VertexGroupItem reuseVertexGroupItem;
 
+  /**
+   * True, if a fingerprint of the group key shall be computed.
+   */
+  private final boolean useGroupHash;
+
   /**
    * Creates map function
    *
@@ -53,7 +58,23 @@ public class BuildVertexGroupItem extends BuildBase implements
    */
   public BuildVertexGroupItem(List<String> groupPropertyKeys,
     boolean useLabel, List<PropertyValueAggregator> vertexAggregators) {
+    this(groupPropertyKeys, useLabel, vertexAggregators, false);
+  }
+
+  /**
+   * Creates map function
+   *
+   * @param groupPropertyKeys vertex property keys
+   * @param useLabel          true, if label shall be considered
+   * @param vertexAggregators aggregate functions for super vertices
+   * @param useGroupHash      true, if a fingerprint of label and grouping
+   *                          values shall be computed
+   */
+  public BuildVertexGroupItem(List<String> groupPropertyKeys,
+    boolean useLabel, List<PropertyValueAggregator> vertexAggregators,
+    boolean useGroupHash) {
     super(groupPropertyKeys, useLabel, vertexAggregators);
+    this.useGroupHash = useGroupHash;
 
     this.reuseVertexGroupItem = new VertexGroupItem();
     this.reuseVertexGroupItem.setSuperVertexId(GradoopId.NULL_VALUE);
@@ -72,6 +93,11 @@ public class BuildVertexGroupItem extends BuildBase implements
     reuseVertexGroupItem.setVertexId(vertex.getId());
     reuseVertexGroupItem.setGroupLabel(getLabel(vertex));
     reuseVertexGroupItem.setGroupingValues(getGroupProperties(vertex));
+    if (useGroupHash) {
+      reuseVertexGroupItem.setGroupHash(getGroupHash(
+        reuseVertexGroupItem.getGroupLabel(),
+        reuseVertexGroupItem.getGroupingValues()));
+    }
     if (doAggregate()) {
       reuseVertexGroupItem.setAggregateValues(getAggregateValues(vertex));
     }
@@ -44,7 +44,8 @@ public class CombineEdgeGroupItems
   }
 
   /**
-   * Reduces edge group items to a single edge group item and collects it.
+   * Reduces edge group items to a single edge group item per group key and
+   * collects it.
    *
    * @param edgeGroupItems  edge group items
    * @param collector       output collector
@@ -53,7 +54,8 @@ public class CombineEdgeGroupItems
   @Override
   public void combine(Iterable<EdgeGroupItem> edgeGroupItems,
     Collector<EdgeGroupItem> collector) throws Exception {
-    collector.collect(reduceInternal(edgeGroupItems));
-    resetAggregators();
+    for (EdgeGroupItem edgeGroupItem : reduceInternal(edgeGroupItems)) {
+      collector.collect(edgeGroupItem);
+    }
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+/**
+ * Combines a group of {@link EdgeGroupItem} of a graph to a single
+ * {@link EdgeGroupItem} of that graph.
+ */
+public class CombineGraphEdgeGroupItems extends BuildSuperEdge
+  implements GroupCombineFunction
+  <Tuple2<GradoopId, EdgeGroupItem>, Tuple2<GradoopId, EdgeGroupItem>> {
+
+  /**
+   * Avoid object instantiations.
+   */
+  private final Tuple2<GradoopId, EdgeGroupItem> reuseTuple;
+
+  /**
+   * Creates group combiner
+   *
+   * @param groupPropertyKeys edge property keys
+   * @param useLabel          use edge label
+   * @param valueAggregators  aggregate functions for edge values
+   */
+  public CombineGraphEdgeGroupItems(List<String> groupPropertyKeys,
+    boolean useLabel, List<PropertyValueAggregator> valueAggregators) {
+    super(groupPropertyKeys, useLabel, valueAggregators);
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void combine(Iterable<Tuple2<GradoopId, EdgeGroupItem>> items,
+    Collector<Tuple2<GradoopId, EdgeGroupItem>> collector) throws Exception {
+    GraphScopedItems<EdgeGroupItem> edgeGroupItems =
+      new GraphScopedItems<>(items);
+
+    reuseTuple.f0 = edgeGroupItems.getGraphId();
+    for (EdgeGroupItem edgeGroupItem : reduceInternal(edgeGroupItems)) {
+      reuseTuple.f1 = edgeGroupItem;
+      collector.collect(reuseTuple);
+    }
+  }
+}
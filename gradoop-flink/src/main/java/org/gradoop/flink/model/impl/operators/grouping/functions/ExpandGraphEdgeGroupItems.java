@@ -0,0 +1,48 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+/**
+ * Creates an {@link EdgeGroupItem} for an edge and pairs it with each id of
+ * a broadcasted set of graphs the edge is contained in.
+ */
+public class ExpandGraphEdgeGroupItems
+  extends ExpandGraphGroupItems<Edge, EdgeGroupItem> {
+
+  /**
+   * Creates flat map function.
+   *
+   * @param groupPropertyKeys edge property keys
+   * @param useLabel          true, if label shall be considered
+   * @param edgeAggregators   aggregate functions for super edges
+   * @param useGroupHash      true, if a fingerprint of label and grouping
+   *                          values shall be computed
+   */
+  public ExpandGraphEdgeGroupItems(List<String> groupPropertyKeys,
+    boolean useLabel, List<PropertyValueAggregator> edgeAggregators,
+    boolean useGroupHash) {
+    super(new BuildEdgeGroupItem(
+      groupPropertyKeys, useLabel, edgeAggregators, useGroupHash));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMGraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.functions.graphcontainment.GraphIdSetInitializer;
+
+import java.util.Set;
+
+/**
+ * Creates a group item for a graph element and pairs it with each id of a
+ * broadcasted set of graphs the element is contained in.
+ *
+ * @param <GE> graph element type
+ * @param <GI> group item type
+ */
+public abstract class ExpandGraphGroupItems<GE extends EPGMGraphElement, GI>
+  extends RichFlatMapFunction<GE, Tuple2<GradoopId, GI>> {
+
+  /**
+   * constant string for "graph ids"
+   */
+  public static final String GRAPH_IDS = "graphIds";
+
+  /**
+   * Creates the group item of an element.
+   */
+  private final MapFunction<GE, GI> buildGroupItem;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GI> reuseTuple;
+
+  /**
+   * Ids of the graphs to group
+   */
+  private Set<GradoopId> graphIds;
+
+  /**
+   * Creates flat map function.
+   *
+   * @param buildGroupItem creates the group item of an element
+   */
+  protected ExpandGraphGroupItems(MapFunction<GE, GI> buildGroupItem) {
+    this.buildGroupItem = buildGroupItem;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    graphIds = getRuntimeContext().getBroadcastVariableWithInitializer(
+      GRAPH_IDS, new GraphIdSetInitializer());
+  }
+
+  @Override
+  public void flatMap(GE element, Collector<Tuple2<GradoopId, GI>> out)
+      throws Exception {
+    if (element.getGraphIds() == null) {
+      return;
+    }
+    reuseTuple.f1 = null;
+    for (GradoopId graphId : element.getGraphIds()) {
+      if (graphIds.contains(graphId)) {
+        if (reuseTuple.f1 == null) {
+          reuseTuple.f1 = buildGroupItem.map(element);
+        }
+        reuseTuple.f0 = graphId;
+        out.collect(reuseTuple);
+      }
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Pairs each collected item with a graph id and forwards the resulting tuple
+ * to the wrapped collector.
+ *
+ * @param <T> item type
+ */
+class GraphScopedCollector<T> implements Collector<T> {
+
+  /**
+   * Wrapped collector
+   */
+  private final Collector<Tuple2<GradoopId, T>> collector;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, T> reuseTuple;
+
+  /**
+   * Creates a new collector.
+   *
+   * @param graphId   graph id which is added to each item
+   * @param collector wrapped collector
+   */
+  GraphScopedCollector(GradoopId graphId,
+    Collector<Tuple2<GradoopId, T>> collector) {
+    this.collector = collector;
+    this.reuseTuple = new Tuple2<>();
+    this.reuseTuple.f0 = graphId;
+  }
+
+  @Override
+  public void collect(T item) {
+    reuseTuple.f1 = item;
+    collector.collect(reuseTuple);
+  }
+
+  @Override
+  public void close() {
+    collector.close();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Iterator;
+
+/**
+ * Iterates the items of a group of (graph id, item) tuples. All tuples of
+ * the group are expected to share the same graph id.
+ *
+ * @param <T> item type
+ */
+class GraphScopedItems<T> implements Iterable<T>, Iterator<T> {
+
+  /**
+   * Iterator over the (graph id, item) tuples.
+   */
+  private final Iterator<Tuple2<GradoopId, T>> iterator;
+
+  /**
+   * Graph id of the group.
+   */
+  private final GradoopId graphId;
+
+  /**
+   * First item of the group which has been read to determine the graph id.
+   */
+  private T first;
+
+  /**
+   * Creates a new iterable and reads the first tuple of the group.
+   *
+   * @param items (graph id, item) tuples
+   */
+  GraphScopedItems(Iterable<Tuple2<GradoopId, T>> items) {
+    this.iterator = items.iterator();
+    Tuple2<GradoopId, T> head = iterator.next();
+    this.graphId = head.f0;
+    this.first = head.f1;
+  }
+
+  /**
+   * Returns the graph id of the group.
+   *
+   * @return graph id
+   */
+  GradoopId getGraphId() {
+    return graphId;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return this;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return first != null || iterator.hasNext();
+  }
+
+  @Override
+  public T next() {
+    T item;
+    if (first != null) {
+      item = first;
+      first = null;
+    } else {
+      item = iterator.next().f1;
+    }
+    return item;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove is not supported");
+  }
+}
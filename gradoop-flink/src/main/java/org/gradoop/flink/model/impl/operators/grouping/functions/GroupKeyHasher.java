@@ -0,0 +1,101 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.common.util.ContentHash;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Computes a 64-bit fingerprint of a group label and the serialized group
+ * property values. The bytes are hashed with FNV-1a and the result is
+ * finalized with the MurmurHash3 mix function.
+ *
+ * The fingerprint is never 0, which is used to indicate a missing
+ * fingerprint.
+ */
+class GroupKeyHasher extends OutputStream {
+
+  /**
+   * FNV-1a 64-bit offset basis
+   */
+  private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  /**
+   * FNV-1a 64-bit prime
+   */
+  private static final long PRIME = 0x100000001b3L;
+
+  /**
+   * Used to serialize label and property values into this stream
+   */
+  private final DataOutputStream out;
+
+  /**
+   * Current hash state
+   */
+  private long hash;
+
+  /**
+   * Creates a new hasher.
+   */
+  GroupKeyHasher() {
+    this.out = new DataOutputStream(this);
+  }
+
+  /**
+   * Computes the fingerprint of the given group key.
+   *
+   * @param label           group label (may be {@code null})
+   * @param groupingValues  group property values
+   * @return non-zero fingerprint
+   * @throws IOException if the property values cannot be serialized
+   */
+  long hash(String label, PropertyValueList groupingValues)
+    throws IOException {
+    hash = OFFSET_BASIS;
+    if (label == null) {
+      out.writeBoolean(false);
+    } else {
+      out.writeBoolean(true);
+      out.writeUTF(label);
+    }
+    groupingValues.write(out);
+    out.flush();
+
+    long h = ContentHash.mix(hash);
+    return h == 0L ? 1L : h;
+  }
+
+  @Override
+  public void write(int b) {
+    hash ^= b & 0xff;
+    hash *= PRIME;
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    for (int i = offset; i < offset + length; i++) {
+      hash ^= bytes[i] & 0xff;
+      hash *= PRIME;
+    }
+  }
+}
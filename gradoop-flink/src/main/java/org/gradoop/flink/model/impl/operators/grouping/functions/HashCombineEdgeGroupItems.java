@@ -0,0 +1,167 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.common.util.GConstants;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-aggregates {@link EdgeGroupItem} instances of a partition in a hash
+ * table keyed by source id, target id, group label and grouping values. In
+ * contrast to {@link CombineEdgeGroupItems}, the input does not need to be
+ * sorted.
+ *
+ * Each group in the table owns a copy of the aggregate functions which
+ * aggregates the values of its items in place. The partial group items are
+ * emitted when the table holds the maximum number of groups and a new group
+ * arrives, and at the end of the partition.
+ */
+public class HashCombineEdgeGroupItems extends BuildBase
+  implements MapPartitionFunction<EdgeGroupItem, EdgeGroupItem> {
+
+  /**
+   * Maximum number of groups in the hash table. This limits the number of
+   * entries, not the memory used by their keys and aggregates.
+   */
+  private final int maxGroups;
+
+  /**
+   * Partial group items and their aggregate functions by source id, target
+   * id, label and grouping values.
+   */
+  private final Map<Tuple4<GradoopId, GradoopId, String, PropertyValueList>,
+    Tuple2<EdgeGroupItem, List<PropertyValueAggregator>>> groups;
+
+  /**
+   * Aggregate functions of flushed groups, reused for new groups.
+   */
+  private final Deque<List<PropertyValueAggregator>> spareAggregators;
+
+  /**
+   * Reduce object instantiations. Only copied if a new group is inserted.
+   */
+  private final Tuple4<GradoopId, GradoopId, String, PropertyValueList>
+    groupKey;
+
+  /**
+   * Creates map partition function.
+   *
+   * @param groupPropertyKeys edge property keys
+   * @param useLabel          use edge label
+   * @param valueAggregators  aggregate functions for edge values
+   * @param maxGroups         maximum number of groups in the hash table
+   */
+  public HashCombineEdgeGroupItems(List<String> groupPropertyKeys,
+    boolean useLabel, List<PropertyValueAggregator> valueAggregators,
+    int maxGroups) {
+    super(groupPropertyKeys, useLabel, valueAggregators);
+    if (maxGroups < 1) {
+      throw new IllegalArgumentException("maxGroups must be positive");
+    }
+    this.maxGroups = maxGroups;
+    this.groups = Maps.newHashMap();
+    this.spareAggregators = new ArrayDeque<>();
+    this.groupKey = new Tuple4<>();
+  }
+
+  @Override
+  public void mapPartition(Iterable<EdgeGroupItem> edgeGroupItems,
+    Collector<EdgeGroupItem> collector) throws Exception {
+
+    for (EdgeGroupItem edge : edgeGroupItems) {
+      groupKey.f0 = edge.getSourceId();
+      groupKey.f1 = edge.getTargetId();
+      groupKey.f2 = edge.getGroupLabel();
+      groupKey.f3 = edge.getGroupingValues();
+
+      Tuple2<EdgeGroupItem, List<PropertyValueAggregator>> group =
+        groups.get(groupKey);
+
+      if (group == null) {
+        if (groups.size() >= maxGroups) {
+          flush(collector);
+        }
+        EdgeGroupItem groupItem = new EdgeGroupItem();
+        groupItem.setSourceId(edge.getSourceId());
+        groupItem.setTargetId(edge.getTargetId());
+        if (useLabel()) {
+          groupItem.setGroupLabel(edge.getGroupLabel());
+        } else {
+          groupItem.setGroupLabel(GConstants.DEFAULT_EDGE_LABEL);
+        }
+        groupItem.setGroupingValues(edge.getGroupingValues());
+        groupItem.setGroupHash(edge.getGroupHash());
+
+        group = Tuple2.of(groupItem, newAggregators());
+        groups.put(groupKey.copy(), group);
+      }
+
+      if (doAggregate()) {
+        aggregate(group.f1, edge.getAggregateValues());
+      }
+    }
+
+    flush(collector);
+  }
+
+  /**
+   * Returns aggregate functions with an empty aggregate for a new group.
+   *
+   * @return aggregate functions
+   * @throws IOException
+   */
+  private List<PropertyValueAggregator> newAggregators() throws IOException {
+    return spareAggregators.isEmpty() ?
+      copyAggregators() : spareAggregators.pop();
+  }
+
+  /**
+   * Collects all partial group items with their partial aggregates and clears
+   * the hash table.
+   *
+   * @param collector output collector
+   * @throws IOException
+   */
+  private void flush(Collector<EdgeGroupItem> collector) throws IOException {
+    for (Tuple2<EdgeGroupItem, List<PropertyValueAggregator>> group :
+      groups.values()) {
+      group.f0.setAggregateValues(getAggregateValues(group.f1));
+      collector.collect(group.f0);
+
+      for (PropertyValueAggregator aggregator : group.f1) {
+        aggregator.resetAggregate();
+      }
+      spareAggregators.push(group.f1);
+    }
+    groups.clear();
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-aggregates {@link VertexGroupItem} instances of a partition in a hash
+ * table keyed by group label and grouping values. In contrast to
+ * {@link CombineVertexGroupItems}, the input does not need to be sorted.
+ *
+ * Each group in the table owns a copy of the aggregate functions which
+ * aggregates the values of its items in place. Each incoming item is
+ * forwarded with the id of its partition local super vertex. The super vertex
+ * tuples holding the partial aggregates are emitted when the table holds the
+ * maximum number of groups and a new group arrives, and at the end of the
+ * partition. Thus, the output has the same structure as the output of
+ * {@link CombineVertexGroupItems}.
+ */
+public class HashCombineVertexGroupItems extends ReduceVertexGroupItemBase
+  implements MapPartitionFunction<VertexGroupItem, VertexGroupItem> {
+
+  /**
+   * Maximum number of groups in the hash table. This limits the number of
+   * entries, not the memory used by their keys and aggregates.
+   */
+  private final int maxGroups;
+
+  /**
+   * Partial super vertex tuples and their aggregate functions by group label
+   * and grouping values.
+   */
+  private final Map<Tuple2<String, PropertyValueList>,
+    Tuple2<VertexGroupItem, List<PropertyValueAggregator>>> groups;
+
+  /**
+   * Aggregate functions of flushed groups, reused for new groups.
+   */
+  private final Deque<List<PropertyValueAggregator>> spareAggregators;
+
+  /**
+   * Reduce object instantiations. Only copied if a new group is inserted.
+   */
+  private final Tuple2<String, PropertyValueList> groupKey;
+
+  /**
+   * Creates map partition function.
+   *
+   * @param useLabel          true, iff labels are used for grouping
+   * @param vertexAggregators aggregate functions for super vertices
+   * @param maxGroups         maximum number of groups in the hash table
+   */
+  public HashCombineVertexGroupItems(boolean useLabel,
+    List<PropertyValueAggregator> vertexAggregators, int maxGroups) {
+    super(null, useLabel, vertexAggregators);
+    if (maxGroups < 1) {
+      throw new IllegalArgumentException("maxGroups must be positive");
+    }
+    this.maxGroups = maxGroups;
+    this.groups = Maps.newHashMap();
+    this.spareAggregators = new ArrayDeque<>();
+    this.groupKey = new Tuple2<>();
+  }
+
+  @Override
+  public void mapPartition(Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<VertexGroupItem> collector) throws Exception {
+
+    VertexGroupItem reuseTuple = getReuseVertexGroupItem();
+    reuseTuple.setSuperVertex(false);
+
+    for (VertexGroupItem groupItem : vertexGroupItems) {
+      groupKey.f0 = groupItem.getGroupLabel();
+      groupKey.f1 = groupItem.getGroupingValues();
+
+      Tuple2<VertexGroupItem, List<PropertyValueAggregator>> group =
+        groups.get(groupKey);
+
+      if (group == null) {
+        if (groups.size() >= maxGroups) {
+          flush(collector);
+        }
+        GradoopId superVertexId = GradoopId.get();
+
+        VertexGroupItem superVertexTuple = new VertexGroupItem();
+        superVertexTuple.setVertexId(superVertexId);
+        superVertexTuple.setSuperVertexId(superVertexId);
+        superVertexTuple.setGroupLabel(groupItem.getGroupLabel());
+        superVertexTuple.setGroupingValues(groupItem.getGroupingValues());
+        superVertexTuple.setGroupHash(groupItem.getGroupHash());
+        superVertexTuple.setSuperVertex(true);
+
+        group = Tuple2.of(superVertexTuple, newAggregators());
+        groups.put(groupKey.copy(), group);
+      }
+
+      if (doAggregate()) {
+        aggregate(group.f1, groupItem.getAggregateValues());
+      }
+
+      // collect updated vertex item
+      reuseTuple.setVertexId(groupItem.getVertexId());
+      reuseTuple.setSuperVertexId(group.f0.getSuperVertexId());
+      reuseTuple.setGroupLabel(groupItem.getGroupLabel());
+      reuseTuple.setGroupingValues(groupItem.getGroupingValues());
+      reuseTuple.setAggregateValues(groupItem.getAggregateValues());
+      collector.collect(reuseTuple);
+    }
+
+    flush(collector);
+  }
+
+  /**
+   * Returns aggregate functions with an empty aggregate for a new group.
+   *
+   * @return aggregate functions
+   * @throws IOException
+   */
+  private List<PropertyValueAggregator> newAggregators() throws IOException {
+    return spareAggregators.isEmpty() ?
+      copyAggregators() : spareAggregators.pop();
+  }
+
+  /**
+   * Collects all super vertex tuples with their partial aggregates and clears
+   * the hash table.
+   *
+   * @param collector output collector
+   * @throws IOException
+   */
+  private void flush(Collector<VertexGroupItem> collector) throws IOException {
+    for (Tuple2<VertexGroupItem, List<PropertyValueAggregator>> group :
+      groups.values()) {
+      group.f0.setAggregateValues(getAggregateValues(group.f1));
+      collector.collect(group.f0);
+
+      for (PropertyValueAggregator aggregator : group.f1) {
+        aggregator.resetAggregate();
+      }
+      spareAggregators.push(group.f1);
+    }
+    groups.clear();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.List;
+
+/**
+ * Takes a {@link VertexGroupItem} representing a fine-grained vertex group and
+ * projects its grouping values to a subset of the grouping keys. The result
+ * represents the fine-grained group as a member of a coarser group, i.e. the
+ * super vertex id of the fine-grained group becomes the vertex id and its
+ * partial aggregates become the values to aggregate.
+ *
+ * Example (projecting (label, country, city) to (label, country)):
+ * (10,10,Person,[DE,Leipzig],[2]) -> (10,NULL,Person,[DE],[2])
+ */
+@FunctionAnnotation.ForwardedFields(
+  "f1->f0;" + // super vertex id
+  "f4"        // aggregate values
+)
+public class ProjectVertexGroupItem
+  implements MapFunction<VertexGroupItem, VertexGroupItem> {
+
+  /**
+   * Positions of the projected values in the grouping values.
+   */
+  private final int[] positions;
+
+  /**
+   * True, iff the group label is kept.
+   */
+  private final boolean useLabel;
+
+  /**
+   * Avoid object instantiation.
+   */
+  private final VertexGroupItem reuseVertexGroupItem;
+
+  /**
+   * Creates map function.
+   *
+   * @param positions positions of the projected values in the grouping values
+   * @param useLabel  true, iff the group label shall be kept
+   */
+  public ProjectVertexGroupItem(int[] positions, boolean useLabel) {
+    this.positions = positions;
+    this.useLabel = useLabel;
+    this.reuseVertexGroupItem = new VertexGroupItem();
+    this.reuseVertexGroupItem.setSuperVertexId(GradoopId.NULL_VALUE);
+    this.reuseVertexGroupItem.setSuperVertex(false);
+  }
+
+  @Override
+  public VertexGroupItem map(VertexGroupItem groupItem) throws Exception {
+    List<PropertyValue> values = Lists.newArrayList(
+      groupItem.getGroupingValues());
+    List<PropertyValue> projectedValues =
+      Lists.newArrayListWithCapacity(positions.length);
+    for (int position : positions) {
+      projectedValues.add(values.get(position));
+    }
+
+    reuseVertexGroupItem.setVertexId(groupItem.getSuperVertexId());
+    reuseVertexGroupItem.setGroupLabel(
+      useLabel ? groupItem.getGroupLabel() : null);
+    reuseVertexGroupItem.setGroupingValues(
+      PropertyValueList.fromPropertyValues(projectedValues));
+    reuseVertexGroupItem.setAggregateValues(groupItem.getAggregateValues());
+    return reuseVertexGroupItem;
+  }
+}
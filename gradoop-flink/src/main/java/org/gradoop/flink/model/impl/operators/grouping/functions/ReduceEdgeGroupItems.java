@@ -60,8 +60,8 @@ public class ReduceEdgeGroupItems extends BuildSuperEdge
   }
 
   /**
-   * Reduces edge group items to a single edge group item, creates a new
-   * super EPGM edge and collects it.
+   * Reduces edge group items to a single edge group item per group key,
+   * creates a new super EPGM edge and collects it.
    *
    * @param edgeGroupItems  edge group items
    * @param collector       output collector
@@ -71,18 +71,17 @@ public class ReduceEdgeGroupItems extends BuildSuperEdge
   public void reduce(Iterable<EdgeGroupItem> edgeGroupItems,
     Collector<Edge> collector) throws Exception {
 
-    EdgeGroupItem edgeGroupItem = reduceInternal(edgeGroupItems);
+    for (EdgeGroupItem edgeGroupItem : reduceInternal(edgeGroupItems)) {
+      Edge superEdge = edgeFactory.createEdge(
+        edgeGroupItem.getGroupLabel(),
+        edgeGroupItem.getSourceId(),
+        edgeGroupItem.getTargetId());
 
-    Edge superEdge = edgeFactory.createEdge(
-      edgeGroupItem.getGroupLabel(),
-      edgeGroupItem.getSourceId(),
-      edgeGroupItem.getTargetId());
+      setGroupProperties(superEdge, edgeGroupItem.getGroupingValues());
+      setAggregateValues(superEdge, edgeGroupItem.getAggregateValues());
 
-    setGroupProperties(superEdge, edgeGroupItem.getGroupingValues());
-    setAggregateValues(superEdge);
-    resetAggregators();
-
-    collector.collect(superEdge);
+      collector.collect(superEdge);
+    }
   }
 
   /**
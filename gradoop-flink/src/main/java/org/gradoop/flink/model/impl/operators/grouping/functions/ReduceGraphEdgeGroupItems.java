@@ -0,0 +1,92 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+/**
+ * Creates a new super edge representing an edge group of a graph. The edge
+ * stores the group label, the group property value and the aggregate values
+ * for its group and is contained in the graph of its group.
+ */
+public class ReduceGraphEdgeGroupItems extends BuildSuperEdge
+  implements GroupReduceFunction<Tuple2<GradoopId, EdgeGroupItem>, Edge>,
+  ResultTypeQueryable<Edge> {
+
+  /**
+   * Edge factory.
+   */
+  private final EdgeFactory edgeFactory;
+
+  /**
+   * Creates group reducer
+   *
+   * @param groupPropertyKeys edge property keys
+   * @param useLabel          use edge label
+   * @param valueAggregators  aggregate functions for edge values
+   * @param edgeFactory       edge factory
+   */
+  public ReduceGraphEdgeGroupItems(List<String> groupPropertyKeys,
+    boolean useLabel, List<PropertyValueAggregator> valueAggregators,
+    EdgeFactory edgeFactory) {
+    super(groupPropertyKeys, useLabel, valueAggregators);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple2<GradoopId, EdgeGroupItem>> items,
+    Collector<Edge> collector) throws Exception {
+    GraphScopedItems<EdgeGroupItem> edgeGroupItems =
+      new GraphScopedItems<>(items);
+
+    for (EdgeGroupItem edgeGroupItem : reduceInternal(edgeGroupItems)) {
+      Edge superEdge = edgeFactory.createEdge(
+        edgeGroupItem.getGroupLabel(),
+        edgeGroupItem.getSourceId(),
+        edgeGroupItem.getTargetId(),
+        GradoopIdSet.fromExisting(edgeGroupItems.getGraphId()));
+
+      setGroupProperties(superEdge, edgeGroupItem.getGroupingValues());
+      setAggregateValues(superEdge, edgeGroupItem.getAggregateValues());
+
+      collector.collect(superEdge);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public TypeInformation<Edge> getProducedType() {
+    return TypeExtractor.createTypeInfo(edgeFactory.getType());
+  }
+}
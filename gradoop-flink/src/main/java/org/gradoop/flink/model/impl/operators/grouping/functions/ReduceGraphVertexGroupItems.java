@@ -0,0 +1,63 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+
+import java.util.List;
+
+/**
+ * Reduces a group of {@link VertexGroupItem} instances within a single graph.
+ * The group items are reduced as in {@link ReduceVertexGroupItems} and the
+ * graph id is kept for each output item.
+ */
+public class ReduceGraphVertexGroupItems implements GroupReduceFunction
+  <Tuple2<GradoopId, VertexGroupItem>, Tuple2<GradoopId, VertexGroupItem>> {
+
+  /**
+   * Reduces the vertex group items of a single graph.
+   */
+  private final ReduceVertexGroupItems reduceVertexGroupItems;
+
+  /**
+   * Creates group reduce function.
+   *
+   * @param useLabel          true, iff labels are used for grouping
+   * @param vertexAggregators aggregate functions for super vertices
+   */
+  public ReduceGraphVertexGroupItems(boolean useLabel,
+    List<PropertyValueAggregator> vertexAggregators) {
+    this.reduceVertexGroupItems =
+      new ReduceVertexGroupItems(useLabel, vertexAggregators);
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple2<GradoopId, VertexGroupItem>> items,
+    Collector<Tuple2<GradoopId, VertexGroupItem>> collector) throws Exception {
+    GraphScopedItems<VertexGroupItem> vertexGroupItems =
+      new GraphScopedItems<>(items);
+
+    reduceVertexGroupItems.reduce(vertexGroupItems,
+      new GraphScopedCollector<>(vertexGroupItems.getGraphId(), collector));
+  }
+}
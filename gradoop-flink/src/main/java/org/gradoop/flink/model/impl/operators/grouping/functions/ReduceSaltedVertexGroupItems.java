@@ -0,0 +1,85 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Reduces a sub group of salted {@link VertexGroupItem} instances in the same
+ * way as {@link ReduceVertexGroupItems}. The output has the same structure as
+ * the output of {@link CombineVertexGroupItems}, i.e. there is one super
+ * vertex tuple per sub group.
+ */
+public class ReduceSaltedVertexGroupItems implements GroupReduceFunction
+  <Tuple2<VertexGroupItem, Integer>, VertexGroupItem> {
+
+  /**
+   * Reduces the unsalted group items
+   */
+  private final ReduceVertexGroupItems reducer;
+
+  /**
+   * Removes the salt from a group item
+   */
+  private final Function<Tuple2<VertexGroupItem, Integer>, VertexGroupItem>
+    unsalt;
+
+  /**
+   * Creates group reduce function.
+   *
+   * @param useLabel          true, iff labels are used for grouping
+   * @param vertexAggregators aggregate functions for super vertices
+   */
+  public ReduceSaltedVertexGroupItems(boolean useLabel,
+    List<PropertyValueAggregator> vertexAggregators) {
+    this.reducer = new ReduceVertexGroupItems(useLabel, vertexAggregators);
+    this.unsalt = new Unsalt();
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple2<VertexGroupItem, Integer>> saltedItems,
+    Collector<VertexGroupItem> collector) throws Exception {
+    reducer.reduce(Iterables.transform(saltedItems, unsalt), collector);
+  }
+
+  /**
+   * (item, salt) => item
+   */
+  private static class Unsalt implements
+    Function<Tuple2<VertexGroupItem, Integer>, VertexGroupItem>, Serializable {
+
+    /**
+     * Class version for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public VertexGroupItem apply(Tuple2<VertexGroupItem, Integer> saltedItem) {
+      return saltedItem.f0;
+    }
+  }
+}
@@ -17,6 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
+import com.google.common.collect.Lists;
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.util.Collector;
@@ -25,6 +26,8 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -53,6 +56,25 @@ public class ReduceVertexGroupItems
   @Override
   public void reduce(Iterable<VertexGroupItem> vertexGroupItems,
     Collector<VertexGroupItem> collector) throws Exception {
+    List<VertexGroupItem> collisions = reduceGroup(vertexGroupItems, collector);
+    // items of other groups with the same group key fingerprint
+    while (!collisions.isEmpty()) {
+      collisions = reduceGroup(collisions, collector);
+    }
+  }
+
+  /**
+   * Reduces all items which have the same group key as the first item and
+   * collects them including the item representing the group.
+   *
+   * @param vertexGroupItems  vertex group items
+   * @param collector         output collector
+   * @return copies of the items which belong to other groups
+   * @throws IOException
+   */
+  private List<VertexGroupItem> reduceGroup(
+    Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<VertexGroupItem> collector) throws IOException {
 
     GradoopId superVertexId               = null;
     String groupLabel                     = null;
@@ -60,6 +82,8 @@ public class ReduceVertexGroupItems
 
     VertexGroupItem reuseTuple = getReuseVertexGroupItem();
 
+    List<VertexGroupItem> collisions = Collections.emptyList();
+
     boolean isFirst = true;
 
     for (VertexGroupItem groupItem : vertexGroupItems) {
@@ -73,11 +97,20 @@ public class ReduceVertexGroupItems
         }
 
         reuseTuple.setGroupingValues(groupPropertyValues);
+        reuseTuple.setGroupHash(groupItem.getGroupHash());
         reuseTuple.setSuperVertexId(superVertexId);
         reuseTuple.setAggregateValues(groupItem.getAggregateValues());
         reuseTuple.setSuperVertex(groupItem.isSuperVertex());
 
         isFirst = false;
+      } else if (!isGroupMember(reuseTuple.getGroupHash(), groupLabel,
+        groupPropertyValues, groupItem.getGroupLabel(),
+        groupItem.getGroupingValues())) {
+        if (collisions.isEmpty()) {
+          collisions = Lists.newArrayList();
+        }
+        collisions.add(groupItem.copy());
+        continue;
       }
       reuseTuple.setVertexId(groupItem.getVertexId());
 
@@ -96,5 +129,7 @@ public class ReduceVertexGroupItems
       groupPropertyValues));
 
     resetAggregators();
+
+    return collisions;
   }
 }
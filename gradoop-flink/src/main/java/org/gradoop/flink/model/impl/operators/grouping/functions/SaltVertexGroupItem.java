@@ -0,0 +1,91 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.Set;
+
+/**
+ * Assigns a salt value to each {@link VertexGroupItem}. Items of skewed groups
+ * (broadcast set) are distributed over the given number of salt values based
+ * on their vertex id, all other items get salt 0. Grouping on the original
+ * key and the salt splits skewed groups into multiple sub groups.
+ */
+@FunctionAnnotation.ForwardedFields("*->f0")
+public class SaltVertexGroupItem extends
+  RichMapFunction<VertexGroupItem, Tuple2<VertexGroupItem, Integer>> {
+
+  /**
+   * Broadcast variable name
+   */
+  public static final String BC_SKEWED_GROUPS = "skewedGroups";
+
+  /**
+   * Number of sub groups per skewed group
+   */
+  private final int saltCount;
+
+  /**
+   * Reduce object instantiation
+   */
+  private final Tuple2<VertexGroupItem, Integer> reuseTuple;
+
+  /**
+   * Label and grouping values of skewed groups
+   */
+  private Set<Tuple2<String, PropertyValueList>> skewedGroups;
+
+  /**
+   * Creates map function.
+   *
+   * @param saltCount number of sub groups per skewed group
+   */
+  public SaltVertexGroupItem(int saltCount) {
+    this.saltCount = saltCount;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    skewedGroups = Sets.newHashSet(getRuntimeContext()
+      .<Tuple2<String, PropertyValueList>>getBroadcastVariable(
+        BC_SKEWED_GROUPS));
+  }
+
+  @Override
+  public Tuple2<VertexGroupItem, Integer> map(VertexGroupItem groupItem) throws
+    Exception {
+    int salt = 0;
+    if (!skewedGroups.isEmpty() && skewedGroups.contains(new Tuple2<>(
+      groupItem.getGroupLabel(), groupItem.getGroupingValues()))) {
+      salt = (groupItem.getVertexId().hashCode() & Integer.MAX_VALUE) %
+        saltCount;
+    }
+    reuseTuple.f0 = groupItem;
+    reuseTuple.f1 = salt;
+    return reuseTuple;
+  }
+}
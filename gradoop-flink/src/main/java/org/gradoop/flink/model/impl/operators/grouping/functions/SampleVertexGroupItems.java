@@ -0,0 +1,71 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.Random;
+
+/**
+ * Creates a random value for each vertex group item and filters those that
+ * are below a given threshold, i.e. computes a Bernoulli sample.
+ *
+ * Each parallel instance draws from its own generator which is seeded with
+ * the given seed and the index of the subtask. Thus, the sample is
+ * reproducible for a fixed seed, input order and parallelism.
+ */
+public class SampleVertexGroupItems
+  extends RichFilterFunction<VertexGroupItem> {
+  /**
+   * Relative sample size
+   */
+  private final float sampleFraction;
+  /**
+   * Seed for the random generators
+   */
+  private final long seed;
+  /**
+   * Random instance
+   */
+  private Random randomGenerator;
+
+  /**
+   * Creates a new filter instance.
+   *
+   * @param sampleFraction relative sample size
+   * @param seed           seed for the random generators
+   */
+  public SampleVertexGroupItems(float sampleFraction, long seed) {
+    this.sampleFraction = sampleFraction;
+    this.seed = seed;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    randomGenerator =
+      new Random(seed + getRuntimeContext().getIndexOfThisSubtask());
+  }
+
+  @Override
+  public boolean filter(VertexGroupItem vertexGroupItem) throws Exception {
+    return randomGenerator.nextFloat() < sampleFraction;
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.accumulators.DoubleCounter;
+import org.apache.flink.api.common.accumulators.IntCounter;
+import org.apache.flink.api.common.accumulators.LongCounter;
+import org.apache.flink.api.common.functions.RichGroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.Map;
+
+/**
+ * Takes a sample of all {@link VertexGroupItem} instances and selects the
+ * grouping strategy based on the share of the largest group and the estimated
+ * number of groups:
+ *
+ * 1) If the largest group exceeds the skew threshold, a single reducer would
+ *    receive a large share of all vertices and
+ *    {@link GroupingStrategy#SALTED} is selected.
+ * 2) If the estimated number of groups fits into the hash table of
+ *    {@link GroupingStrategy#HASH_COMBINE}, that strategy is selected.
+ * 3) If the estimated number of groups is at least half the number of
+ *    vertices, a combiner hardly reduces the data and
+ *    {@link GroupingStrategy#GROUP_REDUCE} is selected.
+ * 4) Otherwise, {@link GroupingStrategy#GROUP_COMBINE} is selected.
+ *
+ * The number of groups is estimated using the guaranteed-error estimator
+ * (GEE), i.e. groups which occur once in the sample are scaled by the square
+ * root of the inverse sample fraction. The estimates and the selected
+ * strategy are stored in accumulators.
+ */
+public class SelectGroupingStrategy extends
+  RichGroupReduceFunction<VertexGroupItem, Tuple1<GroupingStrategy>> {
+
+  /**
+   * Accumulator storing the sample size.
+   */
+  public static final String SAMPLE_SIZE = "grouping.auto.sampleSize";
+
+  /**
+   * Accumulator storing the estimated number of vertex groups.
+   */
+  public static final String ESTIMATED_GROUPS = "grouping.auto.estimatedGroups";
+
+  /**
+   * Accumulator storing the share of the largest group in the sample.
+   */
+  public static final String MAX_GROUP_SHARE = "grouping.auto.maxGroupShare";
+
+  /**
+   * Accumulator storing the ordinal of the selected strategy.
+   */
+  public static final String STRATEGY = "grouping.auto.strategy";
+
+  /**
+   * Relative sample size
+   */
+  private final float sampleFraction;
+
+  /**
+   * Share of the sample above which a group is considered as skewed.
+   */
+  private final double skewThreshold;
+
+  /**
+   * Maximum number of groups per hash table.
+   */
+  private final int hashCombineMaxGroups;
+
+  /**
+   * Creates group reduce function.
+   *
+   * @param sampleFraction       relative sample size (0.0 to 1.0]
+   * @param skewThreshold        share of the sample above which a group is
+   *                             considered as skewed
+   * @param hashCombineMaxGroups maximum number of groups per hash table
+   */
+  public SelectGroupingStrategy(float sampleFraction, double skewThreshold,
+    int hashCombineMaxGroups) {
+    this.sampleFraction = sampleFraction;
+    this.skewThreshold = skewThreshold;
+    this.hashCombineMaxGroups = hashCombineMaxGroups;
+  }
+
+  @Override
+  public void reduce(Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<Tuple1<GroupingStrategy>> out) throws Exception {
+
+    Map<Tuple2<String, PropertyValueList>, Long> groupCounts =
+      Maps.newHashMap();
+    long sampleSize = 0L;
+
+    for (VertexGroupItem groupItem : vertexGroupItems) {
+      Tuple2<String, PropertyValueList> groupKey = new Tuple2<>(
+        groupItem.getGroupLabel(), groupItem.getGroupingValues());
+
+      Long count = groupCounts.get(groupKey);
+      groupCounts.put(groupKey, count == null ? 1L : count + 1L);
+      sampleSize++;
+    }
+
+    long singletons = 0L;
+    long maxCount = 0L;
+    for (Long count : groupCounts.values()) {
+      if (count == 1L) {
+        singletons++;
+      }
+      maxCount = Math.max(maxCount, count);
+    }
+
+    long estimatedGroups = Math.round(
+      Math.sqrt(1.0 / sampleFraction) * singletons) +
+      groupCounts.size() - singletons;
+    double estimatedVertices = sampleSize / sampleFraction;
+    double maxGroupShare = sampleSize > 0L ?
+      (double) maxCount / sampleSize : 0.0;
+
+    GroupingStrategy strategy;
+    if (maxGroupShare > skewThreshold) {
+      strategy = GroupingStrategy.SALTED;
+    } else if (estimatedGroups <= hashCombineMaxGroups) {
+      strategy = GroupingStrategy.HASH_COMBINE;
+    } else if (estimatedGroups >= 0.5 * estimatedVertices) {
+      strategy = GroupingStrategy.GROUP_REDUCE;
+    } else {
+      strategy = GroupingStrategy.GROUP_COMBINE;
+    }
+
+    LongCounter sampleSizeCounter = new LongCounter();
+    sampleSizeCounter.add(sampleSize);
+    getRuntimeContext().addAccumulator(SAMPLE_SIZE, sampleSizeCounter);
+
+    LongCounter estimatedGroupsCounter = new LongCounter();
+    estimatedGroupsCounter.add(estimatedGroups);
+    getRuntimeContext()
+      .addAccumulator(ESTIMATED_GROUPS, estimatedGroupsCounter);
+
+    DoubleCounter maxGroupShareCounter = new DoubleCounter();
+    maxGroupShareCounter.add(maxGroupShare);
+    getRuntimeContext().addAccumulator(MAX_GROUP_SHARE, maxGroupShareCounter);
+
+    IntCounter strategyCounter = new IntCounter();
+    strategyCounter.add(strategy.ordinal());
+    getRuntimeContext().addAccumulator(STRATEGY, strategyCounter);
+
+    out.collect(new Tuple1<>(strategy));
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.util.Map;
+
+/**
+ * Takes a sample of all {@link VertexGroupItem} instances and emits the
+ * label and grouping values of each group whose share of the sample exceeds
+ * the given threshold.
+ *
+ * Example input (threshold 0.5):
+ * (1,Person)
+ * (2,Person)
+ * (3,Person)
+ * (4,Forum)
+ *
+ * Example output:
+ * (Person,[])
+ */
+public class SelectSkewedGroups implements GroupReduceFunction
+  <VertexGroupItem, Tuple2<String, PropertyValueList>> {
+
+  /**
+   * Minimum share of the sample to consider a group as skewed.
+   */
+  private final double threshold;
+
+  /**
+   * Creates group reduce function.
+   *
+   * @param threshold minimum share of the sample (0.0 to 1.0)
+   */
+  public SelectSkewedGroups(double threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void reduce(Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<Tuple2<String, PropertyValueList>> out) throws Exception {
+
+    Map<Tuple2<String, PropertyValueList>, Long> groupCounts =
+      Maps.newHashMap();
+    long total = 0L;
+
+    for (VertexGroupItem groupItem : vertexGroupItems) {
+      Tuple2<String, PropertyValueList> groupKey = new Tuple2<>(
+        groupItem.getGroupLabel(), groupItem.getGroupingValues());
+
+      Long count = groupCounts.get(groupKey);
+      groupCounts.put(groupKey, count == null ? 1L : count + 1L);
+      total++;
+    }
+
+    for (Map.Entry<Tuple2<String, PropertyValueList>, Long> entry :
+      groupCounts.entrySet()) {
+      if (entry.getValue() > threshold * total) {
+        out.collect(entry.getKey());
+      }
+    }
+  }
+}
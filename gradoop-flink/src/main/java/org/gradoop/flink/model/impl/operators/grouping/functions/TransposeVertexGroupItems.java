@@ -17,6 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
@@ -29,6 +30,8 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -82,11 +85,34 @@ public class TransposeVertexGroupItems
   public void reduce(Iterable<VertexGroupItem> vertexGroupItems,
     Collector<Tuple2<VertexGroupItem, IdWithIdSet>> out)
       throws Exception {
+    List<VertexGroupItem> collisions = reduceGroup(vertexGroupItems, out);
+    // items of other groups with the same group key fingerprint
+    while (!collisions.isEmpty()) {
+      collisions = reduceGroup(collisions, out);
+    }
+  }
+
+  /**
+   * Reduces all items which have the same group key as the first item to a
+   * single item representing the group and collects it.
+   *
+   * @param vertexGroupItems  vertex group items
+   * @param out               output collector
+   * @return copies of the items which belong to other groups
+   * @throws IOException
+   */
+  private List<VertexGroupItem> reduceGroup(
+    Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<Tuple2<VertexGroupItem, IdWithIdSet>> out) throws IOException {
 
     GradoopId superVertexId               = null;
     String groupLabel                     = null;
     PropertyValueList groupPropertyValues = null;
 
+    long groupHash                        = NO_GROUP_HASH;
+
+    List<VertexGroupItem> collisions = Collections.emptyList();
+
     boolean isFirst = true;
 
     Set<GradoopId> superVertexIds = Sets.newHashSet();
@@ -96,8 +122,16 @@ public class TransposeVertexGroupItems
         superVertexId = GradoopId.get();
         groupLabel            = groupItem.getGroupLabel();
         groupPropertyValues   = groupItem.getGroupingValues();
+        groupHash             = groupItem.getGroupHash();
 
         isFirst = false;
+      } else if (!isGroupMember(groupHash, groupLabel, groupPropertyValues,
+        groupItem.getGroupLabel(), groupItem.getGroupingValues())) {
+        if (collisions.isEmpty()) {
+          collisions = Lists.newArrayList();
+        }
+        collisions.add(groupItem.copy());
+        continue;
       }
       // store the super vertex id created in the previous combiner
       superVertexIds.add(groupItem.getSuperVertexId());
@@ -119,5 +153,7 @@ public class TransposeVertexGroupItems
     out.collect(reuseOuterTuple);
 
     resetAggregators();
+
+    return collisions;
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+
+/**
+ * Takes a projected edge of a graph and a (vertex-id, group-representative)
+ * tuple of the same graph and replaces the source or target id of the edge
+ * with the group-representative.
+ */
+public class UpdateGraphEdgeGroupItem implements JoinFunction<
+  Tuple2<GradoopId, EdgeGroupItem>, Tuple2<GradoopId, VertexWithSuperVertex>,
+  Tuple2<GradoopId, EdgeGroupItem>> {
+
+  /**
+   * Field in {@link EdgeGroupItem} which is overridden by the group
+   * representative id.
+   */
+  private final int field;
+
+  /**
+   * Creates new join function.
+   *
+   * @param field field that is overridden by the group representative
+   */
+  public UpdateGraphEdgeGroupItem(int field) {
+    this.field = field;
+  }
+
+  @Override
+  public Tuple2<GradoopId, EdgeGroupItem> join(
+    Tuple2<GradoopId, EdgeGroupItem> edge,
+    Tuple2<GradoopId, VertexWithSuperVertex> idTuple) throws Exception {
+    edge.f1.setField(idTuple.f1.getSuperVertexId(), field);
+    return edge;
+  }
+}
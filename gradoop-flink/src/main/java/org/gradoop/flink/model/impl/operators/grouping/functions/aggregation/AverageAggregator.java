@@ -0,0 +1,121 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Used to aggregate numeric property values into their average.
+ *
+ * The partial aggregate consists of the sum and the number of values, the
+ * final aggregate is a double value.
+ */
+public class AverageAggregator extends MergeableAggregator {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Identifies encoded partial aggregates.
+   */
+  private static final byte TAG = 'A';
+
+  /**
+   * Size of an encoded partial aggregate (sum and count).
+   */
+  private static final int SIZE = 16;
+
+  /**
+   * Sum of the aggregated values.
+   */
+  private double sum;
+
+  /**
+   * Number of aggregated values.
+   */
+  private long count;
+
+  /**
+   * Creates a new aggregator
+   *
+   * @param propertyKey          property key to access values
+   * @param aggregatePropertyKey property key for final aggregate value
+   */
+  public AverageAggregator(String propertyKey, String aggregatePropertyKey) {
+    super(propertyKey, aggregatePropertyKey);
+  }
+
+  /**
+   * Returns the partial aggregate of a single numeric value.
+   *
+   * @param value property value of an element
+   * @return partial aggregate
+   */
+  @Override
+  public PropertyValue prepare(PropertyValue value) {
+    if (value.isNull()) {
+      return value;
+    }
+    ByteBuffer buffer = PartialAggregates.allocate(TAG, SIZE);
+    buffer.putDouble(toDouble(checkNumeric(value)));
+    buffer.putLong(1L);
+    return PartialAggregates.encode(buffer);
+  }
+
+  @Override
+  protected boolean isInitialized() {
+    return count > 0;
+  }
+
+  @Override
+  protected void initializeAggregate(PropertyValue value) {
+    sum = 0D;
+    count = 0L;
+  }
+
+  @Override
+  protected void aggregateInternal(PropertyValue value) {
+    ByteBuffer buffer = PartialAggregates.decode(value, TAG);
+    sum += buffer.getDouble();
+    count += buffer.getLong();
+  }
+
+  @Override
+  protected PropertyValue getAggregateInternal() {
+    ByteBuffer buffer = PartialAggregates.allocate(TAG, SIZE);
+    buffer.putDouble(sum);
+    buffer.putLong(count);
+    return PartialAggregates.encode(buffer);
+  }
+
+  @Override
+  protected PropertyValue getFinalAggregate() {
+    return isInitialized() ?
+      PropertyValue.create(sum / count) : PropertyValue.NULL_VALUE;
+  }
+
+  @Override
+  public void resetAggregate() {
+    sum = 0D;
+    count = 0L;
+  }
+}
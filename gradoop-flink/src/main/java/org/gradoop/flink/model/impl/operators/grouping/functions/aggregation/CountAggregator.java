@@ -17,6 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
 
+import org.gradoop.common.model.api.entities.EPGMAttributed;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
@@ -34,10 +35,15 @@ public class CountAggregator extends SumAggregator {
    */
   public static final String DEFAULT_AGGREGATE_PROPERTY_KEY = "count";
 
+  /**
+   * Input value of each counted element.
+   */
+  private static final PropertyValue ONE = PropertyValue.create(1L);
+
   /**
    * Aggregate value to count the number of calls of {@link #aggregate(Object)}.
    */
-  private Long aggregate;
+  private long aggregate;
 
   /**
    * Creates a new count aggregator
@@ -66,9 +72,22 @@ public class CountAggregator extends SumAggregator {
     aggregate = 0L;
   }
 
+  /**
+   * Returns one for each element, independent of its properties.
+   *
+   * @param element attributed EPGM element
+   * @return one
+   */
+  @Override
+  public PropertyValue getInputValue(EPGMAttributed element) {
+    return ONE;
+  }
+
   @Override
   public void aggregate(PropertyValue value) {
-    aggregateInternal(value);
+    if (!value.isNull()) {
+      aggregateInternal(value);
+    }
   }
 
   @Override
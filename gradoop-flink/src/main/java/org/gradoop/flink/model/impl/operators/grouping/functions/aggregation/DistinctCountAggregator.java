@@ -0,0 +1,390 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.util.ContentHash;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Used to approximate the number of distinct property values using a
+ * HyperLogLog sketch.
+ *
+ * The sketch consists of {@code 2^precision} registers, the relative standard
+ * error of the estimate is about {@code 1.04 / sqrt(2^precision)}. Small
+ * groups are represented by a sparse list of register updates which is
+ * converted into the dense register array once it grows too large.
+ *
+ * The partial aggregate is the encoded sketch, the final aggregate is the
+ * estimated number of distinct values as long value.
+ */
+public class DistinctCountAggregator extends MergeableAggregator {
+
+  /**
+   * Default precision (4096 registers, ~1.6% standard error).
+   */
+  public static final int DEFAULT_PRECISION = 12;
+
+  /**
+   * Minimum precision.
+   */
+  public static final int MIN_PRECISION = 4;
+
+  /**
+   * Maximum precision.
+   */
+  public static final int MAX_PRECISION = 14;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Identifies encoded partial aggregates.
+   */
+  private static final byte TAG = 'H';
+
+  /**
+   * Marks a sparse encoded sketch.
+   */
+  private static final byte SPARSE = 0;
+
+  /**
+   * Marks a dense encoded sketch.
+   */
+  private static final byte DENSE = 1;
+
+  /**
+   * Number of index bits.
+   */
+  private final int precision;
+
+  /**
+   * Number of registers.
+   */
+  private final int registerCount;
+
+  /**
+   * Maximum number of sparse entries before the sketch is converted to the
+   * dense representation.
+   */
+  private final int sparseCapacity;
+
+  /**
+   * Dense registers ({@code null} if the sketch is sparse).
+   */
+  private byte[] registers;
+
+  /**
+   * Sparse entries, each entry stores register index and value.
+   */
+  private int[] sparseEntries;
+
+  /**
+   * Number of used sparse entries.
+   */
+  private int sparseSize;
+
+  /**
+   * True, if at least one value has been aggregated.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new aggregator using the default precision.
+   *
+   * @param propertyKey          property key to access values
+   * @param aggregatePropertyKey property key for final aggregate value
+   */
+  public DistinctCountAggregator(String propertyKey,
+    String aggregatePropertyKey) {
+    this(propertyKey, aggregatePropertyKey, DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new aggregator.
+   *
+   * @param propertyKey          property key to access values
+   * @param aggregatePropertyKey property key for final aggregate value
+   * @param precision            number of index bits
+   *                             ({@value #MIN_PRECISION} to
+   *                             {@value #MAX_PRECISION})
+   */
+  public DistinctCountAggregator(String propertyKey,
+    String aggregatePropertyKey, int precision) {
+    super(propertyKey, aggregatePropertyKey);
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(String.format(
+        "Precision must be between %d and %d.", MIN_PRECISION, MAX_PRECISION));
+    }
+    this.precision = precision;
+    this.registerCount = 1 << precision;
+    this.sparseCapacity = registerCount / 8;
+  }
+
+  /**
+   * Returns the sparse sketch of a single value. Values of any type are
+   * supported, the sketch is computed from the 64 bit hash of the value.
+   *
+   * @param value property value of an element
+   * @return partial aggregate
+   */
+  @Override
+  public PropertyValue prepare(PropertyValue value) {
+    if (value.isNull()) {
+      return value;
+    }
+    long hash = hash(value);
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    long remainder = (hash << precision) | (1L << (precision - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(remainder) + 1);
+
+    ByteBuffer buffer = PartialAggregates.allocate(TAG, 10);
+    buffer.put((byte) precision);
+    buffer.put(SPARSE);
+    buffer.putInt(1);
+    buffer.putInt((index << Byte.SIZE) | rank);
+    return PartialAggregates.encode(buffer);
+  }
+
+  @Override
+  protected boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  protected void initializeAggregate(PropertyValue value) {
+    initialized = true;
+  }
+
+  @Override
+  protected void aggregateInternal(PropertyValue value) {
+    merge(PartialAggregates.decode(value, TAG));
+  }
+
+  @Override
+  protected PropertyValue getAggregateInternal() {
+    ByteBuffer buffer;
+    if (registers == null) {
+      compactSparseEntries();
+      buffer = PartialAggregates.allocate(TAG, 6 + sparseSize * 4);
+      buffer.put((byte) precision);
+      buffer.put(SPARSE);
+      buffer.putInt(sparseSize);
+      for (int i = 0; i < sparseSize; i++) {
+        buffer.putInt(sparseEntries[i]);
+      }
+    } else {
+      buffer = PartialAggregates.allocate(TAG, 2 + registerCount);
+      buffer.put((byte) precision);
+      buffer.put(DENSE);
+      buffer.put(registers);
+    }
+    return PartialAggregates.encode(buffer);
+  }
+
+  @Override
+  protected PropertyValue getFinalAggregate() {
+    if (!initialized) {
+      return PropertyValue.NULL_VALUE;
+    }
+    toDense();
+
+    double sum = 0D;
+    int zeroRegisters = 0;
+    for (byte register : registers) {
+      sum += 1D / (1L << register);
+      if (register == 0) {
+        zeroRegisters++;
+      }
+    }
+    double estimate = alpha() * registerCount * registerCount / sum;
+    if (estimate <= 2.5 * registerCount && zeroRegisters > 0) {
+      // linear counting for small cardinalities
+      estimate = registerCount *
+        Math.log((double) registerCount / zeroRegisters);
+    }
+    return PropertyValue.create(Math.round(estimate));
+  }
+
+  @Override
+  public void resetAggregate() {
+    initialized = false;
+    registers = null;
+    sparseSize = 0;
+  }
+
+  /**
+   * Sets the register to the maximum of its current and the given value.
+   *
+   * @param index register index
+   * @param value register value
+   */
+  private void update(int index, byte value) {
+    if (registers != null) {
+      if (registers[index] < value) {
+        registers[index] = value;
+      }
+    } else {
+      if (sparseEntries == null) {
+        sparseEntries = new int[sparseCapacity];
+      }
+      if (sparseSize == sparseCapacity) {
+        compactSparseEntries();
+      }
+      if (sparseSize == sparseCapacity) {
+        toDense();
+        update(index, value);
+      } else {
+        sparseEntries[sparseSize++] = (index << Byte.SIZE) | value;
+      }
+    }
+  }
+
+  /**
+   * Merges an encoded sketch into this sketch.
+   *
+   * @param buffer encoded sketch
+   */
+  private void merge(ByteBuffer buffer) {
+    if (buffer.get() != precision) {
+      throw new IllegalArgumentException(
+        "Cannot merge sketches with different precision.");
+    }
+    if (buffer.get() == SPARSE) {
+      int size = buffer.getInt();
+      for (int i = 0; i < size; i++) {
+        int entry = buffer.getInt();
+        update(entry >>> Byte.SIZE, (byte) entry);
+      }
+    } else {
+      toDense();
+      for (int i = 0; i < registerCount; i++) {
+        byte value = buffer.get();
+        if (registers[i] < value) {
+          registers[i] = value;
+        }
+      }
+    }
+  }
+
+  /**
+   * Sorts the sparse entries and removes all but the maximum entry per
+   * register.
+   */
+  private void compactSparseEntries() {
+    if (sparseSize > 1) {
+      Arrays.sort(sparseEntries, 0, sparseSize);
+      int size = 0;
+      for (int i = 0; i < sparseSize; i++) {
+        int entry = sparseEntries[i];
+        if (size > 0 &&
+          (sparseEntries[size - 1] >>> Byte.SIZE) == (entry >>> Byte.SIZE)) {
+          // entries are sorted by index and value, keep the last one
+          sparseEntries[size - 1] = entry;
+        } else {
+          sparseEntries[size++] = entry;
+        }
+      }
+      sparseSize = size;
+    }
+  }
+
+  /**
+   * Converts the sketch into the dense representation.
+   */
+  private void toDense() {
+    if (registers == null) {
+      registers = new byte[registerCount];
+      for (int i = 0; i < sparseSize; i++) {
+        int index = sparseEntries[i] >>> Byte.SIZE;
+        byte value = (byte) sparseEntries[i];
+        if (registers[index] < value) {
+          registers[index] = value;
+        }
+      }
+      sparseSize = 0;
+    }
+  }
+
+  /**
+   * Returns the bias correction constant for the number of registers.
+   *
+   * @return bias correction constant
+   */
+  private double alpha() {
+    double alpha;
+    if (registerCount == 16) {
+      alpha = 0.673;
+    } else if (registerCount == 32) {
+      alpha = 0.697;
+    } else if (registerCount == 64) {
+      alpha = 0.709;
+    } else {
+      alpha = 0.7213 / (1D + 1.079 / registerCount);
+    }
+    return alpha;
+  }
+
+  /**
+   * Computes a 64 bit hash of the given property value. Equal values have
+   * equal hashes, values of different types are hashed differently.
+   *
+   * @param value property value
+   * @return hash value
+   */
+  static long hash(PropertyValue value) {
+    long hash;
+    if (value.isString()) {
+      hash = hash(value.getString());
+    } else if (value.isInt()) {
+      hash = value.getInt();
+    } else if (value.isLong()) {
+      hash = value.getLong();
+    } else if (value.isFloat()) {
+      hash = Float.floatToIntBits(value.getFloat());
+    } else if (value.isDouble()) {
+      hash = Double.doubleToLongBits(value.getDouble());
+    } else if (value.isBoolean()) {
+      hash = value.getBoolean() ? 1L : 0L;
+    } else {
+      hash = hash(value.toString());
+    }
+    // separate the types
+    hash += value.getType().getName().hashCode() * 0x9E3779B97F4A7C15L;
+    return ContentHash.mix(hash);
+  }
+
+  /**
+   * Computes a 64 bit FNV-1a hash of the characters of a string.
+   *
+   * @param string string
+   * @return hash value
+   */
+  private static long hash(String string) {
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0; i < string.length(); i++) {
+      hash ^= string.charAt(i);
+      hash *= 0x100000001B3L;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.api.entities.EPGMAttributed;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Base class for aggregators whose intermediate state differs from their
+ * final aggregate (e.g. average, distinct count or quantiles).
+ *
+ * Grouping and aggregation are computed in several phases: values of single
+ * elements are aggregated into partial aggregates (combine phase) which are
+ * then merged into the aggregate of the whole group (reduce phase). For a
+ * mergeable aggregator, {@link #getAggregate()} returns the encoded partial
+ * state which can be passed into {@link #aggregate(Object)} of another
+ * instance. The final aggregate is computed from the partial state by
+ * {@link #finish(PropertyValue)}.
+ *
+ * Partial aggregates are {@code byte[]} property values. Property values of
+ * single elements have to be converted into a partial aggregate by
+ * {@link #prepare(PropertyValue)} before they are aggregated.
+ *
+ * The state of a mergeable aggregator is bounded and does not depend on the
+ * number of aggregated values.
+ */
+public abstract class MergeableAggregator extends PropertyValueAggregator {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new aggregator
+   *
+   * @param propertyKey          property key to access values
+   * @param aggregatePropertyKey property key for final aggregate value
+   */
+  protected MergeableAggregator(String propertyKey,
+    String aggregatePropertyKey) {
+    super(propertyKey, aggregatePropertyKey);
+  }
+
+  /**
+   * Converts the property value of a single element into the partial
+   * aggregate of that element, which can be passed into
+   * {@link #aggregate(Object)}. {@code null} values are returned unchanged.
+   *
+   * @param value property value of an element
+   * @return partial aggregate
+   * @throws IllegalArgumentException if the type of the value is not supported
+   */
+  public abstract PropertyValue prepare(PropertyValue value);
+
+  /**
+   * Returns the partial aggregate of the given element.
+   *
+   * @param element attributed EPGM element
+   * @return partial aggregate
+   * @see #prepare(PropertyValue)
+   */
+  @Override
+  public PropertyValue getInputValue(EPGMAttributed element) {
+    return prepare(super.getInputValue(element));
+  }
+
+  /**
+   * Computes the final aggregate from the given partial aggregate, i.e. a
+   * value that has been returned by {@link #getAggregate()}.
+   *
+   * @param partialAggregate partial aggregate
+   * @return final aggregate
+   */
+  public PropertyValue finish(PropertyValue partialAggregate) {
+    PropertyValue result;
+    if (partialAggregate.isNull()) {
+      result = PropertyValue.NULL_VALUE;
+    } else {
+      resetAggregate();
+      aggregate(partialAggregate);
+      result = getFinalAggregate();
+      resetAggregate();
+    }
+    return result;
+  }
+
+  /**
+   * Returns the final aggregate computed from the internal state.
+   *
+   * @return final aggregate
+   */
+  protected abstract PropertyValue getFinalAggregate();
+
+  /**
+   * Checks if the given value is a numeric property value.
+   *
+   * @param value property value
+   * @return true, iff the value is numeric
+   */
+  protected static boolean isNumeric(PropertyValue value) {
+    return value.isInt() || value.isLong() || value.isFloat() ||
+      value.isDouble() || value.isBigDecimal();
+  }
+
+  /**
+   * Checks if the given value is a numeric property value.
+   *
+   * @param value property value
+   * @return the given value
+   * @throws IllegalArgumentException if the value is not numeric
+   */
+  protected PropertyValue checkNumeric(PropertyValue value) {
+    if (!isNumeric(value)) {
+      throw new IllegalArgumentException(String.format(
+        "%s requires numeric values, but got %s.",
+        getClass().getSimpleName(), value.getType()));
+    }
+    return value;
+  }
+
+  /**
+   * Returns a numeric property value as double.
+   *
+   * @param value numeric property value
+   * @return double value
+   */
+  protected static double toDouble(PropertyValue value) {
+    double result;
+    if (value.isInt()) {
+      result = value.getInt();
+    } else if (value.isLong()) {
+      result = value.getLong();
+    } else if (value.isFloat()) {
+      result = value.getFloat();
+    } else if (value.isDouble()) {
+      result = value.getDouble();
+    } else if (value.isBigDecimal()) {
+      result = value.getBigDecimal().doubleValue();
+    } else {
+      throw new IllegalArgumentException(
+        "Value types do not match or are not supported.");
+    }
+    return result;
+  }
+}
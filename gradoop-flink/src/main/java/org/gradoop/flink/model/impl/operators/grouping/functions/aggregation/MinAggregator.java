@@ -17,22 +17,16 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
 
-import org.gradoop.common.model.impl.properties.PropertyValue;
-
 /**
  * Used to find the minimum value in a set of values.
  */
-public class MinAggregator extends PropertyValueAggregator {
+public class MinAggregator extends SelectingAggregator {
+
   /**
    * Class version for serialization.
    */
   private static final long serialVersionUID = 1L;
 
-  /**
-   * Aggregate value. No need to deserialize as it is just used for comparison.
-   */
-  private PropertyValue aggregate;
-
   /**
    * Creates a new aggregator
    *
@@ -44,29 +38,7 @@ public class MinAggregator extends PropertyValueAggregator {
   }
 
   @Override
-  protected boolean isInitialized() {
-    return aggregate != null;
-  }
-
-  @Override
-  protected void aggregateInternal(PropertyValue value) {
-    if (value.compareTo(aggregate) < 0) {
-      aggregate = value;
-    }
-  }
-
-  @Override
-  protected PropertyValue getAggregateInternal() {
-    return aggregate;
-  }
-
-  @Override
-  protected void initializeAggregate(PropertyValue value) {
-    aggregate = value;
-  }
-
-  @Override
-  public void resetAggregate() {
-    aggregate = null;
+  protected boolean replaces(int comparison) {
+    return comparison < 0;
   }
 }
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes the binary state of a {@link MergeableAggregator} as a
+ * {@code byte[]} property value and vice versa.
+ *
+ * The first byte identifies the aggregator which created the state. Thus,
+ * partial aggregates can neither be confused with property values of
+ * elements nor with partial aggregates of other aggregators.
+ */
+final class PartialAggregates {
+
+  /**
+   * No instances.
+   */
+  private PartialAggregates() {
+  }
+
+  /**
+   * Allocates a buffer for an encoded state.
+   *
+   * @param tag  identifies the aggregator
+   * @param size number of bytes without the tag
+   * @return buffer containing the tag
+   */
+  static ByteBuffer allocate(byte tag, int size) {
+    ByteBuffer buffer = ByteBuffer.allocate(size + 1);
+    buffer.put(tag);
+    return buffer;
+  }
+
+  /**
+   * Encodes the content of the given buffer as property value.
+   *
+   * @param buffer buffer created by {@link #allocate(byte, int)}
+   * @return encoded state
+   */
+  static PropertyValue encode(ByteBuffer buffer) {
+    return PropertyValue.create(buffer.position() == buffer.capacity() ?
+      buffer.array() : Arrays.copyOf(buffer.array(), buffer.position()));
+  }
+
+  /**
+   * Decodes a state that has been encoded by {@link #encode(ByteBuffer)}.
+   *
+   * @param value encoded state
+   * @param tag   identifies the aggregator
+   * @return buffer positioned behind the tag
+   */
+  static ByteBuffer decode(PropertyValue value, byte tag) {
+    byte[] bytes = value.isBytes() ? value.getBytes() : null;
+    if (bytes == null || bytes.length == 0 || bytes[0] != tag) {
+      throw new IllegalArgumentException(
+        "Value is not a partial aggregate of this aggregator: " + value);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    buffer.position(1);
+    return buffer;
+  }
+}
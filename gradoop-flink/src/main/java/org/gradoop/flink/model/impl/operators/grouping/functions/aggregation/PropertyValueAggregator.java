@@ -17,6 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
 
+import org.gradoop.common.model.api.entities.EPGMAttributed;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -38,6 +39,21 @@ public abstract class PropertyValueAggregator
     super(propertyKey, aggregatePropertyKey);
   }
 
+  /**
+   * Returns the value of the given element which is passed into
+   * {@link #aggregate(PropertyValue)}. By default, this is the value of the
+   * aggregated property or {@link PropertyValue#NULL_VALUE}, which is
+   * ignored, if the element does not have that property.
+   *
+   * @param element attributed EPGM element
+   * @return aggregate input value
+   */
+  public PropertyValue getInputValue(EPGMAttributed element) {
+    String propertyKey = getPropertyKey();
+    return element.hasProperty(propertyKey) ?
+      element.getPropertyValue(propertyKey) : PropertyValue.NULL_VALUE;
+  }
+
   @Override
   public void aggregate(PropertyValue value) {
     value = checkNotNull(value);
@@ -0,0 +1,333 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Used to approximate a quantile (e.g. the median) of numeric property values
+ * using a KLL sketch.
+ *
+ * The sketch consists of a hierarchy of compactors. Each value at level
+ * {@code h} represents {@code 2^h} input values. If a compactor exceeds its
+ * capacity, its values are sorted and every second value is promoted to the
+ * next level. The capacities decrease geometrically from the top level to the
+ * bottom level, so that the sketch holds about {@code 3 * k} values
+ * independent of the number of aggregated values. The rank error is
+ * proportional to {@code 1 / k}.
+ *
+ * The partial aggregate is the encoded sketch, the final aggregate is the
+ * estimated quantile as double value.
+ */
+public class QuantileAggregator extends MergeableAggregator {
+
+  /**
+   * Default accuracy parameter (~1.5% rank error).
+   */
+  public static final int DEFAULT_K = 200;
+
+  /**
+   * Minimum accuracy parameter.
+   */
+  public static final int MIN_K = 8;
+
+  /**
+   * Maximum accuracy parameter.
+   */
+  public static final int MAX_K = 500;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Identifies encoded partial aggregates.
+   */
+  private static final byte TAG = 'Q';
+
+  /**
+   * Capacity decrease factor between two levels.
+   */
+  private static final double CAPACITY_DECAY = 2D / 3D;
+
+  /**
+   * Minimum capacity of a level.
+   */
+  private static final int MIN_CAPACITY = 2;
+
+  /**
+   * Quantile to compute (between 0 and 1).
+   */
+  private final double quantile;
+
+  /**
+   * Accuracy parameter, i.e. capacity of the top level.
+   */
+  private final int k;
+
+  /**
+   * Values per level.
+   */
+  private double[][] levels;
+
+  /**
+   * Number of values per level.
+   */
+  private int[] levelSizes;
+
+  /**
+   * Number of used levels.
+   */
+  private int levelCount;
+
+  /**
+   * Alternates the values which are promoted during compaction.
+   */
+  private boolean compactionOffset;
+
+  /**
+   * Creates a new aggregator using the default accuracy.
+   *
+   * @param propertyKey          property key to access values
+   * @param aggregatePropertyKey property key for final aggregate value
+   * @param quantile             quantile to compute (e.g. 0.5 for the median)
+   */
+  public QuantileAggregator(String propertyKey, String aggregatePropertyKey,
+    double quantile) {
+    this(propertyKey, aggregatePropertyKey, quantile, DEFAULT_K);
+  }
+
+  /**
+   * Creates a new aggregator.
+   *
+   * @param propertyKey          property key to access values
+   * @param aggregatePropertyKey property key for final aggregate value
+   * @param quantile             quantile to compute (e.g. 0.5 for the median)
+   * @param k                    accuracy parameter
+   *                             ({@value #MIN_K} to {@value #MAX_K})
+   */
+  public QuantileAggregator(String propertyKey, String aggregatePropertyKey,
+    double quantile, int k) {
+    super(propertyKey, aggregatePropertyKey);
+    if (quantile < 0D || quantile > 1D) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1.");
+    }
+    if (k < MIN_K || k > MAX_K) {
+      throw new IllegalArgumentException(String.format(
+        "Accuracy parameter must be between %d and %d.", MIN_K, MAX_K));
+    }
+    this.quantile = quantile;
+    this.k = k;
+  }
+
+  /**
+   * Returns the sketch of a single numeric value.
+   *
+   * @param value property value of an element
+   * @return partial aggregate
+   */
+  @Override
+  public PropertyValue prepare(PropertyValue value) {
+    if (value.isNull()) {
+      return value;
+    }
+    ByteBuffer buffer = PartialAggregates.allocate(TAG, 16);
+    buffer.putInt(1);
+    buffer.putInt(1);
+    buffer.putDouble(toDouble(checkNumeric(value)));
+    return PartialAggregates.encode(buffer);
+  }
+
+  @Override
+  protected boolean isInitialized() {
+    return levelCount > 0;
+  }
+
+  @Override
+  protected void initializeAggregate(PropertyValue value) {
+    if (levels == null) {
+      levels = new double[1][];
+      levelSizes = new int[1];
+    }
+    addLevel();
+  }
+
+  @Override
+  protected void aggregateInternal(PropertyValue value) {
+    merge(PartialAggregates.decode(value, TAG));
+  }
+
+  @Override
+  protected PropertyValue getAggregateInternal() {
+    int valueCount = 0;
+    for (int level = 0; level < levelCount; level++) {
+      valueCount += levelSizes[level];
+    }
+    ByteBuffer buffer = PartialAggregates.allocate(TAG,
+      4 * (levelCount + 1) + 8 * valueCount);
+    buffer.putInt(levelCount);
+    for (int level = 0; level < levelCount; level++) {
+      buffer.putInt(levelSizes[level]);
+      for (int i = 0; i < levelSizes[level]; i++) {
+        buffer.putDouble(levels[level][i]);
+      }
+    }
+    return PartialAggregates.encode(buffer);
+  }
+
+  @Override
+  protected PropertyValue getFinalAggregate() {
+    long totalWeight = 0L;
+    for (int level = 0; level < levelCount; level++) {
+      Arrays.sort(levels[level], 0, levelSizes[level]);
+      totalWeight += (long) levelSizes[level] << level;
+    }
+    if (totalWeight == 0L) {
+      return PropertyValue.NULL_VALUE;
+    }
+
+    // merge the sorted levels until the weight of the visited values reaches
+    // the rank of the quantile
+    long targetRank = Math.max(1L, (long) Math.ceil(quantile * totalWeight));
+    int[] positions = new int[levelCount];
+    long rank = 0L;
+    double result = Double.NaN;
+    while (rank < targetRank) {
+      int minLevel = -1;
+      for (int level = 0; level < levelCount; level++) {
+        if (positions[level] < levelSizes[level] && (minLevel == -1 ||
+          levels[level][positions[level]] <
+            levels[minLevel][positions[minLevel]])) {
+          minLevel = level;
+        }
+      }
+      result = levels[minLevel][positions[minLevel]++];
+      rank += 1L << minLevel;
+    }
+    return PropertyValue.create(result);
+  }
+
+  @Override
+  public void resetAggregate() {
+    for (int level = 0; level < levelCount; level++) {
+      levelSizes[level] = 0;
+    }
+    levelCount = 0;
+  }
+
+  /**
+   * Merges an encoded sketch into this sketch.
+   *
+   * @param buffer encoded sketch
+   */
+  private void merge(ByteBuffer buffer) {
+    int otherLevelCount = buffer.getInt();
+    for (int level = 0; level < otherLevelCount; level++) {
+      int size = buffer.getInt();
+      for (int i = 0; i < size; i++) {
+        add(level, buffer.getDouble());
+      }
+    }
+    compress();
+  }
+
+  /**
+   * Adds a value to the given level.
+   *
+   * @param level level
+   * @param value value
+   */
+  private void add(int level, double value) {
+    while (level >= levelCount) {
+      addLevel();
+    }
+    double[] values = levels[level];
+    if (levelSizes[level] == values.length) {
+      values = Arrays.copyOf(values, values.length * 2);
+      levels[level] = values;
+    }
+    values[levelSizes[level]++] = value;
+  }
+
+  /**
+   * Adds an empty top level.
+   */
+  private void addLevel() {
+    if (levelCount == levels.length) {
+      levels = Arrays.copyOf(levels, levelCount * 2);
+      levelSizes = Arrays.copyOf(levelSizes, levelCount * 2);
+    }
+    if (levels[levelCount] == null) {
+      levels[levelCount] = new double[k];
+    }
+    levelSizes[levelCount] = 0;
+    levelCount++;
+  }
+
+  /**
+   * Compacts all levels which exceed their capacity.
+   */
+  private void compress() {
+    for (int level = 0; level < levelCount; level++) {
+      if (levelSizes[level] >= capacity(level)) {
+        compact(level);
+      }
+    }
+  }
+
+  /**
+   * Sorts the values of a level and promotes every second value to the next
+   * level. If the level contains an odd number of values, the largest value
+   * remains at the level.
+   *
+   * @param level level to compact
+   */
+  private void compact(int level) {
+    double[] values = levels[level];
+    int size = levelSizes[level];
+    Arrays.sort(values, 0, size);
+
+    int compactedSize = size - (size % 2);
+    int offset = compactionOffset ? 1 : 0;
+    compactionOffset = !compactionOffset;
+    for (int i = offset; i < compactedSize; i += 2) {
+      add(level + 1, values[i]);
+    }
+    if (size % 2 == 1) {
+      values[0] = values[size - 1];
+    }
+    levelSizes[level] = size % 2;
+  }
+
+  /**
+   * Returns the capacity of a level. The top level has capacity {@code k},
+   * each level below has two thirds of the capacity of the level above.
+   *
+   * @param level level
+   * @return capacity
+   */
+  private int capacity(int level) {
+    int depth = levelCount - level - 1;
+    return Math.max(MIN_CAPACITY,
+      (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+  }
+}
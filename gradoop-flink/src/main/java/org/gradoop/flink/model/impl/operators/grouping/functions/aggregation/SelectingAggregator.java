@@ -0,0 +1,152 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Base class for aggregators which select a single value of a group based on
+ * a comparison, i.e. minimum and maximum.
+ *
+ * The type of the values is resolved once from the first value of a group.
+ * Numeric values (int, long, float, double) are compared and stored as
+ * primitives; all other values are compared using
+ * {@link PropertyValue#compareTo(PropertyValue)}.
+ */
+abstract class SelectingAggregator extends PropertyValueAggregator {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Type of the aggregated values ({@code null} if uninitialized).
+   */
+  private Class<?> type;
+
+  /**
+   * Aggregate of int and long values.
+   */
+  private long longAggregate;
+
+  /**
+   * Aggregate of float and double values.
+   */
+  private double doubleAggregate;
+
+  /**
+   * Aggregate of non-numeric values.
+   */
+  private PropertyValue aggregate;
+
+  /**
+   * Creates a new aggregator
+   *
+   * @param propertyKey          property key to access values
+   * @param aggregatePropertyKey property key for final aggregate value
+   */
+  protected SelectingAggregator(String propertyKey,
+    String aggregatePropertyKey) {
+    super(propertyKey, aggregatePropertyKey);
+  }
+
+  /**
+   * Decides if the current aggregate is replaced by a new value.
+   *
+   * @param comparison result of comparing the new value to the aggregate
+   * @return true, iff the new value replaces the aggregate
+   */
+  protected abstract boolean replaces(int comparison);
+
+  @Override
+  protected boolean isInitialized() {
+    return type != null;
+  }
+
+  @Override
+  protected void initializeAggregate(PropertyValue value) {
+    type = value.getType();
+    if (type == Integer.class) {
+      longAggregate = value.getInt();
+    } else if (type == Long.class) {
+      longAggregate = value.getLong();
+    } else if (type == Float.class) {
+      doubleAggregate = value.getFloat();
+    } else if (type == Double.class) {
+      doubleAggregate = value.getDouble();
+    } else {
+      aggregate = value;
+    }
+  }
+
+  @Override
+  protected void aggregateInternal(PropertyValue value) {
+    if (type == Integer.class && value.isInt()) {
+      long current = value.getInt();
+      if (replaces(Long.compare(current, longAggregate))) {
+        longAggregate = current;
+      }
+    } else if (type == Long.class && value.isLong()) {
+      long current = value.getLong();
+      if (replaces(Long.compare(current, longAggregate))) {
+        longAggregate = current;
+      }
+    } else if (type == Float.class && value.isFloat()) {
+      float current = value.getFloat();
+      if (replaces(Float.compare(current, (float) doubleAggregate))) {
+        doubleAggregate = current;
+      }
+    } else if (type == Double.class && value.isDouble()) {
+      double current = value.getDouble();
+      if (replaces(Double.compare(current, doubleAggregate))) {
+        doubleAggregate = current;
+      }
+    } else if (aggregate != null) {
+      if (replaces(value.compareTo(aggregate))) {
+        aggregate = value;
+      }
+    } else {
+      throw new IllegalArgumentException(String.format(
+        "Incompatible types: %s, %s", type, value.getType()));
+    }
+  }
+
+  @Override
+  protected PropertyValue getAggregateInternal() {
+    PropertyValue result;
+    if (type == Integer.class) {
+      result = PropertyValue.create((int) longAggregate);
+    } else if (type == Long.class) {
+      result = PropertyValue.create(longAggregate);
+    } else if (type == Float.class) {
+      result = PropertyValue.create((float) doubleAggregate);
+    } else if (type == Double.class) {
+      result = PropertyValue.create(doubleAggregate);
+    } else {
+      result = aggregate;
+    }
+    return result;
+  }
+
+  @Override
+  public void resetAggregate() {
+    type = null;
+    aggregate = null;
+  }
+}
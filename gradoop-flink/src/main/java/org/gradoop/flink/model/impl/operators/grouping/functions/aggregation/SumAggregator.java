@@ -23,6 +23,13 @@ import java.math.BigDecimal;
 
 /**
  * Used to aggregate property values into their sum.
+ *
+ * The numeric type is resolved once from the first value of a group. Integral
+ * values (int, long) are summed into a primitive long, floating point values
+ * (float, double) into a primitive double. The result has the type of the
+ * input values, i.e. the sum of int values is an int as long as it fits into
+ * an int and a long otherwise. If the sum of integral values exceeds the long
+ * range, the aggregate is promoted to {@link BigDecimal}.
  */
 public class SumAggregator extends PropertyValueAggregator {
   /**
@@ -31,9 +38,52 @@ public class SumAggregator extends PropertyValueAggregator {
   private static final long serialVersionUID = 1L;
 
   /**
-   * Internal aggregate value.
+   * Internal representation of the aggregate.
+   */
+  private enum Mode {
+    /**
+     * Sum of int and long values.
+     */
+    INTEGRAL,
+    /**
+     * Sum of float and double values.
+     */
+    FLOATING,
+    /**
+     * Sum of big decimal values (or overflown integral values).
+     */
+    DECIMAL
+  }
+
+  /**
+   * Internal representation of the aggregate ({@code null} if uninitialized).
+   */
+  private Mode mode;
+
+  /**
+   * Aggregate of integral values.
+   */
+  private long longAggregate;
+
+  /**
+   * Aggregate of floating point values.
+   */
+  private double doubleAggregate;
+
+  /**
+   * Aggregate of big decimal values.
    */
-  private Number aggregate;
+  private BigDecimal decimalAggregate;
+
+  /**
+   * True, if all integral values are int values.
+   */
+  private boolean intValues;
+
+  /**
+   * True, if all floating point values are float values.
+   */
+  private boolean floatValues;
 
   /**
    * Creates a new aggregator
@@ -47,53 +97,126 @@ public class SumAggregator extends PropertyValueAggregator {
 
   @Override
   protected boolean isInitialized() {
-    return aggregate != null;
+    return mode != null;
   }
 
   @Override
   protected void initializeAggregate(PropertyValue value) {
-    Class<?> clazz = value.getType();
-    if (clazz == Integer.class) {
-      aggregate = 0;
-    } else if (clazz == Long.class) {
-      aggregate = 0L;
-    } else if (clazz == Float.class) {
-      aggregate = 0F;
-    } else if (clazz == Double.class) {
-      aggregate = .0;
-    } else if (clazz == BigDecimal.class) {
-      aggregate = new BigDecimal(0);
+    if (value.isInt() || value.isLong()) {
+      mode = Mode.INTEGRAL;
+    } else if (value.isFloat() || value.isDouble()) {
+      mode = Mode.FLOATING;
+    } else if (value.isBigDecimal()) {
+      mode = Mode.DECIMAL;
     } else {
       throw new IllegalArgumentException(
-        "Class " + clazz + " not supported in sum aggregation");
+        "Class " + value.getType() + " not supported in sum aggregation");
     }
+    longAggregate = 0L;
+    doubleAggregate = 0.0;
+    decimalAggregate = BigDecimal.ZERO;
+    intValues = true;
+    floatValues = true;
   }
 
   @Override
   protected void aggregateInternal(PropertyValue value) {
-    if (value.isInt()) {
-      aggregate = (Integer) aggregate + value.getInt();
-    } else if (getAggregate().isLong() && value.isLong()) {
-      aggregate = (Long) aggregate + value.getLong();
-    } else if (getAggregate().isFloat() && value.isFloat()) {
-      aggregate = (Float) aggregate + value.getFloat();
-    } else if (getAggregate().isDouble() && value.isDouble()) {
-      aggregate = (Double) aggregate + value.getDouble();
-    } else if (getAggregate().isBigDecimal() && value.isBigDecimal()) {
-      aggregate = ((BigDecimal) aggregate).add(value.getBigDecimal());
-    } else {
-      throw new IllegalArgumentException(
-        "Value types do not match or are not supported.");
+    switch (mode) {
+    case INTEGRAL:
+      if (value.isInt()) {
+        addLong(value.getInt());
+      } else if (value.isLong()) {
+        intValues = false;
+        addLong(value.getLong());
+      } else if (value.isBigDecimal()) {
+        // partial aggregate has already been promoted
+        mode = Mode.DECIMAL;
+        decimalAggregate = BigDecimal.valueOf(longAggregate)
+          .add(value.getBigDecimal());
+      } else {
+        throw typeMismatch();
+      }
+      break;
+    case FLOATING:
+      if (value.isFloat()) {
+        doubleAggregate += value.getFloat();
+      } else if (value.isDouble()) {
+        floatValues = false;
+        doubleAggregate += value.getDouble();
+      } else {
+        throw typeMismatch();
+      }
+      break;
+    default:
+      if (value.isBigDecimal()) {
+        decimalAggregate = decimalAggregate.add(value.getBigDecimal());
+      } else if (value.isInt()) {
+        decimalAggregate = decimalAggregate.add(
+          BigDecimal.valueOf(value.getInt()));
+      } else if (value.isLong()) {
+        decimalAggregate = decimalAggregate.add(
+          BigDecimal.valueOf(value.getLong()));
+      } else {
+        throw typeMismatch();
+      }
     }
   }
 
   @Override
   protected PropertyValue getAggregateInternal() {
-    return PropertyValue.create(aggregate);
+    PropertyValue result;
+    switch (mode) {
+    case INTEGRAL:
+      if (intValues && longAggregate >= Integer.MIN_VALUE &&
+        longAggregate <= Integer.MAX_VALUE) {
+        result = PropertyValue.create((int) longAggregate);
+      } else {
+        result = PropertyValue.create(longAggregate);
+      }
+      break;
+    case FLOATING:
+      if (floatValues) {
+        result = PropertyValue.create((float) doubleAggregate);
+      } else {
+        result = PropertyValue.create(doubleAggregate);
+      }
+      break;
+    default:
+      result = PropertyValue.create(decimalAggregate);
+    }
+    return result;
   }
 
   @Override
   public void resetAggregate() {
-    aggregate = null;
+    mode = null;
+  }
+
+  /**
+   * Adds the given value to the integral aggregate and promotes the aggregate
+   * to {@link BigDecimal} on overflow.
+   *
+   * @param value integral value
+   */
+  private void addLong(long value) {
+    long result = longAggregate + value;
+    // overflow iff both operands have a different sign than the result
+    if (((longAggregate ^ result) & (value ^ result)) < 0) {
+      mode = Mode.DECIMAL;
+      decimalAggregate = BigDecimal.valueOf(longAggregate)
+        .add(BigDecimal.valueOf(value));
+    } else {
+      longAggregate = result;
+    }
+  }
+
+  /**
+   * Creates the exception thrown for values of different types.
+   *
+   * @return exception
+   */
+  private IllegalArgumentException typeMismatch() {
+    return new IllegalArgumentException(
+      "Value types do not match or are not supported.");
   }
 }
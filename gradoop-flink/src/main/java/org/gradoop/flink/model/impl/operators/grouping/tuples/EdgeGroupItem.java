@@ -17,7 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.tuples;
 
-import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.api.java.tuple.Tuple6;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 
@@ -29,10 +29,17 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  * f2: edge group label
  * f3: edge group property values
  * f4: edge group aggregate values
+ * f5: fingerprint of group label and group properties (0 if not computed)
  */
-public class EdgeGroupItem
-  extends
-  Tuple5<GradoopId, GradoopId, String, PropertyValueList, PropertyValueList> {
+public class EdgeGroupItem extends Tuple6<GradoopId, GradoopId, String,
+  PropertyValueList, PropertyValueList, Long> {
+
+  /**
+   * Creates a new edge group item without a group fingerprint.
+   */
+  public EdgeGroupItem() {
+    f5 = 0L;
+  }
 
   public GradoopId getSourceId() {
     return f0;
@@ -73,4 +80,29 @@ public class EdgeGroupItem
   public void setAggregateValues(PropertyValueList value) {
     this.f4 = value;
   }
+
+  public long getGroupHash() {
+    return f5;
+  }
+
+  public void setGroupHash(long groupHash) {
+    f5 = groupHash;
+  }
+
+  /**
+   * Creates a shallow copy of this item.
+   *
+   * @return shallow copy
+   */
+  @Override
+  public EdgeGroupItem copy() {
+    EdgeGroupItem copy = new EdgeGroupItem();
+    copy.f0 = f0;
+    copy.f1 = f1;
+    copy.f2 = f2;
+    copy.f3 = f3;
+    copy.f4 = f4;
+    copy.f5 = f5;
+    return copy;
+  }
 }
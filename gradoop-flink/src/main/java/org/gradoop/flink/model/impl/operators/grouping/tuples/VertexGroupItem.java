@@ -17,7 +17,7 @@
 
 package org.gradoop.flink.model.impl.operators.grouping.tuples;
 
-import org.apache.flink.api.java.tuple.Tuple6;
+import org.apache.flink.api.java.tuple.Tuple7;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 
@@ -30,9 +30,17 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  * f3: vertex group properties
  * f4: vertex group aggregate values
  * f5: super vertex tuple true/false
+ * f6: fingerprint of group label and group properties (0 if not computed)
  */
-public class VertexGroupItem extends Tuple6<GradoopId, GradoopId, String,
-  PropertyValueList, PropertyValueList, Boolean> {
+public class VertexGroupItem extends Tuple7<GradoopId, GradoopId, String,
+  PropertyValueList, PropertyValueList, Boolean, Long> {
+
+  /**
+   * Creates a new vertex group item without a group fingerprint.
+   */
+  public VertexGroupItem() {
+    f6 = 0L;
+  }
 
   public GradoopId getVertexId() {
     return f0;
@@ -81,4 +89,30 @@ public class VertexGroupItem extends Tuple6<GradoopId, GradoopId, String,
   public void setSuperVertex(Boolean isSuperVertex) {
     f5 = isSuperVertex;
   }
+
+  public long getGroupHash() {
+    return f6;
+  }
+
+  public void setGroupHash(long groupHash) {
+    f6 = groupHash;
+  }
+
+  /**
+   * Creates a shallow copy of this item.
+   *
+   * @return shallow copy
+   */
+  @Override
+  public VertexGroupItem copy() {
+    VertexGroupItem copy = new VertexGroupItem();
+    copy.f0 = f0;
+    copy.f1 = f1;
+    copy.f2 = f2;
+    copy.f3 = f3;
+    copy.f4 = f4;
+    copy.f5 = f5;
+    copy.f6 = f6;
+    return copy;
+  }
 }
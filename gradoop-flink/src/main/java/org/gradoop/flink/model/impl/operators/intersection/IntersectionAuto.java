@@ -0,0 +1,83 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.intersection;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.api.operators.BinaryCollectionToCollectionOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.operators.base.GraphContainmentJoin;
+import org.gradoop.flink.model.impl.operators.count.Count;
+
+/**
+ * Returns a collection with all logical graphs that exist in both input
+ * collections. Graph equality is based on their identifiers.
+ *
+ * The graph heads of the second collection are counted within the same job.
+ * If their number does not exceed a given maximum broadcast size,
+ * {@link IntersectionBroadcast} is applied, otherwise {@link Intersection}.
+ * Both are part of the program, but only the selected one receives the
+ * input collections.
+ */
+public class IntersectionAuto implements BinaryCollectionToCollectionOperator {
+
+  /**
+   * Maximum number of graph ids to broadcast
+   */
+  private final long maxBroadcastSize;
+
+  /**
+   * Creates a new operator instance using the default maximum broadcast size.
+   */
+  public IntersectionAuto() {
+    this(GraphContainmentJoin.DEFAULT_MAX_BROADCAST_SIZE);
+  }
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param maxBroadcastSize maximum number of graph ids to broadcast
+   */
+  public IntersectionAuto(long maxBroadcastSize) {
+    this.maxBroadcastSize = maxBroadcastSize;
+  }
+
+  @Override
+  public GraphCollection execute(GraphCollection firstCollection,
+    GraphCollection secondCollection) {
+    DataSet<Long> graphCount = Count.count(secondCollection.getGraphHeads());
+
+    GraphCollection broadcastResult = new IntersectionBroadcast().execute(
+      GraphContainmentJoin.ifBroadcast(
+        firstCollection, graphCount, maxBroadcastSize),
+      GraphContainmentJoin.ifBroadcast(
+        secondCollection, graphCount, maxBroadcastSize));
+
+    GraphCollection joinResult = new Intersection().execute(
+      GraphContainmentJoin.ifJoin(
+        firstCollection, graphCount, maxBroadcastSize),
+      GraphContainmentJoin.ifJoin(
+        secondCollection, graphCount, maxBroadcastSize));
+
+    return GraphContainmentJoin.union(broadcastResult, joinResult);
+  }
+
+  @Override
+  public String getName() {
+    return IntersectionAuto.class.getName();
+  }
+}
@@ -27,16 +27,20 @@ import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.graphcontainment
   .GraphsContainmentFilterBroadcast;
-import org.gradoop.flink.model.impl.functions.graphcontainment.InAllGraphsBroadcast;
+import org.gradoop.flink.model.impl.functions.graphcontainment.InAnyGraphBroadcast;
+import org.gradoop.flink.model.impl.operators.base.GraphContainmentJoin;
 
 
 import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
- * Returns the first n (arbitrary) logical graphs from a collection.
+ * Returns the first n (arbitrary) logical graphs from a collection. The result
+ * contains all vertices and edges which are contained in at least one of the
+ * selected graphs.
  *
  * Note that this operator uses broadcasting to distribute the relevant graph
- * identifiers.
+ * identifiers if n does not exceed a maximum broadcast size. Otherwise, the
+ * graph elements are joined with the selected graph heads.
  */
 public class Limit implements UnaryCollectionToCollectionOperator {
 
@@ -46,12 +50,29 @@ public class Limit implements UnaryCollectionToCollectionOperator {
   private final int limit;
 
   /**
-   * Creates a new limit operator instance.
+   * Maximum number of graph ids to broadcast
+   */
+  private final long maxBroadcastSize;
+
+  /**
+   * Creates a new limit operator instance using the default maximum broadcast
+   * size.
    *
    * @param limit number of graphs to retrieve from the collection
    */
   public Limit(int limit) {
+    this(limit, GraphContainmentJoin.DEFAULT_MAX_BROADCAST_SIZE);
+  }
+
+  /**
+   * Creates a new limit operator instance.
+   *
+   * @param limit             number of graphs to retrieve from the collection
+   * @param maxBroadcastSize  maximum number of graph ids to broadcast
+   */
+  public Limit(int limit, long maxBroadcastSize) {
     this.limit = limit;
+    this.maxBroadcastSize = maxBroadcastSize;
   }
 
   @Override
@@ -59,15 +80,26 @@ public class Limit implements UnaryCollectionToCollectionOperator {
 
     DataSet<GraphHead> graphHeads = collection.getGraphHeads().first(limit);
 
-    DataSet<GradoopId> firstIds = graphHeads.map(new Id<GraphHead>());
+    DataSet<Vertex> filteredVertices;
+    DataSet<Edge> filteredEdges;
+
+    if (limit <= maxBroadcastSize) {
+      DataSet<GradoopId> firstIds = graphHeads.map(new Id<GraphHead>());
+
+      filteredVertices = collection.getVertices()
+        .filter(new InAnyGraphBroadcast<Vertex>())
+        .withBroadcastSet(firstIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
 
-    DataSet<Vertex> filteredVertices = collection.getVertices()
-      .filter(new InAllGraphsBroadcast<Vertex>())
-      .withBroadcastSet(firstIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
+      filteredEdges = collection.getEdges()
+        .filter(new InAnyGraphBroadcast<Edge>())
+        .withBroadcastSet(firstIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
+    } else {
+      filteredVertices = GraphContainmentJoin
+        .inAnyGraph(collection.getVertices(), graphHeads);
 
-    DataSet<Edge> filteredEdges = collection.getEdges()
-      .filter(new InAllGraphsBroadcast<Edge>())
-      .withBroadcastSet(firstIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
+      filteredEdges = GraphContainmentJoin
+        .inAnyGraph(collection.getEdges(), graphHeads);
+    }
 
     return GraphCollection.fromDataSets(graphHeads,
       filteredVertices,
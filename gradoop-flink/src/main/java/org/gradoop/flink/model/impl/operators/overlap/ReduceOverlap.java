@@ -35,18 +35,51 @@
 package org.gradoop.flink.model.impl.operators.overlap;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.model.api.operators.ReducibleBinaryGraphToGraphOperator;
 import org.gradoop.flink.model.impl.GraphCollection;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.operators.base.GraphContainmentJoin;
+import org.gradoop.flink.model.impl.operators.base.GraphMembership;
+import org.gradoop.flink.model.impl.operators.count.Count;
 import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * Computes the overlap graph from a collection of logical graphs.
+ *
+ * By default, the graphs of the collection are numbered and the numbering is
+ * broadcasted. Each element keeps its graph memberships as bitmap, which
+ * needs to cover the bitmap of all graphs (see {@link GraphMembership}).
+ * If a maximum broadcast size is given, the graph heads are counted within
+ * the same job and a join based implementation is used if their number
+ * exceeds that size.
  */
-public class ReduceOverlap extends OverlapBase implements
-  ReducibleBinaryGraphToGraphOperator {
+public class ReduceOverlap implements ReducibleBinaryGraphToGraphOperator {
+
+  /**
+   * Maximum number of graph ids to broadcast
+   */
+  private final long maxBroadcastSize;
+
+  /**
+   * Creates an operator instance which always broadcasts the graph ids.
+   */
+  public ReduceOverlap() {
+    this(Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates an operator instance which broadcasts the graph ids only if their
+   * number does not exceed the given size.
+   *
+   * @param maxBroadcastSize maximum number of graph ids to broadcast
+   */
+  public ReduceOverlap(long maxBroadcastSize) {
+    this.maxBroadcastSize = maxBroadcastSize;
+  }
 
   /**
    * Creates a new logical graph containing the overlapping vertex and edge sets
@@ -60,11 +93,43 @@ public class ReduceOverlap extends OverlapBase implements
   public LogicalGraph execute(GraphCollection collection) {
     DataSet<GraphHead> graphHeads = collection.getGraphHeads();
 
-    DataSet<GradoopId> graphIDs = graphHeads.map(new Id<GraphHead>());
+    if (maxBroadcastSize == Long.MAX_VALUE) {
+      DataSet<Tuple2<Long, GradoopId>> numbering =
+        GraphMembership.numbering(graphHeads);
+
+      return LogicalGraph.fromDataSets(
+        GraphMembership.inAllGraphs(collection.getVertices(), numbering),
+        GraphMembership.inAllGraphs(collection.getEdges(), numbering),
+        collection.getConfig()
+      );
+    }
+
+    DataSet<Long> graphCount = Count.count(graphHeads);
+
+    DataSet<Tuple2<Long, GradoopId>> numbering = GraphMembership.numbering(
+      GraphContainmentJoin.ifBroadcast(
+        graphHeads, graphCount, maxBroadcastSize));
+
+    DataSet<GraphHead> joinGraphHeads = GraphContainmentJoin
+      .ifJoin(graphHeads, graphCount, maxBroadcastSize);
+
+    DataSet<Vertex> vertices = GraphMembership.inAllGraphs(GraphContainmentJoin
+      .ifBroadcast(collection.getVertices(), graphCount, maxBroadcastSize),
+      numbering)
+      .union(GraphContainmentJoin.inAllGraphs(GraphContainmentJoin
+        .ifJoin(collection.getVertices(), graphCount, maxBroadcastSize),
+        joinGraphHeads, graphCount));
+
+    DataSet<Edge> edges = GraphMembership.inAllGraphs(GraphContainmentJoin
+      .ifBroadcast(collection.getEdges(), graphCount, maxBroadcastSize),
+      numbering)
+      .union(GraphContainmentJoin.inAllGraphs(GraphContainmentJoin
+        .ifJoin(collection.getEdges(), graphCount, maxBroadcastSize),
+        joinGraphHeads, graphCount));
 
     return LogicalGraph.fromDataSets(
-      getVertices(collection.getVertices(), graphIDs),
-      getEdges(collection.getEdges(), graphIDs),
+      vertices,
+      edges,
       collection.getConfig()
     );
   }
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.sampling.functions.EdgeRandomFilter;
+import org.gradoop.flink.model.impl.operators.sampling.functions.SourceAndTargetId;
+
+import java.util.Random;
+
+/**
+ * Creates a new graph from a randomly chosen subset of edges and their source
+ * and target vertices. Edges are selected in a single pass, vertices by a
+ * semi-join with the distinct identifiers of the selected edges' end points.
+ *
+ * The selection of an edge only depends on its identifier and the seed, i.e.,
+ * the result is reproducible for a given seed.
+ */
+public class RandomEdgeSampling implements UnaryGraphToGraphOperator {
+  /**
+   * relative amount of edges in the result graph
+   */
+  private final float sampleSize;
+
+  /**
+   * seed for the random decisions
+   */
+  private final long randomSeed;
+
+  /**
+   * Creates new RandomEdgeSampling instance using a random seed.
+   *
+   * @param sampleSize relative sample size
+   */
+  public RandomEdgeSampling(float sampleSize) {
+    this(sampleSize, new Random().nextLong());
+  }
+
+  /**
+   * Creates new RandomEdgeSampling instance.
+   *
+   * @param sampleSize relative sample size
+   * @param randomSeed random seed value
+   */
+  public RandomEdgeSampling(float sampleSize, long randomSeed) {
+    if (sampleSize < 0f || sampleSize > 1f) {
+      throw new IllegalArgumentException("Sample size must be in [0, 1]");
+    }
+    this.sampleSize = sampleSize;
+    this.randomSeed = randomSeed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+
+    DataSet<Edge> newEdges = graph.getEdges()
+      .filter(new EdgeRandomFilter<>(sampleSize, randomSeed));
+
+    DataSet<Tuple1<GradoopId>> newVertexIds = newEdges
+      .flatMap(new SourceAndTargetId<>())
+      .distinct(0);
+
+    DataSet<Vertex> newVertices = graph.getVertices()
+      .join(newVertexIds)
+      .where(new Id<Vertex>())
+      .equalTo(0)
+      .with(new LeftSide<Vertex, Tuple1<GradoopId>>());
+
+    return LogicalGraph.fromDataSets(
+      newVertices, newEdges, graph.getConfig());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return RandomEdgeSampling.class.getName();
+  }
+}
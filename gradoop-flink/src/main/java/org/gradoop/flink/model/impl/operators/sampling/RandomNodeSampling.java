@@ -26,6 +26,7 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.operators.semijoin.SemiJoin;
 import org.gradoop.flink.model.impl.operators.sampling.functions.VertexRandomFilter;
 
 /**
@@ -74,18 +75,32 @@ public class RandomNodeSampling implements UnaryGraphToGraphOperator {
     DataSet<Vertex> newVertices = graph.getVertices()
       .filter(new VertexRandomFilter<>(sampleSize, randomSeed));
 
-    DataSet<Edge> newEdges = graph.getEdges()
-      .join(newVertices)
+    return LogicalGraph.fromDataSets(
+      newVertices, inducedEdges(graph.getEdges(), newVertices),
+      graph.getConfig());
+  }
+
+  /**
+   * Selects the edges whose source and target vertex are contained in the
+   * given vertex set.
+   *
+   * @param edges     edges
+   * @param vertices  vertices
+   * @return edges between the given vertices
+   */
+  static DataSet<Edge> inducedEdges(DataSet<Edge> edges,
+    DataSet<Vertex> vertices) {
+    // discard edges with filtered end points before they are shuffled
+    return SemiJoin
+      .reduceEdges(edges, vertices.map(new Id<Vertex>()))
+      .join(vertices)
       .where(new SourceId<>())
       .equalTo(new Id<Vertex>())
       .with(new LeftSide<Edge, Vertex>())
-      .join(newVertices)
+      .join(vertices)
       .where(new TargetId<>())
       .equalTo(new Id<Vertex>())
       .with(new LeftSide<Edge, Vertex>());
-
-    return LogicalGraph.fromDataSets(
-      newVertices, newEdges, graph.getConfig());
   }
 
   /**
@@ -0,0 +1,161 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.sampling.functions.MoveWalkers;
+import org.gradoop.flink.model.impl.operators.sampling.functions.SourceIdTargetId;
+import org.gradoop.flink.model.impl.operators.sampling.functions.WalkerPosition;
+
+import java.util.Random;
+
+/**
+ * Creates a new graph from the vertices visited by a number of random walkers
+ * and the edges between them.
+ *
+ * The walkers start at randomly chosen vertices. In each step, a walker
+ * follows a random outgoing edge of its current vertex. With the given jump
+ * probability, or if there is no outgoing edge, it jumps to a random start
+ * vertex instead. The walk is implemented as delta iteration whose solution
+ * set contains the visited vertex identifiers and whose workset contains the
+ * current walker positions.
+ *
+ * All random decisions are derived from the seed, i.e., the result is
+ * reproducible for a given seed.
+ */
+public class RandomWalkSampling implements UnaryGraphToGraphOperator {
+  /**
+   * number of parallel walkers
+   */
+  private final int numberOfWalkers;
+
+  /**
+   * number of steps per walker
+   */
+  private final int numberOfSteps;
+
+  /**
+   * probability to jump to a random start vertex in each step
+   */
+  private final float jumpProbability;
+
+  /**
+   * seed for the random decisions
+   */
+  private final long randomSeed;
+
+  /**
+   * Creates new RandomWalkSampling instance using a random seed.
+   *
+   * @param numberOfWalkers number of parallel walkers
+   * @param numberOfSteps   number of steps per walker
+   * @param jumpProbability probability to jump to a random start vertex
+   */
+  public RandomWalkSampling(int numberOfWalkers, int numberOfSteps,
+    float jumpProbability) {
+    this(numberOfWalkers, numberOfSteps, jumpProbability,
+      new Random().nextLong());
+  }
+
+  /**
+   * Creates new RandomWalkSampling instance.
+   *
+   * @param numberOfWalkers number of parallel walkers
+   * @param numberOfSteps   number of steps per walker
+   * @param jumpProbability probability to jump to a random start vertex
+   * @param randomSeed      random seed value
+   */
+  public RandomWalkSampling(int numberOfWalkers, int numberOfSteps,
+    float jumpProbability, long randomSeed) {
+    if (numberOfWalkers < 1) {
+      throw new IllegalArgumentException(
+        "Number of walkers must be at least 1");
+    }
+    if (numberOfSteps < 1) {
+      throw new IllegalArgumentException("Number of steps must be at least 1");
+    }
+    if (jumpProbability < 0f || jumpProbability > 1f) {
+      throw new IllegalArgumentException(
+        "Jump probability must be in [0, 1]");
+    }
+    this.numberOfWalkers = numberOfWalkers;
+    this.numberOfSteps = numberOfSteps;
+    this.jumpProbability = jumpProbability;
+    this.randomSeed = randomSeed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+
+    // (walkerId, startVertexId)
+    DataSet<Tuple2<Long, GradoopId>> walkers = DataSetUtils.zipWithIndex(
+      DataSetUtils.sampleWithSize(graph.getVertices().map(new Id<Vertex>()),
+        false, numberOfWalkers, randomSeed));
+
+    // (sourceId, targetId)
+    DataSet<Tuple2<GradoopId, GradoopId>> edgeIds = graph.getEdges()
+      .map(new SourceIdTargetId<>());
+
+    DeltaIteration<Tuple1<GradoopId>, Tuple2<Long, GradoopId>> iteration =
+      walkers
+        .map(new WalkerPosition())
+        .distinct(0)
+        .iterateDelta(walkers, numberOfSteps, 0);
+
+    DataSet<Tuple2<Long, GradoopId>> nextWalkers = iteration.getWorkset()
+      .coGroup(edgeIds)
+      .where(1).equalTo(0)
+      .with(new MoveWalkers(jumpProbability, randomSeed))
+      .withBroadcastSet(walkers, MoveWalkers.START_VERTICES);
+
+    DataSet<Tuple1<GradoopId>> visitedVertexIds = iteration.closeWith(
+      nextWalkers.map(new WalkerPosition()).distinct(0), nextWalkers);
+
+    DataSet<Vertex> newVertices = graph.getVertices()
+      .join(visitedVertexIds)
+      .where(new Id<Vertex>())
+      .equalTo(0)
+      .with(new LeftSide<Vertex, Tuple1<GradoopId>>());
+
+    return LogicalGraph.fromDataSets(newVertices,
+      RandomNodeSampling.inducedEdges(graph.getEdges(), newVertices),
+      graph.getConfig());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return RandomWalkSampling.class.getName();
+  }
+}
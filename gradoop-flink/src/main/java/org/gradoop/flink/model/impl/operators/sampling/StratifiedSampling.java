@@ -0,0 +1,123 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabelInSet;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.sampling.functions.LabelWithRandomRank;
+import org.gradoop.flink.model.impl.operators.sampling.functions.SelectLabelQuota;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Creates a new graph from a stratified sample of vertices and the edges
+ * between them. For each vertex label, exactly the given number of vertices
+ * (or all vertices, if there are fewer) is selected uniformly at random.
+ * Vertices whose label has no quota are not selected.
+ *
+ * Each vertex is ranked by a random value derived from its identifier and the
+ * seed. The lowest ranked vertices of each label are selected, first per
+ * partition and then globally, i.e., the result is reproducible for a given
+ * seed.
+ */
+public class StratifiedSampling implements UnaryGraphToGraphOperator {
+  /**
+   * number of vertices to select per label
+   */
+  private final Map<String, Long> labelQuotas;
+
+  /**
+   * seed for the random decisions
+   */
+  private final long randomSeed;
+
+  /**
+   * Creates new StratifiedSampling instance using a random seed.
+   *
+   * @param labelQuotas number of vertices to select per label
+   */
+  public StratifiedSampling(Map<String, Long> labelQuotas) {
+    this(labelQuotas, new Random().nextLong());
+  }
+
+  /**
+   * Creates new StratifiedSampling instance.
+   *
+   * @param labelQuotas number of vertices to select per label
+   * @param randomSeed  random seed value
+   */
+  public StratifiedSampling(Map<String, Long> labelQuotas, long randomSeed) {
+    for (Map.Entry<String, Long> quota : labelQuotas.entrySet()) {
+      if (quota.getValue() == null || quota.getValue() < 0L) {
+        throw new IllegalArgumentException(
+          "Invalid quota for label " + quota.getKey());
+      }
+    }
+    this.labelQuotas = Maps.newHashMap(labelQuotas);
+    this.randomSeed = randomSeed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+
+    // (label, randomRank, vertexId)
+    DataSet<Tuple3<String, Long, GradoopId>> selectedVertexIds =
+      graph.getVertices()
+        .filter(new ByLabelInSet<Vertex>(labelQuotas.keySet()))
+        .map(new LabelWithRandomRank<>(randomSeed))
+        .groupBy(0)
+        .sortGroup(1, Order.ASCENDING)
+        .sortGroup(2, Order.ASCENDING)
+        .combineGroup(new SelectLabelQuota(labelQuotas))
+        .groupBy(0)
+        .sortGroup(1, Order.ASCENDING)
+        .sortGroup(2, Order.ASCENDING)
+        .reduceGroup(new SelectLabelQuota(labelQuotas));
+
+    DataSet<Vertex> newVertices = graph.getVertices()
+      .join(selectedVertexIds)
+      .where(new Id<Vertex>())
+      .equalTo(2)
+      .with(new LeftSide<Vertex, Tuple3<String, Long, GradoopId>>());
+
+    return LogicalGraph.fromDataSets(newVertices,
+      RandomNodeSampling.inducedEdges(graph.getEdges(), newVertices),
+      graph.getConfig());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return StratifiedSampling.class.getName();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Keeps an edge with the given probability. The decision is derived from the
+ * edge identifier and the seed.
+ *
+ * @param <E> EPGM edge type
+ */
+@FunctionAnnotation.ReadFields("id")
+public class EdgeRandomFilter<E extends Edge> implements FilterFunction<E> {
+  /**
+   * Threshold to decide if an edge needs to be filtered.
+   */
+  private final float threshold;
+  /**
+   * Random seed
+   */
+  private final long randomSeed;
+
+  /**
+   * Creates a new filter instance.
+   *
+   * @param sampleSize relative sample size
+   * @param randomSeed random seed
+   */
+  public EdgeRandomFilter(float sampleSize, long randomSeed) {
+    this.threshold = sampleSize;
+    this.randomSeed = randomSeed;
+  }
+
+  @Override
+  public boolean filter(E edge) throws Exception {
+    return RandomIdHash.uniform(edge.getId(), randomSeed) < threshold;
+  }
+}
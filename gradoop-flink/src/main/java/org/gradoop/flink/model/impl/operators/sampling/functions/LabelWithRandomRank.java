@@ -0,0 +1,61 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * vertex => (label, randomRank, vertexId)
+ *
+ * @param <V> EPGM vertex type
+ */
+@FunctionAnnotation.ForwardedFields("label->f0;id->f2")
+public class LabelWithRandomRank<V extends Vertex>
+  implements MapFunction<V, Tuple3<String, Long, GradoopId>> {
+
+  /**
+   * Random seed
+   */
+  private final long randomSeed;
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple3<String, Long, GradoopId> reuseTuple = new Tuple3<>();
+
+  /**
+   * Constructor
+   *
+   * @param randomSeed random seed
+   */
+  public LabelWithRandomRank(long randomSeed) {
+    this.randomSeed = randomSeed;
+  }
+
+  @Override
+  public Tuple3<String, Long, GradoopId> map(V vertex) throws Exception {
+    reuseTuple.f0 = vertex.getLabel();
+    reuseTuple.f1 = RandomIdHash.hash(vertex.getId(), randomSeed);
+    reuseTuple.f2 = vertex.getId();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.RichCoGroupFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Moves each walker located at a vertex to a random outgoing neighbour of that
+ * vertex. With the given jump probability or if the vertex has no outgoing
+ * edges, the walker jumps to a random start vertex instead.
+ *
+ * The random decisions are derived from the seed, the walker id and the
+ * superstep. Thus, the walk is reproducible for a given seed.
+ *
+ * Note that this function can only be applied in an iterative context.
+ *
+ * (walkerId, vertexId) x (sourceId, targetId) => (walkerId, nextVertexId)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class MoveWalkers extends RichCoGroupFunction
+  <Tuple2<Long, GradoopId>, Tuple2<GradoopId, GradoopId>,
+    Tuple2<Long, GradoopId>> {
+
+  /**
+   * Broadcast set containing the initial (walkerId, vertexId) pairs
+   */
+  public static final String START_VERTICES = "startVertices";
+
+  /**
+   * Probability to jump to a random start vertex
+   */
+  private final float jumpProbability;
+
+  /**
+   * Random seed
+   */
+  private final long randomSeed;
+
+  /**
+   * Start vertices ordered by walker id
+   */
+  private GradoopId[] startVertices;
+
+  /**
+   * Current superstep
+   */
+  private int superstep;
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<Long, GradoopId> reuseTuple = new Tuple2<>();
+
+  /**
+   * Constructor
+   *
+   * @param jumpProbability probability to jump to a random start vertex
+   * @param randomSeed      random seed
+   */
+  public MoveWalkers(float jumpProbability, long randomSeed) {
+    this.jumpProbability = jumpProbability;
+    this.randomSeed = randomSeed;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    superstep = getIterationRuntimeContext().getSuperstepNumber();
+
+    List<Tuple2<Long, GradoopId>> walkers = Lists.newArrayList(
+      getRuntimeContext().<Tuple2<Long, GradoopId>>getBroadcastVariable(
+        START_VERTICES));
+    Collections.sort(walkers, new Comparator<Tuple2<Long, GradoopId>>() {
+      @Override
+      public int compare(Tuple2<Long, GradoopId> o1,
+        Tuple2<Long, GradoopId> o2) {
+        return o1.f0.compareTo(o2.f0);
+      }
+    });
+    startVertices = new GradoopId[walkers.size()];
+    for (int i = 0; i < startVertices.length; i++) {
+      startVertices[i] = walkers.get(i).f1;
+    }
+  }
+
+  @Override
+  public void coGroup(Iterable<Tuple2<Long, GradoopId>> walkers,
+    Iterable<Tuple2<GradoopId, GradoopId>> edges,
+    Collector<Tuple2<Long, GradoopId>> out) throws Exception {
+
+    List<Tuple2<Long, GradoopId>> walkerList = Lists.newArrayList(walkers);
+    if (walkerList.isEmpty()) {
+      return;
+    }
+
+    // sort neighbours as their order is not deterministic
+    List<GradoopId> neighbours = Lists.newArrayList();
+    for (Tuple2<GradoopId, GradoopId> edge : edges) {
+      neighbours.add(edge.f1);
+    }
+    Collections.sort(neighbours);
+
+    for (Tuple2<Long, GradoopId> walker : walkerList) {
+      Random random = new Random(ContentHash.mix(
+        ContentHash.mix(randomSeed ^ walker.f0) + superstep));
+
+      reuseTuple.f0 = walker.f0;
+      if (neighbours.isEmpty() || random.nextFloat() < jumpProbability) {
+        reuseTuple.f1 = startVertices[random.nextInt(startVertices.length)];
+      } else {
+        reuseTuple.f1 = neighbours.get(random.nextInt(neighbours.size()));
+      }
+      out.collect(reuseTuple);
+    }
+  }
+}
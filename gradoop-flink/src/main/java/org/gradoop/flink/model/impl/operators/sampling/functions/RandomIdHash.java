@@ -0,0 +1,64 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.util.ContentHash;
+
+/**
+ * Seeded pseudo random values derived from element identifiers. In contrast to
+ * a random generator per function instance, the values do not depend on the
+ * parallelism or the order in which elements are processed, which makes
+ * sampling results reproducible for a given seed.
+ */
+public final class RandomIdHash {
+
+  /**
+   * Golden ratio constant, spreads consecutive seeds
+   */
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  /**
+   * No instances.
+   */
+  private RandomIdHash() {
+  }
+
+  /**
+   * Returns a pseudo random long derived from the given identifier and seed.
+   *
+   * @param id    element identifier
+   * @param seed  random seed
+   * @return pseudo random long
+   */
+  public static long hash(GradoopId id, long seed) {
+    return ContentHash.mix(seed * GOLDEN_GAMMA + id.hashCode());
+  }
+
+  /**
+   * Returns a pseudo random float in [0, 1) derived from the given identifier
+   * and seed.
+   *
+   * @param id    element identifier
+   * @param seed  random seed
+   * @return pseudo random float
+   */
+  public static float uniform(GradoopId id, long seed) {
+    return (hash(id, seed) >>> 40) / (float) (1 << 24);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling.functions;
+
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Forwards the first n tuples of a group sorted by random rank, where n is
+ * the quota of the group's label. Used as combiner and reducer, i.e. each
+ * partition forwards at most n candidates per label.
+ *
+ * (label, randomRank, vertexId)* => (label, randomRank, vertexId)*
+ */
+public class SelectLabelQuota implements
+  GroupCombineFunction
+    <Tuple3<String, Long, GradoopId>, Tuple3<String, Long, GradoopId>>,
+  GroupReduceFunction
+    <Tuple3<String, Long, GradoopId>, Tuple3<String, Long, GradoopId>> {
+
+  /**
+   * Number of vertices to select per label
+   */
+  private final HashMap<String, Long> labelQuotas;
+
+  /**
+   * Constructor
+   *
+   * @param labelQuotas number of vertices to select per label
+   */
+  public SelectLabelQuota(Map<String, Long> labelQuotas) {
+    this.labelQuotas = Maps.newHashMap(labelQuotas);
+  }
+
+  @Override
+  public void combine(Iterable<Tuple3<String, Long, GradoopId>> values,
+    Collector<Tuple3<String, Long, GradoopId>> out) throws Exception {
+    reduce(values, out);
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple3<String, Long, GradoopId>> values,
+    Collector<Tuple3<String, Long, GradoopId>> out) throws Exception {
+    long remaining = -1L;
+    for (Tuple3<String, Long, GradoopId> value : values) {
+      if (remaining < 0L) {
+        Long quota = labelQuotas.get(value.f0);
+        remaining = quota == null ? 0L : quota;
+      }
+      if (remaining == 0L) {
+        return;
+      }
+      out.collect(value);
+      remaining--;
+    }
+  }
+}
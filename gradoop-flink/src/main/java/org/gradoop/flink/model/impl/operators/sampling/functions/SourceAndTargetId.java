@@ -0,0 +1,49 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * edge => (sourceId), (targetId)
+ *
+ * @param <E> EPGM edge type
+ */
+@FunctionAnnotation.ReadFields("sourceId;targetId")
+public class SourceAndTargetId<E extends Edge>
+  implements FlatMapFunction<E, Tuple1<GradoopId>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple1<GradoopId> reuseTuple = new Tuple1<>();
+
+  @Override
+  public void flatMap(E edge, Collector<Tuple1<GradoopId>> out) throws
+    Exception {
+    reuseTuple.f0 = edge.getSourceId();
+    out.collect(reuseTuple);
+    reuseTuple.f0 = edge.getTargetId();
+    out.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.semijoin;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdBloomFilter;
+import org.gradoop.flink.model.impl.operators.semijoin.functions.BuildIdBloomFilter;
+import org.gradoop.flink.model.impl.operators.semijoin.functions.MergeIdBloomFilters;
+import org.gradoop.flink.model.impl.operators.semijoin.functions.SourceAndTargetInBloomFilter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Utility methods to reduce a dataset before it is joined with a (small)
+ * set of identifiers.
+ *
+ * A {@link GradoopIdBloomFilter} is built in parallel over the identifiers,
+ * broadcasted and used to discard elements which cannot have a join partner
+ * before they are shuffled. As the filter may contain false positives, the
+ * exact join still needs to be applied on the remaining elements.
+ *
+ * The filter is sized for a maximum number of identifiers, which bounds the
+ * size of the broadcasted filter independently of the input. If there are
+ * more identifiers, the filter is skipped and all elements are kept, as the
+ * set of identifiers is not small and the filter would hardly discard any
+ * element.
+ */
+public class SemiJoin {
+
+  /**
+   * Default false positive rate of the filter
+   */
+  public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+  /**
+   * Default maximum number of identifiers in the filter (about 1.2 MB)
+   */
+  public static final long DEFAULT_MAX_IDS = 1000000L;
+
+  /**
+   * Builds a bloom filter over the given identifiers. The filter is sized
+   * for the given maximum number of identifiers and false positive rate.
+   *
+   * The resulting tuple contains the number of identifiers and the filter.
+   * If the number exceeds the maximum, the filter is empty and must not be
+   * used.
+   *
+   * @param ids               identifiers
+   * @param maxIds            maximum number of identifiers (> 0)
+   * @param falsePositiveRate false positive rate (0.0 to 1.0)
+   * @return 1-element dataset containing the number of ids and the filter
+   */
+  public static DataSet<Tuple2<Long, GradoopIdBloomFilter>> bloomFilter(
+    DataSet<GradoopId> ids, long maxIds, double falsePositiveRate) {
+    checkArgument(maxIds > 0L, "maxIds must be positive");
+    return ids
+      .mapPartition(new BuildIdBloomFilter(maxIds, falsePositiveRate))
+      .reduce(new MergeIdBloomFilters(maxIds, falsePositiveRate));
+  }
+
+  /**
+   * Removes all edges whose source or target id is definitely not contained
+   * in the given vertex ids. The edges are filtered locally, i.e., without
+   * being shuffled.
+   *
+   * @param edges     edges
+   * @param vertexIds vertex ids
+   * @param <E>       EPGM edge type
+   * @return edges whose source and target id might be contained
+   */
+  public static <E extends EPGMEdge> DataSet<E> reduceEdges(
+    DataSet<E> edges, DataSet<GradoopId> vertexIds) {
+    return reduceEdges(edges, vertexIds, DEFAULT_MAX_IDS);
+  }
+
+  /**
+   * Removes all edges whose source or target id is definitely not contained
+   * in the given vertex ids. The edges are filtered locally, i.e., without
+   * being shuffled. If there are more than {@code maxIds} vertex ids, all
+   * edges are kept.
+   *
+   * @param edges     edges
+   * @param vertexIds vertex ids
+   * @param maxIds    maximum number of vertex ids in the filter (> 0)
+   * @param <E>       EPGM edge type
+   * @return edges whose source and target id might be contained
+   */
+  public static <E extends EPGMEdge> DataSet<E> reduceEdges(
+    DataSet<E> edges, DataSet<GradoopId> vertexIds, long maxIds) {
+    return edges
+      .filter(new SourceAndTargetInBloomFilter<E>(maxIds))
+      .withBroadcastSet(
+        bloomFilter(vertexIds, maxIds, DEFAULT_FALSE_POSITIVE_RATE),
+        SourceAndTargetInBloomFilter.BLOOM_FILTER);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.semijoin.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdBloomFilter;
+
+/**
+ * Builds a bloom filter over the identifiers of a partition. All partition
+ * filters are sized for the maximum number of identifiers and can thus be
+ * merged.
+ *
+ * ids -> (number of ids, filter)
+ *
+ * If the partition contains more identifiers than the maximum, the remaining
+ * identifiers are only counted and an empty minimal filter is returned.
+ */
+public class BuildIdBloomFilter implements
+  MapPartitionFunction<GradoopId, Tuple2<Long, GradoopIdBloomFilter>> {
+
+  /**
+   * Maximum number of identifiers
+   */
+  private final long maxIds;
+
+  /**
+   * False positive rate of the filter
+   */
+  private final double falsePositiveRate;
+
+  /**
+   * Creates map partition function.
+   *
+   * @param maxIds            maximum number of identifiers
+   * @param falsePositiveRate false positive rate (0.0 to 1.0)
+   */
+  public BuildIdBloomFilter(long maxIds, double falsePositiveRate) {
+    this.maxIds = maxIds;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  @Override
+  public void mapPartition(Iterable<GradoopId> ids,
+    Collector<Tuple2<Long, GradoopIdBloomFilter>> out) throws Exception {
+    GradoopIdBloomFilter filter =
+      GradoopIdBloomFilter.create(maxIds, falsePositiveRate);
+    long count = 0L;
+    for (GradoopId id : ids) {
+      if (++count <= maxIds) {
+        filter.add(id);
+      }
+    }
+    if (count > maxIds) {
+      filter = GradoopIdBloomFilter.create(0L, falsePositiveRate);
+    }
+    out.collect(new Tuple2<>(count, filter));
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.semijoin.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopIdBloomFilter;
+
+/**
+ * (count, filter), (count, filter) -> (count, filter containing the
+ * identifiers of both)
+ *
+ * If the total number of identifiers exceeds the maximum, an empty minimal
+ * filter is returned.
+ */
+public class MergeIdBloomFilters
+  implements ReduceFunction<Tuple2<Long, GradoopIdBloomFilter>> {
+
+  /**
+   * Maximum number of identifiers
+   */
+  private final long maxIds;
+
+  /**
+   * False positive rate of the filter
+   */
+  private final double falsePositiveRate;
+
+  /**
+   * Creates reduce function.
+   *
+   * @param maxIds            maximum number of identifiers
+   * @param falsePositiveRate false positive rate (0.0 to 1.0)
+   */
+  public MergeIdBloomFilters(long maxIds, double falsePositiveRate) {
+    this.maxIds = maxIds;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  @Override
+  public Tuple2<Long, GradoopIdBloomFilter> reduce(
+    Tuple2<Long, GradoopIdBloomFilter> first,
+    Tuple2<Long, GradoopIdBloomFilter> second) throws Exception {
+    first.f0 += second.f0;
+    if (first.f0 > maxIds) {
+      first.f1 = GradoopIdBloomFilter.create(0L, falsePositiveRate);
+    } else {
+      first.f1.addAll(second.f1);
+    }
+    return first;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.semijoin.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.impl.id.GradoopIdBloomFilter;
+
+import java.util.List;
+
+/**
+ * True, if source and target id of an edge might be contained in a
+ * broadcasted bloom filter. If no filter is given, all edges are discarded.
+ * If the filter contains more than the maximum number of identifiers, all
+ * edges are kept.
+ *
+ * @param <E> EPGM edge type
+ */
+@FunctionAnnotation.ReadFields("sourceId;targetId")
+public class SourceAndTargetInBloomFilter<E extends EPGMEdge>
+  extends RichFilterFunction<E> {
+
+  /**
+   * constant string for "bloom filter"
+   */
+  public static final String BLOOM_FILTER = "bloomFilter";
+
+  /**
+   * Maximum number of identifiers
+   */
+  private final long maxIds;
+
+  /**
+   * True, if the filter is skipped
+   */
+  private boolean keepAll;
+
+  /**
+   * Bloom filter over vertex ids
+   */
+  private GradoopIdBloomFilter bloomFilter;
+
+  /**
+   * Creates filter function.
+   *
+   * @param maxIds maximum number of identifiers
+   */
+  public SourceAndTargetInBloomFilter(long maxIds) {
+    this.maxIds = maxIds;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Tuple2<Long, GradoopIdBloomFilter>> filters =
+      getRuntimeContext().getBroadcastVariable(BLOOM_FILTER);
+    keepAll = !filters.isEmpty() && filters.get(0).f0 > maxIds;
+    bloomFilter = filters.isEmpty() || keepAll ? null : filters.get(0).f1;
+  }
+
+  @Override
+  public boolean filter(E edge) throws Exception {
+    return keepAll || bloomFilter != null &&
+      bloomFilter.mightContain(edge.getSourceId()) &&
+      bloomFilter.mightContain(edge.getTargetId());
+  }
+}
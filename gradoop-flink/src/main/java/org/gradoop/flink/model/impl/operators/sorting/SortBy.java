@@ -0,0 +1,154 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.util.Order;
+import org.gradoop.flink.model.api.operators.UnaryCollectionToCollectionOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.functions.tuple.Value3Of4;
+import org.gradoop.flink.model.impl.operators.sorting.functions.AssignSortRange;
+import org.gradoop.flink.model.impl.operators.sorting.functions.ComputeRangeBoundaries;
+import org.gradoop.flink.model.impl.operators.sorting.functions.ExtractSortValue;
+import org.gradoop.flink.model.impl.operators.sorting.functions.PairGraphHeadWithSortKey;
+import org.gradoop.flink.model.impl.operators.sorting.functions.SortRangePartitioner;
+
+/**
+ * Sorts the graph heads of a collection by a given property.
+ *
+ * The graph heads are range partitioned, i.e. each partition contains graph
+ * heads with smaller (or larger for descending order) values than the next
+ * one, and sorted within each partition. Thus, a sink which writes partitions
+ * in their order, or {@link DataSetUtils#zipWithIndex}, observes a total
+ * order. Range boundaries are computed from a sample of the property values.
+ * Graph heads without the property are ordered last.
+ *
+ * Vertices and edges are not affected by this operator. Note that property
+ * values of different types are not comparable.
+ */
+public class SortBy implements UnaryCollectionToCollectionOperator {
+
+  /**
+   * Default number of property values to sample for the range boundaries.
+   */
+  public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+  /**
+   * Default number of ranges derived from the sample.
+   */
+  public static final int DEFAULT_NUMBER_OF_RANGES = 128;
+
+  /**
+   * Flink ascending sort order
+   */
+  private static final org.apache.flink.api.common.operators.Order
+    FLINK_ASCENDING = org.apache.flink.api.common.operators.Order.ASCENDING;
+
+  /**
+   * Flink descending sort order
+   */
+  private static final org.apache.flink.api.common.operators.Order
+    FLINK_DESCENDING = org.apache.flink.api.common.operators.Order.DESCENDING;
+
+  /**
+   * Property key to sort by
+   */
+  private final String propertyKey;
+
+  /**
+   * Sort order
+   */
+  private final Order order;
+
+  /**
+   * Number of property values to sample
+   */
+  private final int sampleSize;
+
+  /**
+   * Number of ranges derived from the sample
+   */
+  private final int numberOfRanges;
+
+  /**
+   * Creates a new operator instance using default sampling parameters.
+   *
+   * @param propertyKey property key to sort by
+   * @param order       sort order
+   */
+  public SortBy(String propertyKey, Order order) {
+    this(propertyKey, order, DEFAULT_SAMPLE_SIZE, DEFAULT_NUMBER_OF_RANGES);
+  }
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param propertyKey     property key to sort by
+   * @param order           sort order
+   * @param sampleSize      number of property values to sample
+   * @param numberOfRanges  number of ranges derived from the sample
+   */
+  public SortBy(String propertyKey, Order order, int sampleSize,
+    int numberOfRanges) {
+    if (sampleSize < 1 || numberOfRanges < 1) {
+      throw new IllegalArgumentException(
+        "Sample size and number of ranges must be positive");
+    }
+    this.propertyKey = propertyKey;
+    this.order = order;
+    this.sampleSize = sampleSize;
+    this.numberOfRanges = numberOfRanges;
+  }
+
+  @Override
+  public GraphCollection execute(GraphCollection collection) {
+
+    // (0, hasNoValue, value, graphHead)
+    DataSet<Tuple4<Integer, Boolean, PropertyValue, GraphHead>> keyedHeads =
+      collection.getGraphHeads()
+        .map(new PairGraphHeadWithSortKey(propertyKey));
+
+    // sample values and compute range boundaries
+    DataSet<PropertyValue> boundaries = DataSetUtils.sampleWithSize(
+      keyedHeads.flatMap(new ExtractSortValue()), false, sampleSize)
+      .reduceGroup(new ComputeRangeBoundaries(numberOfRanges));
+
+    DataSet<GraphHead> graphHeads = keyedHeads
+      .map(new AssignSortRange(order))
+      .withBroadcastSet(boundaries, AssignSortRange.BOUNDARIES)
+      .partitionCustom(new SortRangePartitioner(), 0)
+      .sortPartition(1, FLINK_ASCENDING)
+      .sortPartition(2, order == Order.ASCENDING ?
+        FLINK_ASCENDING : FLINK_DESCENDING)
+      .map(new Value3Of4<Integer, Boolean, PropertyValue, GraphHead>());
+
+    return GraphCollection.fromDataSets(graphHeads,
+      collection.getVertices(),
+      collection.getEdges(),
+      collection.getConfig());
+  }
+
+  @Override
+  public String getName() {
+    return SortBy.class.getName();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.util.Order;
+import org.gradoop.flink.model.api.operators.UnaryCollectionToCollectionOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.graphcontainment.GraphsContainmentFilterBroadcast;
+import org.gradoop.flink.model.impl.functions.graphcontainment.InAnyGraphBroadcast;
+import org.gradoop.flink.model.impl.operators.sorting.functions.SelectTopGraphHeads;
+
+/**
+ * Returns the first n logical graphs of a collection according to a given
+ * graph property and sort order.
+ *
+ * Each partition keeps its current top n graph heads in a bounded heap, so
+ * that at most n candidates per partition are shipped to the final selection.
+ * Vertices and edges are filtered using the broadcast identifiers of the
+ * selected graphs. Graphs without the property are ordered last.
+ */
+public class Top implements UnaryCollectionToCollectionOperator {
+
+  /**
+   * Number of graphs to select
+   */
+  private final int n;
+
+  /**
+   * Property key to sort by
+   */
+  private final String propertyKey;
+
+  /**
+   * Sort order
+   */
+  private final Order order;
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param n           number of graphs to select
+   * @param propertyKey property key to sort by
+   * @param order       sort order
+   */
+  public Top(int n, String propertyKey, Order order) {
+    if (n < 0) {
+      throw new IllegalArgumentException("n must not be negative");
+    }
+    this.n = n;
+    this.propertyKey = propertyKey;
+    this.order = order;
+  }
+
+  @Override
+  public GraphCollection execute(GraphCollection collection) {
+
+    DataSet<GraphHead> graphHeads = collection.getGraphHeads()
+      .mapPartition(new SelectTopGraphHeads(n, propertyKey, order))
+      .reduceGroup(new SelectTopGraphHeads(n, propertyKey, order));
+
+    DataSet<GradoopId> topIds = graphHeads.map(new Id<GraphHead>());
+
+    DataSet<Vertex> filteredVertices = collection.getVertices()
+      .filter(new InAnyGraphBroadcast<Vertex>())
+      .withBroadcastSet(topIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
+
+    DataSet<Edge> filteredEdges = collection.getEdges()
+      .filter(new InAnyGraphBroadcast<Edge>())
+      .withBroadcastSet(topIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
+
+    return GraphCollection.fromDataSets(graphHeads,
+      filteredVertices,
+      filteredEdges,
+      collection.getConfig());
+  }
+
+  @Override
+  public String getName() {
+    return Top.class.getName();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.util.Order;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * (_, hasNoValue, propertyValue, graphHead) ->
+ * (range, hasNoValue, propertyValue, graphHead)
+ *
+ * Assigns a sort range to each graph head by binary searching its property
+ * value in the broadcast range boundaries. The range is scaled to
+ * {@code [0, RANGE_SPACE)} and reversed for descending order. Graph heads
+ * without a value are assigned to {@link SortRangePartitioner#RANGE_SPACE}.
+ */
+@FunctionAnnotation.ForwardedFields("f1;f2;f3")
+public class AssignSortRange extends RichMapFunction
+  <Tuple4<Integer, Boolean, PropertyValue, GraphHead>,
+    Tuple4<Integer, Boolean, PropertyValue, GraphHead>> {
+
+  /**
+   * Broadcast set containing the range boundaries
+   */
+  public static final String BOUNDARIES = "boundaries";
+
+  /**
+   * Sort order
+   */
+  private final Order order;
+
+  /**
+   * Ascending range boundaries
+   */
+  private List<PropertyValue> boundaries;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param order sort order
+   */
+  public AssignSortRange(Order order) {
+    this.order = order;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    boundaries = Lists.newArrayList(
+      getRuntimeContext().<PropertyValue>getBroadcastVariable(BOUNDARIES));
+    Collections.sort(boundaries);
+  }
+
+  @Override
+  public Tuple4<Integer, Boolean, PropertyValue, GraphHead> map(
+    Tuple4<Integer, Boolean, PropertyValue, GraphHead> value)
+    throws Exception {
+    if (value.f1) {
+      value.f0 = SortRangePartitioner.RANGE_SPACE;
+    } else {
+      int numberOfRanges = boundaries.size() + 1;
+      int range = upperBound(value.f2);
+      if (order == Order.DESCENDING) {
+        range = numberOfRanges - 1 - range;
+      }
+      value.f0 = (int) ((long) range * SortRangePartitioner.RANGE_SPACE /
+        numberOfRanges);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the number of boundaries that are less than or equal to the
+   * given value.
+   *
+   * @param value property value
+   * @return index of the range containing the value
+   */
+  private int upperBound(PropertyValue value) {
+    int low = 0;
+    int high = boundaries.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (boundaries.get(mid).compareTo(value) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
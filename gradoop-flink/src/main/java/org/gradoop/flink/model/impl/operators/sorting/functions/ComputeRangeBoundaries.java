@@ -0,0 +1,71 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * sample -> boundaries
+ *
+ * Sorts a sample of (non-null) property values and emits the distinct values
+ * at the quantiles splitting the sample into a given number of ranges.
+ */
+public class ComputeRangeBoundaries
+  implements GroupReduceFunction<PropertyValue, PropertyValue> {
+
+  /**
+   * Number of ranges to split the sample into
+   */
+  private final int numberOfRanges;
+
+  /**
+   * Creates a new reduce function.
+   *
+   * @param numberOfRanges number of ranges to split the sample into
+   */
+  public ComputeRangeBoundaries(int numberOfRanges) {
+    this.numberOfRanges = numberOfRanges;
+  }
+
+  @Override
+  public void reduce(Iterable<PropertyValue> sample,
+    Collector<PropertyValue> out) throws Exception {
+
+    List<PropertyValue> values = Lists.newArrayList(sample);
+    Collections.sort(values);
+
+    PropertyValue lastBoundary = null;
+    for (int i = 1; i < numberOfRanges; i++) {
+      int index = (int) ((long) i * values.size() / numberOfRanges);
+      if (index >= values.size()) {
+        break;
+      }
+      PropertyValue boundary = values.get(index);
+      if (lastBoundary == null || boundary.compareTo(lastBoundary) > 0) {
+        out.collect(boundary);
+        lastBoundary = boundary;
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * (range, hasNoValue, propertyValue, graphHead) -> propertyValue
+ *
+ * Graph heads without a sort value are skipped.
+ */
+@FunctionAnnotation.ForwardedFields("f2->*")
+public class ExtractSortValue implements FlatMapFunction
+  <Tuple4<Integer, Boolean, PropertyValue, GraphHead>, PropertyValue> {
+
+  @Override
+  public void flatMap(Tuple4<Integer, Boolean, PropertyValue, GraphHead> value,
+    Collector<PropertyValue> out) throws Exception {
+    if (!value.f1) {
+      out.collect(value.f2);
+    }
+  }
+}
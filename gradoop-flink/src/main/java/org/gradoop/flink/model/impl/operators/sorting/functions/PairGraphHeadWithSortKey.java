@@ -0,0 +1,70 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * graphHead -> (0, hasNoValue, propertyValue, graphHead)
+ *
+ * The first field is a placeholder for the sort range, which is assigned by
+ * {@link AssignSortRange}. Graph heads without the property are paired with
+ * {@link PropertyValue#NULL_VALUE}.
+ */
+@FunctionAnnotation.ForwardedFields("*->f3")
+public class PairGraphHeadWithSortKey implements
+  MapFunction<GraphHead, Tuple4<Integer, Boolean, PropertyValue, GraphHead>> {
+
+  /**
+   * Used to access the property value to sort by.
+   */
+  private final String propertyKey;
+
+  /**
+   * Reduce instantiations.
+   */
+  private final Tuple4<Integer, Boolean, PropertyValue, GraphHead> reuseTuple;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey used to access the property value to sort by
+   */
+  public PairGraphHeadWithSortKey(String propertyKey) {
+    this.propertyKey = propertyKey;
+    this.reuseTuple = new Tuple4<>();
+    this.reuseTuple.f0 = 0;
+  }
+
+  @Override
+  public Tuple4<Integer, Boolean, PropertyValue, GraphHead> map(
+    GraphHead graphHead) throws Exception {
+    if (graphHead.hasProperty(propertyKey)) {
+      reuseTuple.f2 = graphHead.getPropertyValue(propertyKey);
+    } else {
+      reuseTuple.f2 = PropertyValue.NULL_VALUE;
+    }
+    reuseTuple.f1 = reuseTuple.f2.isNull();
+    reuseTuple.f3 = graphHead;
+    return reuseTuple;
+  }
+}
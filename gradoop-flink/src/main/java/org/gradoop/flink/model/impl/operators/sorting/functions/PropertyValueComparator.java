@@ -0,0 +1,55 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting.functions;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.util.Order;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+/**
+ * Compares property values according to a given sort order. Null values are
+ * always ordered after all other values, independent of the sort order.
+ */
+public class PropertyValueComparator
+  implements Comparator<PropertyValue>, Serializable {
+
+  /**
+   * Sort order
+   */
+  private final Order order;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param order sort order
+   */
+  public PropertyValueComparator(Order order) {
+    this.order = order;
+  }
+
+  @Override
+  public int compare(PropertyValue left, PropertyValue right) {
+    if (left.isNull() || right.isNull()) {
+      return Boolean.compare(left.isNull(), right.isNull());
+    }
+    int comparison = left.compareTo(right);
+    return order == Order.ASCENDING ? comparison : -comparison;
+  }
+}
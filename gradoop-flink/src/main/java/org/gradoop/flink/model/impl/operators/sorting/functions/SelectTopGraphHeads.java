@@ -0,0 +1,155 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.util.Order;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * graphHeads -> top n graphHeads
+ *
+ * Selects the first n graph heads according to a property value and a sort
+ * order using a bounded heap. Used as map partition function to compute
+ * partition local candidates and as group reduce function to select the final
+ * graph heads from all candidates. The selected graph heads are emitted in
+ * sort order.
+ */
+public class SelectTopGraphHeads implements
+  MapPartitionFunction<GraphHead, GraphHead>,
+  GroupReduceFunction<GraphHead, GraphHead> {
+
+  /**
+   * Number of graph heads to select
+   */
+  private final int n;
+
+  /**
+   * Compares graph heads by their sort value
+   */
+  private final GraphHeadComparator comparator;
+
+  /**
+   * Creates a new function.
+   *
+   * @param n           number of graph heads to select
+   * @param propertyKey property key to sort by
+   * @param order       sort order
+   */
+  public SelectTopGraphHeads(int n, String propertyKey, Order order) {
+    this.n = n;
+    this.comparator = new GraphHeadComparator(propertyKey, order);
+  }
+
+  @Override
+  public void mapPartition(Iterable<GraphHead> graphHeads,
+    Collector<GraphHead> out) throws Exception {
+    select(graphHeads, out);
+  }
+
+  @Override
+  public void reduce(Iterable<GraphHead> graphHeads,
+    Collector<GraphHead> out) throws Exception {
+    select(graphHeads, out);
+  }
+
+  /**
+   * Keeps the current top n graph heads in a heap whose root is the last one
+   * in sort order and emits them sorted.
+   *
+   * @param graphHeads  input graph heads
+   * @param out         output collector
+   */
+  private void select(Iterable<GraphHead> graphHeads,
+    Collector<GraphHead> out) {
+    if (n == 0) {
+      return;
+    }
+    PriorityQueue<GraphHead> heap =
+      new PriorityQueue<>(n, Collections.reverseOrder(comparator));
+
+    for (GraphHead graphHead : graphHeads) {
+      if (heap.size() < n) {
+        heap.add(graphHead);
+      } else if (comparator.compare(graphHead, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(graphHead);
+      }
+    }
+
+    List<GraphHead> selected = Lists.newArrayList(heap);
+    Collections.sort(selected, comparator);
+    for (GraphHead graphHead : selected) {
+      out.collect(graphHead);
+    }
+  }
+
+  /**
+   * Compares graph heads by the value of a given property.
+   */
+  private static class GraphHeadComparator
+    implements Comparator<GraphHead>, Serializable {
+
+    /**
+     * Property key to sort by
+     */
+    private final String propertyKey;
+
+    /**
+     * Compares the property values
+     */
+    private final PropertyValueComparator valueComparator;
+
+    /**
+     * Creates a new comparator.
+     *
+     * @param propertyKey property key to sort by
+     * @param order       sort order
+     */
+    GraphHeadComparator(String propertyKey, Order order) {
+      this.propertyKey = propertyKey;
+      this.valueComparator = new PropertyValueComparator(order);
+    }
+
+    @Override
+    public int compare(GraphHead left, GraphHead right) {
+      return valueComparator.compare(getValue(left), getValue(right));
+    }
+
+    /**
+     * Returns the sort value of the given graph head.
+     *
+     * @param graphHead graph head
+     * @return property value or {@link PropertyValue#NULL_VALUE}
+     */
+    private PropertyValue getValue(GraphHead graphHead) {
+      return graphHead.hasProperty(propertyKey) ?
+        graphHead.getPropertyValue(propertyKey) : PropertyValue.NULL_VALUE;
+    }
+  }
+}
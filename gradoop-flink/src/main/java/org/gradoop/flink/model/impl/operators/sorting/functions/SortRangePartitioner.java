@@ -0,0 +1,38 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting.functions;
+
+import org.apache.flink.api.common.functions.Partitioner;
+
+/**
+ * Maps a sort range in {@code [0, RANGE_SPACE]} to a partition. The mapping
+ * is monotone, i.e. lower ranges never end up in higher partitions, so that
+ * the partitions are ordered by their index.
+ */
+public class SortRangePartitioner implements Partitioner<Integer> {
+
+  /**
+   * Largest sort range, reserved for elements without a sort value.
+   */
+  public static final int RANGE_SPACE = 1 << 16;
+
+  @Override
+  public int partition(Integer range, int numPartitions) {
+    return (int) ((long) range * numPartitions / (RANGE_SPACE + 1));
+  }
+}
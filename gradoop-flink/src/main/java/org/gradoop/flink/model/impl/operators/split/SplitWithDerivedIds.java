@@ -0,0 +1,145 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.split;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.UnaryFunction;
+import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.operators.split.functions.AddCommonGraphsToEdge;
+import org.gradoop.flink.model.impl.operators.split.functions.EdgeToIdTriple;
+import org.gradoop.flink.model.impl.operators.split.functions.ExtractSplitGraphIds;
+import org.gradoop.flink.model.impl.operators.split.functions.InitGraphHead;
+import org.gradoop.flink.model.impl.operators.split.functions.JoinEdgeIdsWithCommonGraphs;
+import org.gradoop.flink.model.impl.operators.split.functions.JoinEdgeIdsWithSourceGraphs;
+import org.gradoop.flink.model.impl.operators.split.functions.PairVertexIdWithSplitGraphs;
+import org.gradoop.flink.model.impl.operators.split.functions.PairVertexWithSplitGraphs;
+import org.gradoop.flink.model.impl.operators.split.functions.SplitGraphIds;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Splits a LogicalGraph into a GraphCollection based on user-defined property
+ * values. The result equals the one of {@link Split}.
+ *
+ * In contrast to {@link Split}, the new graph ids are derived from the split
+ * values and a key unique per execution. Thus, no distinct split values need
+ * to be joined with the vertices, which are updated in a single map instead.
+ * The split function is evaluated once per vertex and the resulting graph ids
+ * are reused to build the vertices, graph heads and edges.
+ * The graphs of source and target vertex are attached to (edgeId, sourceId,
+ * targetId) triples, such that the full edge set is shuffled only once to add
+ * the common graphs.
+ */
+public class SplitWithDerivedIds
+  implements UnaryGraphToCollectionOperator, Serializable {
+
+  /**
+   * User-defined function for value extraction
+   */
+  private final UnaryFunction<Vertex, List<PropertyValue>> function;
+
+  /**
+   * Constructor
+   *
+   * @param function user-defined function
+   */
+  public SplitWithDerivedIds(
+    UnaryFunction<Vertex, List<PropertyValue>> function) {
+    this.function = function;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection execute(LogicalGraph graph) {
+
+    SplitGraphIds<Vertex> splitGraphIds =
+      new SplitGraphIds<>(function, GradoopId.get());
+
+    //--------------------------------------------------------------------------
+    // compute vertices and new graphs
+    //--------------------------------------------------------------------------
+
+    // add new graph ids to the vertices without joining,
+    // the split function is applied once per vertex
+    DataSet<Tuple2<Vertex, GradoopIdSet>> vertexWithGraphIds =
+      graph.getVertices()
+        .flatMap(new PairVertexWithSplitGraphs<>(splitGraphIds));
+
+    DataSet<Vertex> vertices = vertexWithGraphIds
+      .map(new Value0Of2<Vertex, GradoopIdSet>());
+
+    // one graph head per distinct derived graph id
+    DataSet<GraphHead> newGraphs = vertexWithGraphIds
+      .flatMap(new ExtractSplitGraphIds<Vertex>())
+      .distinct()
+      .map(new InitGraphHead(graph.getConfig().getGraphHeadFactory()));
+
+    //--------------------------------------------------------------------------
+    // compute edges
+    //--------------------------------------------------------------------------
+
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> vertexIdWithGraphIds =
+      vertexWithGraphIds
+        .map(new PairVertexIdWithSplitGraphs<Vertex>());
+
+    // (edgeId, commonGraphIds) for edges with common source and target graphs
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> edgeIdWithGraphIds =
+      graph.getEdges()
+        .map(new EdgeToIdTriple<>())
+        .join(vertexIdWithGraphIds)
+        .where(1).equalTo(0)
+        .with(new JoinEdgeIdsWithSourceGraphs())
+        .join(vertexIdWithGraphIds)
+        .where(1).equalTo(0)
+        .with(new JoinEdgeIdsWithCommonGraphs());
+
+    DataSet<Edge> edges = graph.getEdges()
+      .join(edgeIdWithGraphIds)
+      .where(new Id<Edge>()).equalTo(0)
+      .with(new AddCommonGraphsToEdge<>());
+
+    //--------------------------------------------------------------------------
+    // return new graph collection
+    //--------------------------------------------------------------------------
+
+    return GraphCollection.fromDataSets(
+      newGraphs, vertices, edges, graph.getConfig());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return SplitWithDerivedIds.class.getName();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.split.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Adds the graphs shared by source and target vertex to each edge.
+ *
+ * @param <E> EPGM edge type
+ */
+@FunctionAnnotation.ForwardedFieldsFirst(
+  "id;sourceId;targetId;label;properties")
+@FunctionAnnotation.ReadFieldsSecond("f1")
+public class AddCommonGraphsToEdge<E extends Edge>
+  implements JoinFunction<E, Tuple2<GradoopId, GradoopIdSet>, E> {
+
+  @Override
+  public E join(E edge, Tuple2<GradoopId, GradoopIdSet> edgeWithGraphIds) {
+    edge.getGraphIds().addAll(edgeWithGraphIds.f1);
+    return edge;
+  }
+}
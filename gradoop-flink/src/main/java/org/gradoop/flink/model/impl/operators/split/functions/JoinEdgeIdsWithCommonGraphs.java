@@ -0,0 +1,59 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.split.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+/**
+ * (edgeId, targetId, sourceGraphs) |><| (targetId, targetGraphs)
+ * -> (edgeId, commonGraphs)
+ *
+ * Edges whose source and target have no graphs in common are removed.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class JoinEdgeIdsWithCommonGraphs implements FlatJoinFunction
+  <Tuple3<GradoopId, GradoopId, GradoopIdSet>, Tuple2<GradoopId, GradoopIdSet>,
+    Tuple2<GradoopId, GradoopIdSet>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<GradoopId, GradoopIdSet> reuseTuple = new Tuple2<>();
+
+  @Override
+  public void join(Tuple3<GradoopId, GradoopId, GradoopIdSet> edge,
+    Tuple2<GradoopId, GradoopIdSet> target,
+    Collector<Tuple2<GradoopId, GradoopIdSet>> collector) {
+    GradoopIdSet commonGraphs = new GradoopIdSet();
+    for (GradoopId graphId : edge.f2) {
+      if (target.f1.contains(graphId)) {
+        commonGraphs.add(graphId);
+      }
+    }
+    if (!commonGraphs.isEmpty()) {
+      reuseTuple.setFields(edge.f0, commonGraphs);
+      collector.collect(reuseTuple);
+    }
+  }
+}
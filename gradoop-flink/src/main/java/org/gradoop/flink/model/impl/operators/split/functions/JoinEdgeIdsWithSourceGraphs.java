@@ -0,0 +1,50 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.split.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+/**
+ * (edgeId, sourceId, targetId) |><| (sourceId, sourceGraphs)
+ * -> (edgeId, targetId, sourceGraphs)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f2->f1")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f2")
+public class JoinEdgeIdsWithSourceGraphs implements JoinFunction
+  <Tuple3<GradoopId, GradoopId, GradoopId>, Tuple2<GradoopId, GradoopIdSet>,
+    Tuple3<GradoopId, GradoopId, GradoopIdSet>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple3<GradoopId, GradoopId, GradoopIdSet> reuseTuple =
+    new Tuple3<>();
+
+  @Override
+  public Tuple3<GradoopId, GradoopId, GradoopIdSet> join(
+    Tuple3<GradoopId, GradoopId, GradoopId> edge,
+    Tuple2<GradoopId, GradoopIdSet> source) {
+    reuseTuple.setFields(edge.f0, edge.f2, source.f1);
+    return reuseTuple;
+  }
+}
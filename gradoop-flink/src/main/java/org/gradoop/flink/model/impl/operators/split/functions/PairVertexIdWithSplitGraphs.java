@@ -0,0 +1,48 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.split.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * (vertex, newGraphIds) -> (vertexId, newGraphIds)
+ *
+ * @param <V> EPGM vertex type
+ */
+@FunctionAnnotation.ForwardedFields("f0.id->f0;f1")
+public class PairVertexIdWithSplitGraphs<V extends Vertex> implements
+  MapFunction<Tuple2<V, GradoopIdSet>, Tuple2<GradoopId, GradoopIdSet>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<GradoopId, GradoopIdSet> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<GradoopId, GradoopIdSet> map(
+    Tuple2<V, GradoopIdSet> vertexWithGraphIds) throws Exception {
+    reuseTuple.f0 = vertexWithGraphIds.f0.getId();
+    reuseTuple.f1 = vertexWithGraphIds.f1;
+    return reuseTuple;
+  }
+}
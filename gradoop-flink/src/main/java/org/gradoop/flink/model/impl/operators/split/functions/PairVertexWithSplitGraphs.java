@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.split.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * vertex -> (vertex, newGraphIds)
+ *
+ * Adds the derived new graph ids to each vertex and pairs it with these ids.
+ * Vertices without a split value are removed.
+ *
+ * @param <V> EPGM vertex type
+ */
+public class PairVertexWithSplitGraphs<V extends Vertex>
+  implements FlatMapFunction<V, Tuple2<V, GradoopIdSet>> {
+
+  /**
+   * Derives the new graph ids
+   */
+  private final SplitGraphIds<V> splitGraphIds;
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<V, GradoopIdSet> reuseTuple = new Tuple2<>();
+
+  /**
+   * Constructor
+   *
+   * @param splitGraphIds derives the new graph ids
+   */
+  public PairVertexWithSplitGraphs(SplitGraphIds<V> splitGraphIds) {
+    this.splitGraphIds = splitGraphIds;
+  }
+
+  @Override
+  public void flatMap(V vertex, Collector<Tuple2<V, GradoopIdSet>> collector)
+    throws Exception {
+    GradoopIdSet graphIds = splitGraphIds.getGraphIds(vertex);
+    if (!graphIds.isEmpty()) {
+      vertex.getGraphIds().addAll(graphIds);
+      reuseTuple.f0 = vertex;
+      reuseTuple.f1 = graphIds;
+      collector.collect(reuseTuple);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.split.functions;
+
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.UnaryFunction;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Determines the new graphs of a vertex by deriving one graph id per split
+ * value. The id is a function of the binary split value and a key which is
+ * unique per split, thus equal split values result in equal graph ids on all
+ * workers without any lookup. Derived ids are cached by split value, so the
+ * value is serialized and hashed only once per distinct value and worker.
+ *
+ * @param <V> EPGM vertex type
+ */
+public class SplitGraphIds<V extends Vertex> implements Serializable {
+
+  /**
+   * Maximum number of cached graph ids
+   */
+  private static final int MAX_CACHE_SIZE = 10000;
+
+  /**
+   * User-defined function to determine split values
+   */
+  private final UnaryFunction<V, List<PropertyValue>> function;
+
+  /**
+   * Key to derive graph ids
+   */
+  private final GradoopId key;
+
+  /**
+   * Graph ids by split value, created on first use
+   */
+  private transient Map<Object, GradoopId> cache;
+
+  /**
+   * Constructor
+   *
+   * @param function  user-defined function to determine split values
+   * @param key       key to derive graph ids
+   */
+  public SplitGraphIds(UnaryFunction<V, List<PropertyValue>> function,
+    GradoopId key) {
+    this.function = checkNotNull(function);
+    this.key = checkNotNull(key);
+  }
+
+  /**
+   * Returns the ids of the new graphs the given vertex is contained in.
+   *
+   * @param vertex vertex
+   * @return new graph ids, empty if the vertex has no split value
+   * @throws Exception if the user-defined function fails
+   */
+  public GradoopIdSet getGraphIds(V vertex) throws Exception {
+    GradoopIdSet graphIds = new GradoopIdSet();
+    for (PropertyValue value : function.execute(vertex)) {
+      graphIds.add(getGraphId(value));
+    }
+    return graphIds;
+  }
+
+  /**
+   * Derives the graph id for the given split value.
+   *
+   * @param value split value
+   * @return graph id
+   * @throws IOException if the value cannot be serialized
+   */
+  private GradoopId getGraphId(PropertyValue value) throws IOException {
+    if (cache == null) {
+      cache = Maps.newHashMap();
+    }
+    Object splitValue = value.getObject();
+    GradoopId graphId = cache.get(splitValue);
+    if (graphId == null) {
+      ByteArrayDataOutput output = ByteStreams.newDataOutput();
+      value.write(output);
+      graphId = GradoopId.derive(GradoopId.fromName(output.toByteArray()), key);
+      if (cache.size() >= MAX_CACHE_SIZE) {
+        cache.clear();
+      }
+      cache.put(splitValue, graphId);
+    }
+    return graphId;
+  }
+}
@@ -37,6 +37,7 @@ import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.PairElementWithNewId;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
 import org.gradoop.flink.model.impl.functions.tuple.Value0Of4;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
@@ -49,6 +50,7 @@ import org.gradoop.flink.model.impl.operators.subgraph.functions.JoinTuplesWithN
 import org.gradoop.flink.model.impl.operators.subgraph.functions.JoinWithSourceGraphIdSet;
 import org.gradoop.flink.model.impl.operators.subgraph.functions.MergeEdgeGraphs;
 import org.gradoop.flink.model.impl.operators.subgraph.functions.MergeTupleGraphs;
+import org.gradoop.flink.model.impl.operators.semijoin.SemiJoin;
 
 /**
  * Takes a collection of logical graphs and a user defined aggregate function as
@@ -155,13 +157,20 @@ public class ApplySubgraph implements ApplicableUnaryGraphToGraphOperator {
         .equalTo(new Id<Vertex>())
         .with(new AddGraphsToElements<Vertex>());
 
+    //--------------------------------------------------------------------------
+    // discard edges with filtered end points before they are shuffled
+    //--------------------------------------------------------------------------
+
+    DataSet<Edge> candidateEdges = SemiJoin.reduceEdges(collection.getEdges(),
+      vertexIdsWithNewGraphs.map(new Value0Of2<GradoopId, GradoopIdSet>()));
+
     //--------------------------------------------------------------------------
     // build tuples4 for each edge, containing
     // edge id, source id, target id, set of new graph ids
     //--------------------------------------------------------------------------
 
     DataSet<Tuple4<GradoopId, GradoopId, GradoopId, GradoopIdSet>> edgeTuple =
-      collection.getEdges()
+      candidateEdges
         .flatMap(new IdSourceTargetGraphTuple<Edge>())
         .join(graphIdDictionary)
         .where(3).equalTo(0)
@@ -193,7 +202,7 @@ public class ApplySubgraph implements ApplicableUnaryGraphToGraphOperator {
     //--------------------------------------------------------------------------
 
     DataSet<Edge> newEdges = edgeIdsWithNewGraphs
-      .join(collection.getEdges())
+      .join(candidateEdges)
       .where(0)
       .equalTo(new Id<Edge>())
       .with(new AddGraphsToElements<Edge>());
@@ -28,6 +28,7 @@ import org.gradoop.flink.model.impl.functions.utils.RightSide;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.SourceId;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.semijoin.SemiJoin;
 
 /**
  * Extracts a subgraph from a logical graph using the given filter functions.
@@ -94,7 +95,10 @@ public class Subgraph implements UnaryGraphToGraphOperator {
     DataSet<Vertex> filteredVertices = superGraph.getVertices()
       .filter(vertexFilterFunction);
 
-    DataSet<Edge> newEdges = superGraph.getEdges()
+    // discard edges with filtered end points before they are shuffled
+    DataSet<Edge> newEdges = SemiJoin
+      .reduceEdges(superGraph.getEdges(),
+        filteredVertices.map(new Id<Vertex>()))
       .join(filteredVertices)
       .where(new SourceId<>()).equalTo(new Id<Vertex>())
       .with(new LeftSide<Edge, Vertex>())
@@ -90,6 +90,31 @@ public class CanonicalAdjacencyMatrixBuilder implements
   @Override
   public DataSet<String> execute(GraphCollection collection) {
 
+    DataSet<GraphHeadString> graphHeadLabels = getGraphHeadStrings(collection);
+
+    // 11. add empty head to prevent empty result for empty collection
+
+    graphHeadLabels = graphHeadLabels
+      .union(collection
+        .getConfig()
+        .getExecutionEnvironment()
+        .fromElements(new GraphHeadString(GradoopId.get(), "")));
+
+    // 12. label collection
+
+    return graphHeadLabels
+      .reduceGroup(new ConcatGraphHeadStrings());
+  }
+
+  /**
+   * Derives a string representation for each graph of the given collection.
+   *
+   * @param collection graph collection
+   * @return (graphId, canonical adjacency matrix string) per graph
+   */
+  public DataSet<GraphHeadString> getGraphHeadStrings(
+    GraphCollection collection) {
+
     // 1. label graph heads
     DataSet<GraphHeadString> graphHeadLabels = collection.getGraphHeads()
       .map(graphHeadToString);
@@ -179,22 +204,9 @@ public class CanonicalAdjacencyMatrixBuilder implements
 
     // 10. combine graph labels
 
-    graphHeadLabels = graphHeadLabels
+    return graphHeadLabels
       .leftOuterJoin(adjacencyMatrixLabels)
       .where(0).equalTo(0)
       .with(new LabelCombiner<GraphHeadString>());
-
-    // 11. add empty head to prevent empty result for empty collection
-
-    graphHeadLabels = graphHeadLabels
-      .union(collection
-        .getConfig()
-        .getExecutionEnvironment()
-        .fromElements(new GraphHeadString(GradoopId.get(), "")));
-
-    // 12. label collection
-
-    return graphHeadLabels
-      .reduceGroup(new ConcatGraphHeadStrings());
   }
 }
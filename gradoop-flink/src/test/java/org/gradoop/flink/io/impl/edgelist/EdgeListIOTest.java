@@ -47,4 +47,27 @@ public class EdgeListIOTest extends GradoopFlinkTestBase {
     collectAndAssertTrue(resultGraph.equalsByElementData(tsvGraph));
 
   }
+
+  @Test
+  public void testEdgeListDataWithDerivedIds() throws Exception {
+    String edgeListFile = EdgeListIOTest.class
+      .getResource("/data/edgelist/input").getFile();
+
+    String gdlFile = EdgeListIOTest.class
+      .getResource("/data/edgelist/expected.gdl").getFile();
+
+    // load from tsv file
+    DataSource dataSource =
+      new EdgeListDataSource(edgeListFile, " ", "lan", true, config);
+
+    LogicalGraph tsvGraph = dataSource.getLogicalGraph();
+
+    // load from gdl
+    FlinkAsciiGraphLoader loader = getLoaderFromFile(gdlFile);
+
+    LogicalGraph resultGraph = loader.getLogicalGraphByVariable("result");
+
+    // test element data
+    collectAndAssertTrue(resultGraph.equalsByElementData(tsvGraph));
+  }
 }
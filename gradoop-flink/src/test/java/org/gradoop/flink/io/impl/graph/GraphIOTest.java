@@ -1,16 +1,24 @@
 package org.gradoop.flink.io.impl.graph;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyList;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class GraphIOTest extends GradoopFlinkTestBase {
 
@@ -72,4 +80,66 @@ public class GraphIOTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(output.equalsByElementData(expected));
   }
+
+  @Test
+  public void testWithDerivedIds() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    Map<String, Object> properties = Maps.newHashMap();
+    properties.put("foo", 42);
+
+    DataSet<ImportVertex<Long>> importVertices = env.fromElements(
+      new ImportVertex<>(0L, "A", PropertyList.createFromMap(properties)),
+      new ImportVertex<>(1L, "B", PropertyList.createFromMap(properties)));
+
+    DataSet<ImportEdge<Long>> importEdges = env.fromElements(
+      new ImportEdge<>(0L, 0L, 1L, "a", PropertyList.createFromMap(properties)),
+      new ImportEdge<>(1L, 1L, 0L, "b", PropertyList.createFromMap(properties)));
+
+    LogicalGraph expected = getLoaderFromString("expected[" +
+        "(a:A {foo = 42, __L = 0L});" +
+        "(b:B {foo = 42, __L = 1L});" +
+        "(a)-[:a {foo=42, __L = 0L}]->(b)-[:b {foo=42, __L = 1L}]->(a);" +
+        "]").getLogicalGraphByVariable("expected");
+
+    GraphDataSource<Long> dataSource = new GraphDataSource<>(
+      importVertices, importEdges, "__L", true, getConfig());
+
+    LogicalGraph output = dataSource.getLogicalGraph();
+
+    collectAndAssertTrue(output.equalsByElementData(expected));
+  }
+
+  @Test
+  public void testDerivedIdsAreDeterministic() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    DataSet<ImportVertex<String>> importVertices = env.fromElements(
+      new ImportVertex<>("alice", "A"),
+      new ImportVertex<>("bob", "B"));
+
+    DataSet<ImportEdge<String>> importEdges = env.fromElements(
+      new ImportEdge<>("e0", "alice", "bob", "a"));
+
+    List<Vertex> firstRun = new GraphDataSource<>(
+      importVertices, importEdges, null, true, getConfig())
+      .getLogicalGraph().getVertices().collect();
+
+    List<Vertex> secondRun = new GraphDataSource<>(
+      importVertices, importEdges, null, true, getConfig())
+      .getLogicalGraph().getVertices().collect();
+
+    Set<GradoopId> firstIds = Sets.newHashSet();
+    for (Vertex vertex : firstRun) {
+      firstIds.add(vertex.getId());
+    }
+    Set<GradoopId> secondIds = Sets.newHashSet();
+    for (Vertex vertex : secondRun) {
+      secondIds.add(vertex.getId());
+    }
+
+    assertEquals(2, firstIds.size());
+    assertEquals(firstIds, secondIds);
+    assertTrue(firstIds.contains(GradoopId.fromName("alice")));
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.indexed;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.tuples.GraphTransaction;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class IndexedTransactionIOTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteAndReadAll() throws Exception {
+    String path = temporaryFolder.newFolder().toString() + "/out";
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    GraphCollection input =
+      loader.getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    input.writeTo(new IndexedTransactionDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    GraphCollection output =
+      new IndexedTransactionDataSource(path, getConfig()).getGraphCollection();
+
+    collectAndAssertTrue(output.equalsByGraphElementData(input));
+  }
+
+  @Test
+  public void testReadGraphs() throws Exception {
+    String path = temporaryFolder.newFolder().toString() + "/out";
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    GraphCollection input =
+      loader.getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    input.writeTo(new IndexedTransactionDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(
+      loader.getGraphHeadByVariable("g0").getId(),
+      loader.getGraphHeadByVariable("g2").getId());
+
+    GraphCollection output =
+      new IndexedTransactionDataSource(path, getConfig())
+        .getGraphCollection(graphIds);
+
+    GraphCollection expected =
+      loader.getGraphCollectionByVariables("g0", "g2");
+
+    collectAndAssertTrue(output.equalsByGraphElementIds(expected));
+  }
+
+  @Test
+  public void testReader() throws Exception {
+    String path = temporaryFolder.newFolder().toString() + "/out";
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    GraphCollection input =
+      loader.getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    input.writeTo(new IndexedTransactionDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    GradoopId g1Id = loader.getGraphHeadByVariable("g1").getId();
+
+    try (IndexedTransactionReader reader =
+      new IndexedTransactionReader(path, getConfig())) {
+
+      assertEquals("wrong number of graphs", 4, reader.size());
+
+      GraphTransaction g1 = reader.getGraphTransaction(g1Id);
+      assertNotNull("graph not found", g1);
+      assertEquals("wrong graph id", g1Id, g1.getGraphHead().getId());
+      assertEquals("wrong number of vertices", 3, g1.getVertices().size());
+      assertEquals("wrong number of edges", 4, g1.getEdges().size());
+
+      assertNull("unknown graph found",
+        reader.getGraphTransaction(GradoopId.get()));
+    }
+  }
+}
@@ -19,6 +19,7 @@ package org.gradoop.flink.io.impl.json;
 
 import com.google.common.collect.Lists;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -37,6 +38,7 @@ import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class JSONIOTest extends GradoopFlinkTestBase {
 
@@ -95,6 +97,43 @@ public class JSONIOTest extends GradoopFlinkTestBase {
     assertEquals("Wrong edge count", 24, edges.size());
   }
 
+  @Test
+  public void testLogicalGraphFromJsonFile() throws Exception {
+    String vertexFile =
+      JSONIOTest.class.getResource("/data/json/sna/nodes.json").getFile();
+    String edgeFile =
+      JSONIOTest.class.getResource("/data/json/sna/edges.json").getFile();
+    String graphFile =
+      JSONIOTest.class.getResource("/data/json/sna/graphs.json").getFile();
+
+    DataSource dataSource = new JSONDataSource(
+      graphFile, vertexFile, edgeFile, config);
+
+    LogicalGraph graph = dataSource.getLogicalGraph();
+
+    Collection<GraphHead> graphHeads = Lists.newArrayList();
+    Collection<Vertex> vertices = Lists.newArrayList();
+    Collection<Edge> edges = Lists.newArrayList();
+
+    graph.getGraphHead()
+      .output(new LocalCollectionOutputFormat<>(graphHeads));
+    graph.getVertices()
+      .output(new LocalCollectionOutputFormat<>(vertices));
+    graph.getEdges()
+      .output(new LocalCollectionOutputFormat<>(edges));
+
+    getExecutionEnvironment().execute();
+
+    assertEquals("Wrong graph count", 1, graphHeads.size());
+    assertEquals("Wrong vertex count", 11, vertices.size());
+    assertEquals("Wrong edge count", 24, edges.size());
+
+    GradoopId graphId = graphHeads.iterator().next().getId();
+    for (Vertex vertex : vertices) {
+      assertTrue("vertex not in graph", vertex.getGraphIds().contains(graphId));
+    }
+  }
+
   @Test
   public void testWriteAsJsonFile() throws Exception {
     String tmpDir = temporaryFolder.getRoot().toString();
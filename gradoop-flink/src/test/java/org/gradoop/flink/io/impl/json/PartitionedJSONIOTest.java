@@ -0,0 +1,119 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.json;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class PartitionedJSONIOTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteAndReadAll() throws Exception {
+    for (JSONPartitioning partitioning : JSONPartitioning.values()) {
+      String basePath = temporaryFolder.newFolder().toString() + "/out";
+
+      FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+      GraphCollection input =
+        loader.getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+      input.writeTo(
+        new PartitionedJSONDataSink(basePath, partitioning, getConfig()));
+      getExecutionEnvironment().execute();
+
+      GraphCollection output =
+        new PartitionedJSONDataSource(basePath, getConfig())
+          .getGraphCollection();
+
+      collectAndAssertTrue(output.equalsByGraphElementData(input));
+    }
+  }
+
+  @Test
+  public void testReadGraphs() throws Exception {
+    for (JSONPartitioning partitioning : JSONPartitioning.values()) {
+      String basePath = temporaryFolder.newFolder().toString() + "/out";
+
+      FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+      GraphCollection input =
+        loader.getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+      input.writeTo(
+        new PartitionedJSONDataSink(basePath, partitioning, getConfig()));
+      getExecutionEnvironment().execute();
+
+      GradoopIdSet graphIds = GradoopIdSet.fromExisting(
+        loader.getGraphHeadByVariable("g0").getId(),
+        loader.getGraphHeadByVariable("g2").getId());
+
+      GraphCollection output =
+        new PartitionedJSONDataSource(basePath, graphIds, getConfig())
+          .getGraphCollection();
+
+      GraphCollection expected =
+        loader.getGraphCollectionByVariables("g0", "g2");
+
+      collectAndAssertTrue(output.equalsByGraphElementIds(expected));
+    }
+  }
+
+  @Test
+  public void testReadLabels() throws Exception {
+    for (JSONPartitioning partitioning : JSONPartitioning.values()) {
+      String basePath = temporaryFolder.newFolder().toString() + "/out";
+
+      FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+      GraphCollection input =
+        loader.getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+      input.writeTo(
+        new PartitionedJSONDataSink(basePath, partitioning, getConfig()));
+      getExecutionEnvironment().execute();
+
+      GraphCollection output = new PartitionedJSONDataSource(basePath, null,
+        Lists.newArrayList("Person"), Lists.newArrayList("knows"), getConfig())
+        .getGraphCollection();
+
+      List<Vertex> vertices = output.getVertices().collect();
+      List<Edge> edges = output.getEdges().collect();
+
+      assertEquals("wrong number of vertices", 6, vertices.size());
+      for (Vertex vertex : vertices) {
+        assertEquals("wrong vertex label", "Person", vertex.getLabel());
+      }
+      assertEquals("wrong number of edges", 10, edges.size());
+      for (Edge edge : edges) {
+        assertEquals("wrong edge label", "knows", edge.getLabel());
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.io.impl.session;
+
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.flink.io.impl.json.JSONDataSink;
+import org.gradoop.flink.io.impl.json.JSONDataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class OutputSessionTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testMultipleOutputs() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g0");
+    GraphCollection collection =
+      loader.getGraphCollectionByVariables("g1", "g2");
+
+    String graphDir = temporaryFolder.newFolder().toString();
+    String collectionDir = temporaryFolder.newFolder().toString();
+
+    OutputSession session = new OutputSession(getConfig());
+    session
+      .add(graph, getSink(graphDir))
+      .add(collection, getSink(collectionDir));
+
+    assertEquals("wrong number of pending writes", 2, session.size());
+    session.execute();
+    assertEquals("wrong number of pending writes", 0, session.size());
+
+    collectAndAssertTrue(getSource(graphDir).getLogicalGraph()
+      .equalsByElementData(graph));
+    collectAndAssertTrue(getSource(collectionDir).getGraphCollection()
+      .equalsByGraphElementData(collection));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testExecuteWithoutOutputs() throws Exception {
+    new OutputSession(getConfig()).execute();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDifferentEnvironment() throws Exception {
+    GradoopFlinkConfig otherConfig = GradoopFlinkConfig.createConfig(
+      ExecutionEnvironment.createCollectionsEnvironment());
+
+    LogicalGraph graph =
+      getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+
+    new OutputSession(otherConfig)
+      .add(graph, getSink(temporaryFolder.newFolder().toString()));
+  }
+
+  private JSONDataSink getSink(String directory) {
+    return new JSONDataSink(directory + "/graphs.json",
+      directory + "/vertices.json", directory + "/edges.json", getConfig());
+  }
+
+  private JSONDataSource getSource(String directory) {
+    return new JSONDataSource(directory + "/graphs.json",
+      directory + "/vertices.json", directory + "/edges.json", getConfig());
+  }
+}
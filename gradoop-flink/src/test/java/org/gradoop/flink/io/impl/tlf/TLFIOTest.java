@@ -18,11 +18,16 @@
 package org.gradoop.flink.io.impl.tlf;
 
 import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.GraphTransactions;
+import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.model.impl.tuples.GraphTransaction;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
@@ -30,8 +35,10 @@ import org.junit.Test;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 public class TLFIOTest extends GradoopFlinkTestBase {
@@ -102,6 +109,39 @@ public class TLFIOTest extends GradoopFlinkTestBase {
     );
   }
 
+  /**
+   * Test method for
+   *
+   * {@link TLFDataSource#getLogicalGraph()}
+   * @throws Exception
+   */
+  @Test
+  public void testReadLogicalGraph() throws Exception {
+    String tlfFile = TLFIOTest.class
+      .getResource("/data/tlf/io_test_string.tlf").getFile();
+
+    // create datasource
+    DataSource dataSource = new TLFDataSource(tlfFile, config);
+    // get logical graph
+    LogicalGraph graph = dataSource.getLogicalGraph();
+
+    List<GraphHead> graphHeads = graph.getGraphHead().collect();
+    List<Vertex> vertices = graph.getVertices().collect();
+    List<Edge> edges = graph.getEdges().collect();
+
+    assertEquals("wrong number of graph heads", 1, graphHeads.size());
+    assertEquals("wrong number of vertices", 4, vertices.size());
+    assertEquals("wrong number of edges", 4, edges.size());
+
+    GradoopId graphId = graphHeads.get(0).getId();
+    for (Vertex vertex : vertices) {
+      assertTrue("vertex not in graph", vertex.getGraphIds().contains(graphId));
+    }
+    for (Edge edge : edges) {
+      assertTrue("edge not in graph", edge.getGraphIds().contains(graphId));
+    }
+  }
+
   /**
    * Test method for
    *
@@ -17,8 +17,10 @@
 
 package org.gradoop.flink.model.impl.operators.aggregation;
 
+import com.google.common.collect.Lists;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.LogicalGraph;
@@ -26,14 +28,26 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.count.EdgeCo
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.mergeable.AggregateEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.mergeable.AggregateVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.AverageAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.DistinctCountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MaxAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MinAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.QuantileAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.SumAggregator;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -50,6 +64,11 @@ public class AggregationTest extends GradoopFlinkTestBase {
   public static final String EDGE_MAX = "edge min";
   public static final String VERTEX_MAX = "vertex min";
 
+  public static final String EDGE_AVG = "edge avg";
+  public static final String VERTEX_AVG = "vertex avg";
+  public static final String VERTEX_DISTINCT = "vertex distinct";
+  public static final String VERTEX_MEDIAN = "vertex median";
+
   public static final String EDGE_COUNT = "edgeCount";
   public static final String VERTEX_COUNT = "vertexCount";
 
@@ -447,6 +466,160 @@ public class AggregationTest extends GradoopFlinkTestBase {
     assertTrue("wrong number of output graph heads", graphHeadCount == 4);
   }
 
+  @Test
+  public void testSingleGraphMergeableAggregates() throws Exception {
+    LogicalGraph graph = getLoaderFromString(
+          "org:Ga[" +
+          "(:Va{vp=1})-[:ea{ep=2}]->(:Vb{vp=6});" +
+          "(:Vc{vp=3})-[:eb]->(:Vd{vp=2})" +
+          "]"
+      )
+      .getDatabase().getDatabaseGraph();
+
+    graph = graph
+      .aggregate(VERTEX_AVG, new AggregateVertexProperty(
+        new AverageAggregator(VERTEX_PROPERTY, VERTEX_AVG)))
+      .aggregate(VERTEX_DISTINCT, new AggregateVertexProperty(
+        new DistinctCountAggregator(VERTEX_PROPERTY, VERTEX_DISTINCT)))
+      .aggregate(VERTEX_MEDIAN, new AggregateVertexProperty(
+        new QuantileAggregator(VERTEX_PROPERTY, VERTEX_MEDIAN, 0.5)))
+      .aggregate(EDGE_AVG, new AggregateEdgeProperty(
+        new AverageAggregator(EDGE_PROPERTY, EDGE_AVG)));
+
+    EPGMGraphHead graphHead = graph.getGraphHead().collect().get(0);
+
+    assertEquals(3.0,
+      graphHead.getPropertyValue(VERTEX_AVG).getDouble(), 0.0);
+    assertEquals(4L,
+      graphHead.getPropertyValue(VERTEX_DISTINCT).getLong());
+    assertEquals(2.0,
+      graphHead.getPropertyValue(VERTEX_MEDIAN).getDouble(), 0.0);
+    assertEquals(2.0,
+      graphHead.getPropertyValue(EDGE_AVG).getDouble(), 0.0);
+  }
+
+  @Test
+  public void testSingleGraphMultiAggregation() throws Exception {
+    LogicalGraph graph = getLoaderFromString(
+          "org:Ga[" +
+          "(:Va{vp=1})-[:ea{ep=2}]->(:Vb{vp=6});" +
+          "(:Vc{vp=3})-[:eb{ep=4}]->(:Vd{vp=2})-[:ec]->(:Ve)" +
+          "]"
+      )
+      .getDatabase().getDatabaseGraph();
+
+    List<PropertyValueAggregator> vertexAggregators = Lists.newArrayList(
+      new CountAggregator(VERTEX_COUNT),
+      new SumAggregator(VERTEX_PROPERTY, VERTEX_SUM),
+      new MaxAggregator(VERTEX_PROPERTY, "vertex max"),
+      new AverageAggregator(VERTEX_PROPERTY, VERTEX_AVG));
+
+    List<PropertyValueAggregator> edgeAggregators = Lists.newArrayList(
+      new CountAggregator(EDGE_COUNT),
+      new SumAggregator(EDGE_PROPERTY, EDGE_SUM),
+      new MinAggregator(EDGE_PROPERTY, "edge min"),
+      new AverageAggregator(EDGE_PROPERTY, EDGE_AVG));
+
+    graph = graph.aggregate(vertexAggregators, edgeAggregators);
+
+    EPGMGraphHead graphHead = graph.getGraphHead().collect().get(0);
+
+    assertCounts(graphHead, 5L, 3L);
+    assertEquals(12, graphHead.getPropertyValue(VERTEX_SUM).getInt());
+    assertEquals(6, graphHead.getPropertyValue("vertex max").getInt());
+    assertEquals(3.0,
+      graphHead.getPropertyValue(VERTEX_AVG).getDouble(), 0.0);
+    assertEquals(6, graphHead.getPropertyValue(EDGE_SUM).getInt());
+    assertEquals(2, graphHead.getPropertyValue("edge min").getInt());
+    assertEquals(3.0,
+      graphHead.getPropertyValue(EDGE_AVG).getDouble(), 0.0);
+    assertEquals("wrong number of vertices",
+      5L, graph.getVertices().count());
+  }
+
+  @Test
+  public void testMultiAggregationWithoutEdgeAggregators() throws Exception {
+    LogicalGraph graph = getLoaderFromString(
+          "org:Ga[(:Va{vp=1})-[:ea{ep=2}]->(:Vb{vp=6})]"
+      )
+      .getDatabase().getDatabaseGraph();
+
+    List<PropertyValueAggregator> vertexAggregators = Lists.newArrayList(
+      new CountAggregator(VERTEX_COUNT),
+      new SumAggregator(VERTEX_PROPERTY, VERTEX_SUM));
+
+    graph = graph.aggregate(vertexAggregators,
+      Lists.<PropertyValueAggregator>newArrayList());
+
+    EPGMGraphHead graphHead = graph.getGraphHead().collect().get(0);
+
+    assertEquals(2L, graphHead.getPropertyValue(VERTEX_COUNT).getLong());
+    assertEquals(7, graphHead.getPropertyValue(VERTEX_SUM).getInt());
+    Assert.assertFalse(graphHead.hasProperty(EDGE_COUNT));
+  }
+
+  @Test
+  public void testCollectionMultiAggregation() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+        "g0[" +
+        "(va {vp=5});" +
+        "(vb {vp=3});" +
+        "(vc {vp=1});" +
+        "(va)-[ea {ep=2L}]->(vb);" +
+        "(vb)-[eb]->(vc)" +
+        "]" +
+        "g1[" +
+        "(va)-[ea]->(vb);" +
+        "]" +
+        "g2[]");
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2");
+
+    List<PropertyValueAggregator> vertexAggregators = Lists.newArrayList(
+      new CountAggregator(VERTEX_COUNT),
+      new SumAggregator(VERTEX_PROPERTY, VERTEX_SUM),
+      new AverageAggregator(VERTEX_PROPERTY, VERTEX_AVG));
+
+    List<PropertyValueAggregator> edgeAggregators = Lists.newArrayList(
+      new CountAggregator(EDGE_COUNT),
+      new SumAggregator(EDGE_PROPERTY, EDGE_SUM));
+
+    GraphCollection outputCollection = inputCollection
+      .apply(new ApplyMultiAggregation(vertexAggregators, edgeAggregators));
+
+    GradoopId g0Id = loader.getGraphHeadByVariable("g0").getId();
+    GradoopId g1Id = loader.getGraphHeadByVariable("g1").getId();
+    GradoopId g2Id = loader.getGraphHeadByVariable("g2").getId();
+
+    List<GraphHead> graphHeads = outputCollection.getGraphHeads().collect();
+
+    assertEquals("wrong number of output graph heads", 3, graphHeads.size());
+
+    for (GraphHead graphHead : graphHeads) {
+      if (graphHead.getId().equals(g0Id)) {
+        assertCounts(graphHead, 3L, 2L);
+        assertEquals(9, graphHead.getPropertyValue(VERTEX_SUM).getInt());
+        assertEquals(3.0,
+          graphHead.getPropertyValue(VERTEX_AVG).getDouble(), 0.0);
+        assertEquals(2L, graphHead.getPropertyValue(EDGE_SUM).getLong());
+      } else if (graphHead.getId().equals(g1Id)) {
+        assertCounts(graphHead, 2L, 1L);
+        assertEquals(8, graphHead.getPropertyValue(VERTEX_SUM).getInt());
+        assertEquals(4.0,
+          graphHead.getPropertyValue(VERTEX_AVG).getDouble(), 0.0);
+        assertEquals(2L, graphHead.getPropertyValue(EDGE_SUM).getLong());
+      } else if (graphHead.getId().equals(g2Id)) {
+        assertCounts(graphHead, 0L, 0L);
+        assertTrue(graphHead.getPropertyValue(VERTEX_SUM).isNull());
+        assertTrue(graphHead.getPropertyValue(VERTEX_AVG).isNull());
+        assertTrue(graphHead.getPropertyValue(EDGE_SUM).isNull());
+      } else {
+        Assert.fail("unexpected graph head: " + graphHead);
+      }
+    }
+  }
+
   private void assertCounts(EPGMGraphHead graphHead,
     long expectedVertexCount, long expectedEdgeCount) {
     assertEquals("wrong vertex count", expectedVertexCount,
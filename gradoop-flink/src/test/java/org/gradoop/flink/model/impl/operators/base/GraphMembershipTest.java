@@ -0,0 +1,88 @@
+package org.gradoop.flink.model.impl.operators.base;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
+
+public class GraphMembershipTest extends GradoopFlinkTestBase {
+
+  private static final String GRAPHS = "" +
+    "g1[(a)-[e1]->(b);(b)-[e2]->(c)];" +
+    "g2[(a)-[e1]->(b)];" +
+    "g3[(a)-[e3]->(c)];" +
+    "g4[(b)-[e2]->(c)]";
+
+  @Test
+  public void testNumbering() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+
+    List<Tuple2<Long, GradoopId>> numbering = GraphMembership.numbering(
+      loader.getGraphCollectionByVariables("g1", "g2", "g3").getGraphHeads())
+      .collect();
+
+    List<Long> numbers = Lists.newArrayList();
+    for (Tuple2<Long, GradoopId> graphNumber : numbering) {
+      numbers.add(graphNumber.f0);
+    }
+    Collections.sort(numbers);
+
+    assertEquals(Lists.newArrayList(0L, 1L, 2L), numbers);
+  }
+
+  @Test
+  public void testInAllGraphs() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+
+    GraphCollection collection =
+      loader.getGraphCollectionByVariables("g1", "g2", "g3");
+
+    DataSet<Tuple2<Long, GradoopId>> numbering =
+      GraphMembership.numbering(collection.getGraphHeads());
+
+    List<Vertex> vertices = GraphMembership
+      .inAllGraphs(collection.getVertices(), numbering).collect();
+    List<Edge> edges = GraphMembership
+      .inAllGraphs(collection.getEdges(), numbering).collect();
+
+    // g4 is not part of the collection
+    validateEPGMGraphElementCollections(
+      Lists.newArrayList(loader.getVertexByVariable("a")), vertices);
+    assertEquals(0, edges.size());
+  }
+
+  @Test
+  public void testInGraphExclusively() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+
+    GraphCollection collection =
+      loader.getGraphCollectionByVariables("g1", "g2", "g3");
+
+    DataSet<Tuple2<Long, GradoopId>> numbering =
+      GraphMembership.numbering(collection.getGraphHeads());
+
+    GradoopId g1 = loader.getGraphHeadByVariable("g1").getId();
+
+    List<Vertex> vertices = GraphMembership
+      .inGraphExclusively(collection.getVertices(), numbering, g1).collect();
+    List<Edge> edges = GraphMembership
+      .inGraphExclusively(collection.getEdges(), numbering, g1).collect();
+
+    // e2 is also contained in g4, which is not part of the collection
+    assertEquals(0, vertices.size());
+    validateEPGMGraphElementCollections(
+      Lists.newArrayList(loader.getEdgeByVariable("e2")), edges);
+  }
+}
@@ -18,6 +18,7 @@
 package org.gradoop.flink.model.impl.operators.cloning;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.api.entities.EPGMVertex;
@@ -37,8 +38,10 @@ import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.gradoop.common.GradoopTestUtils.validateIdInequality;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class CloningTest extends GradoopFlinkTestBase {
@@ -115,4 +118,55 @@ public class CloningTest extends GradoopFlinkTestBase {
     validateIdInequality(expectedEdgeIds, resultEdgeIds);
 
   }
+
+  @Test
+  public void testDeterministicCloning() throws Exception {
+
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+        "org:Ga{k=0}[(:Va{k=0, l=0})-[:ea{l=1}]->(:Va{l=1, m=2})]"
+      );
+
+    LogicalGraph original = loader.getLogicalGraphByVariable("org");
+
+    GradoopId epoch = GradoopId.get();
+
+    LogicalGraph result = original.copy(epoch);
+
+    collectAndAssertTrue(result.equalsByElementData(original));
+
+    List<Vertex> originalVertices = original.getVertices().collect();
+    List<Vertex> resultVertices = result.getVertices().collect();
+    List<Edge> originalEdges = original.getEdges().collect();
+    List<Edge> resultEdges = result.getEdges().collect();
+    GradoopId resultGraphId = result.getGraphHead().collect().get(0).getId();
+
+    Set<GradoopId> expectedVertexIds = Sets.newHashSet();
+    for (Vertex vertex : originalVertices) {
+      expectedVertexIds.add(GradoopId.derive(vertex.getId(), epoch));
+    }
+    Set<GradoopId> expectedEdgeIds = Sets.newHashSet();
+    for (Edge edge : originalEdges) {
+      expectedEdgeIds.add(GradoopId.derive(edge.getId(), epoch));
+    }
+
+    Set<GradoopId> resultVertexIds = Sets.newHashSet();
+    for (Vertex vertex : resultVertices) {
+      resultVertexIds.add(vertex.getId());
+      assertEquals(GradoopIdSet.fromExisting(resultGraphId),
+        vertex.getGraphIds());
+    }
+    Set<GradoopId> resultEdgeIds = Sets.newHashSet();
+    for (Edge edge : resultEdges) {
+      resultEdgeIds.add(edge.getId());
+      assertTrue("wrong source id",
+        expectedVertexIds.contains(edge.getSourceId()));
+      assertTrue("wrong target id",
+        expectedVertexIds.contains(edge.getTargetId()));
+      assertEquals(GradoopIdSet.fromExisting(resultGraphId),
+        edge.getGraphIds());
+    }
+
+    assertEquals(expectedVertexIds, resultVertexIds);
+    assertEquals(expectedEdgeIds, resultEdgeIds);
+  }
 }
@@ -22,6 +22,12 @@ public class DifferenceTest extends BinaryCollectionOperatorsTestBase {
 
     result = col02.differenceWithSmallResult(col12);
     checkAssertions(expectation, result, "small");
+
+    result = col02.differenceAuto(col12);
+    checkAssertions(expectation, result, "auto");
+
+    result = col02.callForCollection(new DifferenceAuto(0L), col12);
+    checkAssertions(expectation, result, "auto join");
   }
 
   @Test
@@ -38,6 +44,12 @@ public class DifferenceTest extends BinaryCollectionOperatorsTestBase {
     result = col01.differenceWithSmallResult(col23);
 
     checkAssertions(col01, result, "small non");
+
+    result = col01.differenceAuto(col23);
+    checkAssertions(col01, result, "auto non");
+
+    result = col01.callForCollection(new DifferenceAuto(0L), col23);
+    checkAssertions(col01, result, "auto join non");
   }
 
   @Test
@@ -53,5 +65,11 @@ public class DifferenceTest extends BinaryCollectionOperatorsTestBase {
 
     result = col01.differenceWithSmallResult(col01);
     checkAssertions(expectation, result, "small total");
+
+    result = col01.differenceAuto(col01);
+    checkAssertions(expectation, result, "auto total");
+
+    result = col01.callForCollection(new DifferenceAuto(0L), col01);
+    checkAssertions(expectation, result, "auto join total");
   }
 }
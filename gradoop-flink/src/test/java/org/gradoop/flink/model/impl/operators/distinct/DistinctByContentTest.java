@@ -0,0 +1,53 @@
+package org.gradoop.flink.model.impl.operators.distinct;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DistinctByContentTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testDistinctByContent() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("" +
+      "g0[(a:A {x = 1})-[e0:e]->(b:B)];" +
+      "g1[(c:A {x = 1})-[:e]->(d:B)];" +
+      "g2[(f:A {x = 1})<-[:e]-(g:B)];" +
+      "g3[(a)-[e0]->(b)];" +
+      "g4[(h:A {x = 2})-[:e]->(i:B)]"
+    );
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3", "g4");
+
+    GraphCollection expectedCollection = loader
+      .getGraphCollectionByVariables("g0", "g2", "g4");
+
+    GraphCollection outputCollection = inputCollection.distinctByContent();
+
+    assertEquals(3, outputCollection.getGraphHeads().count());
+
+    collectAndAssertTrue(outputCollection
+      .equalsByGraphElementData(expectedCollection));
+  }
+
+  @Test
+  public void testDistinctCollection() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    GraphCollection outputCollection = inputCollection.distinctByContent();
+
+    collectAndAssertTrue(outputCollection
+      .equalsByGraphElementIds(inputCollection));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidIterations() throws Exception {
+    new DistinctByContent(0);
+  }
+}
@@ -105,6 +105,12 @@ public class EqualityTest extends GradoopFlinkTestBase {
     collectAndAssertFalse(gRef.equalsByGraphElementData(gDiffData));
     collectAndAssertFalse(gRef.equalsByGraphElementData(gSmall));
     collectAndAssertFalse(gRef.equalsByGraphElementData(gEmpty));
+
+    // convenience method, fingerprints first
+    collectAndAssertTrue(gRef.equalsByGraphElementDataByHash(gClone));
+    collectAndAssertFalse(gRef.equalsByGraphElementDataByHash(gDiffData));
+    collectAndAssertFalse(gRef.equalsByGraphElementDataByHash(gSmall));
+    collectAndAssertFalse(gRef.equalsByGraphElementDataByHash(gEmpty));
   }
 
   @Test
@@ -144,6 +150,13 @@ public class EqualityTest extends GradoopFlinkTestBase {
     collectAndAssertFalse(gRef.equalsByGraphData(gDiffData));
     collectAndAssertFalse(gRef.equalsByGraphData(gSmall));
     collectAndAssertFalse(gRef.equalsByGraphData(gEmpty));
+
+    // convenience method, fingerprints first
+    collectAndAssertTrue(gRef.equalsByGraphDataByHash(gDiffId));
+    collectAndAssertFalse(gRef.equalsByGraphDataByHash(gClone));
+    collectAndAssertFalse(gRef.equalsByGraphDataByHash(gDiffData));
+    collectAndAssertFalse(gRef.equalsByGraphDataByHash(gSmall));
+    collectAndAssertFalse(gRef.equalsByGraphDataByHash(gEmpty));
   }
 
   @Test
@@ -233,6 +246,11 @@ public class EqualityTest extends GradoopFlinkTestBase {
     collectAndAssertTrue(gRef.equalsByElementData(gDiffId));
     collectAndAssertFalse(gRef.equalsByElementData(gDiffData));
     collectAndAssertFalse(gRef.equalsByElementData(gEmpty));
+
+    // convenience method, fingerprints first
+    collectAndAssertTrue(gRef.equalsByElementDataByHash(gDiffId));
+    collectAndAssertFalse(gRef.equalsByElementDataByHash(gDiffData));
+    collectAndAssertFalse(gRef.equalsByElementDataByHash(gEmpty));
   }
 
   @Test
@@ -264,6 +282,12 @@ public class EqualityTest extends GradoopFlinkTestBase {
     collectAndAssertFalse(gRef.equalsByData(gClone));
     collectAndAssertFalse(gRef.equalsByData(gDiffData));
     collectAndAssertFalse(gRef.equalsByData(gEmpty));
+
+    // convenience method, fingerprints first
+    collectAndAssertTrue(gRef.equalsByDataByHash(gDiffId));
+    collectAndAssertFalse(gRef.equalsByDataByHash(gClone));
+    collectAndAssertFalse(gRef.equalsByDataByHash(gDiffData));
+    collectAndAssertFalse(gRef.equalsByDataByHash(gEmpty));
   }
 
   @Test
@@ -293,6 +317,92 @@ public class EqualityTest extends GradoopFlinkTestBase {
     collectAndAssertFalse(equality.execute(gRef, gEmpty));
   }
 
+  @Test
+  public void testCollectionEqualityByHash() throws Exception {
+    FlinkAsciiGraphLoader loader = getTestGraphLoader();
+
+    GraphCollection gRef = loader
+      .getGraphCollectionByVariables("gRef", "gEmpty");
+    GraphCollection gDiffId = loader
+      .getGraphCollectionByVariables("gDiffId", "gEmpty");
+    GraphCollection gClone = loader
+      .getGraphCollectionByVariables("gClone", "gEmpty");
+    GraphCollection gSmall = loader
+      .getGraphCollectionByVariables("gRef");
+    GraphCollection gDiffData = loader
+      .getGraphCollectionByVariables("gDiffData", "gEmpty");
+    GraphCollection gEmpty =
+      GraphCollection.createEmptyCollection(gRef.getConfig());
+
+    for (boolean exact : new boolean[] {false, true}) {
+      CollectionEqualityByHash equality = new CollectionEqualityByHash(
+        new GraphHeadToDataString(),
+        new VertexToDataString(),
+        new EdgeToDataString(),
+        true,
+        exact
+      );
+
+      collectAndAssertTrue(equality.execute(gRef, gDiffId));
+      collectAndAssertFalse(equality.execute(gRef, gClone));
+      collectAndAssertFalse(equality.execute(gRef, gDiffData));
+      collectAndAssertFalse(equality.execute(gRef, gSmall));
+      collectAndAssertFalse(equality.execute(gRef, gEmpty));
+      collectAndAssertTrue(equality.execute(gEmpty, gEmpty));
+    }
+  }
+
+  @Test
+  public void testCollectionEqualityByHashAndElementIds() throws Exception {
+    FlinkAsciiGraphLoader loader = getTestGraphLoader();
+
+    CollectionEqualityByHash equality = new CollectionEqualityByHash(
+      new GraphHeadToEmptyString(),
+      new VertexToIdString(),
+      new EdgeToIdString(),
+      true,
+      false
+    );
+
+    GraphCollection gRef = loader
+      .getGraphCollectionByVariables("gRef", "gClone", "gEmpty");
+    GraphCollection gClone = loader
+      .getGraphCollectionByVariables("gClone", "gRef", "gEmpty");
+    GraphCollection gDiffId = loader
+      .getGraphCollectionByVariables("gRef", "gDiffId", "gEmpty");
+
+    collectAndAssertTrue(equality.execute(gRef, gClone));
+    collectAndAssertFalse(equality.execute(gRef, gDiffId));
+  }
+
+  @Test
+  public void testUndirectedGraphEqualityByHash() throws Exception {
+    FlinkAsciiGraphLoader loader = getTestGraphLoader();
+
+    LogicalGraph gRef = loader.getLogicalGraphByVariable("gRef");
+    LogicalGraph gClone = loader.getLogicalGraphByVariable("gClone");
+    LogicalGraph gDiffId = loader.getLogicalGraphByVariable("gDiffId");
+    LogicalGraph gDiffData = loader.getLogicalGraphByVariable("gDiffData");
+    LogicalGraph gRev = loader.getLogicalGraphByVariable("gRev");
+    LogicalGraph gEmpty = loader.getLogicalGraphByVariable("gEmpty");
+
+    for (boolean exact : new boolean[] {false, true}) {
+      GraphEqualityByHash equality = new GraphEqualityByHash(
+        new GraphHeadToDataString(),
+        new VertexToDataString(),
+        new EdgeToDataString(),
+        false,
+        exact
+      );
+
+      collectAndAssertTrue(equality.execute(gRef, gDiffId));
+      collectAndAssertTrue(equality.execute(gRef, gRev));
+      collectAndAssertFalse(equality.execute(gRef, gClone));
+      collectAndAssertFalse(equality.execute(gRef, gDiffData));
+      collectAndAssertFalse(equality.execute(gRef, gEmpty));
+    }
+  }
+
   private FlinkAsciiGraphLoader
   getTestGraphLoader() {
     String asciiGraphs = "gEmpty[];" +
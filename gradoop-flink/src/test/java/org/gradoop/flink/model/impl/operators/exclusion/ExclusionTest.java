@@ -142,4 +142,30 @@ public class ExclusionTest extends ReducibleBinaryOperatorsTestBase {
     checkExpectationsEqualResults(loader, new ReduceExclusion(loader
       .getGraphHeadByVariable("g1").getId()));
   }
+
+  @Test
+  public void testReduceCollectionJoin() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("" +
+        "g1[(a)-[e1]->(b)];g2[(b)-[e2]->(c)];" +
+        "g3[(c)-[e3]->(d)];g4[(a)-[e4]->(b)];" +
+        "exp12[(a)];" +
+        "exp13[(a)-[e1]->(b)];" +
+        "exp14[]");
+
+    checkExpectationsEqualResults(loader, new ReduceExclusion(loader
+      .getGraphHeadByVariable("g1").getId(), 0L));
+  }
+
+  @Test
+  public void testReduceCollectionBroadcastSize() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("" +
+        "g1[(a)-[e1]->(b)];g2[(b)-[e2]->(c)];" +
+        "g3[(c)-[e3]->(d)];g4[(a)-[e4]->(b)];" +
+        "exp12[(a)];" +
+        "exp13[(a)-[e1]->(b)];" +
+        "exp14[]");
+
+    checkExpectationsEqualResults(loader, new ReduceExclusion(loader
+      .getGraphHeadByVariable("g1").getId(), 1L));
+  }
 }
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SelectGroupingStrategy;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class GroupingAutoTest extends GroupingTestBase {
+
+  @Override
+  public GroupingStrategy getStrategy() {
+    return GroupingStrategy.AUTO;
+  }
+
+  @Test
+  public void testSelectHashCombine() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(leipzig {city = \"Leipzig\", count = 2L});" +
+      "(dresden {city = \"Dresden\", count = 2L});" +
+      "(leipzig)-[{count = 2L}]->(leipzig);" +
+      "(leipzig)-[{count = 1L}]->(dresden);" +
+      "(dresden)-[{count = 2L}]->(dresden);" +
+      "(dresden)-[{count = 1L}]->(leipzig)" +
+      "]");
+
+    // each group holds half of the vertices, which is not above the threshold
+    LogicalGraph output =
+      new GroupingBuilder()
+        .addVertexGroupingKey("city")
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .setStrategy(getStrategy())
+        .setSkewHandling(1F, 0.5, 4)
+        .build()
+        .execute(input);
+
+    assertSelectedStrategy(GroupingStrategy.HASH_COMBINE);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test
+  public void testSelectSalted() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(leipzig {city = \"Leipzig\", count = 2L});" +
+      "(dresden {city = \"Dresden\", count = 2L});" +
+      "(leipzig)-[{count = 2L}]->(leipzig);" +
+      "(leipzig)-[{count = 1L}]->(dresden);" +
+      "(dresden)-[{count = 2L}]->(dresden);" +
+      "(dresden)-[{count = 1L}]->(leipzig)" +
+      "]");
+
+    // each group holds half of the vertices, which exceeds the threshold
+    // although the groups would fit into the hash table
+    LogicalGraph output =
+      new GroupingBuilder()
+        .addVertexGroupingKey("city")
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .setStrategy(getStrategy())
+        .setSkewHandling(1F, 0.4, 4)
+        .build()
+        .execute(input);
+
+    assertSelectedStrategy(GroupingStrategy.SALTED);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test
+  public void testSelectGroupReduce() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(v00 {name = \"Alice\", count = 1L});" +
+      "(v01 {name = \"Bob\", count = 1L});" +
+      "(v02 {name = \"Carol\", count = 1L});" +
+      "(v03 {name = \"Dave\", count = 1L});" +
+      "(v00)-[{count = 1L}]->(v01);" +
+      "(v01)-[{count = 1L}]->(v00);" +
+      "(v01)-[{count = 1L}]->(v02);" +
+      "(v02)-[{count = 1L}]->(v01);" +
+      "(v02)-[{count = 1L}]->(v03);" +
+      "(v03)-[{count = 1L}]->(v02)" +
+      "]");
+
+    // every vertex forms its own group and the hash table is too small
+    LogicalGraph output =
+      new GroupingBuilder()
+        .addVertexGroupingKey("name")
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .setStrategy(getStrategy())
+        .setSkewHandling(1F, 0.5, 4)
+        .setHashCombineMaxGroups(1)
+        .build()
+        .execute(input);
+
+    assertSelectedStrategy(GroupingStrategy.GROUP_REDUCE);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  private void assertSelectedStrategy(GroupingStrategy expected) {
+    Integer strategy = getExecutionEnvironment().getLastJobExecutionResult()
+      .getAccumulatorResult(SelectGroupingStrategy.STRATEGY);
+    assertEquals(expected.ordinal(), strategy.intValue());
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class GroupingHashCombineTest extends GroupingTestBase {
+
+  @Override
+  public GroupingStrategy getStrategy() {
+    return GroupingStrategy.HASH_COMBINE;
+  }
+
+  @Test
+  public void testHashTableOverflow() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(leipzig {city = \"Leipzig\", count = 2L});" +
+      "(dresden {city = \"Dresden\", count = 2L});" +
+      "(leipzig)-[{count = 2L}]->(leipzig);" +
+      "(leipzig)-[{count = 1L}]->(dresden);" +
+      "(dresden)-[{count = 2L}]->(dresden);" +
+      "(dresden)-[{count = 1L}]->(leipzig)" +
+      "]");
+
+    // a limit of one group forces a flush for each new group
+    LogicalGraph output =
+      new GroupingBuilder()
+        .addVertexGroupingKey("city")
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .setStrategy(getStrategy())
+        .setHashCombineMaxGroups(1)
+        .build()
+        .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxGroups() {
+    new GroupingBuilder().setHashCombineMaxGroups(0);
+  }
+}
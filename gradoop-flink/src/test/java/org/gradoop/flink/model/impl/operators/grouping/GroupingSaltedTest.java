@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class GroupingSaltedTest extends GroupingTestBase {
+
+  @Override
+  public GroupingStrategy getStrategy() {
+    return GroupingStrategy.SALTED;
+  }
+
+  @Test
+  public void testSkewedGroups() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(leipzig {city = \"Leipzig\", count = 2L});" +
+      "(dresden {city = \"Dresden\", count = 2L});" +
+      "(leipzig)-[{count = 2L}]->(leipzig);" +
+      "(leipzig)-[{count = 1L}]->(dresden);" +
+      "(dresden)-[{count = 2L}]->(dresden);" +
+      "(dresden)-[{count = 1L}]->(leipzig)" +
+      "]");
+
+    // all groups are considered as skewed
+    LogicalGraph output =
+      new GroupingBuilder()
+        .addVertexGroupingKey("city")
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .setStrategy(getStrategy())
+        .setSkewHandling(1F, 0.0, 4)
+        .build()
+        .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSaltCount() {
+    new GroupingBuilder().setSkewHandling(1F, 0.0, 0);
+  }
+}
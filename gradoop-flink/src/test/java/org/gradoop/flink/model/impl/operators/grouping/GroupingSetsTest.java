@@ -0,0 +1,122 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingSets.GroupingSetsBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class GroupingSetsTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testRollUp() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader
+      .getLogicalGraphByVariable("g0")
+      .combine(loader.getLogicalGraphByVariable("g1"))
+      .combine(loader.getLogicalGraphByVariable("g2"));
+
+    loader.appendToDatabaseFromString("expected0[" +
+      "(p:Person {count = 6L});" +
+      "(p)-[{count = 10L}]->(p)" +
+      "]");
+
+    loader.appendToDatabaseFromString("expected1[" +
+      "(l:Person {city = \"Leipzig\", count = 2L});" +
+      "(d:Person {city = \"Dresden\", count = 3L});" +
+      "(b:Person {city = \"Berlin\",  count = 1L});" +
+      "(d)-[{count = 2L}]->(d);" +
+      "(d)-[{count = 3L}]->(l);" +
+      "(l)-[{count = 2L}]->(l);" +
+      "(l)-[{count = 1L}]->(d);" +
+      "(b)-[{count = 2L}]->(d)" +
+      "]");
+
+    GraphCollection output = input.callForCollection(
+      new GroupingSetsBuilder()
+        .addVertexRollUp(true, asList("city"))
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .build());
+
+    List<GraphHead> graphHeads = output.getGraphHeads().collect();
+    assertEquals(2, graphHeads.size());
+
+    for (GraphHead graphHead : graphHeads) {
+      int level = graphHead
+        .getPropertyValue(GroupingSets.LEVEL_PROPERTY_KEY).getInt();
+      collectAndAssertTrue(output.getGraph(graphHead.getId())
+        .equalsByElementData(
+          loader.getLogicalGraphByVariable("expected" + level)));
+    }
+  }
+
+  @Test
+  public void testGroupingSetsWithoutLabel() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected0[" +
+      "(leipzig {city = \"Leipzig\", count = 2L});" +
+      "(dresden {city = \"Dresden\", count = 2L});" +
+      "(leipzig)-[{count = 2L}]->(leipzig);" +
+      "(leipzig)-[{count = 1L}]->(dresden);" +
+      "(dresden)-[{count = 2L}]->(dresden);" +
+      "(dresden)-[{count = 1L}]->(leipzig)" +
+      "]");
+
+    loader.appendToDatabaseFromString("expected1[" +
+      "(all {count = 4L});" +
+      "(all)-[{count = 6L}]->(all)" +
+      "]");
+
+    GraphCollection output = input.callForCollection(
+      new GroupingSetsBuilder()
+        .addVertexGroupingSet(false, asList("city"))
+        .addVertexGroupingSet(false, Collections.<String>emptyList())
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .build());
+
+    for (GraphHead graphHead : output.getGraphHeads().collect()) {
+      int level = graphHead
+        .getPropertyValue(GroupingSets.LEVEL_PROPERTY_KEY).getInt();
+      collectAndAssertTrue(output.getGraph(graphHead.getId())
+        .equalsByElementData(
+          loader.getLogicalGraphByVariable("expected" + level)));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoGroupingSet() {
+    new GroupingSetsBuilder().build();
+  }
+}
@@ -17,17 +17,29 @@
 
 package org.gradoop.flink.model.impl.operators.grouping;
 
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
 import org.gradoop.flink.model.impl.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.AverageAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.DistinctCountAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MaxAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MinAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.QuantileAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.SumAggregator;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.gradoop.common.util.GConstants.NULL_STRING;
+import static org.junit.Assert.assertEquals;
 
 @SuppressWarnings("Duplicates")
 public abstract class GroupingTestBase extends GradoopFlinkTestBase {
@@ -827,6 +839,86 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
   }
 
+  @Test
+  public void testGroupHash() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader
+      .getDatabase().getDatabaseGraph();
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(pL:Person {city = \"Leipzig\", count = 2L});" +
+      "(pD:Person {city = \"Dresden\", count = 3L});" +
+      "(pB:Person {city = \"Berlin\", count = 1L});" +
+      "(t:Tag   {city = " + NULL_STRING + ", count = 3L});" +
+      "(f:Forum {city = " + NULL_STRING + ", count = 2L});" +
+      "(pD)-[:knows {since = 2014, count = 2L}]->(pD);" +
+      "(pD)-[:knows {since = 2013, count = 2L}]->(pL);" +
+      "(pD)-[:knows {since = 2015, count = 1L}]->(pL);" +
+      "(pL)-[:knows {since = 2014, count = 2L}]->(pL);" +
+      "(pL)-[:knows {since = 2013, count = 1L}]->(pD);" +
+      "(pB)-[:knows {since = 2015, count = 2L}]->(pD);" +
+      "(pB)-[:hasInterest {since = " + NULL_STRING + ", count = 1L}]->(t);" +
+      "(pD)-[:hasInterest {since = " + NULL_STRING + ", count = 2L}]->(t);" +
+      "(pL)-[:hasInterest {since = " + NULL_STRING + ", count = 1L}]->(t);" +
+      "(f)-[:hasModerator {since = 2013, count = 1L}]->(pD);" +
+      "(f)-[:hasModerator {since = " + NULL_STRING + ", count = 1L}]->(pL);" +
+      "(f)-[:hasMember {since = " + NULL_STRING + ", count = 2L}]->(pD);" +
+      "(f)-[:hasMember {since = " + NULL_STRING + ", count = 2L}]->(pL);" +
+      "(f)-[:hasTag {since = " + NULL_STRING + ", count = 4L}]->(t);" +
+      "]");
+
+    LogicalGraph output =
+      new GroupingBuilder()
+        .addVertexGroupingKey("city")
+        .addEdgeGroupingKey("since")
+        .useVertexLabel(true)
+        .useEdgeLabel(true)
+        .useGroupHash(true)
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .setStrategy(getStrategy())
+        .build()
+        .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test
+  public void testGraphCollection() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection input = loader.getGraphCollectionByVariables("g0", "g2");
+
+    loader.appendToDatabaseFromString(
+      "expected0:Community {interest = \"Databases\", vertexCount = 3} [" +
+      "(l0 {city = \"Leipzig\", count = 2L});" +
+      "(d0 {city = \"Dresden\", count = 1L});" +
+      "(l0)-[{count = 2L}]->(l0);" +
+      "(d0)-[{count = 2L}]->(l0)" +
+      "]" +
+      "expected2:Community {interest = \"Graphs\", vertexCount = 4} [" +
+      "(l2 {city = \"Leipzig\", count = 2L});" +
+      "(d2 {city = \"Dresden\", count = 2L});" +
+      "(l2)-[{count = 2L}]->(l2);" +
+      "(l2)-[{count = 1L}]->(d2);" +
+      "(d2)-[{count = 2L}]->(d2);" +
+      "(d2)-[{count = 1L}]->(l2)" +
+      "]");
+
+    GraphCollection output = input.apply(
+      new GroupingBuilder()
+        .addVertexGroupingKey("city")
+        .addVertexAggregator(new CountAggregator("count"))
+        .addEdgeAggregator(new CountAggregator("count"))
+        .setStrategy(getStrategy())
+        .build());
+
+    collectAndAssertTrue(output.equalsByGraphData(
+      loader.getGraphCollectionByVariables("expected0", "expected2")));
+  }
+
   //----------------------------------------------------------------------------
   // Tests for aggregate functions
   //----------------------------------------------------------------------------
@@ -1338,4 +1430,66 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
     collectAndAssertTrue(
       output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
   }
+
+  @Test
+  public void testMergeableAggregators() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+        "(v0:Blue {a=3});" +
+        "(v1:Blue {a=2});" +
+        "(v2:Blue {a=4});" +
+        "(v3:Red  {a=4});" +
+        "(v4:Red  {a=4});" +
+        "(v5:Red  {a=1});" +
+        "(v0)-[{b=2}]->(v1);" +
+        "(v1)-[{b=4}]->(v2);" +
+        "(v2)-[{b=1}]->(v3);" +
+        "(v3)-[{b=3}]->(v4);" +
+        "(v4)-[{b=5}]->(v5);" +
+        "]");
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    LogicalGraph output =
+      new GroupingBuilder()
+        .useVertexLabel(true)
+        .addVertexAggregator(new AverageAggregator("a", "avgA"))
+        .addVertexAggregator(new DistinctCountAggregator("a", "distinctA"))
+        .addVertexAggregator(new QuantileAggregator("a", "medianA", 0.5))
+        .addEdgeAggregator(new AverageAggregator("b", "avgB"))
+        .setStrategy(getStrategy())
+        .build()
+        .execute(input);
+
+    Map<GradoopId, String> labels = new HashMap<>();
+    for (Vertex vertex : output.getVertices().collect()) {
+      labels.put(vertex.getId(), vertex.getLabel());
+      assertEquals(3.0, vertex.getPropertyValue("avgA").getDouble(), 0.0);
+      if (vertex.getLabel().equals("Blue")) {
+        assertEquals(3L, vertex.getPropertyValue("distinctA").getLong());
+        assertEquals(3.0, vertex.getPropertyValue("medianA").getDouble(), 0.0);
+      } else {
+        assertEquals(2L, vertex.getPropertyValue("distinctA").getLong());
+        assertEquals(4.0, vertex.getPropertyValue("medianA").getDouble(), 0.0);
+      }
+    }
+
+    List<Edge> edges = output.getEdges().collect();
+    assertEquals(3, edges.size());
+    for (Edge edge : edges) {
+      String group = labels.get(edge.getSourceId()) + "-" +
+        labels.get(edge.getTargetId());
+      double average = edge.getPropertyValue("avgB").getDouble();
+      switch (group) {
+      case "Blue-Blue":
+        assertEquals(3.0, average, 0.0);
+        break;
+      case "Blue-Red":
+        assertEquals(1.0, average, 0.0);
+        break;
+      default:
+        assertEquals(4.0, average, 0.0);
+      }
+    }
+  }
 }
+
@@ -0,0 +1,201 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.common.util.GConstants;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class GroupKeyHasherTest {
+
+  @Test
+  public void testHash() throws Exception {
+    GroupKeyHasher hasher = new GroupKeyHasher();
+
+    long hash = hasher.hash("A", values("Leipzig", 2014));
+
+    assertEquals(hash, hasher.hash("A", values("Leipzig", 2014)));
+    assertNotEquals(hash, hasher.hash("B", values("Leipzig", 2014)));
+    assertNotEquals(hash, hasher.hash(null, values("Leipzig", 2014)));
+    assertNotEquals(hash, hasher.hash("A", values("Leipzig", 2015)));
+    assertNotEquals(0L, hasher.hash(null, PropertyValueList.createEmptyList()));
+  }
+
+  @Test
+  public void testVertexCollision() throws Exception {
+    List<VertexGroupItem> items = Lists.newArrayList(
+      item("Leipzig"), item("Dresden"), item("Leipzig"));
+
+    List<VertexGroupItem> result = Lists.newArrayList();
+    new ReduceVertexGroupItems(false, countAggregator())
+      .reduce(items, new CopyingCollector(result));
+
+    // one super vertex tuple per group key
+    Map<PropertyValueList, VertexGroupItem> superVertices = Maps.newHashMap();
+    for (VertexGroupItem item : result) {
+      if (item.isSuperVertex()) {
+        superVertices.put(item.getGroupingValues(), item);
+      }
+    }
+    assertEquals(5, result.size());
+    assertEquals(2, superVertices.size());
+    assertEquals(2L, count(superVertices.get(values("Leipzig"))));
+    assertEquals(1L, count(superVertices.get(values("Dresden"))));
+
+    for (VertexGroupItem item : result) {
+      assertEquals(superVertices.get(item.getGroupingValues())
+        .getSuperVertexId(), item.getSuperVertexId());
+    }
+  }
+
+  @Test
+  public void testTransposeCollision() throws Exception {
+    List<VertexGroupItem> items = Lists.newArrayList(
+      item("Leipzig"), item("Dresden"), item("Leipzig"));
+
+    final List<PropertyValueList> groupKeys = Lists.newArrayList();
+    final List<Integer> idSetSizes = Lists.newArrayList();
+
+    new TransposeVertexGroupItems(false, countAggregator())
+      .reduce(items, new Collector<Tuple2<VertexGroupItem, IdWithIdSet>>() {
+        @Override
+        public void collect(Tuple2<VertexGroupItem, IdWithIdSet> tuple) {
+          groupKeys.add(tuple.f0.getGroupingValues());
+          idSetSizes.add(tuple.f1.getIdSet().size());
+        }
+
+        @Override
+        public void close() {
+        }
+      });
+
+    assertEquals(
+      Lists.newArrayList(values("Leipzig"), values("Dresden")), groupKeys);
+    assertEquals(Lists.newArrayList(2, 1), idSetSizes);
+  }
+
+  @Test
+  public void testEdgeCollision() throws Exception {
+    GradoopId sourceId = GradoopId.get();
+    GradoopId targetId = GradoopId.get();
+
+    List<EdgeGroupItem> items = Lists.newArrayList(
+      edgeItem(sourceId, targetId, "Leipzig"),
+      edgeItem(sourceId, targetId, "Dresden"),
+      edgeItem(sourceId, targetId, "Leipzig"));
+
+    List<Edge> result = Lists.newArrayList();
+    new ReduceEdgeGroupItems(Lists.newArrayList("city"), false,
+      countAggregator(), new EdgeFactory())
+      .reduce(items, new ListCollector<>(result));
+
+    // one super edge per group key
+    Map<String, Long> counts = Maps.newHashMap();
+    for (Edge edge : result) {
+      assertEquals(sourceId, edge.getSourceId());
+      assertEquals(targetId, edge.getTargetId());
+      counts.put(edge.getPropertyValue("city").getString(),
+        edge.getPropertyValue("count").getLong());
+    }
+    assertEquals(2, result.size());
+    assertEquals(Long.valueOf(2L), counts.get("Leipzig"));
+    assertEquals(Long.valueOf(1L), counts.get("Dresden"));
+  }
+
+  private static List<PropertyValueAggregator> countAggregator() {
+    return Lists.<PropertyValueAggregator>newArrayList(new CountAggregator());
+  }
+
+  private static long count(VertexGroupItem item) {
+    return item.getAggregateValues().iterator().next().getLong();
+  }
+
+  private static VertexGroupItem item(String city) throws Exception {
+    VertexGroupItem item = new VertexGroupItem();
+    item.setVertexId(GradoopId.get());
+    item.setSuperVertexId(GradoopId.NULL_VALUE);
+    item.setGroupingValues(values(city));
+    item.setAggregateValues(values(1L));
+    item.setSuperVertex(false);
+    // same fingerprint for different group keys
+    item.setGroupHash(42L);
+    return item;
+  }
+
+  private static EdgeGroupItem edgeItem(GradoopId sourceId,
+    GradoopId targetId, String city) throws Exception {
+    EdgeGroupItem item = new EdgeGroupItem();
+    item.setSourceId(sourceId);
+    item.setTargetId(targetId);
+    item.setGroupLabel(GConstants.DEFAULT_EDGE_LABEL);
+    item.setGroupingValues(values(city));
+    item.setAggregateValues(values(1L));
+    // same fingerprint for different group keys
+    item.setGroupHash(42L);
+    return item;
+  }
+
+  private static PropertyValueList values(Object... values) throws Exception {
+    List<PropertyValue> propertyValues = Lists.newArrayList();
+    for (Object value : values) {
+      propertyValues.add(PropertyValue.create(value));
+    }
+    return PropertyValueList.fromPropertyValues(propertyValues);
+  }
+
+  /**
+   * Stores copies of the collected items, as reducers reuse their output.
+   */
+  private static class CopyingCollector implements Collector<VertexGroupItem> {
+
+    private final List<VertexGroupItem> items;
+
+    CopyingCollector(List<VertexGroupItem> items) {
+      this.items = items;
+    }
+
+    @Override
+    public void collect(VertexGroupItem item) {
+      items.add(item.copy());
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MergeableAggregatorTest {
+
+  @Test
+  public void testAverage() {
+    AverageAggregator aggregator = new AverageAggregator("a", "avg");
+    assertEquals(PropertyValue.NULL_VALUE,
+      aggregator.finish(aggregator.getAggregate()));
+
+    aggregator.aggregate(aggregator.prepare(PropertyValue.create(1)));
+    aggregator.aggregate(aggregator.prepare(PropertyValue.create(2L)));
+    aggregator.aggregate(aggregator.prepare(PropertyValue.NULL_VALUE));
+    PropertyValue partial = aggregator.getAggregate();
+    assertTrue(partial.isBytes());
+    aggregator.resetAggregate();
+
+    aggregator.aggregate(aggregator.prepare(PropertyValue.create(6.0)));
+    aggregator.aggregate(partial);
+    PropertyValue result = aggregator.finish(aggregator.getAggregate());
+
+    assertEquals(3.0, result.getDouble(), 0.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAverageRejectsNonNumericValue() {
+    new AverageAggregator("a", "avg").prepare(PropertyValue.create("Alice"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAverageRejectsUnpreparedValue() {
+    new AverageAggregator("a", "avg").aggregate(PropertyValue.create("Alice"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsPartialOfOtherAggregator() {
+    QuantileAggregator quantile = new QuantileAggregator("a", "q", 0.5);
+    new AverageAggregator("a", "avg")
+      .aggregate(quantile.prepare(PropertyValue.create(1)));
+  }
+
+  @Test
+  public void testDistinctCount() {
+    int cardinality = 100000;
+    PropertyValue merged = PropertyValue.NULL_VALUE;
+
+    DistinctCountAggregator aggregator =
+      new DistinctCountAggregator("a", "distinct");
+    // four partial aggregates with overlapping values
+    for (int partition = 0; partition < 4; partition++) {
+      for (int i = 0; i < cardinality / 2; i++) {
+        int value = (partition * cardinality / 4 + i) % cardinality;
+        aggregator.aggregate(aggregator.prepare(PropertyValue.create(value)));
+      }
+      aggregator.aggregate(merged);
+      merged = aggregator.getAggregate();
+      aggregator.resetAggregate();
+    }
+    long estimate = aggregator.finish(merged).getLong();
+
+    assertTrue("estimate " + estimate + " exceeds error bound",
+      Math.abs(estimate - cardinality) < cardinality * 0.05);
+  }
+
+  @Test
+  public void testDistinctCountSmall() {
+    DistinctCountAggregator aggregator =
+      new DistinctCountAggregator("a", "distinct");
+    for (String value : new String[] {"a", "b", "c", "b", "a"}) {
+      aggregator.aggregate(aggregator.prepare(PropertyValue.create(value)));
+    }
+    assertEquals(3L, aggregator.finish(aggregator.getAggregate()).getLong());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDistinctCountInvalidPrecision() {
+    new DistinctCountAggregator("a", "distinct",
+      DistinctCountAggregator.MAX_PRECISION + 1);
+  }
+
+  @Test
+  public void testQuantile() {
+    int count = 100000;
+    QuantileAggregator aggregator = new QuantileAggregator("a", "q", 0.9);
+    PropertyValue merged = PropertyValue.NULL_VALUE;
+    // ten partial aggregates of interleaved values
+    for (int partition = 0; partition < 10; partition++) {
+      for (int i = partition; i < count; i += 10) {
+        aggregator.aggregate(
+          aggregator.prepare(PropertyValue.create((double) i)));
+      }
+      aggregator.aggregate(merged);
+      merged = aggregator.getAggregate();
+      aggregator.resetAggregate();
+    }
+    double estimate = aggregator.finish(merged).getDouble();
+
+    assertEquals(0.9 * count, estimate, count * 0.02);
+  }
+
+  @Test
+  public void testQuantileSmall() {
+    QuantileAggregator aggregator = new QuantileAggregator("a", "q", 0.5);
+    for (int value : new int[] {5, 1, 4, 2, 3}) {
+      aggregator.aggregate(aggregator.prepare(PropertyValue.create(value)));
+    }
+    assertEquals(3.0,
+      aggregator.finish(aggregator.getAggregate()).getDouble(), 0.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testQuantileRejectsNonNumericValue() {
+    new QuantileAggregator("a", "q", 0.5)
+      .prepare(PropertyValue.create("Alice"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testQuantileInvalidQuantile() {
+    new QuantileAggregator("a", "q", 1.5);
+  }
+}
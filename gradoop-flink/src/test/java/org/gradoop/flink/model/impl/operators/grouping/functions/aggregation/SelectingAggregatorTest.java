@@ -0,0 +1,117 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SelectingAggregatorTest {
+
+  @Test
+  public void testMinInt() {
+    MinAggregator aggregator = new MinAggregator("a", "min");
+    assertEquals(PropertyValue.NULL_VALUE, aggregator.getAggregate());
+
+    aggregator.aggregate(PropertyValue.create(3));
+    aggregator.aggregate(PropertyValue.NULL_VALUE);
+    aggregator.aggregate(PropertyValue.create(-1));
+    aggregator.aggregate(PropertyValue.create(2));
+
+    assertEquals(PropertyValue.create(-1), aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMaxLong() {
+    MaxAggregator aggregator = new MaxAggregator("a", "max");
+    aggregator.aggregate(PropertyValue.create(Long.MIN_VALUE));
+    aggregator.aggregate(PropertyValue.create(Long.MAX_VALUE));
+    aggregator.aggregate(PropertyValue.create(0L));
+
+    assertEquals(PropertyValue.create(Long.MAX_VALUE),
+      aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMinFloat() {
+    MinAggregator aggregator = new MinAggregator("a", "min");
+    aggregator.aggregate(PropertyValue.create(1.5f));
+    aggregator.aggregate(PropertyValue.create(-0.5f));
+
+    assertEquals(PropertyValue.create(-0.5f), aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMaxDouble() {
+    MaxAggregator aggregator = new MaxAggregator("a", "max");
+    aggregator.aggregate(PropertyValue.create(1.5));
+    aggregator.aggregate(PropertyValue.create(2.5));
+    aggregator.aggregate(PropertyValue.create(-3.5));
+
+    assertEquals(PropertyValue.create(2.5), aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMaxString() {
+    MaxAggregator aggregator = new MaxAggregator("a", "max");
+    aggregator.aggregate(PropertyValue.create("Alice"));
+    aggregator.aggregate(PropertyValue.create("Bob"));
+    aggregator.aggregate(PropertyValue.create("Alex"));
+
+    assertEquals(PropertyValue.create("Bob"), aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMergePartials() {
+    MinAggregator aggregator = new MinAggregator("a", "min");
+    aggregator.aggregate(PropertyValue.create(5L));
+    aggregator.aggregate(PropertyValue.create(7L));
+    PropertyValue partial = aggregator.getAggregate();
+    aggregator.resetAggregate();
+
+    aggregator.aggregate(PropertyValue.create(6L));
+    aggregator.aggregate(partial);
+
+    assertEquals(PropertyValue.create(5L), aggregator.getAggregate());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMixedIntAndLong() {
+    MinAggregator aggregator = new MinAggregator("a", "min");
+    aggregator.aggregate(PropertyValue.create(1));
+    aggregator.aggregate(PropertyValue.create(2L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMixedLongAndDouble() {
+    MaxAggregator aggregator = new MaxAggregator("a", "max");
+    aggregator.aggregate(PropertyValue.create(1L));
+    aggregator.aggregate(PropertyValue.create(2.0));
+  }
+
+  @Test
+  public void testReset() {
+    MaxAggregator aggregator = new MaxAggregator("a", "max");
+    aggregator.aggregate(PropertyValue.create(10));
+    aggregator.resetAggregate();
+    aggregator.aggregate(PropertyValue.create(1.0));
+
+    assertEquals(PropertyValue.create(1.0), aggregator.getAggregate());
+  }
+}
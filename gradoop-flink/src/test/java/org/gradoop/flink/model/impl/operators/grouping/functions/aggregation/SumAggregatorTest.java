@@ -0,0 +1,133 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+
+public class SumAggregatorTest {
+
+  @Test
+  public void testIntSum() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    assertEquals(PropertyValue.NULL_VALUE, aggregator.getAggregate());
+
+    aggregator.aggregate(PropertyValue.create(1));
+    aggregator.aggregate(PropertyValue.NULL_VALUE);
+    aggregator.aggregate(PropertyValue.create(2));
+
+    assertEquals(PropertyValue.create(3), aggregator.getAggregate());
+  }
+
+  @Test
+  public void testIntSumExceedingIntRange() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(Integer.MAX_VALUE));
+    aggregator.aggregate(PropertyValue.create(1));
+
+    assertEquals(PropertyValue.create(Integer.MAX_VALUE + 1L),
+      aggregator.getAggregate());
+  }
+
+  @Test
+  public void testLongOverflow() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(Long.MAX_VALUE));
+    aggregator.aggregate(PropertyValue.create(1L));
+    aggregator.aggregate(PropertyValue.create(2));
+
+    assertEquals(PropertyValue.create(
+      BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.valueOf(3L))),
+      aggregator.getAggregate());
+  }
+
+  @Test
+  public void testLongUnderflow() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(Long.MIN_VALUE));
+    aggregator.aggregate(PropertyValue.create(-1L));
+
+    assertEquals(PropertyValue.create(
+      BigDecimal.valueOf(Long.MIN_VALUE).subtract(BigDecimal.ONE)),
+      aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMergeOverflownPartial() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(Long.MAX_VALUE));
+    aggregator.aggregate(PropertyValue.create(Long.MAX_VALUE));
+    PropertyValue partial = aggregator.getAggregate();
+    aggregator.resetAggregate();
+
+    aggregator.aggregate(PropertyValue.create(1));
+    aggregator.aggregate(partial);
+
+    assertEquals(PropertyValue.create(BigDecimal.valueOf(Long.MAX_VALUE)
+      .multiply(BigDecimal.valueOf(2L)).add(BigDecimal.ONE)),
+      aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMixedIntAndLong() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(1));
+    aggregator.aggregate(PropertyValue.create(2L));
+    aggregator.aggregate(PropertyValue.create(3));
+
+    assertEquals(PropertyValue.create(6L), aggregator.getAggregate());
+  }
+
+  @Test
+  public void testMixedFloatAndDouble() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(1.5f));
+    assertEquals(PropertyValue.create(1.5f), aggregator.getAggregate());
+
+    aggregator.aggregate(PropertyValue.create(2.25));
+
+    assertEquals(PropertyValue.create(3.75), aggregator.getAggregate());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMixedIntAndDouble() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(1));
+    aggregator.aggregate(PropertyValue.create(2L));
+    aggregator.aggregate(PropertyValue.create(3.0));
+  }
+
+  @Test
+  public void testReset() {
+    SumAggregator aggregator = new SumAggregator("a", "sum");
+    aggregator.aggregate(PropertyValue.create(1.0));
+    aggregator.resetAggregate();
+    aggregator.aggregate(PropertyValue.create(2));
+
+    assertEquals(PropertyValue.create(2), aggregator.getAggregate());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedType() {
+    new SumAggregator("a", "sum").aggregate(PropertyValue.create("a"));
+  }
+}
@@ -22,6 +22,12 @@ public class ReduceIntersectionTest extends BinaryCollectionOperatorsTestBase {
 
     result = col02.intersectWithSmallResult(col12);
     checkAssertions(expectation, result, "small");
+
+    result = col02.intersectAuto(col12);
+    checkAssertions(expectation, result, "auto");
+
+    result = col02.callForCollection(new IntersectionAuto(0L), col12);
+    checkAssertions(expectation, result, "auto join");
   }
 
   @Test
@@ -40,6 +46,12 @@ public class ReduceIntersectionTest extends BinaryCollectionOperatorsTestBase {
 
     result = col01.intersectWithSmallResult(col23);
     checkAssertions(expectation, result, "small non");
+
+    result = col01.intersectAuto(col23);
+    checkAssertions(expectation, result, "auto non");
+
+    result = col01.callForCollection(new IntersectionAuto(0L), col23);
+    checkAssertions(expectation, result, "auto join non");
   }
 
   @Test
@@ -54,5 +66,11 @@ public class ReduceIntersectionTest extends BinaryCollectionOperatorsTestBase {
 
     result = expectation.intersectWithSmallResult(expectation);
     checkAssertions(expectation, result, "small total");
+
+    result = expectation.intersectAuto(expectation);
+    checkAssertions(expectation, result, "auto total");
+
+    result = expectation.callForCollection(new IntersectionAuto(0L), expectation);
+    checkAssertions(expectation, result, "auto join total");
   }
 }
@@ -41,6 +41,35 @@ public class LimitTest extends GradoopFlinkTestBase {
     assertEquals(expectedLimit, outputCollection.getGraphHeads().count());
   }
 
+  @Test
+  public void testBroadcast() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    // eve is only contained in g0, carol only in g2
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g2");
+
+    GraphCollection outputCollection = inputCollection.limit(2);
+
+    collectAndAssertTrue(
+      outputCollection.equalsByGraphElementIds(inputCollection));
+  }
+
+  @Test
+  public void testJoin() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    // eve is only contained in g0, carol only in g2
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g2");
+
+    GraphCollection outputCollection =
+      inputCollection.callForCollection(new Limit(2, 0L));
+
+    collectAndAssertTrue(
+      outputCollection.equalsByGraphElementIds(inputCollection));
+  }
+
   @Test
   public void testEmpty() throws Exception {
     GraphCollection inputCollection =
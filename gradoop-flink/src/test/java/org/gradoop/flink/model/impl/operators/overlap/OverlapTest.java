@@ -139,4 +139,30 @@ public class OverlapTest extends ReducibleBinaryOperatorsTestBase {
 
     checkExpectationsEqualResults(loader, new ReduceOverlap());
   }
+
+  @Test
+  public void testReduceCollectionJoin() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("" +
+        "g1[(a)-[e1]->(b)];g2[(b)-[e2]->(c)];" +
+        "g3[(c)-[e3]->(d)];g4[(a)-[e1]->(b)];" +
+        "exp12[(b)];" +
+        "exp13[];" +
+        "exp14[(a)-[e1]->(b)]"
+      );
+
+    checkExpectationsEqualResults(loader, new ReduceOverlap(0L));
+  }
+
+  @Test
+  public void testReduceCollectionBroadcastSize() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("" +
+        "g1[(a)-[e1]->(b)];g2[(b)-[e2]->(c)];" +
+        "g3[(c)-[e3]->(d)];g4[(a)-[e1]->(b)];" +
+        "exp12[(b)];" +
+        "exp13[];" +
+        "exp14[(a)-[e1]->(b)]"
+      );
+
+    checkExpectationsEqualResults(loader, new ReduceOverlap(2L));
+  }
 }
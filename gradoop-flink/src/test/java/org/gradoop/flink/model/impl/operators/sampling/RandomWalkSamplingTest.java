@@ -0,0 +1,99 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class RandomWalkSamplingTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void randomWalkSamplingTest() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader()
+      .getDatabase().getDatabaseGraph();
+
+    LogicalGraph newGraph = dbGraph.sampleRandomWalk(2, 5, 0.1f, 42L);
+
+    List<Vertex> dbVertices = Lists.newArrayList();
+    List<Edge> dbEdges = Lists.newArrayList();
+    List<Vertex> newVertices = Lists.newArrayList();
+    List<Edge> newEdges = Lists.newArrayList();
+
+    dbGraph.getVertices().output(new LocalCollectionOutputFormat<>(dbVertices));
+    dbGraph.getEdges().output(new LocalCollectionOutputFormat<>(dbEdges));
+
+    newGraph.getVertices()
+      .output(new LocalCollectionOutputFormat<>(newVertices));
+    newGraph.getEdges().output(new LocalCollectionOutputFormat<>(newEdges));
+
+    getExecutionEnvironment().execute();
+
+    // at least the start vertices are visited
+    assertTrue(newVertices.size() >= 2);
+
+    Set<GradoopId> newVertexIDs = new HashSet<>();
+    for (Vertex vertex : newVertices) {
+      assertTrue(dbVertices.contains(vertex));
+      newVertexIDs.add(vertex.getId());
+    }
+    assertEquals(newVertices.size(), newVertexIDs.size());
+
+    for (Edge edge : newEdges) {
+      assertTrue(dbEdges.contains(edge));
+      assertTrue(newVertexIDs.contains(edge.getSourceId()));
+      assertTrue(newVertexIDs.contains(edge.getTargetId()));
+    }
+    dbEdges.removeAll(newEdges);
+    for (Edge edge : dbEdges) {
+      assertFalse(
+        newVertexIDs.contains(edge.getSourceId()) &&
+        newVertexIDs.contains(edge.getTargetId()));
+    }
+  }
+
+  @Test
+  public void randomWalkSamplingIsReproducible() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader()
+      .getDatabase().getDatabaseGraph();
+
+    collectAndAssertTrue(dbGraph.sampleRandomWalk(2, 5, 0.1f, 42L)
+      .equalsByElementIds(dbGraph.sampleRandomWalk(2, 5, 0.1f, 42L)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void randomWalkSamplingWithoutWalkers() throws Exception {
+    new RandomWalkSampling(0, 5, 0.1f, 42L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void randomWalkSamplingWithInvalidJumpProbability() throws Exception {
+    new RandomWalkSampling(2, 5, 1.5f, 42L);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sampling;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.LogicalGraph;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class StratifiedSamplingTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void stratifiedSamplingTest() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader()
+      .getDatabase().getDatabaseGraph();
+
+    Map<String, Long> labelQuotas = Maps.newHashMap();
+    labelQuotas.put("Person", 3L);
+    labelQuotas.put("Tag", 10L);
+    labelQuotas.put("Forum", 0L);
+
+    LogicalGraph newGraph = dbGraph.sampleStratified(labelQuotas, 42L);
+
+    List<Vertex> newVertices = Lists.newArrayList();
+    newGraph.getVertices()
+      .output(new LocalCollectionOutputFormat<>(newVertices));
+
+    getExecutionEnvironment().execute();
+
+    Map<String, Integer> labelCounts = Maps.newHashMap();
+    for (Vertex vertex : newVertices) {
+      Integer count = labelCounts.get(vertex.getLabel());
+      labelCounts.put(vertex.getLabel(), count == null ? 1 : count + 1);
+    }
+
+    assertEquals(2, labelCounts.size());
+    assertEquals(3, (int) labelCounts.get("Person"));
+    // fewer tags than requested
+    assertEquals(3, (int) labelCounts.get("Tag"));
+  }
+
+  @Test
+  public void stratifiedSamplingIsReproducible() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader()
+      .getDatabase().getDatabaseGraph();
+
+    Map<String, Long> labelQuotas = Maps.newHashMap();
+    labelQuotas.put("Person", 3L);
+
+    collectAndAssertTrue(dbGraph.sampleStratified(labelQuotas, 42L)
+      .equalsByElementIds(dbGraph.sampleStratified(labelQuotas, 42L)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void stratifiedSamplingWithNegativeQuota() throws Exception {
+    Map<String, Long> labelQuotas = Maps.newHashMap();
+    labelQuotas.put("Person", -1L);
+
+    new StratifiedSampling(labelQuotas, 42L);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.semijoin;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdBloomFilter;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SemiJoinTest extends GradoopFlinkTestBase {
+
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+
+  @Test
+  public void testBloomFilter() throws Exception {
+    List<Tuple2<Long, GradoopIdBloomFilter>> result = SemiJoin
+      .bloomFilter(getExecutionEnvironment().fromElements(a, b, c), 10L,
+        SemiJoin.DEFAULT_FALSE_POSITIVE_RATE)
+      .collect();
+
+    assertEquals(1, result.size());
+    assertEquals(3L, result.get(0).f0.longValue());
+    assertTrue(result.get(0).f1.mightContain(a));
+    assertTrue(result.get(0).f1.mightContain(b));
+    assertTrue(result.get(0).f1.mightContain(c));
+  }
+
+  @Test
+  public void testBloomFilterAboveMaxIds() throws Exception {
+    List<Tuple2<Long, GradoopIdBloomFilter>> result = SemiJoin
+      .bloomFilter(getExecutionEnvironment().fromElements(a, b, c), 2L,
+        SemiJoin.DEFAULT_FALSE_POSITIVE_RATE)
+      .collect();
+
+    assertEquals(1, result.size());
+    assertEquals(3L, result.get(0).f0.longValue());
+    assertTrue(result.get(0).f1.getNumBits() <= 64L);
+  }
+
+  @Test
+  public void testReduceEdges() throws Exception {
+    List<Edge> result = SemiJoin
+      .reduceEdges(getEdges(), getExecutionEnvironment().fromElements(a, b))
+      .collect();
+
+    // edges with c are discarded unless c is a false positive
+    boolean containsAB = false;
+    for (Edge edge : result) {
+      containsAB |= edge.getSourceId().equals(a) &&
+        edge.getTargetId().equals(b);
+    }
+    assertTrue(containsAB);
+  }
+
+  @Test
+  public void testReduceEdgesAboveMaxIds() throws Exception {
+    List<Edge> result = SemiJoin
+      .reduceEdges(getEdges(), getExecutionEnvironment().fromElements(a, b),
+        1L)
+      .collect();
+
+    assertEquals(3, result.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxIds() throws Exception {
+    SemiJoin.reduceEdges(getEdges(),
+      getExecutionEnvironment().fromElements(a, b), 0L);
+  }
+
+  private DataSet<Edge> getEdges() {
+    EdgeFactory edgeFactory = getConfig().getEdgeFactory();
+    return getExecutionEnvironment().fromElements(
+      edgeFactory.createEdge(a, b),
+      edgeFactory.createEdge(b, c),
+      edgeFactory.createEdge(c, a));
+  }
+}
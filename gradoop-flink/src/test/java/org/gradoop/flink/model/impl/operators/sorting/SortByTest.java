@@ -0,0 +1,122 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.util.Order;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SortByTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testAscending() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    GraphCollection outputCollection =
+      inputCollection.sortBy("interest", Order.ASCENDING);
+
+    List<GraphHead> expected = Lists.newArrayList(
+      loader.getGraphHeadByVariable("g0"),
+      loader.getGraphHeadByVariable("g2"),
+      loader.getGraphHeadByVariable("g1"),
+      loader.getGraphHeadByVariable("g3"));
+
+    assertEquals(expected, collectInOrder(outputCollection));
+    collectAndAssertTrue(
+      outputCollection.equalsByGraphElementIds(inputCollection));
+  }
+
+  @Test
+  public void testDescending() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    GraphCollection outputCollection =
+      inputCollection.sortBy("interest", Order.DESCENDING);
+
+    List<GraphHead> expected = Lists.newArrayList(
+      loader.getGraphHeadByVariable("g1"),
+      loader.getGraphHeadByVariable("g2"),
+      loader.getGraphHeadByVariable("g0"),
+      loader.getGraphHeadByVariable("g3"));
+
+    assertEquals(expected, collectInOrder(outputCollection));
+  }
+
+  @Test
+  public void testSmallSample() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2");
+
+    GraphCollection outputCollection = inputCollection
+      .callForCollection(new SortBy("interest", Order.ASCENDING, 1, 2));
+
+    List<GraphHead> expected = Lists.newArrayList(
+      loader.getGraphHeadByVariable("g0"),
+      loader.getGraphHeadByVariable("g2"),
+      loader.getGraphHeadByVariable("g1"));
+
+    assertEquals(expected, collectInOrder(outputCollection));
+  }
+
+  /**
+   * Collects the graph heads in the order of their partitions.
+   *
+   * @param collection graph collection
+   * @return ordered graph heads
+   * @throws Exception
+   */
+  private List<GraphHead> collectInOrder(GraphCollection collection)
+    throws Exception {
+    List<Tuple2<Long, GraphHead>> indexedHeads =
+      DataSetUtils.zipWithIndex(collection.getGraphHeads()).collect();
+
+    Collections.sort(indexedHeads, new Comparator<Tuple2<Long, GraphHead>>() {
+      @Override
+      public int compare(Tuple2<Long, GraphHead> o1,
+        Tuple2<Long, GraphHead> o2) {
+        return o1.f0.compareTo(o2.f0);
+      }
+    });
+
+    List<GraphHead> graphHeads = Lists.newArrayList();
+    for (Tuple2<Long, GraphHead> indexedHead : indexedHeads) {
+      graphHeads.add(indexedHead.f1);
+    }
+    return graphHeads;
+  }
+}
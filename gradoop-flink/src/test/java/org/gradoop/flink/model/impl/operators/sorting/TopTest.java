@@ -0,0 +1,98 @@
+/*
+ * This file is part of Gradoop.
+ *
+ * Gradoop is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Gradoop is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Gradoop. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.gradoop.flink.model.impl.operators.sorting;
+
+import org.gradoop.common.util.Order;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TopTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testAscending() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    GraphCollection outputCollection =
+      inputCollection.top(2, "interest", Order.ASCENDING);
+
+    GraphCollection expectedCollection = loader
+      .getGraphCollectionByVariables("g0", "g2");
+
+    collectAndAssertTrue(
+      outputCollection.equalsByGraphElementIds(expectedCollection));
+  }
+
+  @Test
+  public void testDescending() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    GraphCollection outputCollection =
+      inputCollection.top(1, "vertexCount", Order.DESCENDING);
+
+    GraphCollection expectedCollection = loader
+      .getGraphCollectionByVariables("g2");
+
+    collectAndAssertTrue(
+      outputCollection.equalsByGraphElementIds(expectedCollection));
+  }
+
+  @Test
+  public void testMissingProperty() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g3");
+
+    GraphCollection outputCollection =
+      inputCollection.top(2, "interest", Order.DESCENDING);
+
+    GraphCollection expectedCollection = loader
+      .getGraphCollectionByVariables("g0", "g1");
+
+    collectAndAssertTrue(
+      outputCollection.equalsByGraphElementIds(expectedCollection));
+  }
+
+  @Test
+  public void testOutOfBound() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1");
+
+    GraphCollection outputCollection =
+      inputCollection.top(4, "interest", Order.ASCENDING);
+
+    assertEquals(2, outputCollection.getGraphHeads().count());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegative() {
+    new Top(-1, "interest", Order.ASCENDING);
+  }
+}
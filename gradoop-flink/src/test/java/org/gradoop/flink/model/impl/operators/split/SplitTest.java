@@ -148,6 +148,79 @@ public class SplitTest extends GradoopFlinkTestBase {
       loader.getGraphCollectionByVariables("g2")));
   }
 
+  @Test
+  public void testSplitWithDerivedIds() throws Exception {
+
+    FlinkAsciiGraphLoader loader =
+      getLoaderFromString("" +
+        "input[" +
+        "(v0 {key1 = 0})" +
+        "(v1 {key1 = 1})" +
+        "(v2 {key1 = 1})" +
+        "(v3 {key1 = 0})" +
+        "(v4 {key1 = 2})" +
+        "(v5 {key1 = 2})" +
+        "(v6)" +
+        "(v1)-[e1]->(v2)" +
+        "(v3)-[e2]->(v0)" +
+        "(v2)-[e3]->(v0)" +
+        "(v6)-[e4]->(v0)" +
+        "]" +
+        "graph1[" +
+        "(v1)-[e1]->(v2)" +
+        "]" +
+        "graph2[" +
+        "(v3)-[e2]->(v0)" +
+        "]" +
+        "graph3[" +
+        "(v4)" +
+        "(v5)" +
+        "]"
+      );
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    GraphCollection result = input
+      .callForCollection(new SplitWithDerivedIds(new SelectKeyValues()));
+
+    GraphCollection expectation = loader.getGraphCollectionByVariables(
+      "graph1", "graph2", "graph3");
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(expectation));
+  }
+
+  @Test
+  public void testSplitWithDerivedIdsAndMultipleKeys() throws Exception {
+
+    FlinkAsciiGraphLoader loader =
+      getLoaderFromString("" +
+        "input[" +
+        "(v0 {key1 = 0})" +
+        "(v1 {key1 = 1})" +
+        "(v2 {key1 = 1, key2 = 0})" +
+        "(v3 {key1 = 0})" +
+        "(v1)-[e1]->(v2)" +
+        "(v3)-[e2]->(v0)" +
+        "(v2)-[e3]->(v0)" +
+        "]" +
+        "graph1[" +
+        "(v1)-[e1]->(v2)" +
+        "]" +
+        "graph2[" +
+        "(v2)-[e3]->(v0)" +
+        "(v3)-[e2]->(v0)" +
+        "]"
+      );
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    GraphCollection result = input
+      .callForCollection(new SplitWithDerivedIds(new SelectKeyValues()));
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(
+      loader.getGraphCollectionByVariables("graph1", "graph2")));
+  }
+
   public static class SelectKeyValues
     implements UnaryFunction<Vertex, List<PropertyValue>>{
     @Override